@@ -0,0 +1,60 @@
+package ai.timefold.solver.benchmark.impl.statistic.subsingle.scorecalculationprofile;
+
+import ai.timefold.solver.benchmark.impl.statistic.StatisticPoint;
+
+public class ScoreCalculationProfileStatisticPoint extends StatisticPoint {
+
+    private final long timeMillisSpent;
+    private final String constraintPackage;
+    private final String constraintName;
+    private final long operationCount;
+    private final long timeNanos;
+
+    public ScoreCalculationProfileStatisticPoint(long timeMillisSpent,
+            String constraintPackage, String constraintName,
+            long operationCount, long timeNanos) {
+        this.timeMillisSpent = timeMillisSpent;
+        this.constraintPackage = constraintPackage;
+        this.constraintName = constraintName;
+        this.operationCount = operationCount;
+        this.timeNanos = timeNanos;
+    }
+
+    public long getTimeMillisSpent() {
+        return timeMillisSpent;
+    }
+
+    public String getConstraintPackage() {
+        return constraintPackage;
+    }
+
+    public String getConstraintName() {
+        return constraintName;
+    }
+
+    /**
+     * @return the number of score impacts (inserts, updates and retracts) of the constraint so far
+     */
+    public long getOperationCount() {
+        return operationCount;
+    }
+
+    /**
+     * @return the time spent in the score calculation of the constraint so far,
+     *         including its share of the nodes it uses
+     */
+    public long getTimeNanos() {
+        return timeNanos;
+    }
+
+    public String getConstraintId() {
+        return constraintPackage + "/" + constraintName;
+    }
+
+    @Override
+    public String toCsvLine() {
+        return buildCsvLineWithStrings(timeMillisSpent, constraintPackage, constraintName,
+                Long.toString(operationCount), Long.toString(timeNanos));
+    }
+
+}
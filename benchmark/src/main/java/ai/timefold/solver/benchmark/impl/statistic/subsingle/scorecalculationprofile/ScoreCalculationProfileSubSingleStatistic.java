@@ -0,0 +1,98 @@
+package ai.timefold.solver.benchmark.impl.statistic.subsingle.scorecalculationprofile;
+
+import java.util.List;
+
+import ai.timefold.solver.benchmark.config.statistic.SingleStatisticType;
+import ai.timefold.solver.benchmark.impl.report.BenchmarkReport;
+import ai.timefold.solver.benchmark.impl.report.LineChart;
+import ai.timefold.solver.benchmark.impl.result.SubSingleBenchmarkResult;
+import ai.timefold.solver.benchmark.impl.statistic.PureSubSingleStatistic;
+import ai.timefold.solver.benchmark.impl.statistic.StatisticRegistry;
+import ai.timefold.solver.core.api.solver.Solver;
+import ai.timefold.solver.core.config.solver.monitoring.SolverMetric;
+import ai.timefold.solver.core.impl.score.definition.ScoreDefinition;
+import ai.timefold.solver.core.impl.solver.DefaultSolver;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Tags;
+
+public class ScoreCalculationProfileSubSingleStatistic<Solution_>
+        extends PureSubSingleStatistic<Solution_, ScoreCalculationProfileStatisticPoint, LineChart<Long, Double>> {
+
+    private ScoreCalculationProfileSubSingleStatistic() {
+        // For JAXB.
+    }
+
+    public ScoreCalculationProfileSubSingleStatistic(SubSingleBenchmarkResult subSingleBenchmarkResult) {
+        super(subSingleBenchmarkResult, SingleStatisticType.SCORE_CALCULATION_PROFILE);
+    }
+
+    @Override
+    public void open(StatisticRegistry<Solution_> registry, Tags runTag, Solver<Solution_> solver) {
+        DefaultSolver<Solution_> defaultSolver = (DefaultSolver<Solution_>) solver;
+        defaultSolver.getSolverScope().getScoreDirector().overwriteProfilingEnabledPreference(true);
+        String meterId = SolverMetric.SCORE_CALCULATION_PROFILE.getMeterId();
+        registry.addListener(SolverMetric.SCORE_CALCULATION_PROFILE, timeMillisSpent -> {
+            for (Meter.Id id : registry.getMeterIds(SolverMetric.SCORE_CALCULATION_PROFILE, runTag)) {
+                String constraintPackage = id.getTag("constraint.package");
+                if (constraintPackage == null || !id.getName().equals(meterId + ".count")) {
+                    continue; // Node meters, and every constraint once.
+                }
+                String constraintName = id.getTag("constraint.name");
+                Tags constraintRunTag = runTag.and("constraint.package", constraintPackage)
+                        .and("constraint.name", constraintName);
+                registry.getGaugeValue(meterId + ".count", constraintRunTag,
+                        count -> registry.getGaugeValue(meterId + ".time", constraintRunTag,
+                                timeNanos -> pointList.add(new ScoreCalculationProfileStatisticPoint(timeMillisSpent,
+                                        constraintPackage, constraintName, count.longValue(), timeNanos.longValue()))));
+            }
+        });
+    }
+
+    @Override
+    protected String getCsvHeader() {
+        return ScoreCalculationProfileStatisticPoint.buildCsvLine("timeMillisSpent", "constraintPackage",
+                "constraintName", "operationCount", "timeNanos");
+    }
+
+    @Override
+    protected ScoreCalculationProfileStatisticPoint createPointFromCsvLine(ScoreDefinition<?> scoreDefinition,
+            List<String> csvLine) {
+        return new ScoreCalculationProfileStatisticPoint(Long.parseLong(csvLine.get(0)), csvLine.get(1), csvLine.get(2),
+                Long.parseLong(csvLine.get(3)), Long.parseLong(csvLine.get(4)));
+    }
+
+    @Override
+    protected List<LineChart<Long, Double>> generateCharts(BenchmarkReport benchmarkReport) {
+        LineChart.Builder<Long, Double> timeBuilder = new LineChart.Builder<>();
+        LineChart.Builder<Long, Double> countBuilder = new LineChart.Builder<>();
+        for (ScoreCalculationProfileStatisticPoint point : getPointList()) {
+            long timeMillisSpent = point.getTimeMillisSpent();
+            String seriesLabel = point.getConstraintName();
+            // Only add changes
+            double timeMillis = point.getTimeNanos() / 1_000_000.0;
+            if (timeBuilder.count(seriesLabel) == 0 || timeBuilder.getLastValue(seriesLabel) != timeMillis) {
+                timeBuilder.add(seriesLabel, timeMillisSpent, timeMillis);
+            }
+            double operationCount = point.getOperationCount();
+            if (countBuilder.count(seriesLabel) == 0 || countBuilder.getLastValue(seriesLabel) != operationCount) {
+                countBuilder.add(seriesLabel, timeMillisSpent, operationCount);
+            }
+        }
+        long timeMillisSpent = subSingleBenchmarkResult.getTimeMillisSpent();
+        for (LineChart.Builder<Long, Double> builder : List.of(timeBuilder, countBuilder)) {
+            for (String key : builder.keys()) {
+                // Draw a horizontal line from the last step to how long the solver actually ran
+                builder.add(key, timeMillisSpent, builder.getLastValue(key));
+            }
+        }
+        return List.of(
+                timeBuilder.build("scoreCalculationProfileSubSingleStatisticTimeChart",
+                        subSingleBenchmarkResult.getName() + " score calculation profile time statistic",
+                        "Time spent", "Score calculation time (ms)", false, true, false),
+                countBuilder.build("scoreCalculationProfileSubSingleStatisticCountChart",
+                        subSingleBenchmarkResult.getName() + " score calculation profile count statistic",
+                        "Time spent", "Score impact count", false, true, false));
+    }
+
+}
@@ -0,0 +1,46 @@
+package ai.timefold.solver.benchmark.impl.statistic.subsingle.scorecalculationprofile;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import ai.timefold.solver.benchmark.impl.result.SubSingleBenchmarkResult;
+import ai.timefold.solver.benchmark.impl.statistic.AbstractSubSingleStatisticTest;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
+
+import org.assertj.core.api.SoftAssertions;
+
+public final class ScoreCalculationProfileSubSingleStatisticTest
+        extends
+        AbstractSubSingleStatisticTest<ScoreCalculationProfileStatisticPoint, ScoreCalculationProfileSubSingleStatistic<TestdataSolution>> {
+
+    @Override
+    protected Function<SubSingleBenchmarkResult, ScoreCalculationProfileSubSingleStatistic<TestdataSolution>>
+            getSubSingleStatisticConstructor() {
+        return ScoreCalculationProfileSubSingleStatistic::new;
+    }
+
+    @Override
+    protected List<ScoreCalculationProfileStatisticPoint> getInputPoints() {
+        return Collections.singletonList(new ScoreCalculationProfileStatisticPoint(Long.MAX_VALUE, "a.b.c",
+                "Some Constraint", Long.MAX_VALUE - 1, Long.MAX_VALUE - 2));
+    }
+
+    @Override
+    protected void runTest(SoftAssertions assertions, List<ScoreCalculationProfileStatisticPoint> outputPoints) {
+        assertions.assertThat(outputPoints)
+                .hasSize(1);
+        ScoreCalculationProfileStatisticPoint point = outputPoints.get(0);
+        assertions.assertThat(point.getConstraintPackage())
+                .isEqualTo("a.b.c");
+        assertions.assertThat(point.getConstraintName())
+                .isEqualTo("Some Constraint");
+        assertions.assertThat(point.getOperationCount())
+                .isEqualTo(Long.MAX_VALUE - 1);
+        assertions.assertThat(point.getTimeNanos())
+                .isEqualTo(Long.MAX_VALUE - 2);
+        assertions.assertThat(point.getTimeMillisSpent())
+                .isEqualTo(Long.MAX_VALUE);
+    }
+
+}
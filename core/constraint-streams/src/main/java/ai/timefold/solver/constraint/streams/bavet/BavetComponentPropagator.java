@@ -0,0 +1,106 @@
+package ai.timefold.solver.constraint.streams.bavet;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinTask;
+
+import ai.timefold.solver.constraint.streams.bavet.common.AbstractNode;
+import ai.timefold.solver.constraint.streams.bavet.common.PropagationScheduler;
+
+/**
+ * Propagates the independent components of a node network, which do not share any nodes,
+ * each with its own {@link PropagationScheduler}.
+ * The source nodes (such as the forEach nodes), which many components share,
+ * propagate first, on the calling thread, and only fill the dirty queues of the components below them.
+ * Afterwards, components with enough pending work propagate on the {@link java.util.concurrent.ForkJoinPool#commonPool()},
+ * the others on the calling thread, because forking costs more than propagating a handful of tuples.
+ * <p>
+ * Every component impacts the score of its own constraints only
+ * (see {@link ai.timefold.solver.constraint.streams.common.inliner.PartitionedScoreInliner}),
+ * and only writes to its own slots of the tuple stores of the shared source tuples,
+ * so the components never write to the same state.
+ * The user code in the constraints below the source nodes (such as their lambdas and collectors)
+ * must therefore be thread-safe.
+ */
+final class BavetComponentPropagator {
+
+    /**
+     * Below this number of pending propagations, a component propagates on the calling thread.
+     */
+    static final int PARALLEL_WORK_THRESHOLD = 1000;
+
+    private final PropagationScheduler sourcePropagationScheduler;
+    private final PropagationScheduler[] componentPropagationSchedulers;
+    private final List<ForkJoinTask<?>> parallelTaskList;
+
+    /**
+     * @param nodes never null, in topological order
+     * @param nodeComponents never null, indexed like the nodes, the component of every node, from 0 to componentCount,
+     *        or {@link BavetConstraintSessionFactory#SOURCE_COMPONENT}
+     * @param componentCount {@code >= 1}
+     */
+    BavetComponentPropagator(AbstractNode[] nodes, int[] nodeComponents, int componentCount) {
+        List<AbstractNode> sourceNodeList = new ArrayList<>();
+        List<List<AbstractNode>> componentNodeListList = new ArrayList<>(componentCount);
+        for (int i = 0; i < componentCount; i++) {
+            componentNodeListList.add(new ArrayList<>());
+        }
+        for (int i = 0; i < nodes.length; i++) {
+            // A subsequence of the topological order is still in topological order.
+            if (nodeComponents[i] == BavetConstraintSessionFactory.SOURCE_COMPONENT) {
+                sourceNodeList.add(nodes[i]);
+            } else {
+                componentNodeListList.get(nodeComponents[i]).add(nodes[i]);
+            }
+        }
+        // The source nodes have no parent nodes, so they can all propagate before any component.
+        this.sourcePropagationScheduler = new PropagationScheduler(sourceNodeList.toArray(new AbstractNode[0]));
+        this.componentPropagationSchedulers = new PropagationScheduler[componentCount];
+        for (int i = 0; i < componentCount; i++) {
+            componentPropagationSchedulers[i] =
+                    new PropagationScheduler(componentNodeListList.get(i).toArray(new AbstractNode[0]));
+        }
+        this.parallelTaskList = new ArrayList<>(componentCount);
+    }
+
+    /**
+     * @return {@code >= 1}, not counting the source nodes
+     */
+    int getComponentCount() {
+        return componentPropagationSchedulers.length;
+    }
+
+    void propagate() {
+        sourcePropagationScheduler.propagate();
+        PropagationScheduler firstParallelPropagationScheduler = null;
+        for (PropagationScheduler propagationScheduler : componentPropagationSchedulers) {
+            int pendingWorkCount = propagationScheduler.getPendingWorkCount();
+            if (pendingWorkCount == 0) {
+                continue;
+            }
+            if (pendingWorkCount < PARALLEL_WORK_THRESHOLD) {
+                propagationScheduler.propagate();
+            } else if (firstParallelPropagationScheduler == null) {
+                // Only worth forking once there is a second component with enough work.
+                firstParallelPropagationScheduler = propagationScheduler;
+            } else {
+                parallelTaskList.add(ForkJoinTask.adapt(propagationScheduler::propagate));
+            }
+        }
+        if (firstParallelPropagationScheduler == null) {
+            return;
+        }
+        if (parallelTaskList.isEmpty()) {
+            firstParallelPropagationScheduler.propagate();
+            return;
+        }
+        parallelTaskList.add(ForkJoinTask.adapt(firstParallelPropagationScheduler::propagate));
+        try {
+            // Runs 1 task on the calling thread, forks the others and waits for all of them.
+            ForkJoinTask.invokeAll(parallelTaskList);
+        } finally {
+            parallelTaskList.clear();
+        }
+    }
+
+}
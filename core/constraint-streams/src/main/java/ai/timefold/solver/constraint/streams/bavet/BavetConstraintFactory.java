@@ -1,8 +1,10 @@
 package ai.timefold.solver.constraint.streams.bavet;
 
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Consumer;
 
 import ai.timefold.solver.constraint.streams.bavet.common.BavetAbstractConstraintStream;
@@ -24,6 +26,7 @@ public final class BavetConstraintFactory<Solution_>
 
     private final Map<BavetAbstractConstraintStream<Solution_>, BavetAbstractConstraintStream<Solution_>> sharingStreamMap =
             new HashMap<>(256);
+    private final Map<BavetAbstractConstraintStream<Solution_>, Integer> shareCountMap = new IdentityHashMap<>(256);
 
     public BavetConstraintFactory(SolutionDescriptor<Solution_> solutionDescriptor, EnvironmentMode environmentMode) {
         this.solutionDescriptor = solutionDescriptor;
@@ -59,10 +62,21 @@ public final class BavetConstraintFactory<Solution_>
      */
     public <Stream_ extends BavetAbstractConstraintStream<Solution_>> Stream_ share(Stream_ stream,
             Consumer<Stream_> consumer) {
-        return (Stream_) sharingStreamMap.computeIfAbsent(stream, k -> {
+        Stream_ sharedStream = (Stream_) sharingStreamMap.computeIfAbsent(stream, k -> {
             consumer.accept(stream);
             return stream;
         });
+        shareCountMap.merge(sharedStream, 1, Integer::sum);
+        return sharedStream;
+    }
+
+    /**
+     * @param stream never null
+     * @return the number of times the stream was requested through {@link #share(BavetAbstractConstraintStream)},
+     *         1 if the stream was never reused, 0 if it is unknown to this factory
+     */
+    public int getShareCount(BavetAbstractConstraintStream<Solution_> stream) {
+        return shareCountMap.getOrDefault(stream, 0);
     }
 
     // ************************************************************************
@@ -75,6 +89,13 @@ public final class BavetConstraintFactory<Solution_>
         return share(new BavetForEachUniConstraintStream<>(this, sourceClass, RetrievalSemantics.STANDARD));
     }
 
+    @Override
+    public <A> UniConstraintStream<A> forEachIncludingNullVars(Class<A> sourceClass, Set<String> variableNameSet) {
+        assertValidFromType(sourceClass);
+        return share(new BavetForEachUniConstraintStream<>(this, sourceClass, variableNameSet,
+                RetrievalSemantics.STANDARD));
+    }
+
     @Override
     public <A> BavetAbstractUniConstraintStream<Solution_, A> fromUnfiltered(Class<A> fromClass) {
         assertValidFromType(fromClass);
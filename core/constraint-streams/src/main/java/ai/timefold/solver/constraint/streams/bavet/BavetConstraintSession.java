@@ -1,35 +1,211 @@
 package ai.timefold.solver.constraint.streams.bavet;
 
+import java.util.ArrayList;
 import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.IntStream;
 
 import ai.timefold.solver.constraint.streams.bavet.common.AbstractNode;
+import ai.timefold.solver.constraint.streams.bavet.common.PrecomputeNode;
+import ai.timefold.solver.constraint.streams.bavet.common.ProfilingClock;
+import ai.timefold.solver.constraint.streams.bavet.common.PropagationScheduler;
+import ai.timefold.solver.constraint.streams.bavet.common.tuple.UniTuple;
 import ai.timefold.solver.constraint.streams.bavet.uni.ForEachUniNode;
 import ai.timefold.solver.constraint.streams.common.inliner.AbstractScoreInliner;
 import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.api.score.constraint.ConstraintMatchTotal;
 import ai.timefold.solver.core.api.score.constraint.Indictment;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.VariableDescriptor;
+import ai.timefold.solver.core.impl.score.director.OperationProfile;
 
 final class BavetConstraintSession<Score_ extends Score<Score_>> {
 
     private final AbstractScoreInliner<Score_> scoreInliner;
-    private final Map<Class<?>, ForEachUniNode<Object>> declaredClassToNodeMap;
-    private final AbstractNode[] nodes; // Indexed by nodeIndex
+    private final Map<Class<?>, List<ForEachUniNode<Object>>> declaredClassToNodeListMap;
+    private final PropagationScheduler propagationScheduler; // Null when the components propagate separately.
+    private final BavetComponentPropagator componentPropagator; // Null when all nodes propagate together.
+    private final BavetNodeNetworkReport nodeNetworkReport;
     private final Map<Class<?>, ForEachUniNode<Object>[]> effectiveClassToNodeArrayMap;
+    private final Map<Class<?>, Map<VariableDescriptor<?>, int[]>> effectiveClassToVariableNodePositionsMap;
+    /**
+     * Maps every inserted fact to its tuples, indexed like the nodes of {@link #findNodes(Class)} for its class.
+     * This way, an update or retract needs only 1 identity lookup, no matter how many nodes the fact goes through.
+     * Facts without any nodes are not in this map.
+     */
+    private Map<Object, UniTuple<Object>[]> factToTupleArrayMap = new IdentityHashMap<>(1000);
+    private final ProfilingClock profilingClock; // Null when profiling is disabled.
+    private final Map<AbstractNode, OperationProfile> forEachNodeProfileMap;
+    private final List<BavetPrecomputedSubnetwork<?>> precomputedSubnetworkList;
+    private final Map<Class<?>, BavetPrecomputedSubnetwork<?>[]> effectiveClassToPrecomputedSubnetworkArrayMap;
+    private boolean precomputedSubnetworkDirty = false;
 
+    /**
+     * @param scoreInliner never null
+     * @param declaredClassToNodeListMap never null, multiple nodes per class if they react to different variables
+     * @param nodes never null, in topological order
+     * @param nodeProfiles null if profiling is disabled, otherwise indexed like the nodes
+     * @param profilingClock null if profiling is disabled
+     * @param nodeNetworkReport never null
+     * @param precomputedSubnetworkList never null, one for every {@link PrecomputeNode} in the nodes
+     * @param nodeComponents null if all nodes propagate together,
+     *        otherwise indexed like the nodes, the independent component of every node (see {@link BavetComponentPropagator})
+     * @param componentCount ignored if nodeComponents is null
+     */
     public BavetConstraintSession(AbstractScoreInliner<Score_> scoreInliner,
-            Map<Class<?>, ForEachUniNode<Object>> declaredClassToNodeMap,
-            AbstractNode[] nodes) {
+            Map<Class<?>, List<ForEachUniNode<Object>>> declaredClassToNodeListMap,
+            AbstractNode[] nodes, OperationProfile[] nodeProfiles, ProfilingClock profilingClock,
+            BavetNodeNetworkReport nodeNetworkReport, List<BavetPrecomputedSubnetwork<?>> precomputedSubnetworkList,
+            int[] nodeComponents, int componentCount) {
         this.scoreInliner = scoreInliner;
-        this.declaredClassToNodeMap = declaredClassToNodeMap;
-        this.nodes = nodes;
-        this.effectiveClassToNodeArrayMap = new IdentityHashMap<>(declaredClassToNodeMap.size());
+        this.declaredClassToNodeListMap = declaredClassToNodeListMap;
+        if (nodeComponents == null) {
+            this.propagationScheduler = new PropagationScheduler(nodes, nodeProfiles, profilingClock);
+            this.componentPropagator = null;
+        } else {
+            this.propagationScheduler = null;
+            this.componentPropagator = new BavetComponentPropagator(nodes, nodeComponents, componentCount);
+        }
+        this.nodeNetworkReport = nodeNetworkReport;
+        this.effectiveClassToNodeArrayMap = new IdentityHashMap<>(declaredClassToNodeListMap.size());
+        this.effectiveClassToVariableNodePositionsMap = new IdentityHashMap<>(declaredClassToNodeListMap.size());
+        this.profilingClock = profilingClock;
+        this.precomputedSubnetworkList = precomputedSubnetworkList;
+        this.effectiveClassToPrecomputedSubnetworkArrayMap = new IdentityHashMap<>();
+        if (profilingClock == null) {
+            this.forEachNodeProfileMap = null;
+        } else {
+            this.forEachNodeProfileMap = new IdentityHashMap<>(declaredClassToNodeListMap.size());
+            for (int i = 0; i < nodes.length; i++) {
+                if (nodes[i] instanceof ForEachUniNode) {
+                    forEachNodeProfileMap.put(nodes[i], nodeProfiles[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reuses the precomputed results of the previous session of the same score director,
+     * as far as they are still valid.
+     * Call this before inserting any facts.
+     *
+     * @param previousSession never null
+     */
+    public void takeOverPrecomputedResults(BavetConstraintSession<?> previousSession) {
+        for (BavetPrecomputedSubnetwork<?> precomputedSubnetwork : precomputedSubnetworkList) {
+            precomputedSubnetwork.takeOverResult(previousSession.precomputedSubnetworkList);
+        }
+    }
+
+    /**
+     * Reuses the precomputed results of the session of another score director,
+     * whose working solution the working solution of this session is a planning clone of.
+     * Call this before inserting any facts.
+     *
+     * @param originalSession never null
+     * @param cloneMap never null, maps every fact of the original working solution
+     *        which is not its own planning clone to its clone
+     */
+    public void forkPrecomputedResults(BavetConstraintSession<?> originalSession, Map<Object, Object> cloneMap) {
+        for (BavetPrecomputedSubnetwork<?> precomputedSubnetwork : precomputedSubnetworkList) {
+            precomputedSubnetwork.forkResult(originalSession.precomputedSubnetworkList, cloneMap);
+        }
     }
 
     public void insert(Object fact) {
-        Class<?> factClass = fact.getClass();
-        for (ForEachUniNode<Object> node : findNodes(factClass)) {
-            node.insert(fact);
+        insertIntoPrecomputedSubnetworks(fact);
+        ForEachUniNode<Object>[] nodes = findNodes(fact.getClass());
+        if (nodes.length == 0) {
+            return;
+        }
+        UniTuple<Object>[] tuples = new UniTuple[nodes.length];
+        UniTuple<Object>[] oldTuples = factToTupleArrayMap.put(fact, tuples);
+        if (oldTuples != null) {
+            factToTupleArrayMap.put(fact, oldTuples);
+            throw new IllegalStateException("The fact (" + fact + ") was already inserted, so it cannot insert again.");
+        }
+        for (int i = 0; i < nodes.length; i++) {
+            ForEachUniNode<Object> node = nodes[i];
+            if (profilingClock == null) {
+                tuples[i] = node.insert(fact);
+            } else {
+                long outerNestedTimeNanos = profilingClock.startNesting();
+                long startNanos = System.nanoTime();
+                tuples[i] = node.insert(fact);
+                forEachNodeProfileMap.get(node).addInsert(profilingClock.stopNesting(outerNestedTimeNanos, startNanos));
+            }
+        }
+    }
+
+    /**
+     * As defined by {@link #insert(Object)}, for every fact,
+     * but resolves the nodes only once per class and hands all facts of a class to each node at once,
+     * see {@link ForEachUniNode#insertAll(List)}.
+     * Nothing propagates until the next {@link #calculateScore(int)}, just like for {@link #insert(Object)}.
+     *
+     * @param facts never null, such as all problem facts and entities of a new working solution
+     */
+    public void insertAll(List<Object> facts) {
+        if (factToTupleArrayMap.isEmpty()) {
+            // Avoids growing the map fact by fact.
+            factToTupleArrayMap = new IdentityHashMap<>(facts.size());
+        }
+        if (profilingClock != null) {
+            // Keep the insert count and time of every fact.
+            for (Object fact : facts) {
+                insert(fact);
+            }
+            return;
+        }
+        // Preserves the encounter order of the classes, so the tuples are created in a reproducible order.
+        Map<Class<?>, List<Object>> classToFactListMap = new LinkedHashMap<>();
+        Class<?> lastFactClass = null;
+        List<Object> lastFactList = null;
+        for (Object fact : facts) {
+            Class<?> factClass = fact.getClass();
+            // Facts of the same class usually come in a row, which avoids most of the map lookups.
+            if (factClass != lastFactClass) {
+                lastFactList = classToFactListMap.get(factClass);
+                if (lastFactList == null) {
+                    lastFactList = new ArrayList<>();
+                    classToFactListMap.put(factClass, lastFactList);
+                }
+                lastFactClass = factClass;
+            }
+            lastFactList.add(fact);
+        }
+        for (Map.Entry<Class<?>, List<Object>> entry : classToFactListMap.entrySet()) {
+            BavetPrecomputedSubnetwork<?>[] precomputedSubnetworks = findPrecomputedSubnetworks(entry.getKey());
+            for (BavetPrecomputedSubnetwork<?> precomputedSubnetwork : precomputedSubnetworks) {
+                for (Object fact : entry.getValue()) {
+                    precomputedSubnetwork.insert(fact);
+                }
+                precomputedSubnetworkDirty = true;
+            }
+            ForEachUniNode<Object>[] nodes = findNodes(entry.getKey());
+            if (nodes.length == 0) {
+                continue;
+            }
+            List<Object> factList = entry.getValue();
+            UniTuple<Object>[][] factTuples = new UniTuple[factList.size()][];
+            for (int j = 0; j < factTuples.length; j++) {
+                Object fact = factList.get(j);
+                UniTuple<Object>[] tuples = new UniTuple[nodes.length];
+                UniTuple<Object>[] oldTuples = factToTupleArrayMap.put(fact, tuples);
+                if (oldTuples != null) {
+                    factToTupleArrayMap.put(fact, oldTuples);
+                    throw new IllegalStateException("The fact (" + fact
+                            + ") was already inserted, so it cannot insert again.");
+                }
+                factTuples[j] = tuples;
+            }
+            for (int i = 0; i < nodes.length; i++) {
+                UniTuple<Object>[] nodeTuples = nodes[i].insertAll(factList);
+                for (int j = 0; j < factTuples.length; j++) {
+                    factTuples[j][i] = nodeTuples[j];
+                }
+            }
         }
     }
 
@@ -37,34 +213,165 @@ final class BavetConstraintSession<Score_ extends Score<Score_>> {
         // Map.computeIfAbsent() would have created lambdas on the hot path, this will not.
         ForEachUniNode<Object>[] nodeArray = effectiveClassToNodeArrayMap.get(factClass);
         if (nodeArray == null) {
-            nodeArray = declaredClassToNodeMap.entrySet()
+            nodeArray = declaredClassToNodeListMap.entrySet()
                     .stream()
                     .filter(entry -> entry.getKey().isAssignableFrom(factClass))
-                    .map(Map.Entry::getValue)
+                    .flatMap(entry -> entry.getValue().stream())
                     .toArray(ForEachUniNode[]::new);
             effectiveClassToNodeArrayMap.put(factClass, nodeArray);
         }
         return nodeArray;
     }
 
+    private BavetPrecomputedSubnetwork<?>[] findPrecomputedSubnetworks(Class<?> factClass) {
+        // Map.computeIfAbsent() would have created lambdas on the hot path, this will not.
+        BavetPrecomputedSubnetwork<?>[] precomputedSubnetworkArray =
+                effectiveClassToPrecomputedSubnetworkArrayMap.get(factClass);
+        if (precomputedSubnetworkArray == null) {
+            precomputedSubnetworkArray = precomputedSubnetworkList.stream()
+                    .filter(precomputedSubnetwork -> precomputedSubnetwork.isInputClass(factClass))
+                    .toArray(BavetPrecomputedSubnetwork[]::new);
+            effectiveClassToPrecomputedSubnetworkArrayMap.put(factClass, precomputedSubnetworkArray);
+        }
+        return precomputedSubnetworkArray;
+    }
+
+    private void insertIntoPrecomputedSubnetworks(Object fact) {
+        for (BavetPrecomputedSubnetwork<?> precomputedSubnetwork : findPrecomputedSubnetworks(fact.getClass())) {
+            precomputedSubnetwork.insert(fact);
+            precomputedSubnetworkDirty = true;
+        }
+    }
+
+    /**
+     * @return never null, the positions in {@link #findNodes(Class)} of the nodes which react to the variable
+     */
+    private int[] findNodePositions(Class<?> factClass, VariableDescriptor<?> variableDescriptor) {
+        // Map.computeIfAbsent() would have created lambdas on the hot path, this will not.
+        Map<VariableDescriptor<?>, int[]> variableToNodePositionsMap = effectiveClassToVariableNodePositionsMap.get(factClass);
+        if (variableToNodePositionsMap == null) {
+            variableToNodePositionsMap = new IdentityHashMap<>();
+            effectiveClassToVariableNodePositionsMap.put(factClass, variableToNodePositionsMap);
+        }
+        int[] nodePositions = variableToNodePositionsMap.get(variableDescriptor);
+        if (nodePositions == null) {
+            String variableName = variableDescriptor.getVariableName();
+            ForEachUniNode<Object>[] nodes = findNodes(factClass);
+            nodePositions = IntStream.range(0, nodes.length)
+                    .filter(i -> nodes[i].isReactingTo(variableName))
+                    .toArray();
+            variableToNodePositionsMap.put(variableDescriptor, nodePositions);
+        }
+        return nodePositions;
+    }
+
+    /**
+     * Propagates a change of the fact through every node of its class,
+     * for example because a problem fact property changed.
+     *
+     * @param fact never null
+     */
     public void update(Object fact) {
+        for (BavetPrecomputedSubnetwork<?> precomputedSubnetwork : findPrecomputedSubnetworks(fact.getClass())) {
+            precomputedSubnetwork.update(fact);
+            precomputedSubnetworkDirty = true;
+        }
+        ForEachUniNode<Object>[] nodes = findNodes(fact.getClass());
+        if (nodes.length == 0) {
+            return;
+        }
+        UniTuple<Object>[] tuples = findTuples(fact, "update");
+        for (int i = 0; i < nodes.length; i++) {
+            update(nodes[i], tuples[i]);
+        }
+    }
+
+    /**
+     * Propagates a change of the variable of the fact only through the nodes which react to that variable.
+     *
+     * @param fact never null
+     * @param variableDescriptor never null, the genuine or shadow variable that changed
+     */
+    public void update(Object fact, VariableDescriptor<?> variableDescriptor) {
         Class<?> factClass = fact.getClass();
-        for (ForEachUniNode<Object> node : findNodes(factClass)) {
-            node.update(fact);
+        int[] nodePositions = findNodePositions(factClass, variableDescriptor);
+        if (nodePositions.length == 0) {
+            return;
+        }
+        ForEachUniNode<Object>[] nodes = findNodes(factClass);
+        UniTuple<Object>[] tuples = findTuples(fact, "update");
+        for (int i : nodePositions) {
+            update(nodes[i], tuples[i]);
+        }
+    }
+
+    private UniTuple<Object>[] findTuples(Object fact, String operation) {
+        UniTuple<Object>[] tuples = factToTupleArrayMap.get(fact);
+        if (tuples == null) {
+            throw new IllegalStateException("The fact (" + fact + ") was never inserted, so it cannot " + operation + ".");
+        }
+        return tuples;
+    }
+
+    private void update(ForEachUniNode<Object> node, UniTuple<Object> tuple) {
+        if (profilingClock == null) {
+            node.update(tuple);
+        } else {
+            long outerNestedTimeNanos = profilingClock.startNesting();
+            long startNanos = System.nanoTime();
+            node.update(tuple);
+            forEachNodeProfileMap.get(node).addUpdate(profilingClock.stopNesting(outerNestedTimeNanos, startNanos));
         }
     }
 
     public void retract(Object fact) {
-        Class<?> factClass = fact.getClass();
-        for (ForEachUniNode<Object> node : findNodes(factClass)) {
-            node.retract(fact);
+        for (BavetPrecomputedSubnetwork<?> precomputedSubnetwork : findPrecomputedSubnetworks(fact.getClass())) {
+            precomputedSubnetwork.retract(fact);
+            precomputedSubnetworkDirty = true;
+        }
+        ForEachUniNode<Object>[] nodes = findNodes(fact.getClass());
+        if (nodes.length == 0) {
+            return;
+        }
+        UniTuple<Object>[] tuples = factToTupleArrayMap.remove(fact);
+        if (tuples == null) {
+            throw new IllegalStateException("The fact (" + fact + ") was never inserted, so it cannot retract.");
+        }
+        for (int i = 0; i < nodes.length; i++) {
+            ForEachUniNode<Object> node = nodes[i];
+            if (profilingClock == null) {
+                node.retract(tuples[i]);
+            } else {
+                long outerNestedTimeNanos = profilingClock.startNesting();
+                long startNanos = System.nanoTime();
+                node.retract(tuples[i]);
+                forEachNodeProfileMap.get(node).addRetract(profilingClock.stopNesting(outerNestedTimeNanos, startNanos));
+            }
         }
     }
 
-    public Score_ calculateScore(int initScore) {
-        for (AbstractNode node : nodes) {
-            node.calculateScore();
+    /**
+     * Propagates all pending changes, without extracting the score.
+     * Afterwards, {@link AbstractScoreInliner#compareScoreTo(int, Score)} compares the up-to-date score.
+     */
+    public void settle() {
+        if (precomputedSubnetworkDirty) {
+            for (BavetPrecomputedSubnetwork<?> precomputedSubnetwork : precomputedSubnetworkList) {
+                if (precomputedSubnetwork.isDirty()) {
+                    precomputedSubnetwork.refresh(scoreInliner);
+                }
+            }
+            precomputedSubnetworkDirty = false;
+        }
+        if (componentPropagator == null) {
+            propagationScheduler.propagate();
+        } else {
+            componentPropagator.propagate();
         }
+    }
+
+    public Score_ calculateScore(int initScore) {
+        settle();
         return scoreInliner.extractScore(initScore);
     }
 
@@ -80,4 +387,16 @@ final class BavetConstraintSession<Score_ extends Score<Score_>> {
         return scoreInliner.getIndictmentMap();
     }
 
+    public BavetNodeNetworkReport getNodeNetworkReport() {
+        return nodeNetworkReport;
+    }
+
+    /**
+     * @return {@code >= 1}, the number of independent components which propagate separately
+     *         (see {@link BavetComponentPropagator}), 1 if all nodes propagate together
+     */
+    int getComponentCount() {
+        return componentPropagator == null ? 1 : componentPropagator.getComponentCount();
+    }
+
 }
@@ -1,45 +1,108 @@
 package ai.timefold.solver.constraint.streams.bavet;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 import ai.timefold.solver.constraint.streams.bavet.common.AbstractNode;
 import ai.timefold.solver.constraint.streams.bavet.common.BavetAbstractConstraintStream;
+import ai.timefold.solver.constraint.streams.bavet.common.BavetScoringConstraintStream;
 import ai.timefold.solver.constraint.streams.bavet.common.NodeBuildHelper;
+import ai.timefold.solver.constraint.streams.bavet.common.PrecomputeNode;
+import ai.timefold.solver.constraint.streams.bavet.common.ProfilingClock;
+import ai.timefold.solver.constraint.streams.bavet.common.TupleSource;
+import ai.timefold.solver.constraint.streams.bavet.common.tuple.AbstractTuple;
+import ai.timefold.solver.constraint.streams.bavet.common.tuple.TupleLifecycle;
+import ai.timefold.solver.constraint.streams.bavet.uni.BavetForEachUniConstraintStream;
 import ai.timefold.solver.constraint.streams.bavet.uni.ForEachUniNode;
 import ai.timefold.solver.constraint.streams.common.inliner.AbstractScoreInliner;
+import ai.timefold.solver.constraint.streams.common.inliner.PartitionedScoreInliner;
+import ai.timefold.solver.core.api.domain.common.DomainAccessType;
 import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintStream;
+import ai.timefold.solver.core.impl.domain.common.accessor.gizmo.GizmoClassLoader;
 import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import ai.timefold.solver.core.impl.score.definition.ScoreDefinition;
+import ai.timefold.solver.core.impl.score.director.OperationProfile;
+import ai.timefold.solver.core.impl.score.director.ScoreCalculationProfile;
 
 public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score<Score_>> {
 
+    /**
+     * The component of the source streams, which propagate on the calling thread before the other components.
+     */
+    static final int SOURCE_COMPONENT = -1;
+
     private final SolutionDescriptor<Solution_> solutionDescriptor;
     private final List<BavetConstraint<Solution_>> constraintList;
+    private final boolean parallelPropagationEnabled;
 
     public BavetConstraintSessionFactory(SolutionDescriptor<Solution_> solutionDescriptor,
             List<BavetConstraint<Solution_>> constraintList) {
+        this(solutionDescriptor, constraintList, false);
+    }
+
+    /**
+     * @param solutionDescriptor never null
+     * @param constraintList never null
+     * @param parallelPropagationEnabled true if the independent components of the node network
+     *        may propagate on multiple threads, see {@link BavetComponentPropagator}
+     */
+    public BavetConstraintSessionFactory(SolutionDescriptor<Solution_> solutionDescriptor,
+            List<BavetConstraint<Solution_>> constraintList, boolean parallelPropagationEnabled) {
         this.solutionDescriptor = solutionDescriptor;
         this.constraintList = constraintList;
+        this.parallelPropagationEnabled = parallelPropagationEnabled;
     }
 
     // ************************************************************************
     // Node creation
     // ************************************************************************
 
+    /**
+     * @param constraintMatchEnabled true if the session should track constraint matches
+     * @param workingSolution null if the constraint weights come from the constraints themselves
+     * @param scoreCalculationProfile null if profiling is disabled,
+     *        otherwise the operations of every node and every constraint are recorded into it
+     * @return never null
+     */
     public BavetConstraintSession<Score_> buildSession(boolean constraintMatchEnabled,
-            Solution_ workingSolution) {
+            Solution_ workingSolution, ScoreCalculationProfile scoreCalculationProfile) {
+        // Profiling wraps every node, so there would be nothing left to compile.
+        GizmoClassLoader gizmoClassLoader =
+                solutionDescriptor.getDomainAccessType() == DomainAccessType.GIZMO && scoreCalculationProfile == null
+                        ? solutionDescriptor.getMemberAccessorFactory().getGizmoClassLoader()
+                        : null;
+        return buildSession(constraintMatchEnabled, workingSolution, scoreCalculationProfile, gizmoClassLoader);
+    }
+
+    /**
+     * Generates the classes of the compiled node network ahead of time, such as during a Quarkus build,
+     * for the sessions which are built later on with the domainAccessType {@link DomainAccessType#GIZMO}.
+     *
+     * @param gizmoClassLoader never null, receives the bytecode of the generated classes
+     */
+    public void compileNodeNetwork(GizmoClassLoader gizmoClassLoader) {
+        buildSession(false, null, null, gizmoClassLoader);
+    }
+
+    private BavetConstraintSession<Score_> buildSession(boolean constraintMatchEnabled, Solution_ workingSolution,
+            ScoreCalculationProfile scoreCalculationProfile, GizmoClassLoader gizmoClassLoader) {
         ScoreDefinition<Score_> scoreDefinition = solutionDescriptor.getScoreDefinition();
         Score_ zeroScore = scoreDefinition.getZeroScore();
         Set<BavetAbstractConstraintStream<Solution_>> constraintStreamSet = new LinkedHashSet<>();
         Map<Constraint, Score_> constraintWeightMap = new HashMap<>(constraintList.size());
+        Map<BavetAbstractConstraintStream<Solution_>, List<String>> streamToConstraintIdListMap = new IdentityHashMap<>();
         for (BavetConstraint<Solution_> constraint : constraintList) {
             Score_ constraintWeight = constraint.extractConstraintWeight(workingSolution);
             // Filter out nodes that only lead to constraints with zero weight.
@@ -47,35 +110,346 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
             if (!constraintWeight.equals(zeroScore)) {
                 // Relies on BavetConstraintFactory#share(Stream_) occurring for all constraint stream instances
                 // to ensure there are no 2 equal ConstraintStream instances (with different child stream lists).
-                constraint.collectActiveConstraintStreams(constraintStreamSet);
+                Set<BavetAbstractConstraintStream<Solution_>> constraintStreamSubset = new LinkedHashSet<>();
+                constraint.collectActiveConstraintStreams(constraintStreamSubset);
+                constraintStreamSet.addAll(constraintStreamSubset);
+                for (BavetAbstractConstraintStream<Solution_> constraintStream : constraintStreamSubset) {
+                    streamToConstraintIdListMap.computeIfAbsent(constraintStream, k -> new ArrayList<>())
+                            .add(constraint.getConstraintId());
+                }
                 constraintWeightMap.put(constraint, constraintWeight);
             }
         }
-        AbstractScoreInliner<Score_> scoreInliner =
-                AbstractScoreInliner.buildScoreInliner(scoreDefinition, constraintWeightMap, constraintMatchEnabled);
-        NodeBuildHelper<Score_> buildHelper = new NodeBuildHelper<>(constraintStreamSet, scoreInliner);
-        // Build constraintStreamSet in reverse order to create downstream nodes first
+        ProfilingClock profilingClock = scoreCalculationProfile == null ? null : new ProfilingClock();
+        Set<BavetAbstractConstraintStream<Solution_>> precomputedStreamSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<BavetAbstractConstraintStream<Solution_>> sessionStreamSet =
+                splitOffPrecomputedStreams(constraintStreamSet, precomputedStreamSet);
+        // Constraint matches and profiles are not partitioned, so those need all nodes to propagate on 1 thread.
+        Map<BavetAbstractConstraintStream<Solution_>, Integer> streamToComponentMap =
+                parallelPropagationEnabled && !constraintMatchEnabled && scoreCalculationProfile == null
+                        ? findComponents(sessionStreamSet)
+                        : null;
+        int componentCount = streamToComponentMap == null ? 1 : countComponents(streamToComponentMap);
+        if (componentCount == 1) {
+            streamToComponentMap = null; // Nothing to propagate in parallel with.
+        }
+        AbstractScoreInliner<Score_> scoreInliner = streamToComponentMap == null
+                ? AbstractScoreInliner.buildScoreInliner(scoreDefinition, constraintWeightMap, constraintMatchEnabled)
+                : buildPartitionedScoreInliner(scoreDefinition, constraintWeightMap, streamToConstraintIdListMap,
+                        streamToComponentMap, componentCount);
+        NodeBuildHelper<Score_> buildHelper = new NodeBuildHelper<>(sessionStreamSet, scoreInliner, profilingClock,
+                gizmoClassLoader);
+        // Build sessionStreamSet in reverse order to create downstream nodes first
         // so every node only has final variables (some of which have downstream node method references).
-        List<BavetAbstractConstraintStream<Solution_>> reversedConstraintStreamList = new ArrayList<>(constraintStreamSet);
+        List<BavetAbstractConstraintStream<Solution_>> reversedConstraintStreamList = new ArrayList<>(sessionStreamSet);
         Collections.reverse(reversedConstraintStreamList);
+        Map<BavetAbstractConstraintStream<Solution_>, Integer> streamToReversedNodeIndexMap = new IdentityHashMap<>();
+        List<Integer> reversedNodeComponentList = streamToComponentMap == null ? null : new ArrayList<>();
+        List<BavetPrecomputedSubnetwork<?>> precomputedSubnetworkList = new ArrayList<>(precomputedStreamSet.size());
         for (BavetAbstractConstraintStream<Solution_> constraintStream : reversedConstraintStreamList) {
-            constraintStream.buildNode(buildHelper);
+            int reversedNodeIndex = buildHelper.getNodeCount();
+            if (precomputedStreamSet.contains(constraintStream)) {
+                TupleLifecycle<AbstractTuple> tupleLifecycle =
+                        buildHelper.getAggregatedTupleLifecycle(constraintStream.getChildStreamList());
+                int outputStoreSize = buildHelper.extractTupleStoreSize(constraintStream);
+                PrecomputeNode node = new PrecomputeNode(tupleLifecycle, outputStoreSize);
+                buildHelper.addNode(node);
+                precomputedSubnetworkList.add(new BavetPrecomputedSubnetwork<>(constraintStream, node));
+            } else {
+                constraintStream.buildNode(buildHelper);
+            }
+            if (buildHelper.getNodeCount() > reversedNodeIndex) {
+                streamToReversedNodeIndexMap.put(constraintStream, reversedNodeIndex);
+            }
+            if (reversedNodeComponentList != null) {
+                Integer component = streamToComponentMap.get(constraintStream);
+                for (int i = reversedNodeIndex; i < buildHelper.getNodeCount(); i++) {
+                    reversedNodeComponentList.add(component);
+                }
+            }
         }
         List<AbstractNode> nodeList = buildHelper.destroyAndGetNodeList();
-        Map<Class<?>, ForEachUniNode<Object>> declaredClassToNodeMap = new LinkedHashMap<>();
+        int[] nodeComponents = null;
+        if (reversedNodeComponentList != null) {
+            nodeComponents = new int[nodeList.size()];
+            for (int i = 0; i < nodeComponents.length; i++) {
+                nodeComponents[i] = reversedNodeComponentList.get(nodeComponents.length - 1 - i);
+            }
+        }
+        Map<Class<?>, List<ForEachUniNode<Object>>> declaredClassToNodeListMap = new LinkedHashMap<>();
         long nextNodeId = 0;
         for (AbstractNode node : nodeList) {
             node.setId(nextNodeId++);
             if (node instanceof ForEachUniNode) {
                 ForEachUniNode<Object> forEachUniNode = (ForEachUniNode<Object>) node;
-                ForEachUniNode<Object> old = declaredClassToNodeMap.put(forEachUniNode.getForEachClass(), forEachUniNode);
-                if (old != null) {
-                    throw new IllegalStateException("Impossible state: For class (" + forEachUniNode.getForEachClass()
-                            + ") there are 2 nodes (" + forEachUniNode + ", " + old + ").");
+                List<ForEachUniNode<Object>> declaredNodeList = declaredClassToNodeListMap
+                        .computeIfAbsent(forEachUniNode.getForEachClass(), k -> new ArrayList<>());
+                for (ForEachUniNode<Object> old : declaredNodeList) {
+                    if (Objects.equals(old.getVariableNameSet(), forEachUniNode.getVariableNameSet())) {
+                        throw new IllegalStateException("Impossible state: For class (" + forEachUniNode.getForEachClass()
+                                + ") there are 2 nodes (" + forEachUniNode + ", " + old + ").");
+                    }
+                }
+                declaredNodeList.add(forEachUniNode);
+            }
+        }
+        // The nodeList is in topological order, because every stream is collected after its parent streams.
+        BavetNodeNetworkReport nodeNetworkReport = buildNodeNetworkReport(constraintStreamSet, streamToConstraintIdListMap,
+                streamToReversedNodeIndexMap, nodeList);
+        OperationProfile[] nodeProfiles = null;
+        if (scoreCalculationProfile != null) {
+            nodeProfiles = registerProfiles(scoreCalculationProfile, buildHelper, streamToConstraintIdListMap,
+                    nodeNetworkReport, nodeList);
+        }
+        return new BavetConstraintSession<>(scoreInliner, declaredClassToNodeListMap, nodeList.toArray(new AbstractNode[0]),
+                nodeProfiles, profilingClock, nodeNetworkReport, precomputedSubnetworkList, nodeComponents, componentCount);
+    }
+
+    /**
+     * Almost every constraint starts from a forEach stream which it shares with other constraints,
+     * such as {@code forEach(X)} and {@code join(X)}, which both build on {@code forEachIncludingNullVars(X)}.
+     * Therefore the source streams (the forEach streams and the precomputed tuple sources),
+     * together with the filters directly below them which do not build a node of their own,
+     * propagate on the calling thread first (see {@link #SOURCE_COMPONENT}).
+     * Below those, two streams are in the same component
+     * if one is upstream of the other, or if they have a stream in common upstream.
+     * Different components do not share any nodes, so they can propagate independently of each other.
+     *
+     * @param sessionStreamSet never null, in topological order
+     * @return never null, the component of every stream, numbered from 0 in the order of the sessionStreamSet,
+     *         or {@link #SOURCE_COMPONENT}
+     */
+    private static <Solution_> Map<BavetAbstractConstraintStream<Solution_>, Integer> findComponents(
+            Set<BavetAbstractConstraintStream<Solution_>> sessionStreamSet) {
+        Map<BavetAbstractConstraintStream<Solution_>, Integer> streamToIndexMap =
+                new IdentityHashMap<>(sessionStreamSet.size());
+        Set<BavetAbstractConstraintStream<Solution_>> sourceStreamSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        int[] unionParents = new int[sessionStreamSet.size()];
+        for (BavetAbstractConstraintStream<Solution_> constraintStream : sessionStreamSet) {
+            int index = streamToIndexMap.size();
+            streamToIndexMap.put(constraintStream, index);
+            unionParents[index] = index;
+            // A scoring stream needs a component for the score inliner of its constraint.
+            boolean source = !(constraintStream instanceof BavetScoringConstraintStream);
+            for (BavetAbstractConstraintStream<Solution_> parent : constraintStream.getParentList()) {
+                // The parents of a precomputed tuple source are not in the session.
+                Integer parentIndex = streamToIndexMap.get(parent);
+                if (parentIndex == null) {
+                    continue;
+                }
+                if (!sourceStreamSet.contains(parent) || constraintStream.buildsOwnNode()) {
+                    source = false;
+                }
+                // A source stream propagates before all components, so it does not connect its child streams.
+                if (!sourceStreamSet.contains(parent)) {
+                    unionParents[findUnionRoot(unionParents, index)] = findUnionRoot(unionParents, parentIndex);
+                }
+            }
+            if (source) {
+                sourceStreamSet.add(constraintStream);
+            }
+        }
+        Map<Integer, Integer> rootToComponentMap = new HashMap<>();
+        Map<BavetAbstractConstraintStream<Solution_>, Integer> streamToComponentMap =
+                new IdentityHashMap<>(sessionStreamSet.size());
+        for (BavetAbstractConstraintStream<Solution_> constraintStream : sessionStreamSet) {
+            if (sourceStreamSet.contains(constraintStream)) {
+                streamToComponentMap.put(constraintStream, SOURCE_COMPONENT);
+                continue;
+            }
+            int root = findUnionRoot(unionParents, streamToIndexMap.get(constraintStream));
+            Integer component = rootToComponentMap.get(root);
+            if (component == null) {
+                component = rootToComponentMap.size();
+                rootToComponentMap.put(root, component);
+            }
+            streamToComponentMap.put(constraintStream, component);
+        }
+        return streamToComponentMap;
+    }
+
+    private static int findUnionRoot(int[] unionParents, int index) {
+        while (unionParents[index] != index) {
+            unionParents[index] = unionParents[unionParents[index]]; // Path halving.
+            index = unionParents[index];
+        }
+        return index;
+    }
+
+    private static <Solution_> int countComponents(
+            Map<BavetAbstractConstraintStream<Solution_>, Integer> streamToComponentMap) {
+        int maxComponent = -1;
+        for (Integer component : streamToComponentMap.values()) {
+            maxComponent = Math.max(maxComponent, component);
+        }
+        return maxComponent + 1;
+    }
+
+    /**
+     * Every component impacts the score of its own constraints only,
+     * so the components can propagate on different threads without sharing a score inliner.
+     */
+    private static <Solution_, Score_ extends Score<Score_>> AbstractScoreInliner<Score_> buildPartitionedScoreInliner(
+            ScoreDefinition<Score_> scoreDefinition, Map<Constraint, Score_> constraintWeightMap,
+            Map<BavetAbstractConstraintStream<Solution_>, List<String>> streamToConstraintIdListMap,
+            Map<BavetAbstractConstraintStream<Solution_>, Integer> streamToComponentMap, int componentCount) {
+        Map<String, Integer> constraintIdToComponentMap = new HashMap<>(constraintWeightMap.size());
+        for (Map.Entry<BavetAbstractConstraintStream<Solution_>, Integer> entry : streamToComponentMap.entrySet()) {
+            // A scoring stream always belongs to exactly 1 constraint, unlike the source streams.
+            if (entry.getKey() instanceof BavetScoringConstraintStream) {
+                String constraintId = streamToConstraintIdListMap.get(entry.getKey()).get(0);
+                constraintIdToComponentMap.put(constraintId, entry.getValue());
+            }
+        }
+        List<Map<Constraint, Score_>> componentConstraintWeightMapList = new ArrayList<>(componentCount);
+        for (int i = 0; i < componentCount; i++) {
+            componentConstraintWeightMapList.add(new LinkedHashMap<>());
+        }
+        for (Map.Entry<Constraint, Score_> entry : constraintWeightMap.entrySet()) {
+            Integer component = constraintIdToComponentMap.get(entry.getKey().getConstraintId());
+            if (component == null) {
+                throw new IllegalStateException("Impossible state: the constraint (" + entry.getKey()
+                        + ") has no streams in the session.");
+            }
+            componentConstraintWeightMapList.get(component).put(entry.getKey(), entry.getValue());
+        }
+        List<AbstractScoreInliner<Score_>> componentScoreInlinerList = new ArrayList<>(componentCount);
+        for (Map<Constraint, Score_> componentConstraintWeightMap : componentConstraintWeightMapList) {
+            componentScoreInlinerList.add(
+                    AbstractScoreInliner.buildScoreInliner(scoreDefinition, componentConstraintWeightMap, false));
+        }
+        return new PartitionedScoreInliner<>(componentScoreInlinerList);
+    }
+
+    /**
+     * A stream only depends on problem facts if none of its forEach streams can see a planning entity.
+     * Problem facts do not change during solving,
+     * so the tuple sources (such as joins and groupBys) among those streams are precomputed
+     * (see {@link BavetPrecomputedSubnetwork}) instead of built into the session,
+     * together with every stream upstream of them.
+     * Scoring streams always stay in the session, so a constraint of only problem facts still impacts the score.
+     * Tuple sources which are forEach streams stay in the session too, because there is nothing to precompute.
+     *
+     * @param constraintStreamSet never null, in topological order
+     * @param precomputedStreamSet never null, filled with the tuple source streams to precompute
+     * @return never null, in topological order, the streams to build into the session,
+     *         including the precomputed tuple sources which the session gets a {@link PrecomputeNode} for
+     */
+    private Set<BavetAbstractConstraintStream<Solution_>> splitOffPrecomputedStreams(
+            Set<BavetAbstractConstraintStream<Solution_>> constraintStreamSet,
+            Set<BavetAbstractConstraintStream<Solution_>> precomputedStreamSet) {
+        Set<BavetAbstractConstraintStream<Solution_>> factOnlyStreamSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (BavetAbstractConstraintStream<Solution_> constraintStream : constraintStreamSet) {
+            // Parents come first, so they have been classified already.
+            if (constraintStream instanceof BavetForEachUniConstraintStream) {
+                Class<?> forEachClass = ((BavetForEachUniConstraintStream<Solution_, ?>) constraintStream).getForEachClass();
+                if (isProblemFactClass(forEachClass)) {
+                    factOnlyStreamSet.add(constraintStream);
+                }
+            } else if (!(constraintStream instanceof BavetScoringConstraintStream)
+                    && factOnlyStreamSet.containsAll(constraintStream.getParentList())) {
+                factOnlyStreamSet.add(constraintStream);
+            }
+        }
+        Set<BavetAbstractConstraintStream<Solution_>> sessionStreamSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<BavetAbstractConstraintStream<Solution_>> streamsToVisit = new ArrayDeque<>();
+        for (BavetAbstractConstraintStream<Solution_> constraintStream : constraintStreamSet) {
+            if (!factOnlyStreamSet.contains(constraintStream)) {
+                sessionStreamSet.add(constraintStream);
+                streamsToVisit.addAll(constraintStream.getParentList());
+            }
+        }
+        while (!streamsToVisit.isEmpty()) {
+            BavetAbstractConstraintStream<Solution_> constraintStream = streamsToVisit.pop();
+            if (!sessionStreamSet.add(constraintStream)) {
+                continue;
+            }
+            if (constraintStream instanceof TupleSource && !(constraintStream instanceof BavetForEachUniConstraintStream)) {
+                // Only fact-only streams get here, so everything upstream of this tuple source is left out.
+                precomputedStreamSet.add(constraintStream);
+            } else {
+                streamsToVisit.addAll(constraintStream.getParentList());
+            }
+        }
+        Set<BavetAbstractConstraintStream<Solution_>> orderedSessionStreamSet = new LinkedHashSet<>(sessionStreamSet.size());
+        for (BavetAbstractConstraintStream<Solution_> constraintStream : constraintStreamSet) {
+            if (sessionStreamSet.contains(constraintStream)) {
+                orderedSessionStreamSet.add(constraintStream);
+            }
+        }
+        return orderedSessionStreamSet;
+    }
+
+    private boolean isProblemFactClass(Class<?> forEachClass) {
+        for (Class<?> entityClass : solutionDescriptor.getEntityClassSet()) {
+            // A forEach of a superclass or an interface of an entity class sees entities too.
+            if (forEachClass.isAssignableFrom(entityClass) || entityClass.isAssignableFrom(forEachClass)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The node ids are deterministic for the same set of active constraints,
+     * so the profiles of subsequent sessions of the same score director accumulate on the same keys.
+     *
+     * @return indexed like the nodeList
+     */
+    private static <Solution_> OperationProfile[] registerProfiles(ScoreCalculationProfile scoreCalculationProfile,
+            NodeBuildHelper<?> buildHelper,
+            Map<BavetAbstractConstraintStream<Solution_>, List<String>> streamToConstraintIdListMap,
+            BavetNodeNetworkReport nodeNetworkReport, List<AbstractNode> nodeList) {
+        Map<AbstractNode, List<String>> nodeToConstraintIdListMap = new IdentityHashMap<>(nodeList.size());
+        for (BavetNodeNetworkReport.StreamReport streamReport : nodeNetworkReport.getStreamReportList()) {
+            if (streamReport.getNode() != null) {
+                nodeToConstraintIdListMap.put(streamReport.getNode(), streamReport.getConstraintIdList());
+            }
+        }
+        OperationProfile[] nodeProfiles = new OperationProfile[nodeList.size()];
+        for (int i = 0; i < nodeProfiles.length; i++) {
+            AbstractNode node = nodeList.get(i);
+            nodeProfiles[i] = buildHelper.getNodeProfile(node);
+            // A node which is not in the report has no constraints to attribute its time to.
+            List<String> constraintIdList = nodeToConstraintIdListMap.getOrDefault(node, Collections.emptyList());
+            scoreCalculationProfile.addNode(node.toString(), constraintIdList, nodeProfiles[i]);
+        }
+        for (Map.Entry<ConstraintStream, OperationProfile> entry : buildHelper.getScoringStreamProfileMap().entrySet()) {
+            // A scoring stream always belongs to exactly 1 constraint.
+            String constraintId = streamToConstraintIdListMap.get(entry.getKey()).get(0);
+            scoreCalculationProfile.addConstraint(constraintId, entry.getValue());
+        }
+        return nodeProfiles;
+    }
+
+    private static <Solution_> BavetNodeNetworkReport buildNodeNetworkReport(
+            Set<BavetAbstractConstraintStream<Solution_>> constraintStreamSet,
+            Map<BavetAbstractConstraintStream<Solution_>, List<String>> streamToConstraintIdListMap,
+            Map<BavetAbstractConstraintStream<Solution_>, Integer> streamToReversedNodeIndexMap,
+            List<AbstractNode> nodeList) {
+        Map<BavetAbstractConstraintStream<Solution_>, Integer> streamToIdMap = new IdentityHashMap<>();
+        List<BavetNodeNetworkReport.StreamReport> streamReportList = new ArrayList<>(constraintStreamSet.size());
+        for (BavetAbstractConstraintStream<Solution_> constraintStream : constraintStreamSet) {
+            int id = streamReportList.size();
+            streamToIdMap.put(constraintStream, id);
+            List<Integer> parentIdList = new ArrayList<>(2);
+            for (BavetAbstractConstraintStream<Solution_> parent : constraintStream.getParentList()) {
+                Integer parentId = streamToIdMap.get(parent);
+                if (parentId == null) {
+                    throw new IllegalStateException("Impossible state: the stream (" + constraintStream
+                            + ") comes before its parent (" + parent + ").");
                 }
+                parentIdList.add(parentId);
             }
+            Integer reversedNodeIndex = streamToReversedNodeIndexMap.get(constraintStream);
+            AbstractNode node = reversedNodeIndex == null ? null : nodeList.get(nodeList.size() - 1 - reversedNodeIndex);
+            List<String> constraintIdList = new ArrayList<>(streamToConstraintIdListMap.get(constraintStream));
+            Collections.sort(constraintIdList);
+            streamReportList.add(new BavetNodeNetworkReport.StreamReport(id, constraintStream.getClass().getSimpleName(),
+                    constraintStream.toString(), node, parentIdList, constraintIdList,
+                    constraintStream.getConstraintFactory().getShareCount(constraintStream)));
         }
-        return new BavetConstraintSession<>(scoreInliner, declaredClassToNodeMap, nodeList.toArray(new AbstractNode[0]));
+        return new BavetNodeNetworkReport(streamReportList);
     }
 
 }
@@ -1,5 +1,8 @@
 package ai.timefold.solver.constraint.streams.bavet;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 
 import ai.timefold.solver.core.api.domain.entity.PlanningEntity;
@@ -12,6 +15,8 @@ import ai.timefold.solver.core.impl.domain.entity.descriptor.EntityDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.VariableDescriptor;
 import ai.timefold.solver.core.impl.score.director.AbstractScoreDirector;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.solver.thread.ChildThreadType;
 
 /**
  * FP streams implementation of {@link ScoreDirector}, which only recalculates the {@link Score}
@@ -25,6 +30,16 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
         extends AbstractScoreDirector<Solution_, Score_, BavetConstraintStreamScoreDirectorFactory<Solution_, Score_>> {
 
     protected BavetConstraintSession<Score_> session;
+    /**
+     * Only set while a forked score director sets its first working solution, null otherwise.
+     *
+     * @see #fork(boolean)
+     */
+    private BavetConstraintSession<Score_> originalSession;
+    /**
+     * The facts of the working solution of the {@link #originalSession}, in visiting order.
+     */
+    private List<Object> originalFactList;
 
     public BavetConstraintStreamScoreDirector(
             BavetConstraintStreamScoreDirectorFactory<Solution_, Score_> scoreDirectorFactory,
@@ -43,8 +58,83 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
     }
 
     private void resetConstraintStreamingSession() {
-        session = scoreDirectorFactory.newSession(constraintMatchEnabledPreference, workingSolution);
-        getSolutionDescriptor().visitAll(workingSolution, session::insert);
+        BavetConstraintSession<Score_> previousSession = session;
+        session = scoreDirectorFactory.newSession(constraintMatchEnabledPreference, workingSolution,
+                scoreCalculationProfile);
+        List<Object> factList = new ArrayList<>();
+        getSolutionDescriptor().visitAll(workingSolution, factList::add);
+        if (previousSession != null) {
+            // The problem facts rarely change between sessions, so their precomputed tuples usually still apply.
+            session.takeOverPrecomputedResults(previousSession);
+        } else if (originalSession != null) {
+            Map<Object, Object> cloneMap = buildCloneMap(originalFactList, factList);
+            if (cloneMap != null) {
+                session.forkPrecomputedResults(originalSession, cloneMap);
+            }
+        }
+        originalSession = null;
+        originalFactList = null;
+        session.insertAll(factList);
+    }
+
+    /**
+     * Both lists come from visiting a working solution and its planning clone,
+     * so the clone of a fact is at the same position as the fact itself.
+     *
+     * @param originalFactList never null
+     * @param clonedFactList never null
+     * @return null if the lists do not correspond, otherwise only has the facts which are not their own clone
+     */
+    private static Map<Object, Object> buildCloneMap(List<Object> originalFactList, List<Object> clonedFactList) {
+        if (originalFactList.size() != clonedFactList.size()) {
+            return null;
+        }
+        Map<Object, Object> cloneMap = new IdentityHashMap<>();
+        for (int i = 0; i < originalFactList.size(); i++) {
+            Object originalFact = originalFactList.get(i);
+            Object clonedFact = clonedFactList.get(i);
+            if (originalFact != clonedFact) {
+                if (originalFact.getClass() != clonedFact.getClass()) {
+                    return null;
+                }
+                cloneMap.put(originalFact, clonedFact);
+            }
+        }
+        return cloneMap;
+    }
+
+    /**
+     * Builds a score director for a planning clone of the working solution,
+     * whose session starts from the precomputed tuples of this session (see {@link BavetPrecomputedSubnetwork})
+     * instead of calculating them again.
+     * The rest of the node network is still filled by inserting every fact.
+     *
+     * @param lookUpEnabled true if the fork needs look-ups
+     * @return never null
+     */
+    private BavetConstraintStreamScoreDirector<Solution_, Score_> fork(boolean lookUpEnabled) {
+        BavetConstraintStreamScoreDirector<Solution_, Score_> fork =
+                scoreDirectorFactory.buildScoreDirector(lookUpEnabled, constraintMatchEnabledPreference);
+        fork.originalSession = session;
+        fork.originalFactList = new ArrayList<>();
+        getSolutionDescriptor().visitAll(workingSolution, fork.originalFactList::add);
+        fork.setWorkingSolution(cloneWorkingSolution());
+        return fork;
+    }
+
+    @Override
+    public BavetConstraintStreamScoreDirector<Solution_, Score_> clone() {
+        return fork(lookUpEnabled);
+    }
+
+    @Override
+    public InnerScoreDirector<Solution_, Score_> createChildThreadScoreDirector(ChildThreadType childThreadType) {
+        if (childThreadType == ChildThreadType.MOVE_THREAD) {
+            // TODO The move thread must use constraintMatchEnabledPreference in FULL_ASSERT,
+            // but it doesn't have to for Indictment Local Search, in which case it is a performance loss
+            return fork(true);
+        }
+        return super.createChildThreadScoreDirector(childThreadType);
     }
 
     @Override
@@ -55,6 +145,29 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
         return score;
     }
 
+    @Override
+    protected Score_ calculateMoveScore() {
+        variableListenerSupport.assertNotificationQueuesAreEmpty();
+        session.settle();
+        calculationCount++;
+        return null; // Most move scores are only compared, so the score inliner compares its levels directly.
+    }
+
+    @Override
+    protected Score_ materializeMoveScore() {
+        Score_ score = session.calculateScore(workingInitScore);
+        getSolutionDescriptor().setScore(workingSolution, score);
+        return score;
+    }
+
+    @Override
+    public int compareMoveScoreTo(Score_ score) {
+        if (moveScoreAvailable && moveScore == null) {
+            return session.getScoreInliner().compareScoreTo(workingInitScore, score);
+        }
+        return super.compareMoveScoreTo(score);
+    }
+
     @Override
     public boolean isConstraintMatchEnabled() {
         return constraintMatchEnabledPreference;
@@ -78,6 +191,17 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
         return session.getIndictmentMap();
     }
 
+    /**
+     * @return never null, describes the node network of the current session, including how much node sharing occurred
+     */
+    public BavetNodeNetworkReport getNodeNetworkReport() {
+        if (workingSolution == null) {
+            throw new IllegalStateException(
+                    "The method setWorkingSolution() must be called before the method getNodeNetworkReport().");
+        }
+        return session.getNodeNetworkReport();
+    }
+
     @Override
     public boolean requiresFlushing() {
         return true; // Tuple refresh happens during score calculation.
@@ -112,14 +236,14 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
 
     @Override
     public void afterVariableChanged(VariableDescriptor<Solution_> variableDescriptor, Object entity) {
-        session.update(entity);
+        session.update(entity, variableDescriptor);
         super.afterVariableChanged(variableDescriptor, entity);
     }
 
     @Override
     public void afterListVariableChanged(ListVariableDescriptor<Solution_> variableDescriptor, Object entity, int fromIndex,
             int toIndex) {
-        session.update(entity);
+        session.update(entity, variableDescriptor);
         super.afterListVariableChanged(variableDescriptor, entity, fromIndex, toIndex);
     }
 
@@ -9,7 +9,9 @@ import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.api.score.stream.Constraint;
 import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
 import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.domain.common.accessor.gizmo.GizmoClassLoader;
 import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import ai.timefold.solver.core.impl.score.director.ScoreCalculationProfile;
 
 public final class BavetConstraintStreamScoreDirectorFactory<Solution_, Score_ extends Score<Score_>>
         extends AbstractConstraintStreamScoreDirectorFactory<Solution_, Score_> {
@@ -19,10 +21,23 @@ public final class BavetConstraintStreamScoreDirectorFactory<Solution_, Score_ e
 
     public BavetConstraintStreamScoreDirectorFactory(SolutionDescriptor<Solution_> solutionDescriptor,
             ConstraintProvider constraintProvider, EnvironmentMode environmentMode) {
+        this(solutionDescriptor, constraintProvider, environmentMode, false);
+    }
+
+    /**
+     * @param solutionDescriptor never null
+     * @param constraintProvider never null
+     * @param environmentMode never null
+     * @param parallelPropagationEnabled true if the independent parts of the node network
+     *        may propagate on multiple threads
+     */
+    public BavetConstraintStreamScoreDirectorFactory(SolutionDescriptor<Solution_> solutionDescriptor,
+            ConstraintProvider constraintProvider, EnvironmentMode environmentMode, boolean parallelPropagationEnabled) {
         super(solutionDescriptor);
         BavetConstraintFactory<Solution_> constraintFactory = new BavetConstraintFactory<>(solutionDescriptor, environmentMode);
         constraintList = constraintFactory.buildConstraints(constraintProvider);
-        constraintSessionFactory = new BavetConstraintSessionFactory<>(solutionDescriptor, constraintList);
+        constraintSessionFactory =
+                new BavetConstraintSessionFactory<>(solutionDescriptor, constraintList, parallelPropagationEnabled);
     }
 
     @Override
@@ -32,7 +47,20 @@ public final class BavetConstraintStreamScoreDirectorFactory<Solution_, Score_ e
     }
 
     public BavetConstraintSession<Score_> newSession(boolean constraintMatchEnabled, Solution_ workingSolution) {
-        return constraintSessionFactory.buildSession(constraintMatchEnabled, workingSolution);
+        return newSession(constraintMatchEnabled, workingSolution, null);
+    }
+
+    public BavetConstraintSession<Score_> newSession(boolean constraintMatchEnabled, Solution_ workingSolution,
+            ScoreCalculationProfile scoreCalculationProfile) {
+        return constraintSessionFactory.buildSession(constraintMatchEnabled, workingSolution, scoreCalculationProfile);
+    }
+
+    /**
+     * @param gizmoClassLoader never null, receives the bytecode of the generated classes
+     * @see BavetConstraintSessionFactory#compileNodeNetwork(GizmoClassLoader)
+     */
+    public void compileNodeNetwork(GizmoClassLoader gizmoClassLoader) {
+        constraintSessionFactory.compileNodeNetwork(gizmoClassLoader);
     }
 
     @Override
@@ -46,7 +46,10 @@ public final class BavetConstraintStreamScoreDirectorFactoryService<Solution_, S
                         "constraintProviderClass", config.getConstraintProviderClass());
                 ConfigUtils.applyCustomProperties(constraintProvider, "constraintProviderClass",
                         config.getConstraintProviderCustomProperties(), "constraintProviderCustomProperties");
-                return buildScoreDirectorFactory(solutionDescriptor, constraintProvider, environmentMode);
+                boolean parallelPropagationEnabled =
+                        Objects.requireNonNullElse(config.getConstraintStreamParallelPropagation(), false);
+                return new BavetConstraintStreamScoreDirectorFactory<>(solutionDescriptor, constraintProvider,
+                        environmentMode, parallelPropagationEnabled);
             };
         } else {
             if (config.getConstraintProviderCustomProperties() != null) {
@@ -0,0 +1,246 @@
+package ai.timefold.solver.constraint.streams.bavet;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import ai.timefold.solver.constraint.streams.bavet.common.AbstractNode;
+
+/**
+ * Describes the node network of a {@link BavetConstraintSession}:
+ * every active constraint stream, the node it built (if any), the constraints it serves
+ * and how many times it was reused through node sharing.
+ * <p>
+ * The structure is fixed when the session is built,
+ * but {@link StreamReport#getLiveTupleCount()} reflects the state of the session at the time it is called.
+ * <p>
+ * Use {@link #getPossibleDuplicateList()} to find streams which were not shared,
+ * for example because they were created with non-identical lambdas.
+ */
+public final class BavetNodeNetworkReport {
+
+    private final List<StreamReport> streamReportList;
+
+    BavetNodeNetworkReport(List<StreamReport> streamReportList) {
+        this.streamReportList = Collections.unmodifiableList(streamReportList);
+    }
+
+    /**
+     * @return never null, in topological order (every stream comes after its parent streams)
+     */
+    public List<StreamReport> getStreamReportList() {
+        return streamReportList;
+    }
+
+    /**
+     * @return the number of streams which built a node
+     */
+    public int getNodeCount() {
+        return (int) streamReportList.stream()
+                .filter(streamReport -> streamReport.node != null)
+                .count();
+    }
+
+    /**
+     * Groups the streams of the same type which have exactly the same parent streams.
+     * Such streams either do genuinely different things (such as filtering on different predicates),
+     * or they are duplicates which could be shared if the {@code ConstraintProvider} reused the same lambda instances.
+     *
+     * @return never null, every group has at least 2 streams
+     */
+    public List<List<StreamReport>> getPossibleDuplicateList() {
+        Map<List<Object>, List<StreamReport>> siblingMap = new LinkedHashMap<>();
+        for (StreamReport streamReport : streamReportList) {
+            List<Object> siblingKey = new ArrayList<>(streamReport.parentIdList.size() + 1);
+            siblingKey.add(streamReport.streamType);
+            siblingKey.addAll(streamReport.parentIdList);
+            siblingMap.computeIfAbsent(siblingKey, k -> new ArrayList<>()).add(streamReport);
+        }
+        return siblingMap.values().stream()
+                .filter(siblingList -> siblingList.size() > 1)
+                .collect(Collectors.toList());
+    }
+
+    // ************************************************************************
+    // Export
+    // ************************************************************************
+
+    /**
+     * @return never null, the network in the Graphviz DOT format
+     */
+    public String toDot() {
+        StringBuilder dot = new StringBuilder("digraph BavetNodeNetwork {\n");
+        dot.append("    node [shape=box];\n");
+        for (StreamReport streamReport : streamReportList) {
+            dot.append("    s").append(streamReport.id).append(" [label=\"")
+                    .append(escape(streamReport.streamType));
+            if (streamReport.node != null) {
+                dot.append("\\n").append(escape(streamReport.nodeType))
+                        .append("\\nlive tuples: ").append(streamReport.getLiveTupleCount());
+            }
+            dot.append("\\nshared: ").append(streamReport.shareCount)
+                    .append("\\nconstraints: ").append(streamReport.constraintIdList.size())
+                    .append("\"");
+            if (streamReport.node == null) {
+                dot.append(", style=dashed");
+            }
+            dot.append("];\n");
+        }
+        for (StreamReport streamReport : streamReportList) {
+            for (Integer parentId : streamReport.parentIdList) {
+                dot.append("    s").append(parentId).append(" -> s").append(streamReport.id).append(";\n");
+            }
+        }
+        return dot.append("}\n").toString();
+    }
+
+    /**
+     * @return never null, the network as a JSON object
+     */
+    public String toJson() {
+        StringBuilder json = new StringBuilder("{\n  \"streams\": [");
+        for (int i = 0; i < streamReportList.size(); i++) {
+            StreamReport streamReport = streamReportList.get(i);
+            json.append(i == 0 ? "\n" : ",\n")
+                    .append("    {\"id\": ").append(streamReport.id)
+                    .append(", \"streamType\": \"").append(escape(streamReport.streamType)).append("\"")
+                    .append(", \"description\": \"").append(escape(streamReport.description)).append("\"")
+                    .append(", \"nodeType\": ");
+            if (streamReport.node == null) {
+                json.append("null");
+            } else {
+                json.append("\"").append(escape(streamReport.nodeType)).append("\"");
+            }
+            json.append(", \"liveTupleCount\": ").append(streamReport.getLiveTupleCount())
+                    .append(", \"shareCount\": ").append(streamReport.shareCount)
+                    .append(", \"parentIds\": ").append(streamReport.parentIdList)
+                    .append(", \"constraintIds\": [")
+                    .append(streamReport.constraintIdList.stream()
+                            .map(constraintId -> "\"" + escape(constraintId) + "\"")
+                            .collect(Collectors.joining(", ")))
+                    .append("]}");
+        }
+        return json.append("\n  ]\n}\n").toString();
+    }
+
+    private static String escape(String text) {
+        StringBuilder escaped = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '"':
+                    escaped.append("\\\"");
+                    break;
+                case '\\':
+                    escaped.append("\\\\");
+                    break;
+                case '\n':
+                    escaped.append("\\n");
+                    break;
+                default:
+                    if (c < ' ') {
+                        escaped.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        escaped.append(c);
+                    }
+            }
+        }
+        return escaped.toString();
+    }
+
+    @Override
+    public String toString() {
+        return "BavetNodeNetworkReport(" + streamReportList.size() + " streams, " + getNodeCount() + " nodes)";
+    }
+
+    public static final class StreamReport {
+
+        private final int id;
+        private final String streamType;
+        private final String description;
+        private final AbstractNode node;
+        private final String nodeType;
+        private final List<Integer> parentIdList;
+        private final List<String> constraintIdList;
+        private final int shareCount;
+
+        StreamReport(int id, String streamType, String description, AbstractNode node, List<Integer> parentIdList,
+                List<String> constraintIdList, int shareCount) {
+            this.id = id;
+            this.streamType = streamType;
+            this.description = description;
+            this.node = node;
+            this.nodeType = node == null ? null : node.getClass().getSimpleName();
+            this.parentIdList = Collections.unmodifiableList(parentIdList);
+            this.constraintIdList = Collections.unmodifiableList(constraintIdList);
+            this.shareCount = shareCount;
+        }
+
+        /**
+         * @return the position of the stream in {@link #getStreamReportList()}
+         */
+        public int getId() {
+            return id;
+        }
+
+        public String getStreamType() {
+            return streamType;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        AbstractNode getNode() {
+            return node;
+        }
+
+        /**
+         * @return null if the stream did not build a node of its own,
+         *         for example because it is a filter that is applied by its parent's node
+         */
+        public String getNodeType() {
+            return nodeType;
+        }
+
+        /**
+         * @return the ids of the streams which this stream receives its tuples from
+         */
+        public List<Integer> getParentIdList() {
+            return parentIdList;
+        }
+
+        /**
+         * @return never null, the ids of the constraints which this stream contributes to
+         */
+        public List<String> getConstraintIdList() {
+            return constraintIdList;
+        }
+
+        /**
+         * @return the number of times this stream was requested while defining the constraints;
+         *         anything above 1 means the stream was shared
+         */
+        public int getShareCount() {
+            return shareCount;
+        }
+
+        /**
+         * @return the number of tuples that the node currently propagates to its downstream nodes,
+         *         -1 if the stream did not build a node
+         */
+        public int getLiveTupleCount() {
+            return node == null ? -1 : node.getLiveTupleCount();
+        }
+
+        @Override
+        public String toString() {
+            return id + ": " + description;
+        }
+
+    }
+
+}
@@ -0,0 +1,281 @@
+package ai.timefold.solver.constraint.streams.bavet;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import ai.timefold.solver.constraint.streams.bavet.common.AbstractNode;
+import ai.timefold.solver.constraint.streams.bavet.common.BavetAbstractConstraintStream;
+import ai.timefold.solver.constraint.streams.bavet.common.NodeBuildHelper;
+import ai.timefold.solver.constraint.streams.bavet.common.PrecomputeNode;
+import ai.timefold.solver.constraint.streams.bavet.common.PropagationScheduler;
+import ai.timefold.solver.constraint.streams.bavet.common.tuple.AbstractTuple;
+import ai.timefold.solver.constraint.streams.bavet.common.tuple.BiTuple;
+import ai.timefold.solver.constraint.streams.bavet.common.tuple.QuadTuple;
+import ai.timefold.solver.constraint.streams.bavet.common.tuple.TriTuple;
+import ai.timefold.solver.constraint.streams.bavet.common.tuple.TupleLifecycle;
+import ai.timefold.solver.constraint.streams.bavet.common.tuple.UniTuple;
+import ai.timefold.solver.constraint.streams.bavet.uni.BavetForEachUniConstraintStream;
+import ai.timefold.solver.constraint.streams.bavet.uni.ForEachUniNode;
+import ai.timefold.solver.constraint.streams.common.inliner.AbstractScoreInliner;
+import ai.timefold.solver.core.api.score.Score;
+
+/**
+ * The part of the node network which only depends on problem facts, up to a tuple source stream, such as a join.
+ * Problem facts do not change during solving, so instead of keeping the nodes of that part in the session,
+ * its tuples are calculated from scratch in a throwaway node network
+ * and the session gets a {@link PrecomputeNode} which inserts the resulting tuples.
+ * <p>
+ * The next session of the same score director takes over the result (see {@link #takeOverResult(List)}),
+ * as long as the same problem fact instances go in and none of them changed in between.
+ *
+ * @param <Solution_> the solution type
+ */
+final class BavetPrecomputedSubnetwork<Solution_> {
+
+    private final BavetAbstractConstraintStream<Solution_> tupleSourceStream;
+    private final PrecomputeNode node;
+    private final Class<?>[] inputClasses;
+
+    private final List<Object> inputFactList = new ArrayList<>();
+    // The index of each fact in the inputFactList, so a retract does not need to search it.
+    private final Map<Object, Integer> inputFactIndexMap = new IdentityHashMap<>();
+    private boolean dirty = false;
+    /**
+     * Null if there is no result yet or if one of its input facts changed.
+     */
+    private Object[] resultInputFacts = null;
+    private List<Object[]> resultFactsList = null;
+
+    /**
+     * @param tupleSourceStream never null, only depends on problem facts
+     * @param node never null, takes the place of the tupleSourceStream in the session
+     */
+    BavetPrecomputedSubnetwork(BavetAbstractConstraintStream<Solution_> tupleSourceStream, PrecomputeNode node) {
+        this.tupleSourceStream = tupleSourceStream;
+        this.node = node;
+        Set<BavetAbstractConstraintStream<Solution_>> streamSet = new LinkedHashSet<>();
+        tupleSourceStream.collectActiveConstraintStreams(streamSet);
+        this.inputClasses = streamSet.stream()
+                .filter(stream -> stream instanceof BavetForEachUniConstraintStream)
+                .map(stream -> ((BavetForEachUniConstraintStream<Solution_, ?>) stream).getForEachClass())
+                .distinct()
+                .toArray(Class[]::new);
+    }
+
+    /**
+     * @param factClass never null
+     * @return true if facts of that class go into this subnetwork
+     */
+    boolean isInputClass(Class<?> factClass) {
+        for (Class<?> inputClass : inputClasses) {
+            if (inputClass.isAssignableFrom(factClass)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void insert(Object fact) {
+        Integer oldIndex = inputFactIndexMap.putIfAbsent(fact, inputFactList.size());
+        if (oldIndex != null) {
+            throw new IllegalStateException("The fact (" + fact + ") was already inserted, so it cannot insert again.");
+        }
+        inputFactList.add(fact);
+        dirty = true;
+    }
+
+    void update(Object fact) {
+        // The fact instance is the same, so only throwing away the result makes the next refresh recalculate it.
+        resultInputFacts = null;
+        resultFactsList = null;
+        dirty = true;
+    }
+
+    void retract(Object fact) {
+        Integer index = inputFactIndexMap.remove(fact);
+        if (index == null) {
+            throw new IllegalStateException("The fact (" + fact + ") was never inserted, so it cannot retract.");
+        }
+        // Swap with the last fact, to avoid shifting the others.
+        // The order stays deterministic, so the result is still reproducible.
+        Object lastFact = inputFactList.remove(inputFactList.size() - 1);
+        if (lastFact != fact) {
+            inputFactList.set(index, lastFact);
+            inputFactIndexMap.put(lastFact, index);
+        }
+        dirty = true;
+    }
+
+    boolean isDirty() {
+        return dirty;
+    }
+
+    /**
+     * Reuses the result of the same subnetwork in a previous session, if it has one.
+     * {@link #refresh(AbstractScoreInliner)} still checks that the input facts are the same.
+     *
+     * @param previousSubnetworkList never null
+     */
+    void takeOverResult(List<BavetPrecomputedSubnetwork<?>> previousSubnetworkList) {
+        forkResult(previousSubnetworkList, Collections.emptyMap());
+    }
+
+    /**
+     * Reuses the result of the same subnetwork in the session of another score director,
+     * with every fact replaced by its planning clone.
+     * The result is never modified after it is calculated, so both subnetworks can share it if no fact was cloned.
+     * {@link #refresh(AbstractScoreInliner)} still checks that the input facts are the same.
+     *
+     * @param originalSubnetworkList never null
+     * @param cloneMap never null, maps every fact which is not its own planning clone to its clone
+     */
+    void forkResult(List<BavetPrecomputedSubnetwork<?>> originalSubnetworkList, Map<Object, Object> cloneMap) {
+        for (BavetPrecomputedSubnetwork<?> originalSubnetwork : originalSubnetworkList) {
+            if (originalSubnetwork.tupleSourceStream == tupleSourceStream) {
+                if (originalSubnetwork.resultInputFacts == null || cloneMap.isEmpty()) {
+                    resultInputFacts = originalSubnetwork.resultInputFacts;
+                    resultFactsList = originalSubnetwork.resultFactsList;
+                } else {
+                    resultInputFacts = cloneFacts(originalSubnetwork.resultInputFacts, cloneMap);
+                    List<Object[]> clonedFactsList = new ArrayList<>(originalSubnetwork.resultFactsList.size());
+                    for (Object[] facts : originalSubnetwork.resultFactsList) {
+                        clonedFactsList.add(cloneFacts(facts, cloneMap));
+                    }
+                    resultFactsList = clonedFactsList;
+                }
+                return;
+            }
+        }
+    }
+
+    private static Object[] cloneFacts(Object[] facts, Map<Object, Object> cloneMap) {
+        Object[] clonedFacts = new Object[facts.length];
+        for (int i = 0; i < facts.length; i++) {
+            clonedFacts[i] = cloneMap.getOrDefault(facts[i], facts[i]);
+        }
+        return clonedFacts;
+    }
+
+    /**
+     * Replaces the tuples of the {@link PrecomputeNode} by the result for the current input facts,
+     * which is only recalculated if the input facts differ from those of the last result.
+     *
+     * @param scoreInliner never null, not used because the subnetwork has no scoring streams,
+     *        but required to build the nodes
+     */
+    <Score_ extends Score<Score_>> void refresh(AbstractScoreInliner<Score_> scoreInliner) {
+        if (resultInputFacts == null || !isSameInput()) {
+            resultFactsList = calculate(scoreInliner);
+            resultInputFacts = inputFactList.toArray();
+        }
+        node.replaceTuples(resultFactsList);
+        dirty = false;
+    }
+
+    private boolean isSameInput() {
+        if (resultInputFacts.length != inputFactList.size()) {
+            return false;
+        }
+        for (int i = 0; i < resultInputFacts.length; i++) {
+            if (resultInputFacts[i] != inputFactList.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private <Score_ extends Score<Score_>> List<Object[]> calculate(AbstractScoreInliner<Score_> scoreInliner) {
+        Set<BavetAbstractConstraintStream<Solution_>> streamSet = new LinkedHashSet<>();
+        tupleSourceStream.collectActiveConstraintStreams(streamSet);
+        // The first child stands in for all children of the tuple source, none of which is built here.
+        BavetAbstractConstraintStream<Solution_> standInStream = tupleSourceStream.getChildStreamList().get(0);
+        Set<BavetAbstractConstraintStream<Solution_>> activeStreamSet = new LinkedHashSet<>(streamSet);
+        activeStreamSet.add(standInStream);
+        NodeBuildHelper<Score_> buildHelper = new NodeBuildHelper<>(activeStreamSet, scoreInliner);
+        Set<AbstractTuple> outputTupleSet = Collections.newSetFromMap(new LinkedHashMap<>());
+        buildHelper.putInsertUpdateRetract(standInStream, new CollectingTupleLifecycle(outputTupleSet));
+        List<BavetAbstractConstraintStream<Solution_>> reversedStreamList = new ArrayList<>(streamSet);
+        Collections.reverse(reversedStreamList);
+        for (BavetAbstractConstraintStream<Solution_> stream : reversedStreamList) {
+            stream.buildNode(buildHelper);
+        }
+        List<AbstractNode> nodeList = buildHelper.destroyAndGetNodeList();
+        PropagationScheduler propagationScheduler = new PropagationScheduler(nodeList.toArray(new AbstractNode[0]));
+        List<ForEachUniNode<Object>> forEachNodeList = new ArrayList<>();
+        for (AbstractNode node : nodeList) {
+            if (node instanceof ForEachUniNode) {
+                forEachNodeList.add((ForEachUniNode<Object>) node);
+            }
+        }
+        // The facts are inserted in the same order as in the session, so the result is reproducible.
+        for (Object fact : inputFactList) {
+            for (ForEachUniNode<Object> forEachNode : forEachNodeList) {
+                if (forEachNode.getForEachClass().isAssignableFrom(fact.getClass())) {
+                    forEachNode.insert(fact);
+                }
+            }
+        }
+        propagationScheduler.propagate();
+        List<Object[]> factsList = new ArrayList<>(outputTupleSet.size());
+        for (AbstractTuple tuple : outputTupleSet) {
+            factsList.add(extractFacts(tuple));
+        }
+        return factsList;
+    }
+
+    private static Object[] extractFacts(AbstractTuple tuple) {
+        if (tuple instanceof UniTuple) {
+            UniTuple<?> uniTuple = (UniTuple<?>) tuple;
+            return new Object[] { uniTuple.factA };
+        } else if (tuple instanceof BiTuple) {
+            BiTuple<?, ?> biTuple = (BiTuple<?, ?>) tuple;
+            return new Object[] { biTuple.factA, biTuple.factB };
+        } else if (tuple instanceof TriTuple) {
+            TriTuple<?, ?, ?> triTuple = (TriTuple<?, ?, ?>) tuple;
+            return new Object[] { triTuple.factA, triTuple.factB, triTuple.factC };
+        } else {
+            QuadTuple<?, ?, ?, ?> quadTuple = (QuadTuple<?, ?, ?, ?>) tuple;
+            return new Object[] { quadTuple.factA, quadTuple.factB, quadTuple.factC, quadTuple.factD };
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Precomputed subnetwork of " + tupleSourceStream;
+    }
+
+    /**
+     * Keeps the tuples which reach the end of the subnetwork, in the order in which they got there.
+     */
+    private static final class CollectingTupleLifecycle implements TupleLifecycle<AbstractTuple> {
+
+        private final Set<AbstractTuple> outputTupleSet;
+
+        private CollectingTupleLifecycle(Set<AbstractTuple> outputTupleSet) {
+            this.outputTupleSet = outputTupleSet;
+        }
+
+        @Override
+        public void insert(AbstractTuple tuple) {
+            outputTupleSet.add(tuple);
+        }
+
+        @Override
+        public void update(AbstractTuple tuple) {
+            // The facts are read once the subnetwork has settled.
+        }
+
+        @Override
+        public void retract(AbstractTuple tuple) {
+            outputTupleSet.remove(tuple);
+        }
+
+    }
+
+}
@@ -1,40 +1,62 @@
 package ai.timefold.solver.constraint.streams.bavet.bi;
 
-import java.util.function.Function;
+import java.util.function.BiFunction;
 
 import ai.timefold.solver.constraint.streams.bavet.common.AbstractGroupNode;
+import ai.timefold.solver.constraint.streams.bavet.common.GroupKeyFunction;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.AbstractTuple;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.BiTuple;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.TupleLifecycle;
 import ai.timefold.solver.core.api.function.TriFunction;
 import ai.timefold.solver.core.api.score.stream.bi.BiConstraintCollector;
 import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.score.stream.collector.MutableContainerBiConstraintCollector;
+import ai.timefold.solver.core.impl.score.stream.collector.MutableResultContainer;
 
 abstract class AbstractGroupBiNode<OldA, OldB, OutTuple_ extends AbstractTuple, GroupKey_, ResultContainer_, Result_>
         extends AbstractGroupNode<BiTuple<OldA, OldB>, OutTuple_, GroupKey_, ResultContainer_, Result_> {
 
     private final TriFunction<ResultContainer_, OldA, OldB, Runnable> accumulator;
+    /**
+     * Null unless the collector is a {@link MutableContainerBiConstraintCollector},
+     * in which case the {@link #accumulator} is bypassed to avoid creating an undo {@link Runnable} per tuple.
+     */
+    private final BiFunction<? super OldA, ? super OldB, ?> valueMapping;
 
     protected AbstractGroupBiNode(int groupStoreIndex, int undoStoreIndex,
-            Function<BiTuple<OldA, OldB>, GroupKey_> groupKeyFunction,
+            GroupKeyFunction<BiTuple<OldA, OldB>, GroupKey_> groupKeyFunction,
             BiConstraintCollector<OldA, OldB, ResultContainer_, Result_> collector,
             TupleLifecycle<OutTuple_> nextNodesTupleLifecycle, EnvironmentMode environmentMode) {
         super(groupStoreIndex, undoStoreIndex, groupKeyFunction,
                 collector == null ? null : collector.supplier(),
                 collector == null ? null : collector.finisher(),
+                collector instanceof MutableContainerBiConstraintCollector,
                 nextNodesTupleLifecycle, environmentMode);
-        accumulator = collector == null ? null : collector.accumulator();
+        if (collector instanceof MutableContainerBiConstraintCollector) {
+            accumulator = null;
+            valueMapping = ((MutableContainerBiConstraintCollector<OldA, OldB, ?, ?, ?>) collector).getValueMapping();
+        } else {
+            accumulator = collector == null ? null : collector.accumulator();
+            valueMapping = null;
+        }
     }
 
-    protected AbstractGroupBiNode(int groupStoreIndex, Function<BiTuple<OldA, OldB>, GroupKey_> groupKeyFunction,
+    protected AbstractGroupBiNode(int groupStoreIndex, GroupKeyFunction<BiTuple<OldA, OldB>, GroupKey_> groupKeyFunction,
             TupleLifecycle<OutTuple_> nextNodesTupleLifecycle, EnvironmentMode environmentMode) {
         super(groupStoreIndex, groupKeyFunction, nextNodesTupleLifecycle, environmentMode);
         accumulator = null;
+        valueMapping = null;
     }
 
     @Override
-    protected final Runnable accumulate(ResultContainer_ resultContainer, BiTuple<OldA, OldB> tuple) {
-        return accumulator.apply(resultContainer, tuple.factA, tuple.factB);
+    @SuppressWarnings("unchecked")
+    protected final Object accumulate(ResultContainer_ resultContainer, BiTuple<OldA, OldB> tuple) {
+        if (valueMapping == null) {
+            return accumulator.apply(resultContainer, tuple.factA, tuple.factB);
+        }
+        Object value = valueMapping.apply(tuple.factA, tuple.factB);
+        ((MutableResultContainer<Object, ?>) resultContainer).insert(value);
+        return value;
     }
 
 }
@@ -29,7 +29,12 @@ final class BavetFilterBiConstraintStream<Solution_, A, B> extends BavetAbstract
     @Override
     public <Score_ extends Score<Score_>> void buildNode(NodeBuildHelper<Score_> buildHelper) {
         buildHelper.<BiTuple<A, B>> putInsertUpdateRetract(this, childStreamList,
-                tupleLifecycle -> new ConditionalBiTupleLifecycle<>(predicate, tupleLifecycle));
+                tupleLifecycle -> ConditionalBiTupleLifecycle.of(predicate, tupleLifecycle));
+    }
+
+    @Override
+    public boolean buildsOwnNode() {
+        return false;
     }
 
     // ************************************************************************
@@ -1,5 +1,6 @@
 package ai.timefold.solver.constraint.streams.bavet.bi;
 
+import java.util.List;
 import java.util.Set;
 
 import ai.timefold.solver.constraint.streams.bavet.BavetConstraintFactory;
@@ -53,6 +54,11 @@ final class BavetIfExistsBiConstraintStream<Solution_, A, B, C>
         constraintStreamSet.add(this);
     }
 
+    @Override
+    public List<BavetAbstractConstraintStream<Solution_>> getParentList() {
+        return List.of(parentAB, parentBridgeC);
+    }
+
     @Override
     public BavetAbstractConstraintStream<Solution_> getTupleSource() {
         return parentAB.getTupleSource();
@@ -1,5 +1,6 @@
 package ai.timefold.solver.constraint.streams.bavet.bi;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.BiPredicate;
@@ -51,10 +52,22 @@ public final class BavetJoinBiConstraintStream<Solution_, A, B> extends BavetAbs
         constraintStreamSet.add(this);
     }
 
+    @Override
+    public List<BavetAbstractConstraintStream<Solution_>> getParentList() {
+        return List.of(leftParent, rightParent);
+    }
+
     @Override
     public <Score_ extends Score<Score_>> void buildNode(NodeBuildHelper<Score_> buildHelper) {
         int outputStoreSize = buildHelper.extractTupleStoreSize(this);
         TupleLifecycle<BiTuple<A, B>> downstream = buildHelper.getAggregatedTupleLifecycle(childStreamList);
+        BiPredicate<A, B> filtering = this.filtering;
+        if (downstream instanceof ConditionalBiTupleLifecycle) {
+            // The only child is a filter, so the join filters instead and never creates the tuples it would reject.
+            ConditionalBiTupleLifecycle<A, B> conditionalDownstream = (ConditionalBiTupleLifecycle<A, B>) downstream;
+            filtering = ConditionalBiTupleLifecycle.and(filtering, conditionalDownstream.getPredicate());
+            downstream = conditionalDownstream.getTupleLifecycle();
+        }
         IndexerFactory indexerFactory = new IndexerFactory(joiner);
         var node = indexerFactory.hasJoiners()
                 ? new IndexedJoinBiNode<>(
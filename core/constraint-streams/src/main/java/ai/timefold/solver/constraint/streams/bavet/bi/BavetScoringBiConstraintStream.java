@@ -77,6 +77,11 @@ final class BavetScoringBiConstraintStream<Solution_, A, B>
         buildHelper.putInsertUpdateRetract(this, scorer);
     }
 
+    @Override
+    public boolean buildsOwnNode() {
+        return false;
+    }
+
     private TriFunction<WeightedScoreImpacter<?, ?>, A, B, UndoScoreImpacter> buildScoreImpacter() {
         if (intMatchWeigher != null) {
             return (impacter, a, b) -> {
@@ -14,6 +14,38 @@ final class ConditionalBiTupleLifecycle<A, B> extends AbstractConditionalTupleLi
         this.predicate = predicate;
     }
 
+    /**
+     * Fuses a filter with the filter right after it, if any, so a tuple passes through 1 tuple lifecycle instead of 2.
+     *
+     * @param predicate never null
+     * @param tupleLifecycle never null
+     * @return never null
+     */
+    static <A, B> ConditionalBiTupleLifecycle<A, B> of(BiPredicate<A, B> predicate,
+            TupleLifecycle<BiTuple<A, B>> tupleLifecycle) {
+        if (tupleLifecycle instanceof ConditionalBiTupleLifecycle) {
+            ConditionalBiTupleLifecycle<A, B> next = (ConditionalBiTupleLifecycle<A, B>) tupleLifecycle;
+            return new ConditionalBiTupleLifecycle<>(and(predicate, next.predicate), next.getTupleLifecycle());
+        }
+        return new ConditionalBiTupleLifecycle<>(predicate, tupleLifecycle);
+    }
+
+    /**
+     * @param predicate null if there is no predicate, such as the filtering of a join without one
+     * @param otherPredicate never null
+     * @return never null
+     */
+    static <A, B> BiPredicate<A, B> and(BiPredicate<A, B> predicate, BiPredicate<A, B> otherPredicate) {
+        if (predicate == null) {
+            return otherPredicate;
+        }
+        return (a, b) -> predicate.test(a, b) && otherPredicate.test(a, b);
+    }
+
+    BiPredicate<A, B> getPredicate() {
+        return predicate;
+    }
+
     @Override
     protected boolean test(BiTuple<A, B> tuple) {
         return predicate.test(tuple.factA, tuple.factB);
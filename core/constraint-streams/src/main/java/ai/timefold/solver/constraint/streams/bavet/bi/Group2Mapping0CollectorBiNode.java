@@ -2,6 +2,7 @@ package ai.timefold.solver.constraint.streams.bavet.bi;
 
 import java.util.function.BiFunction;
 
+import ai.timefold.solver.constraint.streams.bavet.common.GroupKeyFunction;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.BiTuple;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.TupleLifecycle;
 import ai.timefold.solver.core.config.solver.EnvironmentMode;
@@ -15,18 +16,20 @@ final class Group2Mapping0CollectorBiNode<OldA, OldB, A, B>
     public Group2Mapping0CollectorBiNode(BiFunction<OldA, OldB, A> groupKeyMappingA, BiFunction<OldA, OldB, B> groupKeyMappingB,
             int groupStoreIndex, TupleLifecycle<BiTuple<A, B>> nextNodesTupleLifecycle, int outputStoreSize,
             EnvironmentMode environmentMode) {
-        super(groupStoreIndex, tuple -> createGroupKey(groupKeyMappingA, groupKeyMappingB, tuple), nextNodesTupleLifecycle,
+        super(groupStoreIndex, createGroupKeyFunction(groupKeyMappingA, groupKeyMappingB), nextNodesTupleLifecycle,
                 environmentMode);
         this.outputStoreSize = outputStoreSize;
     }
 
-    static <A, B, OldA, OldB> Pair<A, B> createGroupKey(BiFunction<OldA, OldB, A> groupKeyMappingA,
-            BiFunction<OldA, OldB, B> groupKeyMappingB, BiTuple<OldA, OldB> tuple) {
-        OldA oldA = tuple.factA;
-        OldB oldB = tuple.factB;
-        A a = groupKeyMappingA.apply(oldA, oldB);
-        B b = groupKeyMappingB.apply(oldA, oldB);
-        return Pair.of(a, b);
+    static <A, B, OldA, OldB> GroupKeyFunction<BiTuple<OldA, OldB>, Pair<A, B>> createGroupKeyFunction(
+            BiFunction<OldA, OldB, A> groupKeyMappingA, BiFunction<OldA, OldB, B> groupKeyMappingB) {
+        return GroupKeyFunction.ofPair((tuple, groupKey) -> {
+            OldA oldA = tuple.factA;
+            OldB oldB = tuple.factB;
+            A a = groupKeyMappingA.apply(oldA, oldB);
+            B b = groupKeyMappingB.apply(oldA, oldB);
+            groupKey.setKey(a).setValue(b);
+        });
     }
 
     @Override
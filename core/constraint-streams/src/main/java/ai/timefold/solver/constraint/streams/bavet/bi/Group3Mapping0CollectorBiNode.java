@@ -2,6 +2,7 @@ package ai.timefold.solver.constraint.streams.bavet.bi;
 
 import java.util.function.BiFunction;
 
+import ai.timefold.solver.constraint.streams.bavet.common.GroupKeyFunction;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.BiTuple;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.TriTuple;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.TupleLifecycle;
@@ -16,20 +17,22 @@ final class Group3Mapping0CollectorBiNode<OldA, OldB, A, B, C>
     public Group3Mapping0CollectorBiNode(BiFunction<OldA, OldB, A> groupKeyMappingA, BiFunction<OldA, OldB, B> groupKeyMappingB,
             BiFunction<OldA, OldB, C> groupKeyMappingC, int groupStoreIndex,
             TupleLifecycle<TriTuple<A, B, C>> nextNodesTupleLifecycle, int outputStoreSize, EnvironmentMode environmentMode) {
-        super(groupStoreIndex, tuple -> createGroupKey(groupKeyMappingA, groupKeyMappingB, groupKeyMappingC, tuple),
+        super(groupStoreIndex, createGroupKeyFunction(groupKeyMappingA, groupKeyMappingB, groupKeyMappingC),
                 nextNodesTupleLifecycle, environmentMode);
         this.outputStoreSize = outputStoreSize;
     }
 
-    static <A, B, C, OldA, OldB> Triple<A, B, C> createGroupKey(BiFunction<OldA, OldB, A> groupKeyMappingA,
-            BiFunction<OldA, OldB, B> groupKeyMappingB, BiFunction<OldA, OldB, C> groupKeyMappingC,
-            BiTuple<OldA, OldB> tuple) {
-        OldA oldA = tuple.factA;
-        OldB oldB = tuple.factB;
-        A a = groupKeyMappingA.apply(oldA, oldB);
-        B b = groupKeyMappingB.apply(oldA, oldB);
-        C c = groupKeyMappingC.apply(oldA, oldB);
-        return Triple.of(a, b, c);
+    static <A, B, C, OldA, OldB> GroupKeyFunction<BiTuple<OldA, OldB>, Triple<A, B, C>> createGroupKeyFunction(
+            BiFunction<OldA, OldB, A> groupKeyMappingA, BiFunction<OldA, OldB, B> groupKeyMappingB,
+            BiFunction<OldA, OldB, C> groupKeyMappingC) {
+        return GroupKeyFunction.ofTriple((tuple, groupKey) -> {
+            OldA oldA = tuple.factA;
+            OldB oldB = tuple.factB;
+            A a = groupKeyMappingA.apply(oldA, oldB);
+            B b = groupKeyMappingB.apply(oldA, oldB);
+            C c = groupKeyMappingC.apply(oldA, oldB);
+            groupKey.setA(a).setB(b).setC(c);
+        });
     }
 
     @Override
@@ -1,6 +1,6 @@
 package ai.timefold.solver.constraint.streams.bavet.bi;
 
-import static ai.timefold.solver.constraint.streams.bavet.bi.Group3Mapping0CollectorBiNode.createGroupKey;
+import static ai.timefold.solver.constraint.streams.bavet.bi.Group3Mapping0CollectorBiNode.createGroupKeyFunction;
 
 import java.util.function.BiFunction;
 
@@ -22,7 +22,7 @@ final class Group3Mapping1CollectorBiNode<OldA, OldB, A, B, C, D, ResultContaine
             TupleLifecycle<QuadTuple<A, B, C, D>> nextNodesTupleLifecycle, int outputStoreSize,
             EnvironmentMode environmentMode) {
         super(groupStoreIndex, undoStoreIndex,
-                tuple -> createGroupKey(groupKeyMappingA, groupKeyMappingB, groupKeyMappingC, tuple), collector,
+                createGroupKeyFunction(groupKeyMappingA, groupKeyMappingB, groupKeyMappingC), collector,
                 nextNodesTupleLifecycle, environmentMode);
         this.outputStoreSize = outputStoreSize;
     }
@@ -2,6 +2,7 @@ package ai.timefold.solver.constraint.streams.bavet.bi;
 
 import java.util.function.BiFunction;
 
+import ai.timefold.solver.constraint.streams.bavet.common.GroupKeyFunction;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.BiTuple;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.QuadTuple;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.TupleLifecycle;
@@ -19,22 +20,23 @@ final class Group4Mapping0CollectorBiNode<OldA, OldB, A, B, C, D>
             TupleLifecycle<QuadTuple<A, B, C, D>> nextNodesTupleLifecycle, int outputStoreSize,
             EnvironmentMode environmentMode) {
         super(groupStoreIndex,
-                tuple -> createGroupKey(groupKeyMappingA, groupKeyMappingB, groupKeyMappingC, groupKeyMappingD, tuple),
+                createGroupKeyFunction(groupKeyMappingA, groupKeyMappingB, groupKeyMappingC, groupKeyMappingD),
                 nextNodesTupleLifecycle, environmentMode);
         this.outputStoreSize = outputStoreSize;
     }
 
-    private static <A, B, C, D, OldA, OldB> Quadruple<A, B, C, D> createGroupKey(
+    private static <A, B, C, D, OldA, OldB> GroupKeyFunction<BiTuple<OldA, OldB>, Quadruple<A, B, C, D>> createGroupKeyFunction(
             BiFunction<OldA, OldB, A> groupKeyMappingA, BiFunction<OldA, OldB, B> groupKeyMappingB,
-            BiFunction<OldA, OldB, C> groupKeyMappingC, BiFunction<OldA, OldB, D> groupKeyMappingD,
-            BiTuple<OldA, OldB> tuple) {
-        OldA oldA = tuple.factA;
-        OldB oldB = tuple.factB;
-        A a = groupKeyMappingA.apply(oldA, oldB);
-        B b = groupKeyMappingB.apply(oldA, oldB);
-        C c = groupKeyMappingC.apply(oldA, oldB);
-        D d = groupKeyMappingD.apply(oldA, oldB);
-        return Quadruple.of(a, b, c, d);
+            BiFunction<OldA, OldB, C> groupKeyMappingC, BiFunction<OldA, OldB, D> groupKeyMappingD) {
+        return GroupKeyFunction.ofQuadruple((tuple, groupKey) -> {
+            OldA oldA = tuple.factA;
+            OldB oldB = tuple.factB;
+            A a = groupKeyMappingA.apply(oldA, oldB);
+            B b = groupKeyMappingB.apply(oldA, oldB);
+            C c = groupKeyMappingC.apply(oldA, oldB);
+            D d = groupKeyMappingD.apply(oldA, oldB);
+            groupKey.setA(a).setB(b).setC(c).setD(d);
+        });
     }
 
     @Override
@@ -69,6 +69,7 @@ public abstract class AbstractFlattenLastNode<InTuple_ extends AbstractTuple, Ou
         OutTuple_ tuple = createTuple(originalTuple, item);
         outTupleList.add(tuple);
         dirtyTupleQueue.add(tuple);
+        schedulePropagation();
     }
 
     protected abstract OutTuple_ createTuple(InTuple_ originalTuple, FlattenedItem_ item);
@@ -111,9 +112,11 @@ public abstract class AbstractFlattenLastNode<InTuple_ extends AbstractTuple, Ou
                 if (!existsAlsoInNew) {
                     outTupleIterator.remove();
                     removeTuple(outTuple);
-                } else {
+                } else if (outTuple.getState() == TupleState.OK) {
+                    // Don't add the tuple to the dirtyTupleQueue twice, if CREATING or UPDATING it already propagates
                     outTuple.setState(TupleState.UPDATING);
                     dirtyTupleQueue.add(outTuple);
+                    schedulePropagation();
                 }
             }
         }
@@ -165,17 +168,22 @@ public abstract class AbstractFlattenLastNode<InTuple_ extends AbstractTuple, Ou
     private void removeTuple(OutTuple_ outTuple) {
         switch (outTuple.getState()) {
             case CREATING:
+                // Don't add the tuple to the dirtyTupleQueue twice
                 outTuple.setState(TupleState.ABORTING);
                 break;
             case UPDATING:
+                // Don't add the tuple to the dirtyTupleQueue twice
+                outTuple.setState(TupleState.DYING);
+                break;
             case OK:
                 outTuple.setState(TupleState.DYING);
+                dirtyTupleQueue.add(outTuple);
+                schedulePropagation();
                 break;
             default:
                 throw new IllegalStateException("Impossible state: The tuple (" + outTuple +
                         ") is in an unexpected state (" + outTuple.getState() + ").");
         }
-        dirtyTupleQueue.add(outTuple);
     }
 
     @Override
@@ -184,6 +192,7 @@ public abstract class AbstractFlattenLastNode<InTuple_ extends AbstractTuple, Ou
             switch (outTuple.getState()) {
                 case CREATING:
                     nextNodesTupleLifecycle.insert(outTuple);
+                    liveTupleCount++;
                     outTuple.setState(TupleState.OK);
                     break;
                 case UPDATING:
@@ -192,6 +201,7 @@ public abstract class AbstractFlattenLastNode<InTuple_ extends AbstractTuple, Ou
                     break;
                 case DYING:
                     nextNodesTupleLifecycle.retract(outTuple);
+                    liveTupleCount--;
                     outTuple.setState(TupleState.DEAD);
                     break;
                 case ABORTING:
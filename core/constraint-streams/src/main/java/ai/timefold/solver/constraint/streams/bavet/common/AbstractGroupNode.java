@@ -12,6 +12,7 @@ import ai.timefold.solver.constraint.streams.bavet.common.tuple.AbstractTuple;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.TupleLifecycle;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.TupleState;
 import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.score.stream.collector.MutableResultContainer;
 
 public abstract class AbstractGroupNode<InTuple_ extends AbstractTuple, OutTuple_ extends AbstractTuple, GroupKey_, ResultContainer_, Result_>
         extends AbstractNode
@@ -25,7 +26,7 @@ public abstract class AbstractGroupNode<InTuple_ extends AbstractTuple, OutTuple
     /**
      * Unused when {@link #hasMultipleGroups} is false.
      */
-    private final Function<InTuple_, GroupKey_> groupKeyFunction;
+    private final GroupKeyFunction<InTuple_, GroupKey_> groupKeyFunction;
     /**
      * Unused when {@link #hasCollector} is false.
      */
@@ -34,6 +35,12 @@ public abstract class AbstractGroupNode<InTuple_ extends AbstractTuple, OutTuple
      * Unused when {@link #hasCollector} is false.
      */
     private final Function<ResultContainer_, Result_> finisher;
+    /**
+     * Unused when {@link #hasCollector} is false.
+     * If true, the undo store holds the value accumulated into a {@link MutableResultContainer},
+     * otherwise it holds the undo {@link Runnable} returned by the collector's accumulator.
+     */
+    private final boolean hasMutableResultContainer;
     /**
      * Some code paths may decide to not supply a grouping function.
      * In that case, every tuple accumulates into {@link #singletonGroup} and not to {@link #groupMap}.
@@ -62,14 +69,16 @@ public abstract class AbstractGroupNode<InTuple_ extends AbstractTuple, OutTuple
     private final Queue<AbstractGroup<OutTuple_, ResultContainer_>> dirtyGroupQueue;
     private final boolean useAssertingGroupKey;
 
-    protected AbstractGroupNode(int groupStoreIndex, int undoStoreIndex, Function<InTuple_, GroupKey_> groupKeyFunction,
-            Supplier<ResultContainer_> supplier, Function<ResultContainer_, Result_> finisher,
+    protected AbstractGroupNode(int groupStoreIndex, int undoStoreIndex,
+            GroupKeyFunction<InTuple_, GroupKey_> groupKeyFunction, Supplier<ResultContainer_> supplier,
+            Function<ResultContainer_, Result_> finisher, boolean hasMutableResultContainer,
             TupleLifecycle<OutTuple_> nextNodesTupleLifecycle, EnvironmentMode environmentMode) {
         this.groupStoreIndex = groupStoreIndex;
         this.undoStoreIndex = undoStoreIndex;
         this.groupKeyFunction = groupKeyFunction;
         this.supplier = supplier;
         this.finisher = finisher;
+        this.hasMutableResultContainer = hasMutableResultContainer;
         this.hasMultipleGroups = groupKeyFunction != null;
         this.hasCollector = supplier != null;
         this.nextNodesTupleLifecycle = nextNodesTupleLifecycle;
@@ -83,9 +92,9 @@ public abstract class AbstractGroupNode<InTuple_ extends AbstractTuple, OutTuple
         this.useAssertingGroupKey = environmentMode.isAsserted();
     }
 
-    protected AbstractGroupNode(int groupStoreIndex, Function<InTuple_, GroupKey_> groupKeyFunction,
+    protected AbstractGroupNode(int groupStoreIndex, GroupKeyFunction<InTuple_, GroupKey_> groupKeyFunction,
             TupleLifecycle<OutTuple_> nextNodesTupleLifecycle, EnvironmentMode environmentMode) {
-        this(groupStoreIndex, -1, groupKeyFunction, null, null, nextNodesTupleLifecycle, environmentMode);
+        this(groupStoreIndex, -1, groupKeyFunction, null, null, false, nextNodesTupleLifecycle, environmentMode);
     }
 
     @Override
@@ -108,6 +117,7 @@ public abstract class AbstractGroupNode<InTuple_ extends AbstractTuple, OutTuple
             case OK:
                 outTuple.setState(TupleState.UPDATING);
                 dirtyGroupQueue.add(newGroup);
+                schedulePropagation();
                 break;
             case DYING:
                 outTuple.setState(TupleState.UPDATING);
@@ -124,19 +134,33 @@ public abstract class AbstractGroupNode<InTuple_ extends AbstractTuple, OutTuple
 
     private OutTuple_ accumulate(InTuple_ tuple, AbstractGroup<OutTuple_, ResultContainer_> group) {
         if (hasCollector) {
-            Runnable undoAccumulator = accumulate(group.getResultContainer(), tuple);
-            tuple.setStore(undoStoreIndex, undoAccumulator);
+            Object undoToken = accumulate(group.getResultContainer(), tuple);
+            tuple.setStore(undoStoreIndex, undoToken);
         }
         tuple.setStore(groupStoreIndex, group);
         return group.outTuple;
     }
 
+    @SuppressWarnings("unchecked")
+    private void undoAccumulate(AbstractGroup<OutTuple_, ResultContainer_> group, Object undoToken) {
+        if (hasMutableResultContainer) {
+            ((MutableResultContainer<Object, ?>) group.getResultContainer()).retract(undoToken);
+        } else {
+            ((Runnable) undoToken).run();
+        }
+    }
+
     private AbstractGroup<OutTuple_, ResultContainer_> getOrCreateGroup(GroupKey_ userSuppliedKey) {
-        Object groupMapKey = useAssertingGroupKey ? new AssertingGroupKey(userSuppliedKey) : userSuppliedKey;
         if (hasMultipleGroups) {
+            // The user supplied key may be reused by the next tuple, so it is only copied when it is kept.
+            Object groupMapKey = useAssertingGroupKey ? new AssertingGroupKey(groupKeyFunction.copy(userSuppliedKey))
+                    : userSuppliedKey;
             // Avoids computeIfAbsent in order to not create lambdas on the hot path.
             AbstractGroup<OutTuple_, ResultContainer_> group = groupMap.get(groupMapKey);
             if (group == null) {
+                if (!useAssertingGroupKey) {
+                    groupMapKey = groupKeyFunction.copy(userSuppliedKey);
+                }
                 group = createGroup(groupMapKey);
                 groupMap.put(groupMapKey, group);
             } else {
@@ -145,7 +169,7 @@ public abstract class AbstractGroupNode<InTuple_ extends AbstractTuple, OutTuple
             return group;
         } else {
             if (singletonGroup == null) {
-                singletonGroup = createGroup(groupMapKey);
+                singletonGroup = createGroup(useAssertingGroupKey ? new AssertingGroupKey(null) : null);
             } else {
                 singletonGroup.parentCount++;
             }
@@ -161,6 +185,7 @@ public abstract class AbstractGroupNode<InTuple_ extends AbstractTuple, OutTuple
                         : new GroupWithoutAccumulate<>(groupMapKey, outTuple);
         // Don't add it if (state == CREATING), but (newGroup != null), which is a 2nd insert of the same newGroupKey.
         dirtyGroupQueue.add(group);
+        schedulePropagation();
         return group;
     }
 
@@ -177,8 +202,7 @@ public abstract class AbstractGroupNode<InTuple_ extends AbstractTuple, OutTuple
             return;
         }
         if (hasCollector) {
-            Runnable undoAccumulator = tuple.getStore(undoStoreIndex);
-            undoAccumulator.run();
+            undoAccumulate(oldGroup, tuple.getStore(undoStoreIndex));
         }
 
         GroupKey_ oldUserSuppliedGroupKey = extractUserSuppliedKey(oldGroup.groupKey);
@@ -193,6 +217,7 @@ public abstract class AbstractGroupNode<InTuple_ extends AbstractTuple, OutTuple
                 case OK:
                     outTuple.setState(TupleState.UPDATING);
                     dirtyGroupQueue.add(oldGroup);
+                    schedulePropagation();
                     break;
                 case DYING:
                 case ABORTING:
@@ -234,6 +259,7 @@ public abstract class AbstractGroupNode<InTuple_ extends AbstractTuple, OutTuple
             case OK:
                 outTuple.setState(killGroup ? TupleState.DYING : TupleState.UPDATING);
                 dirtyGroupQueue.add(group);
+                schedulePropagation();
                 break;
             case DYING:
             case ABORTING:
@@ -262,13 +288,18 @@ public abstract class AbstractGroupNode<InTuple_ extends AbstractTuple, OutTuple
             return;
         }
         if (hasCollector) {
-            Runnable undoAccumulator = tuple.removeStore(undoStoreIndex);
-            undoAccumulator.run();
+            undoAccumulate(group, tuple.removeStore(undoStoreIndex));
         }
         killTuple(group);
     }
 
-    protected abstract Runnable accumulate(ResultContainer_ resultContainer, InTuple_ tuple);
+    /**
+     * @param resultContainer never null
+     * @param tuple never null
+     * @return the accumulated value if the collector has a {@link MutableResultContainer},
+     *         otherwise the undo {@link Runnable}
+     */
+    protected abstract Object accumulate(ResultContainer_ resultContainer, InTuple_ tuple);
 
     @Override
     public void calculateScore() {
@@ -281,6 +312,7 @@ public abstract class AbstractGroupNode<InTuple_ extends AbstractTuple, OutTuple
                         updateOutTupleToFinisher(outTuple, group.getResultContainer());
                     }
                     nextNodesTupleLifecycle.insert(outTuple);
+                    liveTupleCount++;
                     outTuple.setState(TupleState.OK);
                     break;
                 case UPDATING:
@@ -292,6 +324,7 @@ public abstract class AbstractGroupNode<InTuple_ extends AbstractTuple, OutTuple
                     break;
                 case DYING:
                     nextNodesTupleLifecycle.retract(outTuple);
+                    liveTupleCount--;
                     outTuple.setState(TupleState.DEAD);
                     break;
                 case ABORTING:
@@ -59,6 +59,7 @@ public abstract class AbstractIfExistsNode<LeftTuple_ extends AbstractTuple, Rig
             // Counters start out dead
             counter.state = TupleState.CREATING;
             dirtyCounterQueue.add(counter);
+            schedulePropagation();
         }
     }
 
@@ -75,6 +76,7 @@ public abstract class AbstractIfExistsNode<LeftTuple_ extends AbstractTuple, Rig
                 // Still needed to propagate the update for downstream filters, matchWeighers, ...
                 counter.state = TupleState.UPDATING;
                 dirtyCounterQueue.add(counter);
+                schedulePropagation();
                 break;
             default:
                 throw new IllegalStateException("Impossible state: The counter (" + counter.state + ") in node (" +
@@ -93,6 +95,7 @@ public abstract class AbstractIfExistsNode<LeftTuple_ extends AbstractTuple, Rig
                 case OK:
                     counter.state = TupleState.UPDATING;
                     dirtyCounterQueue.add(counter);
+                    schedulePropagation();
                     break;
                 case DYING:
                     counter.state = TupleState.UPDATING;
@@ -100,6 +103,7 @@ public abstract class AbstractIfExistsNode<LeftTuple_ extends AbstractTuple, Rig
                 case DEAD:
                     counter.state = TupleState.CREATING;
                     dirtyCounterQueue.add(counter);
+                    schedulePropagation();
                     break;
                 case ABORTING:
                     counter.state = TupleState.CREATING;
@@ -122,6 +126,7 @@ public abstract class AbstractIfExistsNode<LeftTuple_ extends AbstractTuple, Rig
                 case OK:
                     counter.state = TupleState.DYING;
                     dirtyCounterQueue.add(counter);
+                    schedulePropagation();
                     break;
                 case DYING:
                 case DEAD:
@@ -200,6 +205,7 @@ public abstract class AbstractIfExistsNode<LeftTuple_ extends AbstractTuple, Rig
             case DEAD:
                 counter.state = TupleState.CREATING;
                 dirtyCounterQueue.add(counter);
+                schedulePropagation();
                 break;
             case ABORTING:
                 counter.state = TupleState.CREATING;
@@ -223,6 +229,7 @@ public abstract class AbstractIfExistsNode<LeftTuple_ extends AbstractTuple, Rig
             case OK:
                 counter.state = TupleState.DYING;
                 dirtyCounterQueue.add(counter);
+                schedulePropagation();
                 break;
             default:
                 throw new IllegalStateException("Impossible state: The counter (" + counter
@@ -236,6 +243,7 @@ public abstract class AbstractIfExistsNode<LeftTuple_ extends AbstractTuple, Rig
             switch (counter.state) {
                 case CREATING:
                     nextNodesTupleLifecycle.insert(counter.leftTuple);
+                    liveTupleCount++;
                     counter.state = TupleState.OK;
                     break;
                 case UPDATING:
@@ -244,6 +252,7 @@ public abstract class AbstractIfExistsNode<LeftTuple_ extends AbstractTuple, Rig
                     break;
                 case DYING:
                     nextNodesTupleLifecycle.retract(counter.leftTuple);
+                    liveTupleCount--;
                     counter.state = DEAD;
                     break;
                 case ABORTING:
@@ -68,6 +68,7 @@ public abstract class AbstractJoinNode<LeftTuple_ extends AbstractTuple, Right_,
         ElementAwareListEntry<OutTuple_> outEntryRight = outTupleListRight.add(outTuple);
         outTuple.setStore(outputStoreIndexRightOutEntry, outEntryRight);
         dirtyTupleQueue.add(outTuple);
+        schedulePropagation();
     }
 
     protected final void insertOutTupleFiltered(LeftTuple_ leftTuple, UniTuple<Right_> rightTuple) {
@@ -111,6 +112,7 @@ public abstract class AbstractJoinNode<LeftTuple_ extends AbstractTuple, Right_,
             case OK:
                 outTuple.setState(TupleState.UPDATING);
                 dirtyTupleQueue.add(outTuple);
+                schedulePropagation();
                 break;
             // Impossible because they shouldn't linger in the indexes
             case DYING:
@@ -175,6 +177,7 @@ public abstract class AbstractJoinNode<LeftTuple_ extends AbstractTuple, Right_,
             case OK:
                 outTuple.setState(TupleState.DYING);
                 dirtyTupleQueue.add(outTuple);
+                schedulePropagation();
                 break;
             case UPDATING:
                 // Don't add the tuple to the dirtyTupleQueue twice
@@ -197,6 +200,7 @@ public abstract class AbstractJoinNode<LeftTuple_ extends AbstractTuple, Right_,
             switch (tuple.getState()) {
                 case CREATING:
                     nextNodesTupleLifecycle.insert(tuple);
+                    liveTupleCount++;
                     tuple.setState(TupleState.OK);
                     break;
                 case UPDATING:
@@ -205,6 +209,7 @@ public abstract class AbstractJoinNode<LeftTuple_ extends AbstractTuple, Right_,
                     break;
                 case DYING:
                     nextNodesTupleLifecycle.retract(tuple);
+                    liveTupleCount--;
                     tuple.setState(TupleState.DEAD);
                     break;
                 case ABORTING:
@@ -35,6 +35,7 @@ public abstract class AbstractMapNode<InTuple_ extends AbstractTuple, OutTuple_
         OutTuple_ outTuple = map(tuple);
         tuple.setStore(inputStoreIndex, outTuple);
         dirtyTupleQueue.add(outTuple);
+        schedulePropagation();
     }
 
     protected abstract OutTuple_ map(InTuple_ inTuple);
@@ -47,9 +48,11 @@ public abstract class AbstractMapNode<InTuple_ extends AbstractTuple, OutTuple_
             insert(tuple);
             return;
         }
-        if (remap(tuple, outTuple)) {
+        if (remap(tuple, outTuple) && outTuple.getState() == TupleState.OK) {
+            // Don't add the tuple to the dirtyTupleQueue twice, if CREATING or UPDATING it already propagates the remap
             outTuple.setState(TupleState.UPDATING);
             dirtyTupleQueue.add(outTuple);
+            schedulePropagation();
         }
     }
 
@@ -67,8 +70,29 @@ public abstract class AbstractMapNode<InTuple_ extends AbstractTuple, OutTuple_
             // No fail fast if null because we don't track which tuples made it through the filter predicate(s)
             return;
         }
-        outTuple.setState(TupleState.DYING);
-        dirtyTupleQueue.add(outTuple);
+        switch (outTuple.getState()) {
+            case CREATING:
+                // Don't add the tuple to the dirtyTupleQueue twice
+                // Kill it before it propagates
+                outTuple.setState(TupleState.ABORTING);
+                break;
+            case OK:
+                outTuple.setState(TupleState.DYING);
+                dirtyTupleQueue.add(outTuple);
+                schedulePropagation();
+                break;
+            case UPDATING:
+                // Don't add the tuple to the dirtyTupleQueue twice
+                // Kill the original propagation
+                outTuple.setState(TupleState.DYING);
+                break;
+            case DYING:
+            case ABORTING:
+            case DEAD:
+            default:
+                throw new IllegalStateException("Impossible state: The tuple (" + outTuple + ") in node (" +
+                        this + ") is in an unexpected state (" + outTuple.getState() + ").");
+        }
     }
 
     @Override
@@ -77,6 +101,7 @@ public abstract class AbstractMapNode<InTuple_ extends AbstractTuple, OutTuple_
             switch (tuple.getState()) {
                 case CREATING:
                     nextNodesTupleLifecycle.insert(tuple);
+                    liveTupleCount++;
                     tuple.setState(TupleState.OK);
                     break;
                 case UPDATING:
@@ -85,6 +110,7 @@ public abstract class AbstractMapNode<InTuple_ extends AbstractTuple, OutTuple_
                     break;
                 case DYING:
                     nextNodesTupleLifecycle.retract(tuple);
+                    liveTupleCount--;
                     tuple.setState(TupleState.DEAD);
                     break;
                 case ABORTING:
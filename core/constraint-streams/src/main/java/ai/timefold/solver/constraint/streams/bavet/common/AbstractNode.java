@@ -3,6 +3,12 @@ package ai.timefold.solver.constraint.streams.bavet.common;
 public abstract class AbstractNode {
 
     private long id;
+    private PropagationScheduler propagationScheduler = null; // Null if the node is used outside of a session.
+    private int nodeIndex = -1;
+    /**
+     * The number of tuples which this node has inserted into its downstream nodes and not retracted yet.
+     */
+    protected int liveTupleCount = 0;
 
     public abstract void calculateScore();
 
@@ -10,6 +16,25 @@ public abstract class AbstractNode {
         this.id = id;
     }
 
+    public final int getLiveTupleCount() {
+        return liveTupleCount;
+    }
+
+    void setPropagationScheduler(PropagationScheduler propagationScheduler, int nodeIndex) {
+        this.propagationScheduler = propagationScheduler;
+        this.nodeIndex = nodeIndex;
+    }
+
+    /**
+     * To be called every time the node adds work to its dirty queue,
+     * so that {@link #calculateScore()} is called during the next propagation.
+     */
+    protected final void schedulePropagation() {
+        if (propagationScheduler != null) {
+            propagationScheduler.schedule(nodeIndex);
+        }
+    }
+
     @Override
     public String toString() {
         // Useful for debugging if a constraint has multiple nodes of the same type
@@ -1,6 +1,7 @@
 package ai.timefold.solver.constraint.streams.bavet.common;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
@@ -93,6 +94,16 @@ public abstract class BavetAbstractConstraintStream<Solution_> extends AbstractC
         constraintStreamSet.add(this);
     }
 
+    /**
+     * Returns the streams which this stream receives its tuples from.
+     * If a stream does not have a single parent, it is expected to override this method.
+     *
+     * @return never null; empty for forEach streams, which have no parent
+     */
+    public List<BavetAbstractConstraintStream<Solution_>> getParentList() {
+        return parent == null ? Collections.emptyList() : Collections.singletonList(parent);
+    }
+
     /**
      * Returns the stream which first produced the tuple that this stream operates on.
      * If a stream does not have a single parent nor is it a source, it is expected to override this method.
@@ -108,6 +119,16 @@ public abstract class BavetAbstractConstraintStream<Solution_> extends AbstractC
         return parent.getTupleSource();
     }
 
+    /**
+     * Streams which only add a tuple lifecycle to the node of their parent, such as filters,
+     * run on the same thread as that node and are expected to override this method.
+     *
+     * @return true if {@link #buildNode(NodeBuildHelper)} adds a node of its own
+     */
+    public boolean buildsOwnNode() {
+        return true;
+    }
+
     public abstract <Score_ extends Score<Score_>> void buildNode(NodeBuildHelper<Score_> buildHelper);
 
     // ************************************************************************
@@ -0,0 +1,99 @@
+package ai.timefold.solver.constraint.streams.bavet.common;
+
+import java.util.function.BiConsumer;
+
+import ai.timefold.solver.constraint.streams.bavet.common.tuple.AbstractTuple;
+import ai.timefold.solver.core.impl.util.MutablePair;
+import ai.timefold.solver.core.impl.util.MutableQuadruple;
+import ai.timefold.solver.core.impl.util.MutableTriple;
+import ai.timefold.solver.core.impl.util.Pair;
+import ai.timefold.solver.core.impl.util.Quadruple;
+import ai.timefold.solver.core.impl.util.Triple;
+
+/**
+ * Maps a tuple to the key of its group in an {@link AbstractGroupNode}.
+ * <p>
+ * A composite key (of 2 or more mappings) is written into a single mutable instance,
+ * which is reused for every tuple, so looking up the group of a tuple does not allocate.
+ * That instance is only valid until the next call to {@link #apply(AbstractTuple)};
+ * the group node calls {@link #copy(Object)} to get the key to keep for a new group.
+ *
+ * @param <InTuple_> the type of the tuple that is grouped
+ * @param <GroupKey_> the type of the group key
+ */
+@FunctionalInterface
+public interface GroupKeyFunction<InTuple_ extends AbstractTuple, GroupKey_> {
+
+    static <InTuple_ extends AbstractTuple, A, B> GroupKeyFunction<InTuple_, Pair<A, B>>
+            ofPair(BiConsumer<InTuple_, MutablePair<A, B>> groupKeyWriter) {
+        MutablePair<A, B> reusedGroupKey = MutablePair.of(null, null);
+        return new GroupKeyFunction<>() {
+
+            @Override
+            public Pair<A, B> apply(InTuple_ tuple) {
+                groupKeyWriter.accept(tuple, reusedGroupKey);
+                return reusedGroupKey;
+            }
+
+            @Override
+            public Pair<A, B> copy(Pair<A, B> groupKey) {
+                // Same class as the reused group key, or they would never be equal.
+                return MutablePair.of(groupKey.getKey(), groupKey.getValue());
+            }
+
+        };
+    }
+
+    static <InTuple_ extends AbstractTuple, A, B, C> GroupKeyFunction<InTuple_, Triple<A, B, C>>
+            ofTriple(BiConsumer<InTuple_, MutableTriple<A, B, C>> groupKeyWriter) {
+        MutableTriple<A, B, C> reusedGroupKey = MutableTriple.of(null, null, null);
+        return new GroupKeyFunction<>() {
+
+            @Override
+            public Triple<A, B, C> apply(InTuple_ tuple) {
+                groupKeyWriter.accept(tuple, reusedGroupKey);
+                return reusedGroupKey;
+            }
+
+            @Override
+            public Triple<A, B, C> copy(Triple<A, B, C> groupKey) {
+                return MutableTriple.of(groupKey.getA(), groupKey.getB(), groupKey.getC());
+            }
+
+        };
+    }
+
+    static <InTuple_ extends AbstractTuple, A, B, C, D> GroupKeyFunction<InTuple_, Quadruple<A, B, C, D>>
+            ofQuadruple(BiConsumer<InTuple_, MutableQuadruple<A, B, C, D>> groupKeyWriter) {
+        MutableQuadruple<A, B, C, D> reusedGroupKey = MutableQuadruple.of(null, null, null, null);
+        return new GroupKeyFunction<>() {
+
+            @Override
+            public Quadruple<A, B, C, D> apply(InTuple_ tuple) {
+                groupKeyWriter.accept(tuple, reusedGroupKey);
+                return reusedGroupKey;
+            }
+
+            @Override
+            public Quadruple<A, B, C, D> copy(Quadruple<A, B, C, D> groupKey) {
+                return MutableQuadruple.of(groupKey.getA(), groupKey.getB(), groupKey.getC(), groupKey.getD());
+            }
+
+        };
+    }
+
+    /**
+     * @param tuple never null
+     * @return the group key, which may be reused by the next call
+     */
+    GroupKey_ apply(InTuple_ tuple);
+
+    /**
+     * @param groupKey as returned by {@link #apply(AbstractTuple)}
+     * @return an instance equal to groupKey, which is not reused
+     */
+    default GroupKey_ copy(GroupKey_ groupKey) {
+        return groupKey;
+    }
+
+}
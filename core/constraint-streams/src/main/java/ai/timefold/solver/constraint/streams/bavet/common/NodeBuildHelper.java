@@ -3,6 +3,7 @@ package ai.timefold.solver.constraint.streams.bavet.common;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -10,6 +11,7 @@ import java.util.function.Function;
 
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.AbstractConditionalTupleLifecycle;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.AbstractTuple;
+import ai.timefold.solver.constraint.streams.bavet.common.tuple.GizmoTupleLifecycleFactory;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.LeftTupleLifecycle;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.RightTupleLifecycle;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.TupleLifecycle;
@@ -17,6 +19,8 @@ import ai.timefold.solver.constraint.streams.common.AbstractConstraintStream;
 import ai.timefold.solver.constraint.streams.common.inliner.AbstractScoreInliner;
 import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.api.score.stream.ConstraintStream;
+import ai.timefold.solver.core.impl.domain.common.accessor.gizmo.GizmoClassLoader;
+import ai.timefold.solver.core.impl.score.director.OperationProfile;
 
 public final class NodeBuildHelper<Score_ extends Score<Score_>> {
 
@@ -24,12 +28,44 @@ public final class NodeBuildHelper<Score_ extends Score<Score_>> {
     private final AbstractScoreInliner<Score_> scoreInliner;
     private final Map<ConstraintStream, TupleLifecycle<? extends AbstractTuple>> tupleLifecycleMap;
     private final Map<ConstraintStream, Integer> storeIndexMap;
+    private final ProfilingClock profilingClock; // Null when profiling is disabled.
+    private final GizmoClassLoader gizmoClassLoader; // Null when the node network is not compiled.
+    private final Map<AbstractNode, OperationProfile> nodeProfileMap;
+    private final Map<ConstraintStream, OperationProfile> scoringStreamProfileMap;
 
     private List<AbstractNode> reversedNodeList;
 
     public NodeBuildHelper(Set<? extends ConstraintStream> activeStreamSet, AbstractScoreInliner<Score_> scoreInliner) {
+        this(activeStreamSet, scoreInliner, null);
+    }
+
+    /**
+     * @param activeStreamSet never null
+     * @param scoreInliner never null
+     * @param profilingClock null if profiling is disabled,
+     *        otherwise every node and scorer records its operations into its own {@link OperationProfile}
+     */
+    public NodeBuildHelper(Set<? extends ConstraintStream> activeStreamSet, AbstractScoreInliner<Score_> scoreInliner,
+            ProfilingClock profilingClock) {
+        this(activeStreamSet, scoreInliner, profilingClock, null);
+    }
+
+    /**
+     * @param activeStreamSet never null
+     * @param scoreInliner never null
+     * @param profilingClock null if profiling is disabled
+     * @param gizmoClassLoader null if the tuple lifecycles which feed the child nodes of a stream use the
+     *        shared implementations, otherwise those are compiled into generated classes
+     *        (see {@link GizmoTupleLifecycleFactory})
+     */
+    public NodeBuildHelper(Set<? extends ConstraintStream> activeStreamSet, AbstractScoreInliner<Score_> scoreInliner,
+            ProfilingClock profilingClock, GizmoClassLoader gizmoClassLoader) {
         this.activeStreamSet = activeStreamSet;
         this.scoreInliner = scoreInliner;
+        this.profilingClock = profilingClock;
+        this.gizmoClassLoader = gizmoClassLoader;
+        this.nodeProfileMap = profilingClock == null ? null : new IdentityHashMap<>();
+        this.scoringStreamProfileMap = profilingClock == null ? null : new IdentityHashMap<>();
         int activeStreamSetSize = activeStreamSet.size();
         this.tupleLifecycleMap = new HashMap<>(Math.max(16, activeStreamSetSize));
         this.storeIndexMap = new HashMap<>(Math.max(16, activeStreamSetSize / 2));
@@ -46,21 +82,46 @@ public final class NodeBuildHelper<Score_ extends Score<Score_>> {
 
     public void addNode(AbstractNode node) {
         reversedNodeList.add(node);
+        if (profilingClock != null) {
+            nodeProfileMap.put(node, new OperationProfile());
+        }
+    }
+
+    /**
+     * @return the number of nodes added so far
+     */
+    public int getNodeCount() {
+        return reversedNodeList.size();
     }
 
     public void addNode(AbstractNode node, ConstraintStream parent) {
         addNode(node);
-        putInsertUpdateRetract(parent, (TupleLifecycle<? extends AbstractTuple>) node);
+        putInsertUpdateRetract(parent, profile(node, (TupleLifecycle<? extends AbstractTuple>) node));
     }
 
     public void addNode(AbstractNode node, ConstraintStream leftParent, ConstraintStream rightParent) {
         addNode(node);
-        putInsertUpdateRetract(leftParent, TupleLifecycle.ofLeft((LeftTupleLifecycle<? extends AbstractTuple>) node));
-        putInsertUpdateRetract(rightParent, TupleLifecycle.ofRight((RightTupleLifecycle<? extends AbstractTuple>) node));
+        putInsertUpdateRetract(leftParent,
+                profile(node, TupleLifecycle.ofLeft((LeftTupleLifecycle<? extends AbstractTuple>) node)));
+        putInsertUpdateRetract(rightParent,
+                profile(node, TupleLifecycle.ofRight((RightTupleLifecycle<? extends AbstractTuple>) node)));
+    }
+
+    private <Tuple_ extends AbstractTuple> TupleLifecycle<Tuple_> profile(AbstractNode node,
+            TupleLifecycle<Tuple_> tupleLifecycle) {
+        if (profilingClock == null) {
+            return tupleLifecycle;
+        }
+        return new ProfilingTupleLifecycle<>(tupleLifecycle, nodeProfileMap.get(node), profilingClock);
     }
 
     public <Tuple_ extends AbstractTuple> void putInsertUpdateRetract(ConstraintStream stream,
             TupleLifecycle<Tuple_> tupleLifecycle) {
+        if (profilingClock != null && tupleLifecycle instanceof AbstractScorer) {
+            OperationProfile profile = new OperationProfile();
+            scoringStreamProfileMap.put(stream, profile);
+            tupleLifecycle = new ProfilingTupleLifecycle<>(tupleLifecycle, profile, profilingClock);
+        }
         tupleLifecycleMap.put(stream, tupleLifecycle);
     }
 
@@ -77,6 +138,9 @@ public final class NodeBuildHelper<Score_ extends Score<Score_>> {
                 .filter(this::isStreamActive)
                 .map(s -> getTupleLifecycle(s, tupleLifecycleMap))
                 .toArray(TupleLifecycle[]::new);
+        if (tupleLifecycles.length > 0 && gizmoClassLoader != null) {
+            return GizmoTupleLifecycleFactory.build(tupleLifecycles, gizmoClassLoader);
+        }
         switch (tupleLifecycles.length) {
             case 0:
                 throw new IllegalStateException("Impossible state: None of the streamList (" + streamList
@@ -115,6 +179,21 @@ public final class NodeBuildHelper<Score_ extends Score<Score_>> {
         return (lastIndex == null) ? 0 : lastIndex + 1;
     }
 
+    /**
+     * @param node never null
+     * @return null if profiling is disabled
+     */
+    public OperationProfile getNodeProfile(AbstractNode node) {
+        return profilingClock == null ? null : nodeProfileMap.get(node);
+    }
+
+    /**
+     * @return null if profiling is disabled, otherwise the profile of the scorer of every scoring stream
+     */
+    public Map<ConstraintStream, OperationProfile> getScoringStreamProfileMap() {
+        return scoringStreamProfileMap;
+    }
+
     public List<AbstractNode> destroyAndGetNodeList() {
         List<AbstractNode> nodeList = this.reversedNodeList;
         Collections.reverse(nodeList);
@@ -0,0 +1,101 @@
+package ai.timefold.solver.constraint.streams.bavet.common;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+
+import ai.timefold.solver.constraint.streams.bavet.common.tuple.AbstractTuple;
+import ai.timefold.solver.constraint.streams.bavet.common.tuple.BiTuple;
+import ai.timefold.solver.constraint.streams.bavet.common.tuple.QuadTuple;
+import ai.timefold.solver.constraint.streams.bavet.common.tuple.TriTuple;
+import ai.timefold.solver.constraint.streams.bavet.common.tuple.TupleLifecycle;
+import ai.timefold.solver.constraint.streams.bavet.common.tuple.TupleState;
+import ai.timefold.solver.constraint.streams.bavet.common.tuple.UniTuple;
+
+/**
+ * Takes the place of a tuple source (such as a join) whose tuples only depend on problem facts.
+ * Those tuples are calculated outside of the session, so this node just inserts tuples with the same facts.
+ * It has no parent nodes.
+ */
+public final class PrecomputeNode extends AbstractNode {
+
+    private final TupleLifecycle<AbstractTuple> nextNodesTupleLifecycle;
+    private final int outputStoreSize;
+
+    private final List<AbstractTuple> tupleList = new ArrayList<>();
+    private final Queue<AbstractTuple> dirtyTupleQueue = new ArrayDeque<>();
+
+    public PrecomputeNode(TupleLifecycle<AbstractTuple> nextNodesTupleLifecycle, int outputStoreSize) {
+        this.nextNodesTupleLifecycle = nextNodesTupleLifecycle;
+        this.outputStoreSize = outputStoreSize;
+    }
+
+    /**
+     * Retracts all tuples of this node and inserts a tuple for every element of the factsList instead.
+     * This only happens when the session starts or when a problem fact upstream changes, which is rare.
+     *
+     * @param factsList never null, every element has 1 to 4 facts, depending on the cardinality of the tuples
+     */
+    public void replaceTuples(List<Object[]> factsList) {
+        for (AbstractTuple tuple : tupleList) {
+            if (tuple.state == TupleState.CREATING) {
+                tuple.state = TupleState.ABORTING; // Already in the dirtyTupleQueue.
+            } else {
+                tuple.state = TupleState.DYING;
+                dirtyTupleQueue.add(tuple);
+            }
+        }
+        tupleList.clear();
+        for (Object[] facts : factsList) {
+            AbstractTuple tuple = newTuple(facts);
+            tupleList.add(tuple);
+            dirtyTupleQueue.add(tuple);
+        }
+        schedulePropagation();
+    }
+
+    private AbstractTuple newTuple(Object[] facts) {
+        switch (facts.length) {
+            case 1:
+                return new UniTuple<>(facts[0], outputStoreSize);
+            case 2:
+                return new BiTuple<>(facts[0], facts[1], outputStoreSize);
+            case 3:
+                return new TriTuple<>(facts[0], facts[1], facts[2], outputStoreSize);
+            case 4:
+                return new QuadTuple<>(facts[0], facts[1], facts[2], facts[3], outputStoreSize);
+            default:
+                throw new IllegalStateException("Impossible state: a tuple cannot have (" + facts.length + ") facts.");
+        }
+    }
+
+    @Override
+    public void calculateScore() {
+        for (AbstractTuple tuple : dirtyTupleQueue) {
+            switch (tuple.state) {
+                case CREATING:
+                    nextNodesTupleLifecycle.insert(tuple);
+                    liveTupleCount++;
+                    tuple.state = TupleState.OK;
+                    break;
+                case DYING:
+                    nextNodesTupleLifecycle.retract(tuple);
+                    liveTupleCount--;
+                    tuple.state = TupleState.DEAD;
+                    break;
+                case ABORTING:
+                    tuple.state = TupleState.DEAD;
+                    break;
+                case UPDATING:
+                case OK:
+                case DEAD:
+                default:
+                    throw new IllegalStateException("Impossible state: The tuple (" + tuple + ") in node (" +
+                            this + ") is in an unexpected state (" + tuple.state + ").");
+            }
+        }
+        dirtyTupleQueue.clear();
+    }
+
+}
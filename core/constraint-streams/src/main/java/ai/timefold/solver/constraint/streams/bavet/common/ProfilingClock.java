@@ -0,0 +1,44 @@
+package ai.timefold.solver.constraint.streams.bavet.common;
+
+/**
+ * Measures self time for nested operations:
+ * the time of an operation excludes the time of the operations it triggered,
+ * so that the time of every operation is counted exactly once.
+ * <p>
+ * Usage:
+ *
+ * <pre>
+ * long outerNestedTimeNanos = clock.startNesting();
+ * long startNanos = System.nanoTime();
+ * // Do the operation, which may start and stop nested operations on the same clock.
+ * long selfTimeNanos = clock.stopNesting(outerNestedTimeNanos, startNanos);
+ * </pre>
+ *
+ * Not thread-safe, every session has its own instance.
+ */
+public final class ProfilingClock {
+
+    private long nestedTimeNanos = 0L;
+
+    /**
+     * @return the nested time of the outer operation so far, to pass to {@link #stopNesting(long, long)}
+     */
+    public long startNesting() {
+        long outerNestedTimeNanos = nestedTimeNanos;
+        nestedTimeNanos = 0L;
+        return outerNestedTimeNanos;
+    }
+
+    /**
+     * @param outerNestedTimeNanos the return value of the matching {@link #startNesting()}
+     * @param startNanos the {@link System#nanoTime()} at the start of the operation
+     * @return the self time of the operation
+     */
+    public long stopNesting(long outerNestedTimeNanos, long startNanos) {
+        long elapsedNanos = System.nanoTime() - startNanos;
+        long selfTimeNanos = elapsedNanos - nestedTimeNanos;
+        nestedTimeNanos = outerNestedTimeNanos + elapsedNanos;
+        return selfTimeNanos;
+    }
+
+}
@@ -0,0 +1,54 @@
+package ai.timefold.solver.constraint.streams.bavet.common;
+
+import java.util.Objects;
+
+import ai.timefold.solver.constraint.streams.bavet.common.tuple.AbstractTuple;
+import ai.timefold.solver.constraint.streams.bavet.common.tuple.TupleLifecycle;
+import ai.timefold.solver.core.impl.score.director.OperationProfile;
+
+/**
+ * Records the operations of a node or a scorer into its {@link OperationProfile}.
+ * Only used when profiling is enabled, see {@link NodeBuildHelper}.
+ */
+final class ProfilingTupleLifecycle<Tuple_ extends AbstractTuple> implements TupleLifecycle<Tuple_> {
+
+    private final TupleLifecycle<Tuple_> delegate;
+    private final OperationProfile profile;
+    private final ProfilingClock clock;
+
+    ProfilingTupleLifecycle(TupleLifecycle<Tuple_> delegate, OperationProfile profile, ProfilingClock clock) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.profile = Objects.requireNonNull(profile);
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    @Override
+    public void insert(Tuple_ tuple) {
+        long outerNestedTimeNanos = clock.startNesting();
+        long startNanos = System.nanoTime();
+        delegate.insert(tuple);
+        profile.addInsert(clock.stopNesting(outerNestedTimeNanos, startNanos));
+    }
+
+    @Override
+    public void update(Tuple_ tuple) {
+        long outerNestedTimeNanos = clock.startNesting();
+        long startNanos = System.nanoTime();
+        delegate.update(tuple);
+        profile.addUpdate(clock.stopNesting(outerNestedTimeNanos, startNanos));
+    }
+
+    @Override
+    public void retract(Tuple_ tuple) {
+        long outerNestedTimeNanos = clock.startNesting();
+        long startNanos = System.nanoTime();
+        delegate.retract(tuple);
+        profile.addRetract(clock.stopNesting(outerNestedTimeNanos, startNanos));
+    }
+
+    @Override
+    public String toString() {
+        return "profiled " + delegate;
+    }
+
+}
@@ -0,0 +1,77 @@
+package ai.timefold.solver.constraint.streams.bavet.common;
+
+import java.util.BitSet;
+
+import ai.timefold.solver.core.impl.score.director.OperationProfile;
+
+/**
+ * Tracks which nodes of a session have pending propagations,
+ * so that {@link #propagate()} only visits those nodes instead of every node in the network.
+ * <p>
+ * The nodes are indexed in topological order (every node has a higher index than its parent nodes).
+ * Therefore a single ascending sweep is enough to propagate everything,
+ * including the propagations that the visited nodes schedule on their downstream nodes along the way.
+ */
+public final class PropagationScheduler {
+
+    private final AbstractNode[] nodes; // Indexed by nodeIndex
+    private final BitSet scheduledNodeSet;
+    private final OperationProfile[] nodeProfiles; // Indexed by nodeIndex, null when profiling is disabled.
+    private final ProfilingClock profilingClock; // Null when profiling is disabled.
+    /**
+     * How often a node scheduled itself since the last propagation, roughly the number of dirty tuples.
+     */
+    private int pendingWorkCount = 0;
+
+    public PropagationScheduler(AbstractNode[] nodes) {
+        this(nodes, null, null);
+    }
+
+    /**
+     * @param nodes never null, in topological order
+     * @param nodeProfiles null if profiling is disabled, otherwise indexed like the nodes
+     * @param profilingClock null if profiling is disabled
+     */
+    public PropagationScheduler(AbstractNode[] nodes, OperationProfile[] nodeProfiles, ProfilingClock profilingClock) {
+        this.nodes = nodes;
+        this.nodeProfiles = nodeProfiles;
+        this.profilingClock = profilingClock;
+        this.scheduledNodeSet = new BitSet(nodes.length);
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i].setPropagationScheduler(this, i);
+        }
+    }
+
+    void schedule(int nodeIndex) {
+        scheduledNodeSet.set(nodeIndex);
+        pendingWorkCount++;
+    }
+
+    /**
+     * @return {@code >= 0}, a rough measure of how much work the next {@link #propagate()} has to do
+     */
+    public int getPendingWorkCount() {
+        return pendingWorkCount;
+    }
+
+    public void propagate() {
+        for (int nodeIndex = scheduledNodeSet.nextSetBit(0); nodeIndex >= 0;
+                nodeIndex = scheduledNodeSet.nextSetBit(nodeIndex + 1)) {
+            scheduledNodeSet.clear(nodeIndex);
+            if (profilingClock == null) {
+                nodes[nodeIndex].calculateScore();
+            } else {
+                long outerNestedTimeNanos = profilingClock.startNesting();
+                long startNanos = System.nanoTime();
+                nodes[nodeIndex].calculateScore();
+                nodeProfiles[nodeIndex].addTime(profilingClock.stopNesting(outerNestedTimeNanos, startNanos));
+            }
+        }
+        pendingWorkCount = 0;
+        if (!scheduledNodeSet.isEmpty()) {
+            throw new IllegalStateException("Impossible state: the nodes (" + scheduledNodeSet
+                    + ") were scheduled by a downstream node, so the nodes are not in topological order.");
+        }
+    }
+
+}
@@ -1,23 +1,28 @@
 package ai.timefold.solver.constraint.streams.bavet.common.index;
 
 import java.util.Comparator;
-import java.util.Map;
-import java.util.NavigableMap;
 import java.util.Objects;
-import java.util.TreeMap;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import ai.timefold.solver.core.impl.score.stream.JoinerType;
 import ai.timefold.solver.core.impl.util.ElementAwareListEntry;
 
+/**
+ * Keeps its downstream indexers in an AVL tree ordered by the comparison key,
+ * where every node caches the number of tuples in its subtree (an order-statistic tree).
+ * The keys in range always form a prefix of the tree in iteration order,
+ * so {@link #forEach(IndexProperties, Consumer)} only visits the nodes in range,
+ * and {@link #size(IndexProperties)} is O(log n) when the downstream indexers are {@link NoneIndexer}s.
+ */
 final class ComparisonIndexer<T, Key_ extends Comparable<Key_>> implements Indexer<T> {
 
     private final int indexKeyPosition;
     private final Supplier<Indexer<T>> downstreamIndexerSupplier;
     private final Comparator<Key_> keyComparator;
     private final boolean hasOrEquals;
-    private final NavigableMap<Key_, Indexer<T>> comparisonMap;
+    private Node<T, Key_> root = null;
+    private int nodeCount = 0;
 
     public ComparisonIndexer(JoinerType comparisonJoinerType, Supplier<Indexer<T>> downstreamIndexerSupplier) {
         this(comparisonJoinerType, 0, downstreamIndexerSupplier);
@@ -29,8 +34,7 @@ final class ComparisonIndexer<T, Key_ extends Comparable<Key_>> implements Index
         this.downstreamIndexerSupplier = Objects.requireNonNull(downstreamIndexerSupplier);
         /*
          * For GT/GTE, the iteration order is reversed.
-         * This allows us to iterate over the entire map, stopping when the threshold is reached.
-         * This is done so that we can avoid using head/tail sub maps, which are expensive.
+         * This allows us to iterate over the tree from its lowest key, stopping when the threshold is reached.
          */
         this.keyComparator =
                 (comparisonJoinerType == JoinerType.GREATER_THAN || comparisonJoinerType == JoinerType.GREATER_THAN_OR_EQUAL)
@@ -38,120 +42,259 @@ final class ComparisonIndexer<T, Key_ extends Comparable<Key_>> implements Index
                         : KeyComparator.INSTANCE;
         this.hasOrEquals = comparisonJoinerType == JoinerType.GREATER_THAN_OR_EQUAL
                 || comparisonJoinerType == JoinerType.LESS_THAN_OR_EQUAL;
-        this.comparisonMap = new TreeMap<>(keyComparator);
     }
 
     @Override
     public ElementAwareListEntry<T> put(IndexProperties indexProperties, T tuple) {
         Key_ indexKey = indexProperties.toKey(indexKeyPosition);
-        // Avoids computeIfAbsent in order to not create lambdas on the hot path.
-        Indexer<T> downstreamIndexer = comparisonMap.get(indexKey);
-        if (downstreamIndexer == null) {
-            downstreamIndexer = downstreamIndexerSupplier.get();
-            comparisonMap.put(indexKey, downstreamIndexer);
+        Node<T, Key_> node = findNode(indexKey);
+        if (node == null) {
+            node = new Node<>(indexKey, downstreamIndexerSupplier.get());
+            root = insertNode(root, node);
+            nodeCount++;
         }
-        return downstreamIndexer.put(indexProperties, tuple);
+        ElementAwareListEntry<T> entry = node.downstreamIndexer.put(indexProperties, tuple);
+        updateTupleCountOnPath(indexKey, 1);
+        return entry;
     }
 
     @Override
     public void remove(IndexProperties indexProperties, ElementAwareListEntry<T> entry) {
         Key_ indexKey = indexProperties.toKey(indexKeyPosition);
-        Indexer<T> downstreamIndexer = getDownstreamIndexer(indexProperties, indexKey, entry);
-        downstreamIndexer.remove(indexProperties, entry);
-        if (downstreamIndexer.isEmpty()) {
-            comparisonMap.remove(indexKey);
-        }
-    }
-
-    private Indexer<T> getDownstreamIndexer(IndexProperties indexProperties, Key_ indexerKey,
-            ElementAwareListEntry<T> entry) {
-        Indexer<T> downstreamIndexer = comparisonMap.get(indexerKey);
-        if (downstreamIndexer == null) {
+        Node<T, Key_> node = findNode(indexKey);
+        if (node == null) {
             throw new IllegalStateException("Impossible state: the tuple (" + entry.getElement()
                     + ") with indexProperties (" + indexProperties
                     + ") doesn't exist in the indexer " + this + ".");
         }
-        return downstreamIndexer;
+        node.downstreamIndexer.remove(indexProperties, entry);
+        if (node.downstreamIndexer.isEmpty()) {
+            root = deleteNode(root, indexKey);
+            nodeCount--;
+        } else {
+            updateTupleCountOnPath(indexKey, -1);
+        }
     }
 
-    // TODO clean up DRY
     @Override
     public int size(IndexProperties indexProperties) {
-        int mapSize = comparisonMap.size();
-        if (mapSize == 0) {
+        if (root == null) {
             return 0;
         }
         Key_ indexKey = indexProperties.toKey(indexKeyPosition);
-        if (mapSize == 1) { // Avoid creation of the entry set and iterator.
-            Map.Entry<Key_, Indexer<T>> entry = comparisonMap.firstEntry();
-            int comparison = keyComparator.compare(entry.getKey(), indexKey);
-            if (comparison >= 0) { // Possibility of reaching the boundary condition.
-                if (comparison > 0 || !hasOrEquals) {
-                    // Boundary condition reached when we're out of bounds entirely, or when GTE/LTE is not allowed.
-                    return 0;
-                }
-            }
-            return entry.getValue().size(indexProperties);
-        } else {
+        if (root.downstreamIndexer instanceof NoneIndexer) {
+            // The size of a NoneIndexer doesn't depend on the index properties, so the cached counts can be used.
             int size = 0;
-            for (Map.Entry<Key_, Indexer<T>> entry : comparisonMap.entrySet()) {
-                int comparison = keyComparator.compare(entry.getKey(), indexKey);
-                if (comparison >= 0) { // Possibility of reaching the boundary condition.
-                    if (comparison > 0 || !hasOrEquals) {
-                        // Boundary condition reached when we're out of bounds entirely, or when GTE/LTE is not allowed.
-                        break;
-                    }
+            Node<T, Key_> node = root;
+            while (node != null) {
+                if (isInRange(node.key, indexKey)) {
+                    size += Node.subtreeTupleCount(node.left) + node.tupleCount;
+                    node = node.right;
+                } else {
+                    node = node.left;
                 }
-                // Boundary condition not yet reached; include the indexer in the range.
-                size += entry.getValue().size(indexProperties);
             }
             return size;
         }
+        return size(root, indexProperties, indexKey);
+    }
+
+    private int size(Node<T, Key_> node, IndexProperties indexProperties, Key_ indexKey) {
+        if (node == null) {
+            return 0;
+        }
+        int size = size(node.left, indexProperties, indexKey);
+        if (isInRange(node.key, indexKey)) {
+            size += node.downstreamIndexer.size(indexProperties);
+            size += size(node.right, indexProperties, indexKey);
+        }
+        return size;
     }
 
     @Override
     public void forEach(IndexProperties indexProperties, Consumer<T> tupleConsumer) {
-        int size = comparisonMap.size();
-        if (size == 0) {
+        if (root == null) {
             return;
         }
         Key_ indexKey = indexProperties.toKey(indexKeyPosition);
-        if (size == 1) { // Avoid creation of the entry set and iterator.
-            Map.Entry<Key_, Indexer<T>> entry = comparisonMap.firstEntry();
-            visitEntry(indexProperties, tupleConsumer, indexKey, entry);
-        } else {
-            for (Map.Entry<Key_, Indexer<T>> entry : comparisonMap.entrySet()) {
-                boolean boundaryReached = visitEntry(indexProperties, tupleConsumer, indexKey, entry);
-                if (boundaryReached) {
-                    return;
-                }
-            }
-        }
+        forEach(root, indexProperties, tupleConsumer, indexKey);
     }
 
-    private boolean visitEntry(IndexProperties indexProperties, Consumer<T> tupleConsumer,
-            Key_ indexKey, Map.Entry<Key_, Indexer<T>> entry) {
-        // Comparator matches the order of iteration of the map, so the boundary is always found from the bottom up.
-        int comparison = keyComparator.compare(entry.getKey(), indexKey);
-        if (comparison >= 0) { // Possibility of reaching the boundary condition.
-            if (comparison > 0 || !hasOrEquals) {
-                // Boundary condition reached when we're out of bounds entirely, or when GTE/LTE is not allowed.
-                return true;
-            }
+    private void forEach(Node<T, Key_> node, IndexProperties indexProperties, Consumer<T> tupleConsumer,
+            Key_ indexKey) {
+        if (node == null) {
+            return;
+        }
+        forEach(node.left, indexProperties, tupleConsumer, indexKey);
+        // Comparator matches the order of iteration of the tree, so the boundary is always found from the bottom up.
+        if (isInRange(node.key, indexKey)) {
+            node.downstreamIndexer.forEach(indexProperties, tupleConsumer);
+            forEach(node.right, indexProperties, tupleConsumer, indexKey);
         }
-        // Boundary condition not yet reached; include the indexer in the range.
-        entry.getValue().forEach(indexProperties, tupleConsumer);
-        return false;
+    }
+
+    private boolean isInRange(Key_ key, Key_ indexKey) {
+        int comparison = keyComparator.compare(key, indexKey);
+        // Out of bounds entirely, or on the boundary when GTE/LTE is not allowed.
+        return comparison < 0 || (comparison == 0 && hasOrEquals);
     }
 
     @Override
     public boolean isEmpty() {
-        return comparisonMap.isEmpty();
+        return root == null;
     }
 
     @Override
     public String toString() {
-        return "size = " + comparisonMap.size();
+        return "size = " + nodeCount;
+    }
+
+    // ************************************************************************
+    // AVL tree
+    // ************************************************************************
+
+    private Node<T, Key_> findNode(Key_ indexKey) {
+        Node<T, Key_> node = root;
+        while (node != null) {
+            int comparison = keyComparator.compare(indexKey, node.key);
+            if (comparison == 0) {
+                return node;
+            }
+            node = comparison < 0 ? node.left : node.right;
+        }
+        return null;
+    }
+
+    private void updateTupleCountOnPath(Key_ indexKey, int difference) {
+        Node<T, Key_> node = root;
+        while (node != null) {
+            node.subtreeTupleCount += difference;
+            int comparison = keyComparator.compare(indexKey, node.key);
+            if (comparison == 0) {
+                node.tupleCount += difference;
+                return;
+            }
+            node = comparison < 0 ? node.left : node.right;
+        }
+        throw new IllegalStateException("Impossible state: the index key (" + indexKey
+                + ") doesn't exist in the indexer " + this + ".");
+    }
+
+    private Node<T, Key_> insertNode(Node<T, Key_> subtreeRoot, Node<T, Key_> newNode) {
+        if (subtreeRoot == null) {
+            newNode.refresh();
+            return newNode;
+        }
+        if (keyComparator.compare(newNode.key, subtreeRoot.key) < 0) {
+            subtreeRoot.left = insertNode(subtreeRoot.left, newNode);
+        } else {
+            subtreeRoot.right = insertNode(subtreeRoot.right, newNode);
+        }
+        return rebalance(subtreeRoot);
+    }
+
+    private Node<T, Key_> deleteNode(Node<T, Key_> subtreeRoot, Key_ indexKey) {
+        int comparison = keyComparator.compare(indexKey, subtreeRoot.key);
+        if (comparison < 0) {
+            subtreeRoot.left = deleteNode(subtreeRoot.left, indexKey);
+        } else if (comparison > 0) {
+            subtreeRoot.right = deleteNode(subtreeRoot.right, indexKey);
+        } else if (subtreeRoot.left == null) {
+            return subtreeRoot.right;
+        } else if (subtreeRoot.right == null) {
+            return subtreeRoot.left;
+        } else {
+            Node<T, Key_> successor = subtreeRoot.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            subtreeRoot.right = detachMin(subtreeRoot.right);
+            successor.left = subtreeRoot.left;
+            successor.right = subtreeRoot.right;
+            subtreeRoot.left = null;
+            subtreeRoot.right = null;
+            return rebalance(successor);
+        }
+        return rebalance(subtreeRoot);
+    }
+
+    private Node<T, Key_> detachMin(Node<T, Key_> subtreeRoot) {
+        if (subtreeRoot.left == null) {
+            return subtreeRoot.right;
+        }
+        subtreeRoot.left = detachMin(subtreeRoot.left);
+        return rebalance(subtreeRoot);
+    }
+
+    private Node<T, Key_> rebalance(Node<T, Key_> node) {
+        node.refresh();
+        int balance = Node.height(node.left) - Node.height(node.right);
+        if (balance > 1) {
+            if (Node.height(node.left.left) < Node.height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        } else if (balance < -1) {
+            if (Node.height(node.right.right) < Node.height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private Node<T, Key_> rotateRight(Node<T, Key_> node) {
+        Node<T, Key_> newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        node.refresh();
+        newRoot.refresh();
+        return newRoot;
+    }
+
+    private Node<T, Key_> rotateLeft(Node<T, Key_> node) {
+        Node<T, Key_> newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        node.refresh();
+        newRoot.refresh();
+        return newRoot;
+    }
+
+    private static final class Node<T, Key_> {
+
+        private final Key_ key;
+        private final Indexer<T> downstreamIndexer;
+        private Node<T, Key_> left = null;
+        private Node<T, Key_> right = null;
+        private int height = 1;
+        /**
+         * The number of tuples in {@link #downstreamIndexer}.
+         */
+        private int tupleCount = 0;
+        /**
+         * The number of tuples in this subtree, including this node.
+         */
+        private int subtreeTupleCount = 0;
+
+        private Node(Key_ key, Indexer<T> downstreamIndexer) {
+            this.key = key;
+            this.downstreamIndexer = downstreamIndexer;
+        }
+
+        private static int height(Node<?, ?> node) {
+            return node == null ? 0 : node.height;
+        }
+
+        private static int subtreeTupleCount(Node<?, ?> node) {
+            return node == null ? 0 : node.subtreeTupleCount;
+        }
+
+        private void refresh() {
+            height = 1 + Math.max(height(left), height(right));
+            subtreeTupleCount = subtreeTupleCount(left) + tupleCount + subtreeTupleCount(right);
+        }
+
     }
 
     private static final class KeyComparator<Key_ extends Comparable<Key_>> implements Comparator<Key_> {
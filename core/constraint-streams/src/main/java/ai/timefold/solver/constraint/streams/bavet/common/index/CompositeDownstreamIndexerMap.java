@@ -0,0 +1,146 @@
+package ai.timefold.solver.constraint.streams.bavet.common.index;
+
+import java.util.Objects;
+
+/**
+ * Open addressing hash map with linear probing for keys that span multiple index properties.
+ * It hashes and compares the index properties in place,
+ * instead of allocating a composite key (such as a Pair or an {@link IndexerKey}) on every operation.
+ * The index properties of the first tuple put with a particular key are kept as that key's representative.
+ *
+ * @param <T> The element type. Often a tuple.
+ */
+final class CompositeDownstreamIndexerMap<T> extends DownstreamIndexerMap<T> {
+
+    private static final int INITIAL_CAPACITY = 16; // Must be a power of 2.
+
+    private final int indexKeyFrom;
+    private final int indexKeyTo;
+    private int[] hashes = new int[INITIAL_CAPACITY];
+    private IndexProperties[] keys = new IndexProperties[INITIAL_CAPACITY];
+    /**
+     * A null value marks an empty slot.
+     */
+    private Indexer<T>[] values = new Indexer[INITIAL_CAPACITY];
+    private int size = 0;
+
+    CompositeDownstreamIndexerMap(int indexKeyFromInclusive, int indexKeyToExclusive) {
+        this.indexKeyFrom = indexKeyFromInclusive;
+        this.indexKeyTo = indexKeyToExclusive;
+    }
+
+    @Override
+    Indexer<T> get(IndexProperties indexProperties) {
+        return values[findSlot(indexProperties, hash(indexProperties))];
+    }
+
+    @Override
+    boolean put(IndexProperties indexProperties, Indexer<T> downstreamIndexer) {
+        if ((size + 1) * 2 > values.length) { // Keep the load factor at most 0.5.
+            resize(values.length * 2);
+        }
+        int hash = hash(indexProperties);
+        int slot = findSlot(indexProperties, hash);
+        hashes[slot] = hash;
+        keys[slot] = indexProperties;
+        values[slot] = downstreamIndexer;
+        size++;
+        return true;
+    }
+
+    @Override
+    void remove(IndexProperties indexProperties) {
+        int slot = findSlot(indexProperties, hash(indexProperties));
+        if (values[slot] == null) {
+            throw new IllegalStateException("Impossible state: the index properties (" + indexProperties
+                    + ") are not in the map.");
+        }
+        // Backward shift deletion, so that no tombstones are needed.
+        int mask = values.length - 1;
+        int emptySlot = slot;
+        int nextSlot = slot;
+        while (true) {
+            nextSlot = (nextSlot + 1) & mask;
+            if (values[nextSlot] == null) {
+                break;
+            }
+            int idealSlot = hashes[nextSlot] & mask;
+            boolean stays = emptySlot <= nextSlot
+                    ? emptySlot < idealSlot && idealSlot <= nextSlot
+                    : emptySlot < idealSlot || idealSlot <= nextSlot;
+            if (!stays) {
+                hashes[emptySlot] = hashes[nextSlot];
+                keys[emptySlot] = keys[nextSlot];
+                values[emptySlot] = values[nextSlot];
+                emptySlot = nextSlot;
+            }
+        }
+        keys[emptySlot] = null;
+        values[emptySlot] = null;
+        size--;
+    }
+
+    private int hash(IndexProperties indexProperties) {
+        int hash = 1;
+        for (int i = indexKeyFrom; i < indexKeyTo; i++) {
+            hash = 31 * hash + Objects.hashCode(indexProperties.toKey(i));
+        }
+        return mix(hash);
+    }
+
+    private boolean keyEquals(IndexProperties left, IndexProperties right) {
+        if (left == right) {
+            return true;
+        }
+        for (int i = indexKeyFrom; i < indexKeyTo; i++) {
+            if (!Objects.equals(left.toKey(i), right.toKey(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the slot of the key if it is present, otherwise the empty slot where it would be put
+     */
+    private int findSlot(IndexProperties indexProperties, int hash) {
+        int mask = values.length - 1;
+        int slot = hash & mask;
+        while (values[slot] != null && (hashes[slot] != hash || !keyEquals(keys[slot], indexProperties))) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize(int newCapacity) {
+        int[] oldHashes = hashes;
+        IndexProperties[] oldKeys = keys;
+        Indexer<T>[] oldValues = values;
+        hashes = new int[newCapacity];
+        keys = new IndexProperties[newCapacity];
+        values = new Indexer[newCapacity];
+        int mask = newCapacity - 1;
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                int slot = oldHashes[i] & mask;
+                while (values[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                hashes[slot] = oldHashes[i];
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    @Override
+    int size() {
+        return size;
+    }
+
+    @Override
+    DownstreamIndexerMap<T> generalize() {
+        return this; // Already accepts any key.
+    }
+
+}
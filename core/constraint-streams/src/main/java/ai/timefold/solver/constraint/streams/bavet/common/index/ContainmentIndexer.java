@@ -0,0 +1,268 @@
+package ai.timefold.solver.constraint.streams.bavet.common.index;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import ai.timefold.solver.core.impl.score.stream.JoinerType;
+import ai.timefold.solver.core.impl.util.ElementAwareListEntry;
+import ai.timefold.solver.core.impl.util.MutableInt;
+
+/**
+ * Inverted index for the set-membership joiner types, which maps every element to the tuples that contain it:
+ * <ul>
+ * <li>{@link JoinerType#CONTAINING}: the indexed key is a collection, the visiting key is an element.</li>
+ * <li>{@link JoinerType#CONTAINED_IN}: the indexed key is an element, the visiting key is a collection.</li>
+ * <li>{@link JoinerType#INTERSECTING}: both keys are collections.</li>
+ * <li>{@link JoinerType#DISJOINT}: both keys are collections,
+ * and every tuple is visited except those found through the index.</li>
+ * </ul>
+ * When the indexed key is a collection, a tuple is put into the downstream indexer of each of its distinct elements,
+ * as well as into an indexer of all tuples, whose entry is returned to the caller.
+ *
+ * @param <T> The element type. Often a tuple.
+ */
+final class ContainmentIndexer<T> implements Indexer<T> {
+
+    private final int indexKeyPosition;
+    private final boolean isIndexKeyCollection;
+    private final boolean isVisitKeyCollection;
+    private final boolean isNegated;
+    private final Supplier<Indexer<T>> downstreamIndexerSupplier;
+    private final Map<Object, Indexer<T>> elementIndexerMap = new HashMap<>();
+    /**
+     * Only used when the indexed key is a collection, null otherwise.
+     */
+    private final Indexer<T> allTupleIndexer;
+    /**
+     * Only used when the indexed key is a collection, null otherwise.
+     * Maps the entry of {@link #allTupleIndexer} to the entries in {@link #elementIndexerMap}.
+     */
+    private final Map<ElementAwareListEntry<T>, Membership<T>> membershipMap;
+
+    public ContainmentIndexer(JoinerType joinerType, Supplier<Indexer<T>> downstreamIndexerSupplier) {
+        this(joinerType, 0, downstreamIndexerSupplier);
+    }
+
+    public ContainmentIndexer(JoinerType joinerType, int indexKeyPosition, Supplier<Indexer<T>> downstreamIndexerSupplier) {
+        this.indexKeyPosition = indexKeyPosition;
+        this.downstreamIndexerSupplier = Objects.requireNonNull(downstreamIndexerSupplier);
+        switch (joinerType) {
+            case CONTAINING:
+                this.isIndexKeyCollection = true;
+                this.isVisitKeyCollection = false;
+                break;
+            case CONTAINED_IN:
+                this.isIndexKeyCollection = false;
+                this.isVisitKeyCollection = true;
+                break;
+            case INTERSECTING:
+            case DISJOINT:
+                this.isIndexKeyCollection = true;
+                this.isVisitKeyCollection = true;
+                break;
+            default:
+                throw new IllegalArgumentException("Impossible state: the joiner type (" + joinerType
+                        + ") is not a set-membership joiner type.");
+        }
+        this.isNegated = joinerType == JoinerType.DISJOINT;
+        if (isIndexKeyCollection) {
+            this.allTupleIndexer = downstreamIndexerSupplier.get();
+            this.membershipMap = new IdentityHashMap<>();
+        } else {
+            this.allTupleIndexer = null;
+            this.membershipMap = null;
+        }
+    }
+
+    static boolean isContainment(JoinerType joinerType) {
+        switch (joinerType) {
+            case CONTAINING:
+            case CONTAINED_IN:
+            case INTERSECTING:
+            case DISJOINT:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public ElementAwareListEntry<T> put(IndexProperties indexProperties, T tuple) {
+        if (!isIndexKeyCollection) {
+            Object indexKey = indexProperties.toKey(indexKeyPosition);
+            return getOrCreateElementIndexer(indexKey).put(indexProperties, tuple);
+        }
+        Object[] elements = distinctElements(indexProperties.toKey(indexKeyPosition)).toArray();
+        ElementAwareListEntry<T>[] elementEntries = new ElementAwareListEntry[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            elementEntries[i] = getOrCreateElementIndexer(elements[i]).put(indexProperties, tuple);
+        }
+        ElementAwareListEntry<T> entry = allTupleIndexer.put(indexProperties, tuple);
+        membershipMap.put(entry, new Membership<>(elements, elementEntries));
+        return entry;
+    }
+
+    private Indexer<T> getOrCreateElementIndexer(Object element) {
+        // Avoids computeIfAbsent in order to not create lambdas on the hot path.
+        Indexer<T> downstreamIndexer = elementIndexerMap.get(element);
+        if (downstreamIndexer == null) {
+            downstreamIndexer = downstreamIndexerSupplier.get();
+            elementIndexerMap.put(element, downstreamIndexer);
+        }
+        return downstreamIndexer;
+    }
+
+    @Override
+    public void remove(IndexProperties indexProperties, ElementAwareListEntry<T> entry) {
+        if (!isIndexKeyCollection) {
+            removeFromElementIndexer(indexProperties, indexProperties.toKey(indexKeyPosition), entry);
+            return;
+        }
+        Membership<T> membership = membershipMap.remove(entry);
+        if (membership == null) {
+            throw new IllegalStateException("Impossible state: the tuple (" + entry.getElement()
+                    + ") with indexProperties (" + indexProperties
+                    + ") doesn't exist in the indexer " + this + ".");
+        }
+        // The collection may have changed since the tuple was put, so the original elements are used.
+        for (int i = 0; i < membership.elements.length; i++) {
+            removeFromElementIndexer(indexProperties, membership.elements[i], membership.elementEntries[i]);
+        }
+        allTupleIndexer.remove(indexProperties, entry);
+    }
+
+    private void removeFromElementIndexer(IndexProperties indexProperties, Object element,
+            ElementAwareListEntry<T> entry) {
+        Indexer<T> downstreamIndexer = elementIndexerMap.get(element);
+        if (downstreamIndexer == null) {
+            throw new IllegalStateException("Impossible state: the tuple (" + entry.getElement()
+                    + ") with indexProperties (" + indexProperties
+                    + ") doesn't exist in the indexer " + this + ".");
+        }
+        downstreamIndexer.remove(indexProperties, entry);
+        if (downstreamIndexer.isEmpty()) {
+            elementIndexerMap.remove(element);
+        }
+    }
+
+    @Override
+    public int size(IndexProperties indexProperties) {
+        Object visitKey = indexProperties.toKey(indexKeyPosition);
+        if (!isVisitKeyCollection) {
+            Indexer<T> downstreamIndexer = elementIndexerMap.get(visitKey);
+            return downstreamIndexer == null ? 0 : downstreamIndexer.size(indexProperties);
+        } else if (!isIndexKeyCollection) {
+            // Every tuple is in exactly one element indexer, so there are no duplicates to account for.
+            int size = 0;
+            for (Object element : distinctElements(visitKey)) {
+                Indexer<T> downstreamIndexer = elementIndexerMap.get(element);
+                if (downstreamIndexer != null) {
+                    size += downstreamIndexer.size(indexProperties);
+                }
+            }
+            return size;
+        }
+        MutableInt intersectingSize = new MutableInt();
+        forEachIntersecting(indexProperties, visitKey, tuple -> intersectingSize.increment());
+        return isNegated ? allTupleIndexer.size(indexProperties) - intersectingSize.intValue()
+                : intersectingSize.intValue();
+    }
+
+    @Override
+    public void forEach(IndexProperties indexProperties, Consumer<T> tupleConsumer) {
+        Object visitKey = indexProperties.toKey(indexKeyPosition);
+        if (!isVisitKeyCollection) {
+            Indexer<T> downstreamIndexer = elementIndexerMap.get(visitKey);
+            if (downstreamIndexer == null || downstreamIndexer.isEmpty()) {
+                return;
+            }
+            downstreamIndexer.forEach(indexProperties, tupleConsumer);
+        } else if (!isIndexKeyCollection) {
+            for (Object element : distinctElements(visitKey)) {
+                Indexer<T> downstreamIndexer = elementIndexerMap.get(element);
+                if (downstreamIndexer != null) {
+                    downstreamIndexer.forEach(indexProperties, tupleConsumer);
+                }
+            }
+        } else if (isNegated) {
+            if (allTupleIndexer.isEmpty()) {
+                return;
+            }
+            Set<T> intersectingTupleSet = Collections.newSetFromMap(new IdentityHashMap<>());
+            forEachIntersecting(indexProperties, visitKey, intersectingTupleSet::add);
+            // Visits in the order of insertion, to keep the propagation order reproducible.
+            allTupleIndexer.forEach(indexProperties, tuple -> {
+                if (!intersectingTupleSet.contains(tuple)) {
+                    tupleConsumer.accept(tuple);
+                }
+            });
+        } else {
+            forEachIntersecting(indexProperties, visitKey, tupleConsumer);
+        }
+    }
+
+    /**
+     * A tuple which shares multiple elements with the visiting collection is in multiple element indexers,
+     * so it needs to be deduplicated, unless there is only one such element.
+     */
+    private void forEachIntersecting(IndexProperties indexProperties, Object visitKey, Consumer<T> tupleConsumer) {
+        if (elementIndexerMap.isEmpty()) {
+            return;
+        }
+        Collection<?> elements = distinctElements(visitKey);
+        if (elements.size() == 1) {
+            Indexer<T> downstreamIndexer = elementIndexerMap.get(elements.iterator().next());
+            if (downstreamIndexer != null) {
+                downstreamIndexer.forEach(indexProperties, tupleConsumer);
+            }
+            return;
+        }
+        Set<T> visitedTupleSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Object element : elements) {
+            Indexer<T> downstreamIndexer = elementIndexerMap.get(element);
+            if (downstreamIndexer != null) {
+                downstreamIndexer.forEach(indexProperties, tuple -> {
+                    if (visitedTupleSet.add(tuple)) {
+                        tupleConsumer.accept(tuple);
+                    }
+                });
+            }
+        }
+    }
+
+    private static Collection<?> distinctElements(Object key) {
+        Collection<?> collection = (Collection<?>) key;
+        return collection instanceof Set ? collection : new LinkedHashSet<>(collection);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return isIndexKeyCollection ? allTupleIndexer.isEmpty() : elementIndexerMap.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "size = " + elementIndexerMap.size();
+    }
+
+    private static final class Membership<T> {
+
+        private final Object[] elements;
+        private final ElementAwareListEntry<T>[] elementEntries;
+
+        private Membership(Object[] elements, ElementAwareListEntry<T>[] elementEntries) {
+            this.elements = elements;
+            this.elementEntries = elementEntries;
+        }
+
+    }
+
+}
@@ -0,0 +1,71 @@
+package ai.timefold.solver.constraint.streams.bavet.common.index;
+
+/**
+ * Maps the key of an {@link EqualsIndexer} to its downstream indexers.
+ * <p>
+ * The key is read directly from the {@link IndexProperties},
+ * so that specializations can avoid allocating a composite key (such as a Pair or an {@link IndexerKey})
+ * and avoid {@link Object#hashCode()} and {@link Object#equals(Object)} calls on boxed primitives.
+ * The specialization is picked from the type of the first key that is put,
+ * because the type of the joiner mapping is erased.
+ *
+ * @param <T> The element type. Often a tuple.
+ */
+abstract class DownstreamIndexerMap<T> {
+
+    static <T> DownstreamIndexerMap<T> of(int indexKeyFromInclusive, int indexKeyToExclusive,
+            IndexProperties firstIndexProperties) {
+        if (indexKeyToExclusive - indexKeyFromInclusive > 1) {
+            return new CompositeDownstreamIndexerMap<>(indexKeyFromInclusive, indexKeyToExclusive);
+        }
+        Object key = firstIndexProperties.toKey(indexKeyFromInclusive);
+        if (key instanceof Integer) {
+            return new IntDownstreamIndexerMap<>(indexKeyFromInclusive);
+        } else if (key instanceof Long) {
+            return new LongDownstreamIndexerMap<>(indexKeyFromInclusive);
+        } else if (key instanceof Enum) {
+            return new EnumDownstreamIndexerMap<>(indexKeyFromInclusive, ((Enum<?>) key).getDeclaringClass());
+        } else {
+            return new ObjectDownstreamIndexerMap<>(indexKeyFromInclusive);
+        }
+    }
+
+    /**
+     * @param indexProperties never null
+     * @return null if there is no downstream indexer for the key of the index properties
+     */
+    abstract Indexer<T> get(IndexProperties indexProperties);
+
+    /**
+     * @param indexProperties never null, its key must not be in this map yet
+     * @param downstreamIndexer never null
+     * @return false if this specialization can not hold the key of the index properties,
+     *         in which case nothing was put and the caller needs to {@link #generalize()} first.
+     */
+    abstract boolean put(IndexProperties indexProperties, Indexer<T> downstreamIndexer);
+
+    /**
+     * @param indexProperties never null, its key must be in this map
+     */
+    abstract void remove(IndexProperties indexProperties);
+
+    abstract int size();
+
+    final boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * @return never null, a map which accepts any key and contains the same mappings as this one
+     */
+    abstract DownstreamIndexerMap<T> generalize();
+
+    /**
+     * Spreads the bits of the hash, so that linear probing does not degrade with sequential keys.
+     */
+    static int mix(int hash) {
+        int mixed = hash * 0x9E3779B9;
+        return mixed ^ (mixed >>> 16);
+    }
+
+}
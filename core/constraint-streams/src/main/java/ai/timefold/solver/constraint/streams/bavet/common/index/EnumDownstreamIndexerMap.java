@@ -0,0 +1,70 @@
+package ai.timefold.solver.constraint.streams.bavet.common.index;
+
+/**
+ * Dense array indexed by {@link Enum#ordinal()}, for keys of a single enum type.
+ *
+ * @param <T> The element type. Often a tuple.
+ */
+final class EnumDownstreamIndexerMap<T> extends DownstreamIndexerMap<T> {
+
+    private final int indexKeyPosition;
+    private final Class<?> enumClass;
+    private final Object[] enumConstants;
+    private final Indexer<T>[] values;
+    private int size = 0;
+
+    EnumDownstreamIndexerMap(int indexKeyPosition, Class<?> enumClass) {
+        this.indexKeyPosition = indexKeyPosition;
+        this.enumClass = enumClass;
+        this.enumConstants = enumClass.getEnumConstants();
+        this.values = new Indexer[enumConstants.length];
+    }
+
+    @Override
+    Indexer<T> get(IndexProperties indexProperties) {
+        Object key = indexProperties.toKey(indexKeyPosition);
+        if (!isSupported(key)) { // Only constants of the enum class are ever put in this map.
+            return null;
+        }
+        return values[((Enum<?>) key).ordinal()];
+    }
+
+    @Override
+    boolean put(IndexProperties indexProperties, Indexer<T> downstreamIndexer) {
+        Object key = indexProperties.toKey(indexKeyPosition);
+        if (!isSupported(key)) {
+            return false;
+        }
+        values[((Enum<?>) key).ordinal()] = downstreamIndexer;
+        size++;
+        return true;
+    }
+
+    private boolean isSupported(Object key) {
+        return key instanceof Enum && ((Enum<?>) key).getDeclaringClass() == enumClass;
+    }
+
+    @Override
+    void remove(IndexProperties indexProperties) {
+        Enum<?> key = indexProperties.toKey(indexKeyPosition);
+        values[key.ordinal()] = null;
+        size--;
+    }
+
+    @Override
+    int size() {
+        return size;
+    }
+
+    @Override
+    DownstreamIndexerMap<T> generalize() {
+        ObjectDownstreamIndexerMap<T> generalMap = new ObjectDownstreamIndexerMap<>(indexKeyPosition);
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                generalMap.putKey(enumConstants[i], values[i]);
+            }
+        }
+        return generalMap;
+    }
+
+}
@@ -1,19 +1,20 @@
 package ai.timefold.solver.constraint.streams.bavet.common.index;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import ai.timefold.solver.core.impl.util.ElementAwareListEntry;
 
-final class EqualsIndexer<T, Key_> implements Indexer<T> {
+final class EqualsIndexer<T> implements Indexer<T> {
 
     private final int indexKeyFrom;
     private final int indexKeyTo;
     private final Supplier<Indexer<T>> downstreamIndexerSupplier;
-    private final Map<Key_, Indexer<T>> downstreamIndexerMap = new HashMap<>();
+    /**
+     * Null until the first put, as the specialization depends on the type of the first key.
+     */
+    private DownstreamIndexerMap<T> downstreamIndexerMap = null;
 
     public EqualsIndexer(Supplier<Indexer<T>> downstreamIndexerSupplier) {
         this(0, 1, downstreamIndexerSupplier);
@@ -28,29 +29,33 @@ final class EqualsIndexer<T, Key_> implements Indexer<T> {
 
     @Override
     public ElementAwareListEntry<T> put(IndexProperties indexProperties, T tuple) {
-        Key_ indexKey = indexProperties.toKey(indexKeyFrom, indexKeyTo);
+        if (downstreamIndexerMap == null) {
+            downstreamIndexerMap = DownstreamIndexerMap.of(indexKeyFrom, indexKeyTo, indexProperties);
+        }
         // Avoids computeIfAbsent in order to not create lambdas on the hot path.
-        Indexer<T> downstreamIndexer = downstreamIndexerMap.get(indexKey);
+        Indexer<T> downstreamIndexer = downstreamIndexerMap.get(indexProperties);
         if (downstreamIndexer == null) {
             downstreamIndexer = downstreamIndexerSupplier.get();
-            downstreamIndexerMap.put(indexKey, downstreamIndexer);
+            if (!downstreamIndexerMap.put(indexProperties, downstreamIndexer)) {
+                // The key doesn't fit the specialization, such as a null key; happens at most once.
+                downstreamIndexerMap = downstreamIndexerMap.generalize();
+                downstreamIndexerMap.put(indexProperties, downstreamIndexer);
+            }
         }
         return downstreamIndexer.put(indexProperties, tuple);
     }
 
     @Override
     public void remove(IndexProperties indexProperties, ElementAwareListEntry<T> entry) {
-        Key_ indexKey = indexProperties.toKey(indexKeyFrom, indexKeyTo);
-        Indexer<T> downstreamIndexer = getDownstreamIndexer(indexProperties, indexKey, entry);
+        Indexer<T> downstreamIndexer = getDownstreamIndexer(indexProperties, entry);
         downstreamIndexer.remove(indexProperties, entry);
         if (downstreamIndexer.isEmpty()) {
-            downstreamIndexerMap.remove(indexKey);
+            downstreamIndexerMap.remove(indexProperties);
         }
     }
 
-    private Indexer<T> getDownstreamIndexer(IndexProperties indexProperties, Key_ indexerKey,
-            ElementAwareListEntry<T> entry) {
-        Indexer<T> downstreamIndexer = downstreamIndexerMap.get(indexerKey);
+    private Indexer<T> getDownstreamIndexer(IndexProperties indexProperties, ElementAwareListEntry<T> entry) {
+        Indexer<T> downstreamIndexer = downstreamIndexerMap == null ? null : downstreamIndexerMap.get(indexProperties);
         if (downstreamIndexer == null) {
             throw new IllegalStateException("Impossible state: the tuple (" + entry.getElement()
                     + ") with indexProperties (" + indexProperties
@@ -61,8 +66,10 @@ final class EqualsIndexer<T, Key_> implements Indexer<T> {
 
     @Override
     public int size(IndexProperties indexProperties) {
-        Key_ indexKey = indexProperties.toKey(indexKeyFrom, indexKeyTo);
-        Indexer<T> downstreamIndexer = downstreamIndexerMap.get(indexKey);
+        if (downstreamIndexerMap == null) {
+            return 0;
+        }
+        Indexer<T> downstreamIndexer = downstreamIndexerMap.get(indexProperties);
         if (downstreamIndexer == null) {
             return 0;
         }
@@ -71,8 +78,10 @@ final class EqualsIndexer<T, Key_> implements Indexer<T> {
 
     @Override
     public void forEach(IndexProperties indexProperties, Consumer<T> tupleConsumer) {
-        Key_ indexKey = indexProperties.toKey(indexKeyFrom, indexKeyTo);
-        Indexer<T> downstreamIndexer = downstreamIndexerMap.get(indexKey);
+        if (downstreamIndexerMap == null) {
+            return;
+        }
+        Indexer<T> downstreamIndexer = downstreamIndexerMap.get(indexProperties);
         if (downstreamIndexer == null || downstreamIndexer.isEmpty()) {
             return;
         }
@@ -81,12 +90,12 @@ final class EqualsIndexer<T, Key_> implements Indexer<T> {
 
     @Override
     public boolean isEmpty() {
-        return downstreamIndexerMap.isEmpty();
+        return downstreamIndexerMap == null || downstreamIndexerMap.isEmpty();
     }
 
     @Override
     public String toString() {
-        return "size = " + downstreamIndexerMap.size();
+        return "size = " + (downstreamIndexerMap == null ? 0 : downstreamIndexerMap.size());
     }
 
 }
@@ -23,6 +23,10 @@ public class IndexerFactory {
                 case LESS_THAN_OR_EQUAL:
                 case GREATER_THAN:
                 case GREATER_THAN_OR_EQUAL:
+                case CONTAINING:
+                case CONTAINED_IN:
+                case INTERSECTING:
+                case DISJOINT:
                     break;
                 default:
                     throw new UnsupportedOperationException("Unsupported joiner type (" + joinerType + ").");
@@ -47,10 +51,12 @@ public class IndexerFactory {
          */
         if (joinerTypes.length == 0) { // NoneJoiner results in NoneIndexer.
             return new NoneIndexer<>();
-        } else if (joinerTypes.length == 1) { // Single joiner maps directly to EqualsIndexer or ComparisonIndexer.
+        } else if (joinerTypes.length == 1) { // Single joiner maps directly to its indexer.
             JoinerType joinerType = joinerTypes[0];
             if (joinerType == JoinerType.EQUAL) {
                 return new EqualsIndexer<>(NoneIndexer::new);
+            } else if (ContainmentIndexer.isContainment(joinerType)) {
+                return new ContainmentIndexer<>(isLeftBridge ? joinerType : joinerType.flip(), NoneIndexer::new);
             } else {
                 return new ComparisonIndexer<>(isLeftBridge ? joinerType : joinerType.flip(), NoneIndexer::new);
             }
@@ -65,12 +71,25 @@ public class IndexerFactory {
          * the joiner on the right results in an indexer that is a child to the indexer of the joiner on the left.
          * Example: EQUAL+LESS_THAN+EQUAL results in EqualsIndexer -> ComparisonIndexer -> EqualsIndexer.
          *
+         * Rule 3: Two consecutive comparison joiners of opposite direction become a single IntervalIndexer.
+         * Example: EQUAL+LESS_THAN+GREATER_THAN (such as EQUAL+overlapping) results in EqualsIndexer -> IntervalIndexer.
+         * Example: LESS_THAN+GREATER_THAN+LESS_THAN results in IntervalIndexer -> ComparisonIndexer.
+         *
+         * Rule 4: Set-membership joiners (CONTAINING, CONTAINED_IN, INTERSECTING, DISJOINT) each become a ContainmentIndexer.
+         * Example: EQUAL+CONTAINING results in EqualsIndexer -> ContainmentIndexer.
+         *
          * The following code builds the children first, so it needs to iterate over the joiners in reverse order.
          */
         NavigableMap<Integer, JoinerType> joinerTypeMap = new TreeMap<>();
+        boolean previousJoinerTypePaired = false;
         for (int i = 1; i <= joinerTypes.length; i++) {
             JoinerType joinerType = i < joinerTypes.length ? joinerTypes[i] : null;
             JoinerType previousJoinerType = joinerTypes[i - 1];
+            if (!previousJoinerTypePaired && IntervalIndexer.isIntervalPair(previousJoinerType, joinerType)) {
+                previousJoinerTypePaired = true;
+                continue;
+            }
+            previousJoinerTypePaired = false;
             if (joinerType != JoinerType.EQUAL || previousJoinerType != joinerType) {
                 joinerTypeMap.put(i, previousJoinerType);
             }
@@ -97,6 +116,22 @@ public class IndexerFactory {
                 }
                 downstreamIndexerSupplier = () -> new EqualsIndexer<>(previousEndingPropertyExclusive, endingPropertyExclusive,
                         actualDownstreamIndexerSupplier);
+            } else if (ContainmentIndexer.isContainment(joinerType)) {
+                JoinerType actualJoinerType = isLeftBridge ? joinerType : joinerType.flip();
+                downstreamIndexerSupplier = () -> new ContainmentIndexer<>(actualJoinerType,
+                        previousEndingPropertyExclusive, actualDownstreamIndexerSupplier);
+            } else if (endingPropertyExclusive - previousEndingPropertyExclusive == 2) {
+                /*
+                 * Interval indexers always have two keys, one for each comparison joiner of the pair.
+                 *
+                 * Example: For an EQUAL+LESS_THAN+GREATER_THAN joiner, the keys are on positions 1 and 2.
+                 */
+                JoinerType firstJoinerType = joinerTypes[previousEndingPropertyExclusive];
+                JoinerType actualFirstJoinerType = isLeftBridge ? firstJoinerType : firstJoinerType.flip();
+                JoinerType actualSecondJoinerType = isLeftBridge ? joinerType : joinerType.flip();
+                downstreamIndexerSupplier = () -> new IntervalIndexer<>(actualFirstJoinerType,
+                        previousEndingPropertyExclusive, actualSecondJoinerType, previousEndingPropertyExclusive + 1,
+                        actualDownstreamIndexerSupplier);
             } else {
                 JoinerType actualJoinerType = isLeftBridge ? joinerType : joinerType.flip();
                 /*
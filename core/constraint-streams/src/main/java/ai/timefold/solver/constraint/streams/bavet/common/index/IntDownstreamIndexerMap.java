@@ -0,0 +1,124 @@
+package ai.timefold.solver.constraint.streams.bavet.common.index;
+
+/**
+ * Open addressing hash map with linear probing for {@link Integer} keys,
+ * which stores the keys unboxed and never allocates on {@link #get(IndexProperties)}.
+ *
+ * @param <T> The element type. Often a tuple.
+ */
+final class IntDownstreamIndexerMap<T> extends DownstreamIndexerMap<T> {
+
+    private static final int INITIAL_CAPACITY = 16; // Must be a power of 2.
+
+    private final int indexKeyPosition;
+    private int[] keys = new int[INITIAL_CAPACITY];
+    /**
+     * A null value marks an empty slot.
+     */
+    private Indexer<T>[] values = new Indexer[INITIAL_CAPACITY];
+    private int size = 0;
+
+    IntDownstreamIndexerMap(int indexKeyPosition) {
+        this.indexKeyPosition = indexKeyPosition;
+    }
+
+    @Override
+    Indexer<T> get(IndexProperties indexProperties) {
+        Object key = indexProperties.toKey(indexKeyPosition);
+        if (!(key instanceof Integer)) { // Only integers are ever put in this map.
+            return null;
+        }
+        int slot = findSlot((Integer) key);
+        return values[slot];
+    }
+
+    @Override
+    boolean put(IndexProperties indexProperties, Indexer<T> downstreamIndexer) {
+        Object key = indexProperties.toKey(indexKeyPosition);
+        if (!(key instanceof Integer)) {
+            return false;
+        }
+        if ((size + 1) * 2 > values.length) { // Keep the load factor at most 0.5.
+            resize(values.length * 2);
+        }
+        int intKey = (Integer) key;
+        int slot = findSlot(intKey);
+        keys[slot] = intKey;
+        values[slot] = downstreamIndexer;
+        size++;
+        return true;
+    }
+
+    @Override
+    void remove(IndexProperties indexProperties) {
+        int slot = findSlot((Integer) indexProperties.toKey(indexKeyPosition));
+        if (values[slot] == null) {
+            throw new IllegalStateException("Impossible state: the index properties (" + indexProperties
+                    + ") are not in the map.");
+        }
+        // Backward shift deletion, so that no tombstones are needed.
+        int mask = values.length - 1;
+        int emptySlot = slot;
+        int nextSlot = slot;
+        while (true) {
+            nextSlot = (nextSlot + 1) & mask;
+            if (values[nextSlot] == null) {
+                break;
+            }
+            int idealSlot = mix(keys[nextSlot]) & mask;
+            boolean stays = emptySlot <= nextSlot
+                    ? emptySlot < idealSlot && idealSlot <= nextSlot
+                    : emptySlot < idealSlot || idealSlot <= nextSlot;
+            if (!stays) {
+                keys[emptySlot] = keys[nextSlot];
+                values[emptySlot] = values[nextSlot];
+                emptySlot = nextSlot;
+            }
+        }
+        values[emptySlot] = null;
+        size--;
+    }
+
+    /**
+     * @return the slot of the key if it is present, otherwise the empty slot where it would be put
+     */
+    private int findSlot(int key) {
+        int mask = values.length - 1;
+        int slot = mix(key) & mask;
+        while (values[slot] != null && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize(int newCapacity) {
+        int[] oldKeys = keys;
+        Indexer<T>[] oldValues = values;
+        keys = new int[newCapacity];
+        values = new Indexer[newCapacity];
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                int slot = findSlot(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    @Override
+    int size() {
+        return size;
+    }
+
+    @Override
+    DownstreamIndexerMap<T> generalize() {
+        ObjectDownstreamIndexerMap<T> generalMap = new ObjectDownstreamIndexerMap<>(indexKeyPosition);
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                generalMap.putKey(Integer.valueOf(keys[i]), values[i]);
+            }
+        }
+        return generalMap;
+    }
+
+}
@@ -0,0 +1,376 @@
+package ai.timefold.solver.constraint.streams.bavet.common.index;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import ai.timefold.solver.core.impl.score.stream.JoinerType;
+import ai.timefold.solver.core.impl.util.ElementAwareListEntry;
+
+/**
+ * Indexes a pair of comparison joiners of opposite direction,
+ * such as the {@link JoinerType#LESS_THAN} + {@link JoinerType#GREATER_THAN} pair
+ * produced by {@link ai.timefold.solver.core.api.score.stream.Joiners#overlapping}.
+ * <p>
+ * Each indexed element is seen as an interval:
+ * the key compared with a LESS_THAN(_OR_EQUAL) joiner is its start,
+ * the key compared with a GREATER_THAN(_OR_EQUAL) joiner is its end.
+ * The intervals are kept in an AVL tree ordered by start,
+ * where every node caches the maximum end of its subtree.
+ * Subtrees whose maximum end is out of bounds are skipped entirely,
+ * so that {@link #forEach(IndexProperties, Consumer)} only visits the O(log n + k) nodes that matter,
+ * unlike two nested {@link ComparisonIndexer}s which need to visit every start key in bounds.
+ * <p>
+ * Elements which share both start and end are delegated to the same downstream indexer.
+ *
+ * @param <T> The element type. Often a tuple.
+ * @param <Key_> The type of both the start and the end key.
+ */
+final class IntervalIndexer<T, Key_ extends Comparable<Key_>> implements Indexer<T> {
+
+    private final int startKeyPosition;
+    private final boolean startHasOrEquals;
+    private final int endKeyPosition;
+    private final boolean endHasOrEquals;
+    private final Supplier<Indexer<T>> downstreamIndexerSupplier;
+    private Node<T, Key_> root = null;
+    private int nodeCount = 0;
+
+    public IntervalIndexer(JoinerType firstJoinerType, JoinerType secondJoinerType,
+            Supplier<Indexer<T>> downstreamIndexerSupplier) {
+        this(firstJoinerType, 0, secondJoinerType, 1, downstreamIndexerSupplier);
+    }
+
+    public IntervalIndexer(JoinerType firstJoinerType, int firstIndexKeyPosition, JoinerType secondJoinerType,
+            int secondIndexKeyPosition, Supplier<Indexer<T>> downstreamIndexerSupplier) {
+        if (!isIntervalPair(firstJoinerType, secondJoinerType)) {
+            throw new IllegalArgumentException("Impossible state: the joiner types (" + firstJoinerType + ", "
+                    + secondJoinerType + ") are not comparisons of opposite direction.");
+        }
+        if (isLessThan(firstJoinerType)) {
+            this.startKeyPosition = firstIndexKeyPosition;
+            this.startHasOrEquals = firstJoinerType == JoinerType.LESS_THAN_OR_EQUAL;
+            this.endKeyPosition = secondIndexKeyPosition;
+            this.endHasOrEquals = secondJoinerType == JoinerType.GREATER_THAN_OR_EQUAL;
+        } else {
+            this.startKeyPosition = secondIndexKeyPosition;
+            this.startHasOrEquals = secondJoinerType == JoinerType.LESS_THAN_OR_EQUAL;
+            this.endKeyPosition = firstIndexKeyPosition;
+            this.endHasOrEquals = firstJoinerType == JoinerType.GREATER_THAN_OR_EQUAL;
+        }
+        this.downstreamIndexerSupplier = Objects.requireNonNull(downstreamIndexerSupplier);
+    }
+
+    /**
+     * @param firstJoinerType never null
+     * @param secondJoinerType null if there is no second joiner
+     * @return true if both joiner types are comparisons and they compare in opposite directions
+     */
+    static boolean isIntervalPair(JoinerType firstJoinerType, JoinerType secondJoinerType) {
+        if (!isComparison(firstJoinerType) || secondJoinerType == null || !isComparison(secondJoinerType)) {
+            return false;
+        }
+        return isLessThan(firstJoinerType) != isLessThan(secondJoinerType);
+    }
+
+    private static boolean isComparison(JoinerType joinerType) {
+        switch (joinerType) {
+            case LESS_THAN:
+            case LESS_THAN_OR_EQUAL:
+            case GREATER_THAN:
+            case GREATER_THAN_OR_EQUAL:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isLessThan(JoinerType joinerType) {
+        return joinerType == JoinerType.LESS_THAN || joinerType == JoinerType.LESS_THAN_OR_EQUAL;
+    }
+
+    @Override
+    public ElementAwareListEntry<T> put(IndexProperties indexProperties, T tuple) {
+        Key_ startKey = indexProperties.toKey(startKeyPosition);
+        Key_ endKey = indexProperties.toKey(endKeyPosition);
+        Node<T, Key_> node = findNode(startKey);
+        if (node == null) {
+            node = new Node<>(startKey);
+            root = insertNode(root, node);
+            nodeCount++;
+        }
+        // Avoids computeIfAbsent in order to not create lambdas on the hot path.
+        Indexer<T> downstreamIndexer = node.endMap.get(endKey);
+        if (downstreamIndexer == null) {
+            downstreamIndexer = downstreamIndexerSupplier.get();
+            node.endMap.put(endKey, downstreamIndexer);
+            refreshMaxEndOnPath(root, startKey);
+        }
+        return downstreamIndexer.put(indexProperties, tuple);
+    }
+
+    @Override
+    public void remove(IndexProperties indexProperties, ElementAwareListEntry<T> entry) {
+        Key_ startKey = indexProperties.toKey(startKeyPosition);
+        Key_ endKey = indexProperties.toKey(endKeyPosition);
+        Node<T, Key_> node = findNode(startKey);
+        Indexer<T> downstreamIndexer = node == null ? null : node.endMap.get(endKey);
+        if (downstreamIndexer == null) {
+            throw new IllegalStateException("Impossible state: the tuple (" + entry.getElement()
+                    + ") with indexProperties (" + indexProperties
+                    + ") doesn't exist in the indexer " + this + ".");
+        }
+        downstreamIndexer.remove(indexProperties, entry);
+        if (downstreamIndexer.isEmpty()) {
+            node.endMap.remove(endKey);
+            if (node.endMap.isEmpty()) {
+                root = deleteNode(root, startKey);
+                nodeCount--;
+            } else {
+                refreshMaxEndOnPath(root, startKey);
+            }
+        }
+    }
+
+    @Override
+    public int size(IndexProperties indexProperties) {
+        if (root == null) {
+            return 0;
+        }
+        Key_ startBoundary = indexProperties.toKey(startKeyPosition);
+        Key_ endBoundary = indexProperties.toKey(endKeyPosition);
+        return size(root, indexProperties, startBoundary, endBoundary);
+    }
+
+    private int size(Node<T, Key_> node, IndexProperties indexProperties, Key_ startBoundary, Key_ endBoundary) {
+        if (node == null || !isEndInRange(node.maxEnd, endBoundary)) {
+            return 0;
+        }
+        int size = size(node.left, indexProperties, startBoundary, endBoundary);
+        if (isStartInRange(node.start, startBoundary)) {
+            for (Map.Entry<Key_, Indexer<T>> entry : node.endMap.entrySet()) {
+                if (!isEndInRange(entry.getKey(), endBoundary)) { // Ends are iterated from the highest.
+                    break;
+                }
+                size += entry.getValue().size(indexProperties);
+            }
+            // Right subtree starts after this node, so it can only be in range if this node was.
+            size += size(node.right, indexProperties, startBoundary, endBoundary);
+        }
+        return size;
+    }
+
+    @Override
+    public void forEach(IndexProperties indexProperties, Consumer<T> tupleConsumer) {
+        if (root == null) {
+            return;
+        }
+        Key_ startBoundary = indexProperties.toKey(startKeyPosition);
+        Key_ endBoundary = indexProperties.toKey(endKeyPosition);
+        forEach(root, indexProperties, tupleConsumer, startBoundary, endBoundary);
+    }
+
+    private void forEach(Node<T, Key_> node, IndexProperties indexProperties, Consumer<T> tupleConsumer,
+            Key_ startBoundary, Key_ endBoundary) {
+        if (node == null || !isEndInRange(node.maxEnd, endBoundary)) {
+            return;
+        }
+        forEach(node.left, indexProperties, tupleConsumer, startBoundary, endBoundary);
+        if (isStartInRange(node.start, startBoundary)) {
+            for (Map.Entry<Key_, Indexer<T>> entry : node.endMap.entrySet()) {
+                if (!isEndInRange(entry.getKey(), endBoundary)) { // Ends are iterated from the highest.
+                    break;
+                }
+                entry.getValue().forEach(indexProperties, tupleConsumer);
+            }
+            // Right subtree starts after this node, so it can only be in range if this node was.
+            forEach(node.right, indexProperties, tupleConsumer, startBoundary, endBoundary);
+        }
+    }
+
+    private boolean isStartInRange(Key_ start, Key_ startBoundary) {
+        int comparison = compare(start, startBoundary);
+        return comparison < 0 || (comparison == 0 && startHasOrEquals);
+    }
+
+    private boolean isEndInRange(Key_ end, Key_ endBoundary) {
+        int comparison = compare(end, endBoundary);
+        return comparison > 0 || (comparison == 0 && endHasOrEquals);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    @Override
+    public String toString() {
+        return "size = " + nodeCount;
+    }
+
+    // ************************************************************************
+    // AVL tree
+    // ************************************************************************
+
+    private Node<T, Key_> findNode(Key_ startKey) {
+        Node<T, Key_> node = root;
+        while (node != null) {
+            int comparison = compare(startKey, node.start);
+            if (comparison == 0) {
+                return node;
+            }
+            node = comparison < 0 ? node.left : node.right;
+        }
+        return null;
+    }
+
+    private Node<T, Key_> insertNode(Node<T, Key_> subtreeRoot, Node<T, Key_> newNode) {
+        if (subtreeRoot == null) {
+            newNode.refresh();
+            return newNode;
+        }
+        if (compare(newNode.start, subtreeRoot.start) < 0) {
+            subtreeRoot.left = insertNode(subtreeRoot.left, newNode);
+        } else {
+            subtreeRoot.right = insertNode(subtreeRoot.right, newNode);
+        }
+        return rebalance(subtreeRoot);
+    }
+
+    private Node<T, Key_> deleteNode(Node<T, Key_> subtreeRoot, Key_ startKey) {
+        if (subtreeRoot == null) {
+            throw new IllegalStateException("Impossible state: the start key (" + startKey
+                    + ") doesn't exist in the indexer " + this + ".");
+        }
+        int comparison = compare(startKey, subtreeRoot.start);
+        if (comparison < 0) {
+            subtreeRoot.left = deleteNode(subtreeRoot.left, startKey);
+        } else if (comparison > 0) {
+            subtreeRoot.right = deleteNode(subtreeRoot.right, startKey);
+        } else if (subtreeRoot.left == null) {
+            return subtreeRoot.right;
+        } else if (subtreeRoot.right == null) {
+            return subtreeRoot.left;
+        } else {
+            Node<T, Key_> successor = subtreeRoot.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            subtreeRoot.right = detachMin(subtreeRoot.right);
+            successor.left = subtreeRoot.left;
+            successor.right = subtreeRoot.right;
+            subtreeRoot.left = null;
+            subtreeRoot.right = null;
+            return rebalance(successor);
+        }
+        return rebalance(subtreeRoot);
+    }
+
+    private Node<T, Key_> detachMin(Node<T, Key_> subtreeRoot) {
+        if (subtreeRoot.left == null) {
+            return subtreeRoot.right;
+        }
+        subtreeRoot.left = detachMin(subtreeRoot.left);
+        return rebalance(subtreeRoot);
+    }
+
+    private void refreshMaxEndOnPath(Node<T, Key_> node, Key_ startKey) {
+        int comparison = compare(startKey, node.start);
+        if (comparison < 0) {
+            refreshMaxEndOnPath(node.left, startKey);
+        } else if (comparison > 0) {
+            refreshMaxEndOnPath(node.right, startKey);
+        }
+        node.refresh();
+    }
+
+    private Node<T, Key_> rebalance(Node<T, Key_> node) {
+        node.refresh();
+        int balance = Node.height(node.left) - Node.height(node.right);
+        if (balance > 1) {
+            if (Node.height(node.left.left) < Node.height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        } else if (balance < -1) {
+            if (Node.height(node.right.right) < Node.height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private Node<T, Key_> rotateRight(Node<T, Key_> node) {
+        Node<T, Key_> newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        node.refresh();
+        newRoot.refresh();
+        return newRoot;
+    }
+
+    private Node<T, Key_> rotateLeft(Node<T, Key_> node) {
+        Node<T, Key_> newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        node.refresh();
+        newRoot.refresh();
+        return newRoot;
+    }
+
+    private static <Key_ extends Comparable<Key_>> int compare(Key_ a, Key_ b) {
+        if (a == b) {
+            return 0;
+        }
+        return a.compareTo(b);
+    }
+
+    private static final class Node<T, Key_ extends Comparable<Key_>> {
+
+        private final Key_ start;
+        /**
+         * Iterated from the highest end to the lowest, so that iteration can stop at the boundary.
+         */
+        private final NavigableMap<Key_, Indexer<T>> endMap = new TreeMap<>(Comparator.reverseOrder());
+        private Node<T, Key_> left = null;
+        private Node<T, Key_> right = null;
+        private int height = 1;
+        /**
+         * The highest end in this subtree, including this node.
+         * Null only while this node's end map is being populated.
+         */
+        private Key_ maxEnd = null;
+
+        private Node(Key_ start) {
+            this.start = start;
+        }
+
+        private static int height(Node<?, ?> node) {
+            return node == null ? 0 : node.height;
+        }
+
+        private void refresh() {
+            height = 1 + Math.max(height(left), height(right));
+            Key_ newMaxEnd = endMap.isEmpty() ? null : endMap.firstKey();
+            newMaxEnd = max(newMaxEnd, left == null ? null : left.maxEnd);
+            newMaxEnd = max(newMaxEnd, right == null ? null : right.maxEnd);
+            maxEnd = newMaxEnd;
+        }
+
+        private static <Key_ extends Comparable<Key_>> Key_ max(Key_ a, Key_ b) {
+            if (a == null) {
+                return b;
+            } else if (b == null) {
+                return a;
+            }
+            return compare(a, b) >= 0 ? a : b;
+        }
+
+    }
+
+}
@@ -0,0 +1,50 @@
+package ai.timefold.solver.constraint.streams.bavet.common.index;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Accepts any key, including null.
+ *
+ * @param <T> The element type. Often a tuple.
+ */
+final class ObjectDownstreamIndexerMap<T> extends DownstreamIndexerMap<T> {
+
+    private final int indexKeyPosition;
+    private final Map<Object, Indexer<T>> map = new HashMap<>();
+
+    ObjectDownstreamIndexerMap(int indexKeyPosition) {
+        this.indexKeyPosition = indexKeyPosition;
+    }
+
+    @Override
+    Indexer<T> get(IndexProperties indexProperties) {
+        return map.get(indexProperties.toKey(indexKeyPosition));
+    }
+
+    @Override
+    boolean put(IndexProperties indexProperties, Indexer<T> downstreamIndexer) {
+        map.put(indexProperties.toKey(indexKeyPosition), downstreamIndexer);
+        return true;
+    }
+
+    void putKey(Object key, Indexer<T> downstreamIndexer) {
+        map.put(key, downstreamIndexer);
+    }
+
+    @Override
+    void remove(IndexProperties indexProperties) {
+        map.remove(indexProperties.toKey(indexKeyPosition));
+    }
+
+    @Override
+    int size() {
+        return map.size();
+    }
+
+    @Override
+    DownstreamIndexerMap<T> generalize() {
+        return this;
+    }
+
+}
@@ -34,6 +34,13 @@ public abstract class AbstractConditionalTupleLifecycle<Tuple_ extends AbstractT
 
     abstract protected boolean test(Tuple_ tuple);
 
+    /**
+     * @return never null, receives the tuples which pass the test
+     */
+    public final TupleLifecycle<Tuple_> getTupleLifecycle() {
+        return tupleLifecycle;
+    }
+
     @Override
     public String toString() {
         return "Conditional " + tupleLifecycle;
@@ -0,0 +1,145 @@
+package ai.timefold.solver.constraint.streams.bavet.common.tuple;
+
+import java.lang.reflect.InvocationTargetException;
+
+import ai.timefold.solver.core.api.domain.common.DomainAccessType;
+import ai.timefold.solver.core.config.util.ConfigUtils;
+import ai.timefold.solver.core.impl.domain.common.accessor.gizmo.GizmoClassLoader;
+
+/**
+ * Compiles the tuple lifecycle of a stream, which feeds all of its child nodes, into a generated class.
+ * {@link AggregatedTupleLifecycle}, {@link LeftTupleLifecycleImpl} and {@link RightTupleLifecycleImpl}
+ * share their call sites between every stream of the node network,
+ * so in a large constraint provider those call sites are megamorphic and the JIT does not inline them.
+ * A generated class has its own call sites, each of which only ever calls one node,
+ * and it calls the left and right side of a join node directly.
+ * <p>
+ * The generated classes are named after the kind and the class of every node they call,
+ * so classes generated at build time (for example by Quarkus) are found at run time.
+ * (Here as accessing any method of GizmoTupleLifecycleImplementor will try to load Gizmo code)
+ */
+public final class GizmoTupleLifecycleFactory {
+
+    private static final String GENERATED_CLASS_NAME_PREFIX =
+            "ai.timefold.solver.constraint.streams.bavet.generated.TupleLifecycle$";
+
+    /**
+     * @param tupleLifecycles never null, at least 1 element
+     * @param gizmoClassLoader never null
+     * @return never null, the tuple lifecycle which calls all of the tupleLifecycles
+     * @param <Tuple_> the tuple type
+     */
+    public static <Tuple_ extends AbstractTuple> TupleLifecycle<Tuple_> build(TupleLifecycle<Tuple_>[] tupleLifecycles,
+            GizmoClassLoader gizmoClassLoader) {
+        ReceiverKind[] receiverKinds = new ReceiverKind[tupleLifecycles.length];
+        Object[] receivers = new Object[tupleLifecycles.length];
+        for (int i = 0; i < tupleLifecycles.length; i++) {
+            TupleLifecycle<Tuple_> tupleLifecycle = tupleLifecycles[i];
+            if (tupleLifecycle instanceof LeftTupleLifecycleImpl) {
+                receiverKinds[i] = ReceiverKind.LEFT;
+                receivers[i] = ((LeftTupleLifecycleImpl<Tuple_>) tupleLifecycle).getLeftTupleLifecycle();
+            } else if (tupleLifecycle instanceof RightTupleLifecycleImpl) {
+                receiverKinds[i] = ReceiverKind.RIGHT;
+                receivers[i] = ((RightTupleLifecycleImpl<Tuple_>) tupleLifecycle).getRightTupleLifecycle();
+            } else {
+                receiverKinds[i] = ReceiverKind.PLAIN;
+                receivers[i] = tupleLifecycle;
+            }
+        }
+        if (receivers.length == 1 && receiverKinds[0] == ReceiverKind.PLAIN) {
+            return tupleLifecycles[0]; // Nothing to gain.
+        }
+        String className = getGeneratedClassName(receiverKinds, receivers);
+        Class<?> generatedClass = loadGeneratedClass(className, receiverKinds, gizmoClassLoader);
+        if (generatedClass == null) {
+            return tupleLifecycles.length == 1 ? tupleLifecycles[0] : TupleLifecycle.of(tupleLifecycles);
+        }
+        try {
+            return (TupleLifecycle<Tuple_>) generatedClass.getConstructor(Object[].class)
+                    .newInstance((Object) receivers);
+        } catch (InvocationTargetException | InstantiationException | IllegalAccessException | NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @param receiverKinds never null
+     * @param receivers never null, same length as receiverKinds
+     * @return never null
+     */
+    static String getGeneratedClassName(ReceiverKind[] receiverKinds, Object[] receivers) {
+        StringBuilder kindCodes = new StringBuilder(receiverKinds.length);
+        StringBuilder signature = new StringBuilder();
+        for (int i = 0; i < receiverKinds.length; i++) {
+            kindCodes.append(receiverKinds[i].code);
+            signature.append(receiverKinds[i].code).append(receivers[i].getClass().getName()).append(';');
+        }
+        // A hash collision only shares a class between 2 signatures with the same kinds, which still works.
+        return GENERATED_CLASS_NAME_PREFIX + kindCodes + "$" + Integer.toHexString(signature.toString().hashCode());
+    }
+
+    /**
+     * @return null if the class does not exist yet and cannot be generated in a native image
+     */
+    private static Class<?> loadGeneratedClass(String className, ReceiverKind[] receiverKinds,
+            GizmoClassLoader gizmoClassLoader) {
+        if (!gizmoClassLoader.hasBytecodeFor(className)) {
+            try {
+                // Generated at build time.
+                return gizmoClassLoader.loadClass(className);
+            } catch (ClassNotFoundException e) {
+                if (ConfigUtils.isNativeImage()) {
+                    return null;
+                }
+                try {
+                    // Check if Gizmo on the classpath by verifying we can access one of its classes
+                    Class.forName("io.quarkus.gizmo.ClassCreator", false, Thread.currentThread().getContextClassLoader());
+                } catch (ClassNotFoundException gizmoException) {
+                    throw new IllegalStateException("When using the domainAccessType (" +
+                            DomainAccessType.GIZMO +
+                            ") the classpath or modulepath must contain io.quarkus.gizmo:gizmo.\n" +
+                            "Maybe add a dependency to io.quarkus.gizmo:gizmo.");
+                }
+                GizmoTupleLifecycleImplementor.defineTupleLifecycle(className, receiverKinds, gizmoClassLoader);
+            }
+        }
+        try {
+            return gizmoClassLoader.loadClass(className);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * How a generated tuple lifecycle calls a node.
+     */
+    enum ReceiverKind {
+        PLAIN('T', TupleLifecycle.class, "insert", "update", "retract"),
+        LEFT('L', LeftTupleLifecycle.class, "insertLeft", "updateLeft", "retractLeft"),
+        RIGHT('R', RightTupleLifecycle.class, "insertRight", "updateRight", "retractRight");
+
+        final char code;
+        final Class<?> receiverClass;
+        final String insertMethodName;
+        final String updateMethodName;
+        final String retractMethodName;
+
+        ReceiverKind(char code, Class<?> receiverClass, String insertMethodName, String updateMethodName,
+                String retractMethodName) {
+            this.code = code;
+            this.receiverClass = receiverClass;
+            this.insertMethodName = insertMethodName;
+            this.updateMethodName = updateMethodName;
+            this.retractMethodName = retractMethodName;
+        }
+
+    }
+
+    // ************************************************************************
+    // Private constructor
+    // ************************************************************************
+
+    private GizmoTupleLifecycleFactory() {
+    }
+
+}
@@ -0,0 +1,98 @@
+package ai.timefold.solver.constraint.streams.bavet.common.tuple;
+
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.function.Function;
+
+import ai.timefold.solver.constraint.streams.bavet.common.tuple.GizmoTupleLifecycleFactory.ReceiverKind;
+import ai.timefold.solver.core.impl.domain.common.accessor.gizmo.GizmoClassLoader;
+import ai.timefold.solver.core.impl.util.MutableReference;
+
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+
+/**
+ * Generates a {@link TupleLifecycle} which holds every node it calls in a field of its own,
+ * and calls them one after the other.
+ */
+final class GizmoTupleLifecycleImplementor {
+
+    /**
+     * @param className never null
+     * @param receiverKinds never null, how to call every node, in order
+     * @param gizmoClassLoader never null, receives the bytecode
+     */
+    static void defineTupleLifecycle(String className, ReceiverKind[] receiverKinds,
+            GizmoClassLoader gizmoClassLoader) {
+        MutableReference<byte[]> classBytecodeHolder = new MutableReference<>(null);
+        ClassCreator classCreator = ClassCreator.builder()
+                .className(className)
+                .interfaces(TupleLifecycle.class)
+                .superClass(Object.class)
+                .classOutput((path, byteCode) -> classBytecodeHolder.setValue(byteCode))
+                .setFinal(true)
+                .build();
+        FieldDescriptor[] receiverFields = new FieldDescriptor[receiverKinds.length];
+        for (int i = 0; i < receiverKinds.length; i++) {
+            receiverFields[i] = classCreator.getFieldCreator("receiver" + i, receiverKinds[i].receiverClass)
+                    .setModifiers(Modifier.PRIVATE | Modifier.FINAL)
+                    .getFieldDescriptor();
+        }
+        createConstructor(classCreator, receiverKinds, receiverFields);
+        createLifecycleMethod(classCreator, "insert", receiverKinds, receiverFields, kind -> kind.insertMethodName);
+        createLifecycleMethod(classCreator, "update", receiverKinds, receiverFields, kind -> kind.updateMethodName);
+        createLifecycleMethod(classCreator, "retract", receiverKinds, receiverFields, kind -> kind.retractMethodName);
+        createToString(classCreator, receiverKinds);
+        classCreator.close();
+        gizmoClassLoader.storeBytecode(className, classBytecodeHolder.getValue());
+    }
+
+    private static void createConstructor(ClassCreator classCreator, ReceiverKind[] receiverKinds,
+            FieldDescriptor[] receiverFields) {
+        MethodCreator methodCreator =
+                classCreator.getMethodCreator(MethodDescriptor.ofConstructor(classCreator.getClassName(), Object[].class));
+        ResultHandle thisObj = methodCreator.getThis();
+        methodCreator.invokeSpecialMethod(MethodDescriptor.ofConstructor(Object.class), thisObj);
+        ResultHandle receivers = methodCreator.getMethodParam(0);
+        for (int i = 0; i < receiverKinds.length; i++) {
+            ResultHandle receiver = methodCreator.checkCast(methodCreator.readArrayValue(receivers, i),
+                    receiverKinds[i].receiverClass);
+            methodCreator.writeInstanceField(receiverFields[i], thisObj, receiver);
+        }
+        methodCreator.returnValue(null);
+    }
+
+    /**
+     * Every call is a separate call site, so the JIT sees only 1 receiver class on each of them.
+     */
+    private static void createLifecycleMethod(ClassCreator classCreator, String methodName, ReceiverKind[] receiverKinds,
+            FieldDescriptor[] receiverFields, Function<ReceiverKind, String> receiverMethodNameFunction) {
+        MethodCreator methodCreator = classCreator.getMethodCreator(
+                MethodDescriptor.ofMethod(TupleLifecycle.class, methodName, void.class, AbstractTuple.class));
+        ResultHandle tuple = methodCreator.getMethodParam(0);
+        for (int i = 0; i < receiverKinds.length; i++) {
+            ReceiverKind receiverKind = receiverKinds[i];
+            ResultHandle receiver = methodCreator.readInstanceField(receiverFields[i], methodCreator.getThis());
+            methodCreator.invokeInterfaceMethod(MethodDescriptor.ofMethod(receiverKind.receiverClass,
+                    receiverMethodNameFunction.apply(receiverKind), void.class, AbstractTuple.class), receiver, tuple);
+        }
+        methodCreator.returnValue(null);
+    }
+
+    private static void createToString(ClassCreator classCreator, ReceiverKind[] receiverKinds) {
+        MethodCreator methodCreator =
+                classCreator.getMethodCreator(MethodDescriptor.ofMethod(Object.class, "toString", String.class));
+        methodCreator.returnValue(methodCreator.load("Generated " + Arrays.toString(receiverKinds)));
+    }
+
+    // ************************************************************************
+    // Private constructor
+    // ************************************************************************
+
+    private GizmoTupleLifecycleImplementor() {
+    }
+
+}
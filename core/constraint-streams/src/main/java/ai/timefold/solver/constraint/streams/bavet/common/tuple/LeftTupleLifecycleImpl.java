@@ -26,6 +26,10 @@ final class LeftTupleLifecycleImpl<Tuple_ extends AbstractTuple>
         leftTupleLifecycle.retractLeft(tuple);
     }
 
+    LeftTupleLifecycle<Tuple_> getLeftTupleLifecycle() {
+        return leftTupleLifecycle;
+    }
+
     @Override
     public String toString() {
         return "left " + leftTupleLifecycle;
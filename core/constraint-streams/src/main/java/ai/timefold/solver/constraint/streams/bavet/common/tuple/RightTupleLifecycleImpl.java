@@ -26,6 +26,10 @@ final class RightTupleLifecycleImpl<Tuple_ extends AbstractTuple>
         rightTupleLifecycle.retractRight(tuple);
     }
 
+    RightTupleLifecycle<Tuple_> getRightTupleLifecycle() {
+        return rightTupleLifecycle;
+    }
+
     @Override
     public String toString() {
         return "right " + rightTupleLifecycle;
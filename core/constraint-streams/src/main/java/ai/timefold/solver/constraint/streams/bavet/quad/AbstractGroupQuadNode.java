@@ -1,41 +1,62 @@
 package ai.timefold.solver.constraint.streams.bavet.quad;
 
-import java.util.function.Function;
-
 import ai.timefold.solver.constraint.streams.bavet.common.AbstractGroupNode;
+import ai.timefold.solver.constraint.streams.bavet.common.GroupKeyFunction;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.AbstractTuple;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.QuadTuple;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.TupleLifecycle;
 import ai.timefold.solver.core.api.function.PentaFunction;
+import ai.timefold.solver.core.api.function.QuadFunction;
 import ai.timefold.solver.core.api.score.stream.quad.QuadConstraintCollector;
 import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.score.stream.collector.MutableContainerQuadConstraintCollector;
+import ai.timefold.solver.core.impl.score.stream.collector.MutableResultContainer;
 
 abstract class AbstractGroupQuadNode<OldA, OldB, OldC, OldD, OutTuple_ extends AbstractTuple, GroupKey_, ResultContainer_, Result_>
         extends AbstractGroupNode<QuadTuple<OldA, OldB, OldC, OldD>, OutTuple_, GroupKey_, ResultContainer_, Result_> {
 
     private final PentaFunction<ResultContainer_, OldA, OldB, OldC, OldD, Runnable> accumulator;
+    /**
+     * Null unless the collector is a {@link MutableContainerQuadConstraintCollector},
+     * in which case the {@link #accumulator} is bypassed to avoid creating an undo {@link Runnable} per tuple.
+     */
+    private final QuadFunction<? super OldA, ? super OldB, ? super OldC, ? super OldD, ?> valueMapping;
 
     protected AbstractGroupQuadNode(int groupStoreIndex, int undoStoreIndex,
-            Function<QuadTuple<OldA, OldB, OldC, OldD>, GroupKey_> groupKeyFunction,
+            GroupKeyFunction<QuadTuple<OldA, OldB, OldC, OldD>, GroupKey_> groupKeyFunction,
             QuadConstraintCollector<OldA, OldB, OldC, OldD, ResultContainer_, Result_> collector,
             TupleLifecycle<OutTuple_> nextNodesTupleLifecycle, EnvironmentMode environmentMode) {
         super(groupStoreIndex, undoStoreIndex, groupKeyFunction,
                 collector == null ? null : collector.supplier(),
                 collector == null ? null : collector.finisher(),
+                collector instanceof MutableContainerQuadConstraintCollector,
                 nextNodesTupleLifecycle, environmentMode);
-        accumulator = collector == null ? null : collector.accumulator();
+        if (collector instanceof MutableContainerQuadConstraintCollector) {
+            accumulator = null;
+            valueMapping = ((MutableContainerQuadConstraintCollector<OldA, OldB, OldC, OldD, ?, ?, ?>) collector).getValueMapping();
+        } else {
+            accumulator = collector == null ? null : collector.accumulator();
+            valueMapping = null;
+        }
     }
 
     protected AbstractGroupQuadNode(int groupStoreIndex,
-            Function<QuadTuple<OldA, OldB, OldC, OldD>, GroupKey_> groupKeyFunction,
+            GroupKeyFunction<QuadTuple<OldA, OldB, OldC, OldD>, GroupKey_> groupKeyFunction,
             TupleLifecycle<OutTuple_> nextNodesTupleLifecycle, EnvironmentMode environmentMode) {
         super(groupStoreIndex, groupKeyFunction, nextNodesTupleLifecycle, environmentMode);
         accumulator = null;
+        valueMapping = null;
     }
 
     @Override
-    protected final Runnable accumulate(ResultContainer_ resultContainer, QuadTuple<OldA, OldB, OldC, OldD> tuple) {
-        return accumulator.apply(resultContainer, tuple.factA, tuple.factB, tuple.factC, tuple.factD);
+    @SuppressWarnings("unchecked")
+    protected final Object accumulate(ResultContainer_ resultContainer, QuadTuple<OldA, OldB, OldC, OldD> tuple) {
+        if (valueMapping == null) {
+            return accumulator.apply(resultContainer, tuple.factA, tuple.factB, tuple.factC, tuple.factD);
+        }
+        Object value = valueMapping.apply(tuple.factA, tuple.factB, tuple.factC, tuple.factD);
+        ((MutableResultContainer<Object, ?>) resultContainer).insert(value);
+        return value;
     }
 
 }
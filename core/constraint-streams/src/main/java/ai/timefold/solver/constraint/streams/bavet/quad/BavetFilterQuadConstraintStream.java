@@ -30,7 +30,12 @@ final class BavetFilterQuadConstraintStream<Solution_, A, B, C, D>
     @Override
     public <Score_ extends Score<Score_>> void buildNode(NodeBuildHelper<Score_> buildHelper) {
         buildHelper.<QuadTuple<A, B, C, D>> putInsertUpdateRetract(this, childStreamList,
-                tupleLifecycle -> new ConditionalQuadTupleLifecycle<>(predicate, tupleLifecycle));
+                tupleLifecycle -> ConditionalQuadTupleLifecycle.of(predicate, tupleLifecycle));
+    }
+
+    @Override
+    public boolean buildsOwnNode() {
+        return false;
     }
 
     // ************************************************************************
@@ -1,5 +1,6 @@
 package ai.timefold.solver.constraint.streams.bavet.quad;
 
+import java.util.List;
 import java.util.Set;
 
 import ai.timefold.solver.constraint.streams.bavet.BavetConstraintFactory;
@@ -53,6 +54,11 @@ final class BavetIfExistsQuadConstraintStream<Solution_, A, B, C, D, E>
         constraintStreamSet.add(this);
     }
 
+    @Override
+    public List<BavetAbstractConstraintStream<Solution_>> getParentList() {
+        return List.of(parentABCD, parentBridgeE);
+    }
+
     @Override
     public BavetAbstractConstraintStream<Solution_> getTupleSource() {
         return parentABCD.getTupleSource();
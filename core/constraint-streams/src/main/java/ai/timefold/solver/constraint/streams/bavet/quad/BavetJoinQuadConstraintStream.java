@@ -1,5 +1,6 @@
 package ai.timefold.solver.constraint.streams.bavet.quad;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
@@ -54,10 +55,23 @@ public final class BavetJoinQuadConstraintStream<Solution_, A, B, C, D>
         constraintStreamSet.add(this);
     }
 
+    @Override
+    public List<BavetAbstractConstraintStream<Solution_>> getParentList() {
+        return List.of(leftParent, rightParent);
+    }
+
     @Override
     public <Score_ extends Score<Score_>> void buildNode(NodeBuildHelper<Score_> buildHelper) {
         int outputStoreSize = buildHelper.extractTupleStoreSize(this);
         TupleLifecycle<QuadTuple<A, B, C, D>> downstream = buildHelper.getAggregatedTupleLifecycle(childStreamList);
+        QuadPredicate<A, B, C, D> filtering = this.filtering;
+        if (downstream instanceof ConditionalQuadTupleLifecycle) {
+            // The only child is a filter, so the join filters instead and never creates the tuples it would reject.
+            ConditionalQuadTupleLifecycle<A, B, C, D> conditionalDownstream =
+                    (ConditionalQuadTupleLifecycle<A, B, C, D>) downstream;
+            filtering = ConditionalQuadTupleLifecycle.and(filtering, conditionalDownstream.getPredicate());
+            downstream = conditionalDownstream.getTupleLifecycle();
+        }
         IndexerFactory indexerFactory = new IndexerFactory(joiner);
         var node = indexerFactory.hasJoiners()
                 ? new IndexedJoinQuadNode<>(
@@ -78,6 +78,11 @@ final class BavetScoringQuadConstraintStream<Solution_, A, B, C, D>
         buildHelper.putInsertUpdateRetract(this, scorer);
     }
 
+    @Override
+    public boolean buildsOwnNode() {
+        return false;
+    }
+
     private PentaFunction<WeightedScoreImpacter<?, ?>, A, B, C, D, UndoScoreImpacter> buildScoreImpacter() {
         if (intMatchWeigher != null) {
             return (impacter, a, b, c, d) -> {
@@ -14,6 +14,39 @@ final class ConditionalQuadTupleLifecycle<A, B, C, D> extends AbstractConditiona
         this.predicate = predicate;
     }
 
+    /**
+     * Fuses a filter with the filter right after it, if any, so a tuple passes through 1 tuple lifecycle instead of 2.
+     *
+     * @param predicate never null
+     * @param tupleLifecycle never null
+     * @return never null
+     */
+    static <A, B, C, D> ConditionalQuadTupleLifecycle<A, B, C, D> of(QuadPredicate<A, B, C, D> predicate,
+            TupleLifecycle<QuadTuple<A, B, C, D>> tupleLifecycle) {
+        if (tupleLifecycle instanceof ConditionalQuadTupleLifecycle) {
+            ConditionalQuadTupleLifecycle<A, B, C, D> next = (ConditionalQuadTupleLifecycle<A, B, C, D>) tupleLifecycle;
+            return new ConditionalQuadTupleLifecycle<>(and(predicate, next.predicate), next.getTupleLifecycle());
+        }
+        return new ConditionalQuadTupleLifecycle<>(predicate, tupleLifecycle);
+    }
+
+    /**
+     * @param predicate null if there is no predicate, such as the filtering of a join without one
+     * @param otherPredicate never null
+     * @return never null
+     */
+    static <A, B, C, D> QuadPredicate<A, B, C, D> and(QuadPredicate<A, B, C, D> predicate,
+            QuadPredicate<A, B, C, D> otherPredicate) {
+        if (predicate == null) {
+            return otherPredicate;
+        }
+        return (a, b, c, d) -> predicate.test(a, b, c, d) && otherPredicate.test(a, b, c, d);
+    }
+
+    QuadPredicate<A, B, C, D> getPredicate() {
+        return predicate;
+    }
+
     @Override
     protected boolean test(QuadTuple<A, B, C, D> tuple) {
         return predicate.test(tuple.factA, tuple.factB, tuple.factC, tuple.factD);
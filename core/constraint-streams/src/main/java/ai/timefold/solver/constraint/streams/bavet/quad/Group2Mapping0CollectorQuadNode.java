@@ -1,5 +1,6 @@
 package ai.timefold.solver.constraint.streams.bavet.quad;
 
+import ai.timefold.solver.constraint.streams.bavet.common.GroupKeyFunction;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.BiTuple;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.QuadTuple;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.TupleLifecycle;
@@ -15,20 +16,24 @@ final class Group2Mapping0CollectorQuadNode<OldA, OldB, OldC, OldD, A, B>
     public Group2Mapping0CollectorQuadNode(QuadFunction<OldA, OldB, OldC, OldD, A> groupKeyMappingA,
             QuadFunction<OldA, OldB, OldC, OldD, B> groupKeyMappingB, int groupStoreIndex,
             TupleLifecycle<BiTuple<A, B>> nextNodesTupleLifecycle, int outputStoreSize, EnvironmentMode environmentMode) {
-        super(groupStoreIndex, tuple -> createGroupKey(groupKeyMappingA, groupKeyMappingB, tuple), nextNodesTupleLifecycle,
+        super(groupStoreIndex, createGroupKeyFunction(groupKeyMappingA, groupKeyMappingB), nextNodesTupleLifecycle,
                 environmentMode);
         this.outputStoreSize = outputStoreSize;
     }
 
-    static <A, B, OldA, OldB, OldC, OldD> Pair<A, B> createGroupKey(QuadFunction<OldA, OldB, OldC, OldD, A> groupKeyMappingA,
-            QuadFunction<OldA, OldB, OldC, OldD, B> groupKeyMappingB, QuadTuple<OldA, OldB, OldC, OldD> tuple) {
-        OldA oldA = tuple.factA;
-        OldB oldB = tuple.factB;
-        OldC oldC = tuple.factC;
-        OldD oldD = tuple.factD;
-        A a = groupKeyMappingA.apply(oldA, oldB, oldC, oldD);
-        B b = groupKeyMappingB.apply(oldA, oldB, oldC, oldD);
-        return Pair.of(a, b);
+    static <A, B, OldA, OldB, OldC, OldD>
+            GroupKeyFunction<QuadTuple<OldA, OldB, OldC, OldD>, Pair<A, B>> createGroupKeyFunction(
+                    QuadFunction<OldA, OldB, OldC, OldD, A> groupKeyMappingA,
+                    QuadFunction<OldA, OldB, OldC, OldD, B> groupKeyMappingB) {
+        return GroupKeyFunction.ofPair((tuple, groupKey) -> {
+            OldA oldA = tuple.factA;
+            OldB oldB = tuple.factB;
+            OldC oldC = tuple.factC;
+            OldD oldD = tuple.factD;
+            A a = groupKeyMappingA.apply(oldA, oldB, oldC, oldD);
+            B b = groupKeyMappingB.apply(oldA, oldB, oldC, oldD);
+            groupKey.setKey(a).setValue(b);
+        });
     }
 
     @Override
@@ -1,5 +1,6 @@
 package ai.timefold.solver.constraint.streams.bavet.quad;
 
+import ai.timefold.solver.constraint.streams.bavet.common.GroupKeyFunction;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.QuadTuple;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.TriTuple;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.TupleLifecycle;
@@ -17,24 +18,26 @@ final class Group3Mapping0CollectorQuadNode<OldA, OldB, OldC, OldD, A, B, C>
             QuadFunction<OldA, OldB, OldC, OldD, B> groupKeyMappingB, QuadFunction<OldA, OldB, OldC, OldD, C> groupKeyMappingC,
             int groupStoreIndex, TupleLifecycle<TriTuple<A, B, C>> nextNodesTupleLifecycle, int outputStoreSize,
             EnvironmentMode environmentMode) {
-        super(groupStoreIndex, tuple -> createGroupKey(groupKeyMappingA, groupKeyMappingB, groupKeyMappingC, tuple),
+        super(groupStoreIndex, createGroupKeyFunction(groupKeyMappingA, groupKeyMappingB, groupKeyMappingC),
                 nextNodesTupleLifecycle, environmentMode);
         this.outputStoreSize = outputStoreSize;
     }
 
-    static <A, B, C, OldA, OldB, OldC, OldD> Triple<A, B, C> createGroupKey(
-            QuadFunction<OldA, OldB, OldC, OldD, A> groupKeyMappingA,
-            QuadFunction<OldA, OldB, OldC, OldD, B> groupKeyMappingB,
-            QuadFunction<OldA, OldB, OldC, OldD, C> groupKeyMappingC,
-            QuadTuple<OldA, OldB, OldC, OldD> tuple) {
-        OldA oldA = tuple.factA;
-        OldB oldB = tuple.factB;
-        OldC oldC = tuple.factC;
-        OldD oldD = tuple.factD;
-        A a = groupKeyMappingA.apply(oldA, oldB, oldC, oldD);
-        B b = groupKeyMappingB.apply(oldA, oldB, oldC, oldD);
-        C c = groupKeyMappingC.apply(oldA, oldB, oldC, oldD);
-        return Triple.of(a, b, c);
+    static <A, B, C, OldA, OldB, OldC, OldD>
+            GroupKeyFunction<QuadTuple<OldA, OldB, OldC, OldD>, Triple<A, B, C>> createGroupKeyFunction(
+                    QuadFunction<OldA, OldB, OldC, OldD, A> groupKeyMappingA,
+                    QuadFunction<OldA, OldB, OldC, OldD, B> groupKeyMappingB,
+                    QuadFunction<OldA, OldB, OldC, OldD, C> groupKeyMappingC) {
+        return GroupKeyFunction.ofTriple((tuple, groupKey) -> {
+            OldA oldA = tuple.factA;
+            OldB oldB = tuple.factB;
+            OldC oldC = tuple.factC;
+            OldD oldD = tuple.factD;
+            A a = groupKeyMappingA.apply(oldA, oldB, oldC, oldD);
+            B b = groupKeyMappingB.apply(oldA, oldB, oldC, oldD);
+            C c = groupKeyMappingC.apply(oldA, oldB, oldC, oldD);
+            groupKey.setA(a).setB(b).setC(c);
+        });
     }
 
     @Override
@@ -1,5 +1,6 @@
 package ai.timefold.solver.constraint.streams.bavet.quad;
 
+import ai.timefold.solver.constraint.streams.bavet.common.GroupKeyFunction;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.QuadTuple;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.TupleLifecycle;
 import ai.timefold.solver.core.api.function.QuadFunction;
@@ -18,26 +19,28 @@ final class Group4Mapping0CollectorQuadNode<OldA, OldB, OldC, OldD, A, B, C, D>
             TupleLifecycle<QuadTuple<A, B, C, D>> nextNodesTupleLifecycle, int outputStoreSize,
             EnvironmentMode environmentMode) {
         super(groupStoreIndex,
-                tuple -> createGroupKey(groupKeyMappingA, groupKeyMappingB, groupKeyMappingC, groupKeyMappingD, tuple),
+                createGroupKeyFunction(groupKeyMappingA, groupKeyMappingB, groupKeyMappingC, groupKeyMappingD),
                 nextNodesTupleLifecycle, environmentMode);
         this.outputStoreSize = outputStoreSize;
     }
 
-    private static <A, B, C, D, OldA, OldB, OldC, OldD> Quadruple<A, B, C, D> createGroupKey(
-            QuadFunction<OldA, OldB, OldC, OldD, A> groupKeyMappingA,
-            QuadFunction<OldA, OldB, OldC, OldD, B> groupKeyMappingB,
-            QuadFunction<OldA, OldB, OldC, OldD, C> groupKeyMappingC,
-            QuadFunction<OldA, OldB, OldC, OldD, D> groupKeyMappingD,
-            QuadTuple<OldA, OldB, OldC, OldD> tuple) {
-        OldA oldA = tuple.factA;
-        OldB oldB = tuple.factB;
-        OldC oldC = tuple.factC;
-        OldD oldD = tuple.factD;
-        A a = groupKeyMappingA.apply(oldA, oldB, oldC, oldD);
-        B b = groupKeyMappingB.apply(oldA, oldB, oldC, oldD);
-        C c = groupKeyMappingC.apply(oldA, oldB, oldC, oldD);
-        D d = groupKeyMappingD.apply(oldA, oldB, oldC, oldD);
-        return Quadruple.of(a, b, c, d);
+    private static <A, B, C, D, OldA, OldB, OldC, OldD>
+            GroupKeyFunction<QuadTuple<OldA, OldB, OldC, OldD>, Quadruple<A, B, C, D>> createGroupKeyFunction(
+                    QuadFunction<OldA, OldB, OldC, OldD, A> groupKeyMappingA,
+                    QuadFunction<OldA, OldB, OldC, OldD, B> groupKeyMappingB,
+                    QuadFunction<OldA, OldB, OldC, OldD, C> groupKeyMappingC,
+                    QuadFunction<OldA, OldB, OldC, OldD, D> groupKeyMappingD) {
+        return GroupKeyFunction.ofQuadruple((tuple, groupKey) -> {
+            OldA oldA = tuple.factA;
+            OldB oldB = tuple.factB;
+            OldC oldC = tuple.factC;
+            OldD oldD = tuple.factD;
+            A a = groupKeyMappingA.apply(oldA, oldB, oldC, oldD);
+            B b = groupKeyMappingB.apply(oldA, oldB, oldC, oldD);
+            C c = groupKeyMappingC.apply(oldA, oldB, oldC, oldD);
+            D d = groupKeyMappingD.apply(oldA, oldB, oldC, oldD);
+            groupKey.setA(a).setB(b).setC(c).setD(d);
+        });
     }
 
     @Override
@@ -1,40 +1,61 @@
 package ai.timefold.solver.constraint.streams.bavet.tri;
 
-import java.util.function.Function;
-
 import ai.timefold.solver.constraint.streams.bavet.common.AbstractGroupNode;
+import ai.timefold.solver.constraint.streams.bavet.common.GroupKeyFunction;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.AbstractTuple;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.TriTuple;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.TupleLifecycle;
 import ai.timefold.solver.core.api.function.QuadFunction;
+import ai.timefold.solver.core.api.function.TriFunction;
 import ai.timefold.solver.core.api.score.stream.tri.TriConstraintCollector;
 import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.score.stream.collector.MutableContainerTriConstraintCollector;
+import ai.timefold.solver.core.impl.score.stream.collector.MutableResultContainer;
 
 abstract class AbstractGroupTriNode<OldA, OldB, OldC, OutTuple_ extends AbstractTuple, GroupKey_, ResultContainer_, Result_>
         extends AbstractGroupNode<TriTuple<OldA, OldB, OldC>, OutTuple_, GroupKey_, ResultContainer_, Result_> {
 
     private final QuadFunction<ResultContainer_, OldA, OldB, OldC, Runnable> accumulator;
+    /**
+     * Null unless the collector is a {@link MutableContainerTriConstraintCollector},
+     * in which case the {@link #accumulator} is bypassed to avoid creating an undo {@link Runnable} per tuple.
+     */
+    private final TriFunction<? super OldA, ? super OldB, ? super OldC, ?> valueMapping;
 
     protected AbstractGroupTriNode(int groupStoreIndex, int undoStoreIndex,
-            Function<TriTuple<OldA, OldB, OldC>, GroupKey_> groupKeyFunction,
+            GroupKeyFunction<TriTuple<OldA, OldB, OldC>, GroupKey_> groupKeyFunction,
             TriConstraintCollector<OldA, OldB, OldC, ResultContainer_, Result_> collector,
             TupleLifecycle<OutTuple_> nextNodesTupleLifecycle, EnvironmentMode environmentMode) {
         super(groupStoreIndex, undoStoreIndex, groupKeyFunction,
                 collector == null ? null : collector.supplier(),
                 collector == null ? null : collector.finisher(),
+                collector instanceof MutableContainerTriConstraintCollector,
                 nextNodesTupleLifecycle, environmentMode);
-        accumulator = collector == null ? null : collector.accumulator();
+        if (collector instanceof MutableContainerTriConstraintCollector) {
+            accumulator = null;
+            valueMapping = ((MutableContainerTriConstraintCollector<OldA, OldB, OldC, ?, ?, ?>) collector).getValueMapping();
+        } else {
+            accumulator = collector == null ? null : collector.accumulator();
+            valueMapping = null;
+        }
     }
 
-    protected AbstractGroupTriNode(int groupStoreIndex, Function<TriTuple<OldA, OldB, OldC>, GroupKey_> groupKeyFunction,
+    protected AbstractGroupTriNode(int groupStoreIndex, GroupKeyFunction<TriTuple<OldA, OldB, OldC>, GroupKey_> groupKeyFunction,
             TupleLifecycle<OutTuple_> nextNodesTupleLifecycle, EnvironmentMode environmentMode) {
         super(groupStoreIndex, groupKeyFunction, nextNodesTupleLifecycle, environmentMode);
         accumulator = null;
+        valueMapping = null;
     }
 
     @Override
-    protected final Runnable accumulate(ResultContainer_ resultContainer, TriTuple<OldA, OldB, OldC> tuple) {
-        return accumulator.apply(resultContainer, tuple.factA, tuple.factB, tuple.factC);
+    @SuppressWarnings("unchecked")
+    protected final Object accumulate(ResultContainer_ resultContainer, TriTuple<OldA, OldB, OldC> tuple) {
+        if (valueMapping == null) {
+            return accumulator.apply(resultContainer, tuple.factA, tuple.factB, tuple.factC);
+        }
+        Object value = valueMapping.apply(tuple.factA, tuple.factB, tuple.factC);
+        ((MutableResultContainer<Object, ?>) resultContainer).insert(value);
+        return value;
     }
 
 }
@@ -30,7 +30,12 @@ final class BavetFilterTriConstraintStream<Solution_, A, B, C>
     @Override
     public <Score_ extends Score<Score_>> void buildNode(NodeBuildHelper<Score_> buildHelper) {
         buildHelper.<TriTuple<A, B, C>> putInsertUpdateRetract(this, childStreamList,
-                tupleLifecycle -> new ConditionalTriTupleLifecycle<>(predicate, tupleLifecycle));
+                tupleLifecycle -> ConditionalTriTupleLifecycle.of(predicate, tupleLifecycle));
+    }
+
+    @Override
+    public boolean buildsOwnNode() {
+        return false;
     }
 
     // ************************************************************************
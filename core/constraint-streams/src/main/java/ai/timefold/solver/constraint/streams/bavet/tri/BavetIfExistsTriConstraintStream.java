@@ -1,5 +1,6 @@
 package ai.timefold.solver.constraint.streams.bavet.tri;
 
+import java.util.List;
 import java.util.Set;
 
 import ai.timefold.solver.constraint.streams.bavet.BavetConstraintFactory;
@@ -53,6 +54,11 @@ final class BavetIfExistsTriConstraintStream<Solution_, A, B, C, D>
         constraintStreamSet.add(this);
     }
 
+    @Override
+    public List<BavetAbstractConstraintStream<Solution_>> getParentList() {
+        return List.of(parentABC, parentBridgeD);
+    }
+
     @Override
     public BavetAbstractConstraintStream<Solution_> getTupleSource() {
         return parentABC.getTupleSource();
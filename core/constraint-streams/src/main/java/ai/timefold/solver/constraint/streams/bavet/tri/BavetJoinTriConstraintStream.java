@@ -1,5 +1,6 @@
 package ai.timefold.solver.constraint.streams.bavet.tri;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
@@ -54,10 +55,22 @@ public final class BavetJoinTriConstraintStream<Solution_, A, B, C>
         constraintStreamSet.add(this);
     }
 
+    @Override
+    public List<BavetAbstractConstraintStream<Solution_>> getParentList() {
+        return List.of(leftParent, rightParent);
+    }
+
     @Override
     public <Score_ extends Score<Score_>> void buildNode(NodeBuildHelper<Score_> buildHelper) {
         int outputStoreSize = buildHelper.extractTupleStoreSize(this);
         TupleLifecycle<TriTuple<A, B, C>> downstream = buildHelper.getAggregatedTupleLifecycle(childStreamList);
+        TriPredicate<A, B, C> filtering = this.filtering;
+        if (downstream instanceof ConditionalTriTupleLifecycle) {
+            // The only child is a filter, so the join filters instead and never creates the tuples it would reject.
+            ConditionalTriTupleLifecycle<A, B, C> conditionalDownstream = (ConditionalTriTupleLifecycle<A, B, C>) downstream;
+            filtering = ConditionalTriTupleLifecycle.and(filtering, conditionalDownstream.getPredicate());
+            downstream = conditionalDownstream.getTupleLifecycle();
+        }
         IndexerFactory indexerFactory = new IndexerFactory(joiner);
         var node = indexerFactory.hasJoiners()
                 ? new IndexedJoinTriNode<>(
@@ -78,6 +78,11 @@ final class BavetScoringTriConstraintStream<Solution_, A, B, C>
         buildHelper.putInsertUpdateRetract(this, scorer);
     }
 
+    @Override
+    public boolean buildsOwnNode() {
+        return false;
+    }
+
     private QuadFunction<WeightedScoreImpacter<?, ?>, A, B, C, UndoScoreImpacter> buildScoreImpacter() {
         if (intMatchWeigher != null) {
             return (impacter, a, b, c) -> {
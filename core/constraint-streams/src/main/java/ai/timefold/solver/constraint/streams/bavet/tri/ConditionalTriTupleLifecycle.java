@@ -13,6 +13,38 @@ final class ConditionalTriTupleLifecycle<A, B, C> extends AbstractConditionalTup
         this.predicate = predicate;
     }
 
+    /**
+     * Fuses a filter with the filter right after it, if any, so a tuple passes through 1 tuple lifecycle instead of 2.
+     *
+     * @param predicate never null
+     * @param tupleLifecycle never null
+     * @return never null
+     */
+    static <A, B, C> ConditionalTriTupleLifecycle<A, B, C> of(TriPredicate<A, B, C> predicate,
+            TupleLifecycle<TriTuple<A, B, C>> tupleLifecycle) {
+        if (tupleLifecycle instanceof ConditionalTriTupleLifecycle) {
+            ConditionalTriTupleLifecycle<A, B, C> next = (ConditionalTriTupleLifecycle<A, B, C>) tupleLifecycle;
+            return new ConditionalTriTupleLifecycle<>(and(predicate, next.predicate), next.getTupleLifecycle());
+        }
+        return new ConditionalTriTupleLifecycle<>(predicate, tupleLifecycle);
+    }
+
+    /**
+     * @param predicate null if there is no predicate, such as the filtering of a join without one
+     * @param otherPredicate never null
+     * @return never null
+     */
+    static <A, B, C> TriPredicate<A, B, C> and(TriPredicate<A, B, C> predicate, TriPredicate<A, B, C> otherPredicate) {
+        if (predicate == null) {
+            return otherPredicate;
+        }
+        return (a, b, c) -> predicate.test(a, b, c) && otherPredicate.test(a, b, c);
+    }
+
+    TriPredicate<A, B, C> getPredicate() {
+        return predicate;
+    }
+
     @Override
     protected boolean test(TriTuple<A, B, C> tuple) {
         return predicate.test(tuple.factA, tuple.factB, tuple.factC);
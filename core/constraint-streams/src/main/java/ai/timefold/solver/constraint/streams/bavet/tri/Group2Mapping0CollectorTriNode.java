@@ -1,5 +1,6 @@
 package ai.timefold.solver.constraint.streams.bavet.tri;
 
+import ai.timefold.solver.constraint.streams.bavet.common.GroupKeyFunction;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.BiTuple;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.TriTuple;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.TupleLifecycle;
@@ -15,19 +16,21 @@ final class Group2Mapping0CollectorTriNode<OldA, OldB, OldC, A, B>
     public Group2Mapping0CollectorTriNode(TriFunction<OldA, OldB, OldC, A> groupKeyMappingA,
             TriFunction<OldA, OldB, OldC, B> groupKeyMappingB, int groupStoreIndex,
             TupleLifecycle<BiTuple<A, B>> nextNodesTupleLifecycle, int outputStoreSize, EnvironmentMode environmentMode) {
-        super(groupStoreIndex, tuple -> createGroupKey(groupKeyMappingA, groupKeyMappingB, tuple), nextNodesTupleLifecycle,
+        super(groupStoreIndex, createGroupKeyFunction(groupKeyMappingA, groupKeyMappingB), nextNodesTupleLifecycle,
                 environmentMode);
         this.outputStoreSize = outputStoreSize;
     }
 
-    static <A, B, OldA, OldB, OldC> Pair<A, B> createGroupKey(TriFunction<OldA, OldB, OldC, A> groupKeyMappingA,
-            TriFunction<OldA, OldB, OldC, B> groupKeyMappingB, TriTuple<OldA, OldB, OldC> tuple) {
-        OldA oldA = tuple.factA;
-        OldB oldB = tuple.factB;
-        OldC oldC = tuple.factC;
-        A a = groupKeyMappingA.apply(oldA, oldB, oldC);
-        B b = groupKeyMappingB.apply(oldA, oldB, oldC);
-        return Pair.of(a, b);
+    static <A, B, OldA, OldB, OldC> GroupKeyFunction<TriTuple<OldA, OldB, OldC>, Pair<A, B>> createGroupKeyFunction(
+            TriFunction<OldA, OldB, OldC, A> groupKeyMappingA, TriFunction<OldA, OldB, OldC, B> groupKeyMappingB) {
+        return GroupKeyFunction.ofPair((tuple, groupKey) -> {
+            OldA oldA = tuple.factA;
+            OldB oldB = tuple.factB;
+            OldC oldC = tuple.factC;
+            A a = groupKeyMappingA.apply(oldA, oldB, oldC);
+            B b = groupKeyMappingB.apply(oldA, oldB, oldC);
+            groupKey.setKey(a).setValue(b);
+        });
     }
 
     @Override
@@ -1,5 +1,6 @@
 package ai.timefold.solver.constraint.streams.bavet.tri;
 
+import ai.timefold.solver.constraint.streams.bavet.common.GroupKeyFunction;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.TriTuple;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.TupleLifecycle;
 import ai.timefold.solver.core.api.function.TriFunction;
@@ -15,21 +16,23 @@ final class Group3Mapping0CollectorTriNode<OldA, OldB, OldC, A, B, C>
             TriFunction<OldA, OldB, OldC, B> groupKeyMappingB, TriFunction<OldA, OldB, OldC, C> groupKeyMappingC,
             int groupStoreIndex, TupleLifecycle<TriTuple<A, B, C>> nextNodesTupleLifecycle, int outputStoreSize,
             EnvironmentMode environmentMode) {
-        super(groupStoreIndex, tuple -> createGroupKey(groupKeyMappingA, groupKeyMappingB, groupKeyMappingC, tuple),
+        super(groupStoreIndex, createGroupKeyFunction(groupKeyMappingA, groupKeyMappingB, groupKeyMappingC),
                 nextNodesTupleLifecycle, environmentMode);
         this.outputStoreSize = outputStoreSize;
     }
 
-    static <A, B, C, OldA, OldB, OldC> Triple<A, B, C> createGroupKey(TriFunction<OldA, OldB, OldC, A> groupKeyMappingA,
-            TriFunction<OldA, OldB, OldC, B> groupKeyMappingB, TriFunction<OldA, OldB, OldC, C> groupKeyMappingC,
-            TriTuple<OldA, OldB, OldC> tuple) {
-        OldA oldA = tuple.factA;
-        OldB oldB = tuple.factB;
-        OldC oldC = tuple.factC;
-        A a = groupKeyMappingA.apply(oldA, oldB, oldC);
-        B b = groupKeyMappingB.apply(oldA, oldB, oldC);
-        C c = groupKeyMappingC.apply(oldA, oldB, oldC);
-        return Triple.of(a, b, c);
+    static <A, B, C, OldA, OldB, OldC> GroupKeyFunction<TriTuple<OldA, OldB, OldC>, Triple<A, B, C>> createGroupKeyFunction(
+            TriFunction<OldA, OldB, OldC, A> groupKeyMappingA, TriFunction<OldA, OldB, OldC, B> groupKeyMappingB,
+            TriFunction<OldA, OldB, OldC, C> groupKeyMappingC) {
+        return GroupKeyFunction.ofTriple((tuple, groupKey) -> {
+            OldA oldA = tuple.factA;
+            OldB oldB = tuple.factB;
+            OldC oldC = tuple.factC;
+            A a = groupKeyMappingA.apply(oldA, oldB, oldC);
+            B b = groupKeyMappingB.apply(oldA, oldB, oldC);
+            C c = groupKeyMappingC.apply(oldA, oldB, oldC);
+            groupKey.setA(a).setB(b).setC(c);
+        });
     }
 
     @Override
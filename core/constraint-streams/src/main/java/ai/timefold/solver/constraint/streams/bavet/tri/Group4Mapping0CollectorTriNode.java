@@ -1,5 +1,6 @@
 package ai.timefold.solver.constraint.streams.bavet.tri;
 
+import ai.timefold.solver.constraint.streams.bavet.common.GroupKeyFunction;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.QuadTuple;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.TriTuple;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.TupleLifecycle;
@@ -19,25 +20,25 @@ final class Group4Mapping0CollectorTriNode<OldA, OldB, OldC, A, B, C, D>
             TupleLifecycle<QuadTuple<A, B, C, D>> nextNodesTupleLifecycle, int outputStoreSize,
             EnvironmentMode environmentMode) {
         super(groupStoreIndex,
-                tuple -> createGroupKey(groupKeyMappingA, groupKeyMappingB, groupKeyMappingC, groupKeyMappingD, tuple),
+                createGroupKeyFunction(groupKeyMappingA, groupKeyMappingB, groupKeyMappingC, groupKeyMappingD),
                 nextNodesTupleLifecycle, environmentMode);
         this.outputStoreSize = outputStoreSize;
     }
 
-    private static <A, B, C, D, OldA, OldB, OldC> Quadruple<A, B, C, D> createGroupKey(
-            TriFunction<OldA, OldB, OldC, A> groupKeyMappingA,
-            TriFunction<OldA, OldB, OldC, B> groupKeyMappingB,
-            TriFunction<OldA, OldB, OldC, C> groupKeyMappingC,
-            TriFunction<OldA, OldB, OldC, D> groupKeyMappingD,
-            TriTuple<OldA, OldB, OldC> tuple) {
-        OldA oldA = tuple.factA;
-        OldB oldB = tuple.factB;
-        OldC oldC = tuple.factC;
-        A a = groupKeyMappingA.apply(oldA, oldB, oldC);
-        B b = groupKeyMappingB.apply(oldA, oldB, oldC);
-        C c = groupKeyMappingC.apply(oldA, oldB, oldC);
-        D d = groupKeyMappingD.apply(oldA, oldB, oldC);
-        return Quadruple.of(a, b, c, d);
+    private static <A, B, C, D, OldA, OldB, OldC>
+            GroupKeyFunction<TriTuple<OldA, OldB, OldC>, Quadruple<A, B, C, D>> createGroupKeyFunction(
+                    TriFunction<OldA, OldB, OldC, A> groupKeyMappingA, TriFunction<OldA, OldB, OldC, B> groupKeyMappingB,
+                    TriFunction<OldA, OldB, OldC, C> groupKeyMappingC, TriFunction<OldA, OldB, OldC, D> groupKeyMappingD) {
+        return GroupKeyFunction.ofQuadruple((tuple, groupKey) -> {
+            OldA oldA = tuple.factA;
+            OldB oldB = tuple.factB;
+            OldC oldC = tuple.factC;
+            A a = groupKeyMappingA.apply(oldA, oldB, oldC);
+            B b = groupKeyMappingB.apply(oldA, oldB, oldC);
+            C c = groupKeyMappingC.apply(oldA, oldB, oldC);
+            D d = groupKeyMappingD.apply(oldA, oldB, oldC);
+            groupKey.setA(a).setB(b).setC(c).setD(d);
+        });
     }
 
     @Override
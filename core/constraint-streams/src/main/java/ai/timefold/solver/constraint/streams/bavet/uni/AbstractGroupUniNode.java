@@ -4,36 +4,58 @@ import java.util.function.BiFunction;
 import java.util.function.Function;
 
 import ai.timefold.solver.constraint.streams.bavet.common.AbstractGroupNode;
+import ai.timefold.solver.constraint.streams.bavet.common.GroupKeyFunction;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.AbstractTuple;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.TupleLifecycle;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.UniTuple;
 import ai.timefold.solver.core.api.score.stream.uni.UniConstraintCollector;
 import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.score.stream.collector.MutableContainerUniConstraintCollector;
+import ai.timefold.solver.core.impl.score.stream.collector.MutableResultContainer;
 
 abstract class AbstractGroupUniNode<OldA, OutTuple_ extends AbstractTuple, GroupKey_, ResultContainer_, Result_>
         extends AbstractGroupNode<UniTuple<OldA>, OutTuple_, GroupKey_, ResultContainer_, Result_> {
 
     private final BiFunction<ResultContainer_, OldA, Runnable> accumulator;
+    /**
+     * Null unless the collector is a {@link MutableContainerUniConstraintCollector},
+     * in which case the {@link #accumulator} is bypassed to avoid creating an undo {@link Runnable} per tuple.
+     */
+    private final Function<? super OldA, ?> valueMapping;
 
     protected AbstractGroupUniNode(int groupStoreIndex, int undoStoreIndex,
-            Function<UniTuple<OldA>, GroupKey_> groupKeyFunction,
+            GroupKeyFunction<UniTuple<OldA>, GroupKey_> groupKeyFunction,
             UniConstraintCollector<OldA, ResultContainer_, Result_> collector,
             TupleLifecycle<OutTuple_> nextNodesTupleLifecycle, EnvironmentMode environmentMode) {
         super(groupStoreIndex, undoStoreIndex, groupKeyFunction,
                 collector == null ? null : collector.supplier(),
                 collector == null ? null : collector.finisher(),
+                collector instanceof MutableContainerUniConstraintCollector,
                 nextNodesTupleLifecycle, environmentMode);
-        accumulator = collector == null ? null : collector.accumulator();
+        if (collector instanceof MutableContainerUniConstraintCollector) {
+            accumulator = null;
+            valueMapping = ((MutableContainerUniConstraintCollector<OldA, ?, ?, ?>) collector).getValueMapping();
+        } else {
+            accumulator = collector == null ? null : collector.accumulator();
+            valueMapping = null;
+        }
     }
 
-    protected AbstractGroupUniNode(int groupStoreIndex, Function<UniTuple<OldA>, GroupKey_> groupKeyFunction,
+    protected AbstractGroupUniNode(int groupStoreIndex, GroupKeyFunction<UniTuple<OldA>, GroupKey_> groupKeyFunction,
             TupleLifecycle<OutTuple_> nextNodesTupleLifecycle, EnvironmentMode environmentMode) {
         super(groupStoreIndex, groupKeyFunction, nextNodesTupleLifecycle, environmentMode);
         accumulator = null;
+        valueMapping = null;
     }
 
     @Override
-    protected final Runnable accumulate(ResultContainer_ resultContainer, UniTuple<OldA> tuple) {
-        return accumulator.apply(resultContainer, tuple.factA);
+    @SuppressWarnings("unchecked")
+    protected final Object accumulate(ResultContainer_ resultContainer, UniTuple<OldA> tuple) {
+        if (valueMapping == null) {
+            return accumulator.apply(resultContainer, tuple.factA);
+        }
+        Object value = valueMapping.apply(tuple.factA);
+        ((MutableResultContainer<Object, ?>) resultContainer).insert(value);
+        return value;
     }
 }
@@ -28,7 +28,12 @@ final class BavetFilterUniConstraintStream<Solution_, A> extends BavetAbstractUn
     @Override
     public <Score_ extends Score<Score_>> void buildNode(NodeBuildHelper<Score_> buildHelper) {
         buildHelper.<UniTuple<A>> putInsertUpdateRetract(this, childStreamList,
-                tupleLifecycle -> new ConditionalUniTupleLifecycle<>(predicate, tupleLifecycle));
+                tupleLifecycle -> ConditionalUniTupleLifecycle.of(predicate, tupleLifecycle));
+    }
+
+    @Override
+    public boolean buildsOwnNode() {
+        return false;
     }
 
     // ************************************************************************
@@ -1,5 +1,6 @@
 package ai.timefold.solver.constraint.streams.bavet.uni;
 
+import java.util.Objects;
 import java.util.Set;
 
 import ai.timefold.solver.constraint.streams.bavet.BavetConstraintFactory;
@@ -16,11 +17,25 @@ public final class BavetForEachUniConstraintStream<Solution_, A>
         implements TupleSource {
 
     private final Class<A> forEachClass;
+    private final Set<String> variableNameSet;
 
     public BavetForEachUniConstraintStream(BavetConstraintFactory<Solution_> constraintFactory, Class<A> forEachClass,
             RetrievalSemantics retrievalSemantics) {
+        this(constraintFactory, forEachClass, null, retrievalSemantics);
+    }
+
+    /**
+     * @param constraintFactory never null
+     * @param forEachClass never null
+     * @param variableNameSet null if every change of a fact propagates,
+     *        otherwise the names of the only variables whose changes do
+     * @param retrievalSemantics never null
+     */
+    public BavetForEachUniConstraintStream(BavetConstraintFactory<Solution_> constraintFactory, Class<A> forEachClass,
+            Set<String> variableNameSet, RetrievalSemantics retrievalSemantics) {
         super(constraintFactory, retrievalSemantics);
         this.forEachClass = forEachClass;
+        this.variableNameSet = variableNameSet;
         if (forEachClass == null) {
             throw new IllegalArgumentException("The forEachClass (null) cannot be null.");
         }
@@ -44,7 +59,7 @@ public final class BavetForEachUniConstraintStream<Solution_, A>
     public <Score_ extends Score<Score_>> void buildNode(NodeBuildHelper<Score_> buildHelper) {
         TupleLifecycle<UniTuple<A>> tupleLifecycle = buildHelper.getAggregatedTupleLifecycle(childStreamList);
         int outputStoreSize = buildHelper.extractTupleStoreSize(this);
-        buildHelper.addNode(new ForEachUniNode<>(forEachClass, tupleLifecycle, outputStoreSize));
+        buildHelper.addNode(new ForEachUniNode<>(forEachClass, variableNameSet, tupleLifecycle, outputStoreSize));
     }
 
     // ************************************************************************
@@ -53,7 +68,7 @@ public final class BavetForEachUniConstraintStream<Solution_, A>
 
     @Override
     public int hashCode() {
-        return forEachClass.hashCode();
+        return Objects.hash(forEachClass, variableNameSet);
     }
 
     @Override
@@ -62,7 +77,8 @@ public final class BavetForEachUniConstraintStream<Solution_, A>
             return true;
         } else if (o instanceof BavetForEachUniConstraintStream) {
             BavetForEachUniConstraintStream<?, ?> other = (BavetForEachUniConstraintStream<?, ?>) o;
-            return forEachClass.equals(other.forEachClass);
+            return forEachClass.equals(other.forEachClass)
+                    && Objects.equals(variableNameSet, other.variableNameSet);
         } else {
             return false;
         }
@@ -70,7 +86,11 @@ public final class BavetForEachUniConstraintStream<Solution_, A>
 
     @Override
     public String toString() {
-        return "ForEach(" + forEachClass.getSimpleName() + ") with " + childStreamList.size() + " children";
+        if (variableNameSet == null) {
+            return "ForEach(" + forEachClass.getSimpleName() + ") with " + childStreamList.size() + " children";
+        }
+        return "ForEach(" + forEachClass.getSimpleName() + " " + variableNameSet + ") with " + childStreamList.size()
+                + " children";
     }
 
     // ************************************************************************
@@ -81,4 +101,8 @@ public final class BavetForEachUniConstraintStream<Solution_, A>
         return forEachClass;
     }
 
+    public Set<String> getVariableNameSet() {
+        return variableNameSet;
+    }
+
 }
@@ -1,5 +1,6 @@
 package ai.timefold.solver.constraint.streams.bavet.uni;
 
+import java.util.List;
 import java.util.Set;
 import java.util.function.BiPredicate;
 
@@ -51,6 +52,11 @@ final class BavetIfExistsUniConstraintStream<Solution_, A, B> extends BavetAbstr
         constraintStreamSet.add(this);
     }
 
+    @Override
+    public List<BavetAbstractConstraintStream<Solution_>> getParentList() {
+        return List.of(parentA, parentBridgeB);
+    }
+
     @Override
     public BavetAbstractConstraintStream<Solution_> getTupleSource() {
         return parentA.getTupleSource();
@@ -77,6 +77,11 @@ final class BavetScoringUniConstraintStream<Solution_, A>
         buildHelper.putInsertUpdateRetract(this, scorer);
     }
 
+    @Override
+    public boolean buildsOwnNode() {
+        return false;
+    }
+
     private BiFunction<WeightedScoreImpacter<?, ?>, A, UndoScoreImpacter> buildScoreImpacter() {
         if (intMatchWeigher != null) {
             return (impacter, a) -> {
@@ -14,6 +14,34 @@ final class ConditionalUniTupleLifecycle<A> extends AbstractConditionalTupleLife
         this.predicate = predicate;
     }
 
+    /**
+     * Fuses a filter with the filter right after it, if any, so a tuple passes through 1 tuple lifecycle instead of 2.
+     *
+     * @param predicate never null
+     * @param tupleLifecycle never null
+     * @return never null
+     */
+    static <A> ConditionalUniTupleLifecycle<A> of(Predicate<A> predicate,
+            TupleLifecycle<UniTuple<A>> tupleLifecycle) {
+        if (tupleLifecycle instanceof ConditionalUniTupleLifecycle) {
+            ConditionalUniTupleLifecycle<A> next = (ConditionalUniTupleLifecycle<A>) tupleLifecycle;
+            return new ConditionalUniTupleLifecycle<>(and(predicate, next.predicate), next.getTupleLifecycle());
+        }
+        return new ConditionalUniTupleLifecycle<>(predicate, tupleLifecycle);
+    }
+
+    /**
+     * @param predicate null if there is no predicate
+     * @param otherPredicate never null
+     * @return never null
+     */
+    static <A> Predicate<A> and(Predicate<A> predicate, Predicate<A> otherPredicate) {
+        if (predicate == null) {
+            return otherPredicate;
+        }
+        return a -> predicate.test(a) && otherPredicate.test(a);
+    }
+
     @Override
     protected boolean test(UniTuple<A> tuple) {
         return predicate.test(tuple.factA);
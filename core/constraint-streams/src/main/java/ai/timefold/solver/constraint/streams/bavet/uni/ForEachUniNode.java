@@ -1,9 +1,9 @@
 package ai.timefold.solver.constraint.streams.bavet.uni;
 
 import java.util.ArrayDeque;
-import java.util.IdentityHashMap;
-import java.util.Map;
+import java.util.List;
 import java.util.Queue;
+import java.util.Set;
 
 import ai.timefold.solver.constraint.streams.bavet.common.AbstractNode;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.TupleLifecycle;
@@ -13,59 +13,95 @@ import ai.timefold.solver.constraint.streams.bavet.common.tuple.UniTuple;
 public final class ForEachUniNode<A> extends AbstractNode {
 
     private final Class<A> forEachClass;
+    /**
+     * Null if every change of a fact propagates, otherwise the names of the only variables whose changes do.
+     */
+    private final Set<String> variableNameSet;
     /**
      * Calls for example {@link UniScorer#insert(UniTuple)}, and/or ...
      */
     private final TupleLifecycle<UniTuple<A>> nextNodesTupleLifecycle;
     private final int outputStoreSize;
 
-    private final Map<A, UniTuple<A>> tupleMap = new IdentityHashMap<>(1000);
-    private final Queue<UniTuple<A>> dirtyTupleQueue;
+    private Queue<UniTuple<A>> dirtyTupleQueue;
 
-    public ForEachUniNode(Class<A> forEachClass, TupleLifecycle<UniTuple<A>> nextNodesTupleLifecycle, int outputStoreSize) {
+    public ForEachUniNode(Class<A> forEachClass, Set<String> variableNameSet,
+            TupleLifecycle<UniTuple<A>> nextNodesTupleLifecycle, int outputStoreSize) {
         this.forEachClass = forEachClass;
+        this.variableNameSet = variableNameSet;
         this.nextNodesTupleLifecycle = nextNodesTupleLifecycle;
         this.outputStoreSize = outputStoreSize;
         dirtyTupleQueue = new ArrayDeque<>(1000);
     }
 
-    public void insert(A a) {
+    /**
+     * The node doesn't keep track of which fact belongs to which tuple,
+     * so the caller needs to hold on to the returned tuple to update or retract the fact later.
+     *
+     * @param a never null
+     * @return never null, the tuple to pass to {@link #update(UniTuple)} and {@link #retract(UniTuple)}
+     */
+    public UniTuple<A> insert(A a) {
         UniTuple<A> tuple = new UniTuple<>(a, outputStoreSize);
-        UniTuple<A> old = tupleMap.put(a, tuple);
-        if (old != null) {
-            throw new IllegalStateException("The fact (" + a + ") was already inserted, so it cannot insert again.");
-        }
         dirtyTupleQueue.add(tuple);
+        schedulePropagation();
+        return tuple;
     }
 
-    public void update(A a) {
-        UniTuple<A> tuple = tupleMap.get(a);
-        if (tuple == null) {
-            throw new IllegalStateException("The fact (" + a + ") was never inserted, so it cannot update.");
+    /**
+     * As defined by {@link #insert(Object)}, for every fact,
+     * but sizes the dirty queue once when it is empty, instead of growing it fact by fact.
+     * Useful when a new working solution is set.
+     *
+     * @param facts never null
+     * @return never null, the tuples in the order of the facts
+     */
+    public UniTuple<A>[] insertAll(List<A> facts) {
+        UniTuple<A>[] tuples = new UniTuple[facts.size()];
+        if (tuples.length == 0) {
+            return tuples;
         }
+        if (dirtyTupleQueue.isEmpty()) {
+            dirtyTupleQueue = new ArrayDeque<>(tuples.length);
+        }
+        for (int i = 0; i < tuples.length; i++) {
+            UniTuple<A> tuple = new UniTuple<>(facts.get(i), outputStoreSize);
+            dirtyTupleQueue.add(tuple);
+            tuples[i] = tuple;
+        }
+        schedulePropagation();
+        return tuples;
+    }
+
+    /**
+     * @param tuple never null, as returned by {@link #insert(Object)}
+     */
+    public void update(UniTuple<A> tuple) {
         if (tuple.state.isDirty()) {
             if (tuple.state == TupleState.DYING || tuple.state == TupleState.ABORTING) {
-                throw new IllegalStateException("The fact (" + a + ") was retracted, so it cannot update.");
+                throw new IllegalStateException("The fact (" + tuple.factA + ") was retracted, so it cannot update.");
             }
         } else {
             tuple.state = TupleState.UPDATING;
             dirtyTupleQueue.add(tuple);
+            schedulePropagation();
         }
     }
 
-    public void retract(A a) {
-        UniTuple<A> tuple = tupleMap.remove(a);
-        if (tuple == null) {
-            throw new IllegalStateException("The fact (" + a + ") was never inserted, so it cannot retract.");
-        }
+    /**
+     * @param tuple never null, as returned by {@link #insert(Object)}
+     */
+    public void retract(UniTuple<A> tuple) {
         if (tuple.state.isDirty()) {
             if (tuple.state == TupleState.DYING || tuple.state == TupleState.ABORTING) {
-                throw new IllegalStateException("The fact (" + a + ") was already retracted, so it cannot retract.");
+                throw new IllegalStateException("The fact (" + tuple.factA
+                        + ") was already retracted, so it cannot retract.");
             }
             tuple.state = TupleState.ABORTING;
         } else {
             tuple.state = TupleState.DYING;
             dirtyTupleQueue.add(tuple);
+            schedulePropagation();
         }
     }
 
@@ -75,6 +111,7 @@ public final class ForEachUniNode<A> extends AbstractNode {
             switch (tuple.state) {
                 case CREATING:
                     nextNodesTupleLifecycle.insert(tuple);
+                    liveTupleCount++;
                     tuple.state = TupleState.OK;
                     break;
                 case UPDATING:
@@ -83,6 +120,7 @@ public final class ForEachUniNode<A> extends AbstractNode {
                     break;
                 case DYING:
                     nextNodesTupleLifecycle.retract(tuple);
+                    liveTupleCount--;
                     tuple.state = TupleState.DEAD;
                     break;
                 case ABORTING:
@@ -100,11 +138,29 @@ public final class ForEachUniNode<A> extends AbstractNode {
 
     @Override
     public String toString() {
-        return super.toString() + "(" + forEachClass.getSimpleName() + ")";
+        if (variableNameSet == null) {
+            return super.toString() + "(" + forEachClass.getSimpleName() + ")";
+        }
+        return super.toString() + "(" + forEachClass.getSimpleName() + " " + variableNameSet + ")";
     }
 
     public Class<A> getForEachClass() {
         return forEachClass;
     }
 
+    /**
+     * @param variableName never null
+     * @return true if a change of that variable of a fact must be propagated through this node
+     */
+    public boolean isReactingTo(String variableName) {
+        return variableNameSet == null || variableNameSet.contains(variableName);
+    }
+
+    /**
+     * @return null if every change of a fact propagates through this node
+     */
+    public Set<String> getVariableNameSet() {
+        return variableNameSet;
+    }
+
 }
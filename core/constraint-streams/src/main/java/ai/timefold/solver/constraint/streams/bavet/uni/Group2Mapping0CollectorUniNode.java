@@ -2,6 +2,7 @@ package ai.timefold.solver.constraint.streams.bavet.uni;
 
 import java.util.function.Function;
 
+import ai.timefold.solver.constraint.streams.bavet.common.GroupKeyFunction;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.BiTuple;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.TupleLifecycle;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.UniTuple;
@@ -16,17 +17,19 @@ final class Group2Mapping0CollectorUniNode<OldA, A, B>
     public Group2Mapping0CollectorUniNode(Function<OldA, A> groupKeyMappingA, Function<OldA, B> groupKeyMappingB,
             int groupStoreIndex, TupleLifecycle<BiTuple<A, B>> nextNodesTupleLifecycle, int outputStoreSize,
             EnvironmentMode environmentMode) {
-        super(groupStoreIndex, tuple -> createGroupKey(groupKeyMappingA, groupKeyMappingB, tuple), nextNodesTupleLifecycle,
+        super(groupStoreIndex, createGroupKeyFunction(groupKeyMappingA, groupKeyMappingB), nextNodesTupleLifecycle,
                 environmentMode);
         this.outputStoreSize = outputStoreSize;
     }
 
-    static <A, B, OldA> Pair<A, B> createGroupKey(Function<OldA, A> groupKeyMappingA, Function<OldA, B> groupKeyMappingB,
-            UniTuple<OldA> tuple) {
-        OldA oldA = tuple.factA;
-        A a = groupKeyMappingA.apply(oldA);
-        B b = groupKeyMappingB.apply(oldA);
-        return Pair.of(a, b);
+    static <A, B, OldA> GroupKeyFunction<UniTuple<OldA>, Pair<A, B>> createGroupKeyFunction(
+            Function<OldA, A> groupKeyMappingA, Function<OldA, B> groupKeyMappingB) {
+        return GroupKeyFunction.ofPair((tuple, groupKey) -> {
+            OldA oldA = tuple.factA;
+            A a = groupKeyMappingA.apply(oldA);
+            B b = groupKeyMappingB.apply(oldA);
+            groupKey.setKey(a).setValue(b);
+        });
     }
 
     @Override
@@ -1,7 +1,7 @@
 package ai.timefold.solver.constraint.streams.bavet.uni;
 
 import static ai.timefold.solver.constraint.streams.bavet.uni.Group0Mapping2CollectorUniNode.mergeCollectors;
-import static ai.timefold.solver.constraint.streams.bavet.uni.Group2Mapping0CollectorUniNode.createGroupKey;
+import static ai.timefold.solver.constraint.streams.bavet.uni.Group2Mapping0CollectorUniNode.createGroupKeyFunction;
 
 import java.util.function.Function;
 
@@ -22,7 +22,7 @@ final class Group2Mapping2CollectorUniNode<OldA, A, B, C, D, ResultContainerC_,
             UniConstraintCollector<OldA, ResultContainerD_, D> collectorD,
             TupleLifecycle<QuadTuple<A, B, C, D>> nextNodesTupleLifecycle, int outputStoreSize,
             EnvironmentMode environmentMode) {
-        super(groupStoreIndex, undoStoreIndex, tuple -> createGroupKey(groupKeyMappingA, groupKeyMappingB, tuple),
+        super(groupStoreIndex, undoStoreIndex, createGroupKeyFunction(groupKeyMappingA, groupKeyMappingB),
                 mergeCollectors(collectorC, collectorD), nextNodesTupleLifecycle, environmentMode);
         this.outputStoreSize = outputStoreSize;
     }
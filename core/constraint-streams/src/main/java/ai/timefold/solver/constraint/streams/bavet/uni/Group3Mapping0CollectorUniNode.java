@@ -2,6 +2,7 @@ package ai.timefold.solver.constraint.streams.bavet.uni;
 
 import java.util.function.Function;
 
+import ai.timefold.solver.constraint.streams.bavet.common.GroupKeyFunction;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.TriTuple;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.TupleLifecycle;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.UniTuple;
@@ -16,18 +17,20 @@ final class Group3Mapping0CollectorUniNode<OldA, A, B, C>
     public Group3Mapping0CollectorUniNode(Function<OldA, A> groupKeyMappingA, Function<OldA, B> groupKeyMappingB,
             Function<OldA, C> groupKeyMappingC, int groupStoreIndex, TupleLifecycle<TriTuple<A, B, C>> nextNodesTupleLifecycle,
             int outputStoreSize, EnvironmentMode environmentMode) {
-        super(groupStoreIndex, tuple -> createGroupKey(groupKeyMappingA, groupKeyMappingB, groupKeyMappingC, tuple),
+        super(groupStoreIndex, createGroupKeyFunction(groupKeyMappingA, groupKeyMappingB, groupKeyMappingC),
                 nextNodesTupleLifecycle, environmentMode);
         this.outputStoreSize = outputStoreSize;
     }
 
-    static <A, B, C, OldA> Triple<A, B, C> createGroupKey(Function<OldA, A> groupKeyMappingA,
-            Function<OldA, B> groupKeyMappingB, Function<OldA, C> groupKeyMappingC, UniTuple<OldA> tuple) {
-        OldA oldA = tuple.factA;
-        A a = groupKeyMappingA.apply(oldA);
-        B b = groupKeyMappingB.apply(oldA);
-        C c = groupKeyMappingC.apply(oldA);
-        return Triple.of(a, b, c);
+    static <A, B, C, OldA> GroupKeyFunction<UniTuple<OldA>, Triple<A, B, C>> createGroupKeyFunction(
+            Function<OldA, A> groupKeyMappingA, Function<OldA, B> groupKeyMappingB, Function<OldA, C> groupKeyMappingC) {
+        return GroupKeyFunction.ofTriple((tuple, groupKey) -> {
+            OldA oldA = tuple.factA;
+            A a = groupKeyMappingA.apply(oldA);
+            B b = groupKeyMappingB.apply(oldA);
+            C c = groupKeyMappingC.apply(oldA);
+            groupKey.setA(a).setB(b).setC(c);
+        });
     }
 
     @Override
@@ -2,6 +2,7 @@ package ai.timefold.solver.constraint.streams.bavet.uni;
 
 import java.util.function.Function;
 
+import ai.timefold.solver.constraint.streams.bavet.common.GroupKeyFunction;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.QuadTuple;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.TupleLifecycle;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.UniTuple;
@@ -19,20 +20,22 @@ final class Group4Mapping0CollectorUniNode<OldA, A, B, C, D>
             TupleLifecycle<QuadTuple<A, B, C, D>> nextNodesTupleLifecycle, int outputStoreSize,
             EnvironmentMode environmentMode) {
         super(groupStoreIndex,
-                tuple -> createGroupKey(groupKeyMappingA, groupKeyMappingB, groupKeyMappingC, groupKeyMappingD, tuple),
+                createGroupKeyFunction(groupKeyMappingA, groupKeyMappingB, groupKeyMappingC, groupKeyMappingD),
                 nextNodesTupleLifecycle, environmentMode);
         this.outputStoreSize = outputStoreSize;
     }
 
-    private static <A, B, C, D, OldA> Quadruple<A, B, C, D> createGroupKey(Function<OldA, A> groupKeyMappingA,
-            Function<OldA, B> groupKeyMappingB, Function<OldA, C> groupKeyMappingC, Function<OldA, D> groupKeyMappingD,
-            UniTuple<OldA> tuple) {
-        OldA oldA = tuple.factA;
-        A a = groupKeyMappingA.apply(oldA);
-        B b = groupKeyMappingB.apply(oldA);
-        C c = groupKeyMappingC.apply(oldA);
-        D d = groupKeyMappingD.apply(oldA);
-        return Quadruple.of(a, b, c, d);
+    private static <A, B, C, D, OldA> GroupKeyFunction<UniTuple<OldA>, Quadruple<A, B, C, D>> createGroupKeyFunction(
+            Function<OldA, A> groupKeyMappingA, Function<OldA, B> groupKeyMappingB, Function<OldA, C> groupKeyMappingC,
+            Function<OldA, D> groupKeyMappingD) {
+        return GroupKeyFunction.ofQuadruple((tuple, groupKey) -> {
+            OldA oldA = tuple.factA;
+            A a = groupKeyMappingA.apply(oldA);
+            B b = groupKeyMappingB.apply(oldA);
+            C c = groupKeyMappingC.apply(oldA);
+            D d = groupKeyMappingD.apply(oldA);
+            groupKey.setA(a).setB(b).setC(c).setD(d);
+        });
     }
 
     @Override
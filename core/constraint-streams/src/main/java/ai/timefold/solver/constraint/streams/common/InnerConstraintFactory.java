@@ -5,10 +5,12 @@ import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toList;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -36,6 +38,46 @@ public abstract class InnerConstraintFactory<Solution_, Constraint_ extends Cons
         return nullityFilter == null ? stream : stream.filter(nullityFilter);
     }
 
+    @Override
+    public <A> UniConstraintStream<A> forEach(Class<A> sourceClass, String... variableNames) {
+        UniConstraintStream<A> stream = forEachIncludingNullVars(sourceClass,
+                buildReactiveVariableNameSet(sourceClass, variableNames));
+        Predicate<A> nullityFilter = getNullityFilter(sourceClass);
+        return nullityFilter == null ? stream : stream.filter(nullityFilter);
+    }
+
+    private Set<String> buildReactiveVariableNameSet(Class<?> sourceClass, String... variableNames) {
+        EntityDescriptor<Solution_> entityDescriptor = getSolutionDescriptor().findEntityDescriptor(sourceClass);
+        if (entityDescriptor == null) {
+            throw new IllegalArgumentException("The sourceClass (" + sourceClass.getCanonicalName()
+                    + ") is not a planning entity class, so it has no variables (" + Arrays.toString(variableNames)
+                    + ") to react to.\n"
+                    + "Maybe use forEach(" + sourceClass.getSimpleName() + ".class) instead.");
+        }
+        // Sorted, so the same variables in another order share the same node.
+        Set<String> variableNameSet = new TreeSet<>();
+        for (String variableName : variableNames) {
+            if (!entityDescriptor.hasVariableDescriptor(variableName)) {
+                throw new IllegalArgumentException(entityDescriptor.buildInvalidVariableNameExceptionMessage(variableName));
+            }
+            variableNameSet.add(variableName);
+        }
+        // The nullity filter reads every genuine variable.
+        variableNameSet.addAll(entityDescriptor.getGenuineVariableNameSet());
+        return Collections.unmodifiableSet(variableNameSet);
+    }
+
+    /**
+     * As defined by {@link #forEachIncludingNullVars(Class)},
+     * but only propagating the changes of the given variables.
+     *
+     * @param sourceClass never null, a planning entity class
+     * @param variableNameSet never null, the names of the genuine or shadow variables to propagate the changes of
+     * @param <A> the type of the matched planning entity
+     * @return never null
+     */
+    public abstract <A> UniConstraintStream<A> forEachIncludingNullVars(Class<A> sourceClass, Set<String> variableNameSet);
+
     public <A> Predicate<A> getNullityFilter(Class<A> fromClass) {
         EntityDescriptor<Solution_> entityDescriptor = getSolutionDescriptor().findEntityDescriptor(fromClass);
         if (entityDescriptor != null && entityDescriptor.hasAnyGenuineVariables()) {
@@ -1,8 +1,13 @@
 package ai.timefold.solver.constraint.streams.common.inliner;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.function.Supplier;
 
@@ -110,8 +115,35 @@ public abstract class AbstractScoreInliner<Score_ extends Score<Score_>> {
     protected final boolean constraintMatchEnabled;
     protected final Map<Constraint, Score_> constraintWeightMap;
     private final Map<Constraint, ElementAwareList<ConstraintMatchCarrier<Score_>>> constraintMatchMap;
+    /**
+     * Null until requested, and again after too many changes piled up since it was last requested.
+     * Once built, it is updated from the {@link #changedCarrierList}:
+     * in place while it was not handed out yet, otherwise in a copy.
+     */
     private Map<String, ConstraintMatchTotal<Score_>> constraintMatchTotalMap = null;
+    /**
+     * Built and updated together with {@link #constraintMatchTotalMap}.
+     */
     private Map<Object, Indictment<Score_>> indictmentMap = null;
+    /**
+     * True if the {@link #constraintMatchTotalMap} was handed out since its last update.
+     * Neither that map nor its totals change anymore, the next update copies what it changes.
+     */
+    private boolean constraintMatchTotalMapShared = false;
+    /**
+     * As defined by {@link #constraintMatchTotalMapShared}, for the {@link #indictmentMap}.
+     */
+    private boolean indictmentMapShared = false;
+    /**
+     * Only during an update of a shared map, the totals and indictments which are not shared.
+     */
+    private Set<Object> unsharedSet = null;
+    /**
+     * The constraint matches added or removed since the maps were last brought up to date.
+     * Only filled while the maps exist.
+     */
+    private final List<ConstraintMatchCarrier<Score_>> changedCarrierList;
+    private int constraintMatchCount = 0;
 
     protected AbstractScoreInliner(Map<Constraint, Score_> constraintWeightMap, boolean constraintMatchEnabled) {
         this.constraintMatchEnabled = constraintMatchEnabled;
@@ -119,6 +151,7 @@ public abstract class AbstractScoreInliner<Score_ extends Score<Score_>> {
         this.constraintWeightMap = constraintWeightMap;
         this.constraintMatchMap =
                 constraintMatchEnabled ? CollectionUtils.newIdentityHashMap(constraintWeightMap.size()) : null;
+        this.changedCarrierList = constraintMatchEnabled ? new ArrayList<>() : null;
     }
 
     private void validateConstraintWeight(Constraint constraint, Score_ constraintWeight) {
@@ -131,6 +164,19 @@ public abstract class AbstractScoreInliner<Score_ extends Score<Score_>> {
 
     public abstract Score_ extractScore(int initScore);
 
+    /**
+     * Compares the score which {@link #extractScore(int)} would return to another score.
+     * Subclasses which keep their levels in primitive fields override this to avoid creating a {@link Score} instance,
+     * which matters when most of the calculated scores are only compared and then thrown away.
+     *
+     * @param initScore {@code <= 0}
+     * @param otherScore never null
+     * @return same as {@link Score#compareTo(Object)}
+     */
+    public int compareScoreTo(int initScore, Score_ otherScore) {
+        return extractScore(initScore).compareTo(otherScore);
+    }
+
     /**
      * Create a new instance of {@link WeightedScoreImpacter} for a particular constraint.
      *
@@ -146,16 +192,34 @@ public abstract class AbstractScoreInliner<Score_ extends Score<Score_>> {
          * Creating a constraint match is a heavy operation which may yet be undone.
          * Defer creation of the constraint match until a later point.
          */
-        ElementAwareListEntry<ConstraintMatchCarrier<Score_>> entry =
-                constraintMatchList.add(new ConstraintMatchCarrier<>(constraintMatchSupplier, constraint, score));
-        clearMaps();
+        ConstraintMatchCarrier<Score_> carrier = new ConstraintMatchCarrier<>(constraintMatchSupplier, constraint, score);
+        ElementAwareListEntry<ConstraintMatchCarrier<Score_>> entry = constraintMatchList.add(carrier);
+        constraintMatchCount++;
+        if (constraintMatchTotalMap != null) {
+            addChangedCarrier(carrier);
+        }
         return () -> {
             undoScoreImpact.run();
             entry.remove();
-            clearMaps();
+            constraintMatchCount--;
+            carrier.removed = true;
+            // A carrier which is not applied yet is either already in the changedCarrierList, or the maps don't exist.
+            if (constraintMatchTotalMap != null && carrier.applied) {
+                addChangedCarrier(carrier);
+            }
         };
     }
 
+    private void addChangedCarrier(ConstraintMatchCarrier<Score_> carrier) {
+        changedCarrierList.add(carrier);
+        if (changedCarrierList.size() > constraintMatchCount + 1024) {
+            // Nobody asked for the maps in a long while; a rebuild on the next request is cheaper than keeping up.
+            constraintMatchTotalMap = null;
+            indictmentMap = null;
+            changedCarrierList.clear();
+        }
+    }
+
     private ElementAwareList<ConstraintMatchCarrier<Score_>> getConstraintMatchList(Constraint constraint) {
         // Optimization: computeIfAbsent() would have created a lambda on the hot path.
         ElementAwareList<ConstraintMatchCarrier<Score_>> constraintMatchList = constraintMatchMap.get(constraint);
@@ -166,66 +230,166 @@ public abstract class AbstractScoreInliner<Score_ extends Score<Score_>> {
         return constraintMatchList;
     }
 
-    private void clearMaps() {
-        constraintMatchTotalMap = null;
-        indictmentMap = null;
-    }
-
     public boolean isConstraintMatchEnabled() {
         return constraintMatchEnabled;
     }
 
+    /**
+     * The first call builds the map from all constraint matches.
+     * Subsequent calls only apply the constraint matches added or removed since,
+     * without creating the constraint matches which did not change.
+     * <p>
+     * The returned map is a snapshot: neither it nor its {@link ConstraintMatchTotal}s change afterwards.
+     * The next call after a change copies the map and the totals that change, and returns those copies.
+     *
+     * @return never null, unmodifiable
+     */
     public final Map<String, ConstraintMatchTotal<Score_>> getConstraintMatchTotalMap() {
+        updateConstraintMatchTotalsAndIndictments();
+        constraintMatchTotalMapShared = true;
+        return Collections.unmodifiableMap(constraintMatchTotalMap);
+    }
+
+    private void updateConstraintMatchTotalsAndIndictments() {
         if (constraintMatchTotalMap == null) {
             rebuildConstraintMatchTotalsAndIndictments();
+            return;
+        }
+        if (changedCarrierList.isEmpty()) {
+            return;
+        }
+        // Copy-on-write, so the maps handed out earlier do not change under their callers.
+        if (constraintMatchTotalMapShared) {
+            constraintMatchTotalMap = new TreeMap<>(constraintMatchTotalMap);
+        }
+        if (indictmentMapShared) {
+            indictmentMap = new LinkedHashMap<>(indictmentMap);
         }
-        return constraintMatchTotalMap;
+        if (constraintMatchTotalMapShared || indictmentMapShared) {
+            unsharedSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        }
+        for (ConstraintMatchCarrier<Score_> carrier : changedCarrierList) {
+            if (carrier.removed) {
+                if (carrier.applied) {
+                    unapply(carrier);
+                } // Else it was added and removed again in between, so it never showed up in the maps.
+            } else if (!carrier.applied) {
+                apply(carrier);
+            }
+        }
+        changedCarrierList.clear();
+        constraintMatchTotalMapShared = false;
+        indictmentMapShared = false;
+        unsharedSet = null;
     }
 
     private void rebuildConstraintMatchTotalsAndIndictments() {
-        Map<String, ConstraintMatchTotal<Score_>> workingConstraintMatchTotalMap = new TreeMap<>();
-        Map<Object, Indictment<Score_>> workingIndictmentMap = new LinkedHashMap<>();
+        constraintMatchTotalMap = new TreeMap<>();
+        indictmentMap = new LinkedHashMap<>();
+        constraintMatchTotalMapShared = false;
+        indictmentMapShared = false;
+        changedCarrierList.clear();
         for (Map.Entry<Constraint, ElementAwareList<ConstraintMatchCarrier<Score_>>> entry : constraintMatchMap.entrySet()) {
             var constraint = entry.getKey();
-            DefaultConstraintMatchTotal<Score_> constraintMatchTotal =
-                    new DefaultConstraintMatchTotal<>(constraint, constraintWeightMap.get(constraint));
+            // Also keep the totals of constraints which currently have no matches.
+            getConstraintMatchTotal(constraint);
             for (ConstraintMatchCarrier<Score_> carrier : entry.getValue()) {
-                // Constraint match instances are only created here when we actually need them.
-                ConstraintMatch<Score_> constraintMatch = carrier.get();
-                constraintMatchTotal.addConstraintMatch(constraintMatch);
-                for (var indictedObject : constraintMatch.getIndictedObjectList()) {
-                    var indictment =
-                            (DefaultIndictment<Score_>) getIndictment(workingIndictmentMap, constraintMatch, indictedObject);
-                    /*
-                     * Optimization: In order to not have to go over the indicted object list and remove duplicates,
-                     * we use a method that will silently skip duplicate constraint matches.
-                     * This is harmless because the two identical indicted objects come from the same constraint match.
-                     */
-                    indictment.addConstraintMatchWithoutFail(constraintMatch);
-                }
+                apply(carrier);
+            }
+        }
+    }
+
+    private void apply(ConstraintMatchCarrier<Score_> carrier) {
+        // Constraint match instances are only created here when we actually need them.
+        ConstraintMatch<Score_> constraintMatch = carrier.get();
+        getConstraintMatchTotal(carrier.constraint).addConstraintMatch(constraintMatch);
+        for (var indictedObject : constraintMatch.getIndictedObjectList()) {
+            var indictment = getIndictment(constraintMatch, indictedObject);
+            /*
+             * Optimization: In order to not have to go over the indicted object list and remove duplicates,
+             * we use a method that will silently skip duplicate constraint matches.
+             * This is harmless because the two identical indicted objects come from the same constraint match.
+             */
+            indictment.addConstraintMatchWithoutFail(constraintMatch);
+        }
+        carrier.applied = true;
+    }
+
+    private void unapply(ConstraintMatchCarrier<Score_> carrier) {
+        ConstraintMatch<Score_> constraintMatch = carrier.get();
+        getConstraintMatchTotal(carrier.constraint).removeConstraintMatch(constraintMatch);
+        for (var indictedObject : constraintMatch.getIndictedObjectList()) {
+            var indictment = getExistingIndictment(indictedObject);
+            // Duplicate indicted objects of the same constraint match were only added once, so only remove once.
+            if (indictment != null && indictment.removeConstraintMatchWithoutFail(constraintMatch)
+                    && indictment.getConstraintMatchSet().isEmpty()) {
+                indictmentMap.remove(indictedObject);
             }
-            workingConstraintMatchTotalMap.put(constraint.getConstraintId(), constraintMatchTotal);
         }
-        constraintMatchTotalMap = workingConstraintMatchTotalMap;
-        indictmentMap = workingIndictmentMap;
+        carrier.applied = false;
     }
 
-    private DefaultIndictment<Score_> getIndictment(Map<Object, Indictment<Score_>> indictmentMap,
-            ConstraintMatch<Score_> constraintMatch, Object indictedObject) {
+    private DefaultConstraintMatchTotal<Score_> getConstraintMatchTotal(Constraint constraint) {
         // Like computeIfAbsent(), but doesn't create a capturing lambda on the hot path.
-        var indictment = (DefaultIndictment<Score_>) indictmentMap.get(indictedObject);
+        var constraintMatchTotal =
+                (DefaultConstraintMatchTotal<Score_>) constraintMatchTotalMap.get(constraint.getConstraintId());
+        if (constraintMatchTotal == null) {
+            constraintMatchTotal = new DefaultConstraintMatchTotal<>(constraint, constraintWeightMap.get(constraint));
+            constraintMatchTotalMap.put(constraint.getConstraintId(), constraintMatchTotal);
+            if (unsharedSet != null) {
+                unsharedSet.add(constraintMatchTotal);
+            }
+        } else if (constraintMatchTotalMapShared && !unsharedSet.contains(constraintMatchTotal)) {
+            var copy = new DefaultConstraintMatchTotal<>(constraint, constraintWeightMap.get(constraint));
+            for (ConstraintMatch<Score_> constraintMatch : constraintMatchTotal.getConstraintMatchSet()) {
+                copy.addConstraintMatch(constraintMatch);
+            }
+            constraintMatchTotalMap.put(constraint.getConstraintId(), copy);
+            unsharedSet.add(copy);
+            constraintMatchTotal = copy;
+        }
+        return constraintMatchTotal;
+    }
+
+    private DefaultIndictment<Score_> getIndictment(ConstraintMatch<Score_> constraintMatch, Object indictedObject) {
+        // Like computeIfAbsent(), but doesn't create a capturing lambda on the hot path.
+        var indictment = getExistingIndictment(indictedObject);
         if (indictment == null) {
             indictment = new DefaultIndictment<>(indictedObject, constraintMatch.getScore().zero());
             indictmentMap.put(indictedObject, indictment);
+            if (unsharedSet != null) {
+                unsharedSet.add(indictment);
+            }
         }
         return indictment;
     }
 
-    public final Map<Object, Indictment<Score_>> getIndictmentMap() {
-        if (indictmentMap == null) {
-            rebuildConstraintMatchTotalsAndIndictments();
+    /**
+     * @return null if the object is not indicted, otherwise an indictment which may be changed
+     */
+    private DefaultIndictment<Score_> getExistingIndictment(Object indictedObject) {
+        var indictment = (DefaultIndictment<Score_>) indictmentMap.get(indictedObject);
+        if (indictment != null && indictmentMapShared && !unsharedSet.contains(indictment)) {
+            var copy = new DefaultIndictment<Score_>(indictedObject, indictment.getScore().zero());
+            for (ConstraintMatch<Score_> constraintMatch : indictment.getConstraintMatchSet()) {
+                copy.addConstraintMatchWithoutFail(constraintMatch);
+            }
+            indictmentMap.put(indictedObject, copy);
+            unsharedSet.add(copy);
+            indictment = copy;
         }
-        return indictmentMap;
+        return indictment;
+    }
+
+    /**
+     * As defined by {@link #getConstraintMatchTotalMap()}.
+     *
+     * @return never null, unmodifiable
+     */
+    public final Map<Object, Indictment<Score_>> getIndictmentMap() {
+        updateConstraintMatchTotalsAndIndictments();
+        indictmentMapShared = true;
+        return Collections.unmodifiableMap(indictmentMap);
     }
 
     private static final class ConstraintMatchCarrier<Score_ extends Score<Score_>>
@@ -236,6 +400,8 @@ public abstract class AbstractScoreInliner<Score_ extends Score<Score_>> {
         private final ConstraintMatchSupplier<Score_> constraintMatchSupplier;
         private final Score_ score;
         private ConstraintMatch<Score_> constraintMatch;
+        private boolean applied = false; // True if the constraint match is in the constraint match totals and indictments.
+        private boolean removed = false;
 
         private ConstraintMatchCarrier(ConstraintMatchSupplier<Score_> constraintMatchSupplier, Constraint constraint,
                 Score_ score) {
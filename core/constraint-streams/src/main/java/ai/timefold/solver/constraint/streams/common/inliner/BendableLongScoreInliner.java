@@ -62,6 +62,24 @@ public final class BendableLongScoreInliner extends AbstractScoreInliner<Bendabl
                 Arrays.copyOf(softScores, softScores.length));
     }
 
+    @Override
+    public int compareScoreTo(int initScore, BendableLongScore otherScore) {
+        if (initScore != otherScore.initScore()) {
+            return Integer.compare(initScore, otherScore.initScore());
+        }
+        for (int i = 0; i < hardScores.length; i++) {
+            if (hardScores[i] != otherScore.hardScore(i)) {
+                return Long.compare(hardScores[i], otherScore.hardScore(i));
+            }
+        }
+        for (int i = 0; i < softScores.length; i++) {
+            if (softScores[i] != otherScore.softScore(i)) {
+                return Long.compare(softScores[i], otherScore.softScore(i));
+            }
+        }
+        return 0;
+    }
+
     @Override
     public String toString() {
         return BendableLongScore.class.getSimpleName() + " inliner";
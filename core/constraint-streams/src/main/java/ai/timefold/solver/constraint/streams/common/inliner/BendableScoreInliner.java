@@ -56,6 +56,24 @@ final class BendableScoreInliner extends AbstractScoreInliner<BendableScore> {
                 Arrays.copyOf(softScores, softScores.length));
     }
 
+    @Override
+    public int compareScoreTo(int initScore, BendableScore otherScore) {
+        if (initScore != otherScore.initScore()) {
+            return Integer.compare(initScore, otherScore.initScore());
+        }
+        for (int i = 0; i < hardScores.length; i++) {
+            if (hardScores[i] != otherScore.hardScore(i)) {
+                return Integer.compare(hardScores[i], otherScore.hardScore(i));
+            }
+        }
+        for (int i = 0; i < softScores.length; i++) {
+            if (softScores[i] != otherScore.softScore(i)) {
+                return Integer.compare(softScores[i], otherScore.softScore(i));
+            }
+        }
+        return 0;
+    }
+
     @Override
     public String toString() {
         return BendableScore.class.getSimpleName() + " inliner";
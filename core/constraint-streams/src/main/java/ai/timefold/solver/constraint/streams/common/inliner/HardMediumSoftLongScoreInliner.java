@@ -53,6 +53,19 @@ final class HardMediumSoftLongScoreInliner extends AbstractScoreInliner<HardMedi
         return HardMediumSoftLongScore.ofUninitialized(initScore, hardScore, mediumScore, softScore);
     }
 
+    @Override
+    public int compareScoreTo(int initScore, HardMediumSoftLongScore otherScore) {
+        if (initScore != otherScore.initScore()) {
+            return Integer.compare(initScore, otherScore.initScore());
+        } else if (hardScore != otherScore.hardScore()) {
+            return Long.compare(hardScore, otherScore.hardScore());
+        } else if (mediumScore != otherScore.mediumScore()) {
+            return Long.compare(mediumScore, otherScore.mediumScore());
+        } else {
+            return Long.compare(softScore, otherScore.softScore());
+        }
+    }
+
     @Override
     public String toString() {
         return HardMediumSoftLongScore.class.getSimpleName() + " inliner";
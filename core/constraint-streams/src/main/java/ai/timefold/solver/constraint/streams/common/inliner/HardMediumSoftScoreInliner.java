@@ -40,6 +40,19 @@ final class HardMediumSoftScoreInliner extends AbstractScoreInliner<HardMediumSo
         return HardMediumSoftScore.ofUninitialized(initScore, hardScore, mediumScore, softScore);
     }
 
+    @Override
+    public int compareScoreTo(int initScore, HardMediumSoftScore otherScore) {
+        if (initScore != otherScore.initScore()) {
+            return Integer.compare(initScore, otherScore.initScore());
+        } else if (hardScore != otherScore.hardScore()) {
+            return Integer.compare(hardScore, otherScore.hardScore());
+        } else if (mediumScore != otherScore.mediumScore()) {
+            return Integer.compare(mediumScore, otherScore.mediumScore());
+        } else {
+            return Integer.compare(softScore, otherScore.softScore());
+        }
+    }
+
     @Override
     public String toString() {
         return HardMediumSoftScore.class.getSimpleName() + " inliner";
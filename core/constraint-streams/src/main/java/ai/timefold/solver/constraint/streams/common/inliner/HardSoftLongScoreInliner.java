@@ -42,6 +42,17 @@ final class HardSoftLongScoreInliner extends AbstractScoreInliner<HardSoftLongSc
         return HardSoftLongScore.ofUninitialized(initScore, hardScore, softScore);
     }
 
+    @Override
+    public int compareScoreTo(int initScore, HardSoftLongScore otherScore) {
+        if (initScore != otherScore.initScore()) {
+            return Integer.compare(initScore, otherScore.initScore());
+        } else if (hardScore != otherScore.hardScore()) {
+            return Long.compare(hardScore, otherScore.hardScore());
+        } else {
+            return Long.compare(softScore, otherScore.softScore());
+        }
+    }
+
     @Override
     public String toString() {
         return HardSoftLongScore.class.getSimpleName() + " inliner";
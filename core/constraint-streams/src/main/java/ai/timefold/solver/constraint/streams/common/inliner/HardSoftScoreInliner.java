@@ -34,6 +34,17 @@ final class HardSoftScoreInliner extends AbstractScoreInliner<HardSoftScore> {
         return HardSoftScore.ofUninitialized(initScore, hardScore, softScore);
     }
 
+    @Override
+    public int compareScoreTo(int initScore, HardSoftScore otherScore) {
+        if (initScore != otherScore.initScore()) {
+            return Integer.compare(initScore, otherScore.initScore());
+        } else if (hardScore != otherScore.hardScore()) {
+            return Integer.compare(hardScore, otherScore.hardScore());
+        } else {
+            return Integer.compare(softScore, otherScore.softScore());
+        }
+    }
+
     @Override
     public String toString() {
         return HardSoftScore.class.getSimpleName() + " inliner";
@@ -0,0 +1,79 @@
+package ai.timefold.solver.constraint.streams.common.inliner;
+
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import ai.timefold.solver.constraint.streams.common.AbstractConstraint;
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+
+/**
+ * Splits the score over multiple score inliners, each of which only holds the impact of its own constraints,
+ * so the constraints of different partitions can impact the score from different threads at the same time.
+ * Only supported without constraint matches, because the constraint matches would be spread over the partitions too.
+ *
+ * @param <Score_>
+ */
+public final class PartitionedScoreInliner<Score_ extends Score<Score_>> extends AbstractScoreInliner<Score_> {
+
+    private final AbstractScoreInliner<Score_>[] partitionScoreInliners;
+    private final Map<Constraint, AbstractScoreInliner<Score_>> constraintToPartitionScoreInlinerMap;
+
+    /**
+     * @param partitionScoreInlinerList never null, at least 1 element, none of which have constraint matches enabled
+     *        or share a constraint with another
+     */
+    public PartitionedScoreInliner(List<AbstractScoreInliner<Score_>> partitionScoreInlinerList) {
+        super(mergeConstraintWeightMaps(partitionScoreInlinerList), false);
+        this.partitionScoreInliners = partitionScoreInlinerList.toArray(new AbstractScoreInliner[0]);
+        this.constraintToPartitionScoreInlinerMap = new IdentityHashMap<>(constraintWeightMap.size());
+        for (AbstractScoreInliner<Score_> partitionScoreInliner : partitionScoreInliners) {
+            if (partitionScoreInliner.constraintMatchEnabled) {
+                throw new IllegalArgumentException("Impossible state: the partition score inliner ("
+                        + partitionScoreInliner + ") has constraint matches enabled.");
+            }
+            for (Constraint constraint : partitionScoreInliner.constraintWeightMap.keySet()) {
+                if (constraintToPartitionScoreInlinerMap.put(constraint, partitionScoreInliner) != null) {
+                    throw new IllegalArgumentException("Impossible state: the constraint (" + constraint
+                            + ") is in multiple partitions.");
+                }
+            }
+        }
+    }
+
+    private static <Score_ extends Score<Score_>> Map<Constraint, Score_> mergeConstraintWeightMaps(
+            List<AbstractScoreInliner<Score_>> partitionScoreInlinerList) {
+        Map<Constraint, Score_> constraintWeightMap = new LinkedHashMap<>();
+        for (AbstractScoreInliner<Score_> partitionScoreInliner : partitionScoreInlinerList) {
+            constraintWeightMap.putAll(partitionScoreInliner.constraintWeightMap);
+        }
+        return constraintWeightMap;
+    }
+
+    @Override
+    public WeightedScoreImpacter<Score_, ?> buildWeightedScoreImpacter(AbstractConstraint<?, ?, ?> constraint) {
+        AbstractScoreInliner<Score_> partitionScoreInliner = constraintToPartitionScoreInlinerMap.get(constraint);
+        if (partitionScoreInliner == null) {
+            throw new IllegalStateException("Impossible state: the constraint (" + constraint
+                    + ") is not in any partition.");
+        }
+        return partitionScoreInliner.buildWeightedScoreImpacter(constraint);
+    }
+
+    @Override
+    public Score_ extractScore(int initScore) {
+        Score_ score = partitionScoreInliners[0].extractScore(initScore);
+        for (int i = 1; i < partitionScoreInliners.length; i++) {
+            score = score.add(partitionScoreInliners[i].extractScore(0));
+        }
+        return score;
+    }
+
+    @Override
+    public String toString() {
+        return "Partitioned inliner of " + partitionScoreInliners.length + " partitions";
+    }
+
+}
@@ -30,6 +30,15 @@ final class SimpleLongScoreInliner extends AbstractScoreInliner<SimpleLongScore>
         return SimpleLongScore.ofUninitialized(initScore, score);
     }
 
+    @Override
+    public int compareScoreTo(int initScore, SimpleLongScore otherScore) {
+        if (initScore != otherScore.initScore()) {
+            return Integer.compare(initScore, otherScore.initScore());
+        } else {
+            return Long.compare(score, otherScore.score());
+        }
+    }
+
     @Override
     public String toString() {
         return SimpleLongScore.class.getSimpleName() + " inliner";
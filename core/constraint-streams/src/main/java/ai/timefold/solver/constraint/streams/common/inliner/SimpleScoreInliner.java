@@ -27,6 +27,15 @@ final class SimpleScoreInliner extends AbstractScoreInliner<SimpleScore> {
         return SimpleScore.ofUninitialized(initScore, score);
     }
 
+    @Override
+    public int compareScoreTo(int initScore, SimpleScore otherScore) {
+        if (initScore != otherScore.initScore()) {
+            return Integer.compare(initScore, otherScore.initScore());
+        } else {
+            return Integer.compare(score, otherScore.score());
+        }
+    }
+
     @Override
     public String toString() {
         return SimpleScore.class.getSimpleName() + " inliner";
@@ -24,6 +24,7 @@ import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
 import ai.timefold.solver.core.impl.testdata.domain.score.lavish.TestdataLavishEntity;
 import ai.timefold.solver.core.impl.testdata.domain.score.lavish.TestdataLavishEntityGroup;
 import ai.timefold.solver.core.impl.testdata.domain.score.lavish.TestdataLavishSolution;
+import ai.timefold.solver.core.impl.testdata.domain.score.lavish.TestdataLavishValue;
 import ai.timefold.solver.core.impl.util.Pair;
 
 import org.junit.jupiter.api.TestTemplate;
@@ -93,6 +94,42 @@ final class BavetAdvancedGroupByConstraintStreamTest extends AbstractAdvancedGro
         assertScore(scoreDirector); // There is less than 10 entities, and therefore there are no penalties.
     }
 
+    @TestTemplate
+    void compositeGroupKeyChanged() {
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 2, 1, 3);
+        TestdataLavishEntityGroup entityGroup = solution.getFirstEntityGroup();
+        TestdataLavishValue value1 = solution.getValueList().get(0);
+        TestdataLavishValue value2 = solution.getValueList().get(1);
+        TestdataLavishEntity entity = solution.getEntityList().get(1);
+
+        InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector =
+                buildScoreDirector(factory -> factory.forEach(TestdataLavishEntity.class)
+                        .groupBy(TestdataLavishEntity::getEntityGroup, TestdataLavishEntity::getValue, count())
+                        .penalize(SimpleScore.ONE, (group, value, count) -> count)
+                        .asConstraint(TEST_CONSTRAINT_NAME));
+
+        // From scratch
+        scoreDirector.setWorkingSolution(solution);
+        assertScore(scoreDirector,
+                assertMatchWithScore(-2, entityGroup, value1, 2),
+                assertMatchWithScore(-1, entityGroup, value2, 1));
+
+        // Incremental; the group key of the entity changes
+        scoreDirector.beforeVariableChanged(entity, "value");
+        entity.setValue(value1);
+        scoreDirector.afterVariableChanged(entity, "value");
+        assertScore(scoreDirector,
+                assertMatchWithScore(-3, entityGroup, value1, 3));
+
+        // Incremental; the group key of the entity changes back
+        scoreDirector.beforeVariableChanged(entity, "value");
+        entity.setValue(value2);
+        scoreDirector.afterVariableChanged(entity, "value");
+        assertScore(scoreDirector,
+                assertMatchWithScore(-2, entityGroup, value1, 2),
+                assertMatchWithScore(-1, entityGroup, value2, 1));
+    }
+
     @TestTemplate
     void collectedFilteredRecollected() {
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 2, 2, 2);
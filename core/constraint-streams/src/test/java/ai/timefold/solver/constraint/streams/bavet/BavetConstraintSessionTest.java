@@ -0,0 +1,227 @@
+package ai.timefold.solver.constraint.streams.bavet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.api.score.constraint.ConstraintMatch;
+import ai.timefold.solver.core.api.score.constraint.ConstraintMatchTotal;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+import ai.timefold.solver.core.api.score.stream.Joiners;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.VariableDescriptor;
+import ai.timefold.solver.core.impl.score.director.OperationProfile;
+import ai.timefold.solver.core.impl.score.director.ScoreCalculationProfile;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataValue;
+import ai.timefold.solver.core.impl.testdata.domain.shadow.TestdataShadowedEntity;
+import ai.timefold.solver.core.impl.testdata.domain.shadow.TestdataShadowedSolution;
+
+import org.junit.jupiter.api.Test;
+
+class BavetConstraintSessionTest {
+
+    private final BavetConstraintStreamScoreDirectorFactory<TestdataShadowedSolution, SimpleScore> scoreDirectorFactory =
+            new BavetConstraintStreamScoreDirectorFactory<>(TestdataShadowedSolution.buildSolutionDescriptor(),
+                    new TwoNodesConstraintProvider(), EnvironmentMode.REPRODUCIBLE);
+    private final BavetConstraintStreamScoreDirectorFactory<TestdataShadowedSolution, SimpleScore> joinScoreDirectorFactory =
+            new BavetConstraintStreamScoreDirectorFactory<>(TestdataShadowedSolution.buildSolutionDescriptor(),
+                    new JoinConstraintProvider(), EnvironmentMode.REPRODUCIBLE);
+
+    @Test
+    void insertUpdateRetract() {
+        TestdataShadowedSolution solution = TestdataShadowedSolution.generateSolution(2, 3);
+        BavetConstraintSession<SimpleScore> session = scoreDirectorFactory.newSession(false, solution);
+        for (TestdataValue value : solution.getValueList()) {
+            session.insert(value); // No nodes, so not tracked.
+        }
+        for (TestdataShadowedEntity entity : solution.getEntityList()) {
+            session.insert(entity);
+        }
+        assertThat(session.calculateScore(0)).isEqualTo(SimpleScore.of(-6));
+
+        // Only the node which reacts to the variable sees the change.
+        TestdataShadowedEntity entity = solution.getEntityList().get(0);
+        VariableDescriptor<TestdataShadowedSolution> variableDescriptor = scoreDirectorFactory.getSolutionDescriptor()
+                .findEntityDescriptorOrFail(TestdataShadowedEntity.class)
+                .getVariableDescriptor("value");
+        entity.setValue(null);
+        session.update(entity, variableDescriptor);
+        assertThat(session.calculateScore(0)).isEqualTo(SimpleScore.of(-5));
+
+        entity.setValue(solution.getValueList().get(0));
+        session.update(entity);
+        assertThat(session.calculateScore(0)).isEqualTo(SimpleScore.of(-6));
+
+        session.retract(entity);
+        assertThat(session.calculateScore(0)).isEqualTo(SimpleScore.of(-4));
+        assertThatIllegalStateException()
+                .isThrownBy(() -> session.update(entity))
+                .withMessageContaining("was never inserted");
+        assertThatIllegalStateException()
+                .isThrownBy(() -> session.retract(entity))
+                .withMessageContaining("was never inserted");
+
+        // A retracted fact can be inserted again, with new tuples.
+        session.insert(entity);
+        assertThat(session.calculateScore(0)).isEqualTo(SimpleScore.of(-6));
+        assertThatIllegalStateException()
+                .isThrownBy(() -> session.insert(entity))
+                .withMessageContaining("was already inserted");
+
+        // Facts without nodes are ignored, without a lookup.
+        TestdataValue value = solution.getValueList().get(0);
+        session.update(value);
+        session.retract(value);
+        assertThat(session.calculateScore(0)).isEqualTo(SimpleScore.of(-6));
+    }
+
+    @Test
+    void insertAllMatchesInsert() {
+        TestdataShadowedSolution solution = TestdataShadowedSolution.generateSolution(3, 7);
+        List<Object> factList = buildInterleavedFactList(solution);
+        BavetConstraintSession<SimpleScore> expectedSession = joinScoreDirectorFactory.newSession(true, solution);
+        factList.forEach(expectedSession::insert);
+        // The facts of each class are not in a row, so they are grouped per class first.
+        BavetConstraintSession<SimpleScore> session = joinScoreDirectorFactory.newSession(true, solution);
+        session.insertAll(factList);
+        assertSameResult(session, expectedSession, SimpleScore.of(-17));
+
+        // The tuples created by insertAll() are found again on update and retract.
+        TestdataShadowedEntity entity = solution.getEntityList().get(0);
+        for (BavetConstraintSession<SimpleScore> updatedSession : List.of(session, expectedSession)) {
+            updatedSession.update(entity);
+            updatedSession.retract(solution.getEntityList().get(1));
+        }
+        assertSameResult(session, expectedSession, SimpleScore.of(-15));
+    }
+
+    @Test
+    void insertAllWithProfiling() {
+        TestdataShadowedSolution solution = TestdataShadowedSolution.generateSolution(3, 7);
+        List<Object> factList = buildInterleavedFactList(solution);
+        BavetConstraintSession<SimpleScore> expectedSession = joinScoreDirectorFactory.newSession(true, solution);
+        factList.forEach(expectedSession::insert);
+        ScoreCalculationProfile scoreCalculationProfile = new ScoreCalculationProfile();
+        BavetConstraintSession<SimpleScore> session =
+                joinScoreDirectorFactory.newSession(true, solution, scoreCalculationProfile);
+        session.insertAll(factList);
+        assertSameResult(session, expectedSession, SimpleScore.of(-17));
+
+        // Every fact is still profiled as a separate insert, in both nodes of the entity class.
+        long entityInsertCount = scoreCalculationProfile.getNodeProfileMap().entrySet().stream()
+                .filter(entry -> entry.getKey().startsWith("ForEachUniNode")
+                        && entry.getKey().contains(TestdataShadowedEntity.class.getSimpleName()))
+                .map(Map.Entry::getValue)
+                .mapToLong(OperationProfile::getInsertCount)
+                .sum();
+        assertThat(entityInsertCount).isEqualTo(2 * 7);
+    }
+
+    @Test
+    void insertAllAfterInsert() {
+        TestdataShadowedSolution solution = TestdataShadowedSolution.generateSolution(3, 7);
+        List<Object> factList = buildInterleavedFactList(solution);
+        BavetConstraintSession<SimpleScore> expectedSession = joinScoreDirectorFactory.newSession(true, solution);
+        factList.forEach(expectedSession::insert);
+        BavetConstraintSession<SimpleScore> session = joinScoreDirectorFactory.newSession(true, solution);
+        int half = factList.size() / 2;
+        factList.subList(0, half).forEach(session::insert);
+        session.insertAll(factList.subList(half, factList.size()));
+        assertSameResult(session, expectedSession, SimpleScore.of(-17));
+    }
+
+    @Test
+    void insertAllDuplicateFact() {
+        TestdataShadowedSolution solution = TestdataShadowedSolution.generateSolution(3, 7);
+        TestdataShadowedEntity entity = solution.getEntityList().get(0);
+        TestdataShadowedEntity otherEntity = solution.getEntityList().get(1);
+        BavetConstraintSession<SimpleScore> session = joinScoreDirectorFactory.newSession(true, solution);
+        assertThatIllegalStateException()
+                .isThrownBy(() -> session.insertAll(List.of(entity, otherEntity, entity)))
+                .withMessageContaining("was already inserted");
+
+        BavetConstraintSession<SimpleScore> otherSession = joinScoreDirectorFactory.newSession(true, solution);
+        otherSession.insert(entity);
+        assertThatIllegalStateException()
+                .isThrownBy(() -> otherSession.insertAll(List.of(otherEntity, entity)))
+                .withMessageContaining("was already inserted");
+    }
+
+    private static List<Object> buildInterleavedFactList(TestdataShadowedSolution solution) {
+        List<Object> factList = new ArrayList<>();
+        List<TestdataValue> valueList = solution.getValueList();
+        List<TestdataShadowedEntity> entityList = solution.getEntityList();
+        for (int i = 0; i < Math.max(valueList.size(), entityList.size()); i++) {
+            if (i < entityList.size()) {
+                factList.add(entityList.get(i));
+            }
+            if (i < valueList.size()) {
+                factList.add(valueList.get(i));
+            }
+        }
+        return factList;
+    }
+
+    private static void assertSameResult(BavetConstraintSession<SimpleScore> session,
+            BavetConstraintSession<SimpleScore> expectedSession, SimpleScore expectedScore) {
+        assertThat(expectedSession.calculateScore(0)).isEqualTo(expectedScore);
+        assertThat(session.calculateScore(0)).isEqualTo(expectedScore);
+        assertThat(extractMatches(session.getConstraintMatchTotalMap()))
+                .isEqualTo(extractMatches(expectedSession.getConstraintMatchTotalMap()));
+    }
+
+    private static Map<String, Set<List<Object>>> extractMatches(
+            Map<String, ConstraintMatchTotal<SimpleScore>> constraintMatchTotalMap) {
+        return constraintMatchTotalMap.values().stream()
+                .collect(Collectors.toMap(ConstraintMatchTotal::getConstraintId,
+                        constraintMatchTotal -> constraintMatchTotal.getConstraintMatchSet().stream()
+                                .map(ConstraintMatch::getIndictedObjectList)
+                                .collect(Collectors.toSet())));
+    }
+
+    public static final class TwoNodesConstraintProvider implements ConstraintProvider {
+
+        @Override
+        public Constraint[] defineConstraints(ConstraintFactory constraintFactory) {
+            return new Constraint[] {
+                    constraintFactory.forEach(TestdataShadowedEntity.class)
+                            .penalize(SimpleScore.ONE)
+                            .asConstraint("Every variable"),
+                    constraintFactory.forEach(TestdataShadowedEntity.class, "value")
+                            .penalize(SimpleScore.ONE)
+                            .asConstraint("Only the genuine variable")
+            };
+        }
+
+    }
+
+    public static final class JoinConstraintProvider implements ConstraintProvider {
+
+        @Override
+        public Constraint[] defineConstraints(ConstraintFactory constraintFactory) {
+            return new Constraint[] {
+                    constraintFactory.forEach(TestdataShadowedEntity.class)
+                            .join(TestdataValue.class, Joiners.equal(TestdataShadowedEntity::getValue, Function.identity()))
+                            .penalize(SimpleScore.ONE)
+                            .asConstraint("Entity with its value"),
+                    constraintFactory.forEach(TestdataShadowedEntity.class, "value")
+                            .penalize(SimpleScore.ONE)
+                            .asConstraint("Only the genuine variable"),
+                    constraintFactory.forEach(TestdataValue.class)
+                            .penalize(SimpleScore.ONE)
+                            .asConstraint("Value")
+            };
+        }
+
+    }
+
+}
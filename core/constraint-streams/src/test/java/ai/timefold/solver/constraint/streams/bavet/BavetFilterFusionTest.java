@@ -0,0 +1,72 @@
+package ai.timefold.solver.constraint.streams.bavet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+import ai.timefold.solver.core.api.score.stream.Joiners;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.testdata.domain.score.lavish.TestdataLavishEntity;
+import ai.timefold.solver.core.impl.testdata.domain.score.lavish.TestdataLavishSolution;
+import ai.timefold.solver.core.impl.testdata.domain.score.lavish.TestdataLavishValue;
+
+import org.junit.jupiter.api.Test;
+
+class BavetFilterFusionTest {
+
+    @Test
+    void fusedFiltersAndJoinFilterUpdateIncrementally() {
+        BavetConstraintStreamScoreDirectorFactory<TestdataLavishSolution, SimpleScore> scoreDirectorFactory =
+                new BavetConstraintStreamScoreDirectorFactory<>(TestdataLavishSolution.buildSolutionDescriptor(),
+                        new FilterConstraintProvider(), EnvironmentMode.REPRODUCIBLE);
+        BavetConstraintStreamScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector =
+                scoreDirectorFactory.buildScoreDirector(false, false);
+        // Entity i has value i % 5, value i has value group i % 2.
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 3, 7);
+        scoreDirector.setWorkingSolution(solution);
+        // 4 entities with a value of the first value group, 2 pairs of entities with the same value.
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-6));
+
+        TestdataLavishValue firstValue = solution.getValueList().get(0);
+        TestdataLavishValue secondValue = solution.getValueList().get(1);
+        changeValue(scoreDirector, solution.getEntityList().get(2), firstValue);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-8));
+
+        changeValue(scoreDirector, solution.getEntityList().get(0), secondValue);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-7));
+
+        changeValue(scoreDirector, solution.getEntityList().get(0), null);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-5));
+    }
+
+    private static void changeValue(BavetConstraintStreamScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector,
+            TestdataLavishEntity entity, TestdataLavishValue value) {
+        scoreDirector.beforeVariableChanged(entity, "value");
+        entity.setValue(value);
+        scoreDirector.afterVariableChanged(entity, "value");
+        scoreDirector.triggerVariableListeners();
+    }
+
+    public static final class FilterConstraintProvider implements ConstraintProvider {
+
+        @Override
+        public Constraint[] defineConstraints(ConstraintFactory constraintFactory) {
+            return new Constraint[] {
+                    constraintFactory.forEachIncludingNullVars(TestdataLavishEntity.class)
+                            .filter(entity -> entity.getValue() != null)
+                            .filter(entity -> entity.getValue().getValueGroup().getCode().equals("Generated ValueGroup 0"))
+                            .penalize(SimpleScore.ONE)
+                            .asConstraint("Entity in first value group"),
+                    constraintFactory.forEach(TestdataLavishEntity.class)
+                            .join(TestdataLavishEntity.class, Joiners.lessThan(TestdataLavishEntity::getCode))
+                            .filter((entity, otherEntity) -> entity.getValue() == otherEntity.getValue())
+                            .penalize(SimpleScore.ONE)
+                            .asConstraint("Entities with the same value")
+            };
+        }
+
+    }
+
+}
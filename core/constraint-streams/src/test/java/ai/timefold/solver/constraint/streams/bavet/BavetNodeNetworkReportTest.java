@@ -0,0 +1,67 @@
+package ai.timefold.solver.constraint.streams.bavet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataEntity;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
+
+import org.junit.jupiter.api.Test;
+
+class BavetNodeNetworkReportTest {
+
+    @Test
+    void sharingAndDuplicates() {
+        BavetConstraintStreamScoreDirectorFactory<TestdataSolution, SimpleScore> scoreDirectorFactory =
+                new BavetConstraintStreamScoreDirectorFactory<>(TestdataSolution.buildSolutionDescriptor(),
+                        new DuplicateFilterConstraintProvider(), EnvironmentMode.REPRODUCIBLE);
+        BavetConstraintStreamScoreDirector<TestdataSolution, SimpleScore> scoreDirector =
+                scoreDirectorFactory.buildScoreDirector(false, false);
+        scoreDirector.setWorkingSolution(TestdataSolution.generateSolution(2, 7));
+        scoreDirector.calculateScore();
+
+        BavetNodeNetworkReport report = scoreDirector.getNodeNetworkReport();
+        BavetNodeNetworkReport.StreamReport forEachReport = report.getStreamReportList().get(0);
+        assertThat(forEachReport.getParentIdList()).isEmpty();
+        assertThat(forEachReport.getNodeType()).isEqualTo("ForEachUniNode");
+        assertThat(forEachReport.getShareCount()).isGreaterThanOrEqualTo(2);
+        assertThat(forEachReport.getConstraintIdList()).hasSize(2);
+        assertThat(forEachReport.getLiveTupleCount()).isEqualTo(7);
+
+        // Both filters have the same parent, but different lambda instances, so they are not shared.
+        List<List<BavetNodeNetworkReport.StreamReport>> possibleDuplicateList = report.getPossibleDuplicateList();
+        assertThat(possibleDuplicateList).hasSize(1);
+        List<BavetNodeNetworkReport.StreamReport> duplicateFilterList = possibleDuplicateList.get(0);
+        assertThat(duplicateFilterList).hasSize(2);
+        assertThat(duplicateFilterList.get(0).getConstraintIdList())
+                .doesNotContainAnyElementsOf(duplicateFilterList.get(1).getConstraintIdList());
+
+        assertThat(report.toDot()).startsWith("digraph").contains("ForEachUniNode");
+        assertThat(report.toJson()).contains("\"nodeType\": \"ForEachUniNode\"", "\"liveTupleCount\": 7");
+    }
+
+    public static class DuplicateFilterConstraintProvider implements ConstraintProvider {
+
+        @Override
+        public Constraint[] defineConstraints(ConstraintFactory constraintFactory) {
+            return new Constraint[] {
+                    constraintFactory.forEach(TestdataEntity.class)
+                            .filter(entity -> entity.getCode().endsWith("1"))
+                            .penalize(SimpleScore.ONE)
+                            .asConstraint("First"),
+                    constraintFactory.forEach(TestdataEntity.class)
+                            .filter(entity -> entity.getCode().endsWith("1"))
+                            .penalize(SimpleScore.ONE)
+                            .asConstraint("Second")
+            };
+        }
+
+    }
+
+}
@@ -0,0 +1,142 @@
+package ai.timefold.solver.constraint.streams.bavet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import ai.timefold.solver.constraint.streams.common.inliner.PartitionedScoreInliner;
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintCollectors;
+import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+import ai.timefold.solver.core.api.score.stream.Joiners;
+import ai.timefold.solver.core.api.score.stream.bi.BiConstraintStream;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.testdata.domain.score.lavish.TestdataLavishEntity;
+import ai.timefold.solver.core.impl.testdata.domain.score.lavish.TestdataLavishSolution;
+import ai.timefold.solver.core.impl.testdata.domain.score.lavish.TestdataLavishValue;
+
+import org.junit.jupiter.api.Test;
+
+class BavetParallelPropagationTest {
+
+    @Test
+    void independentComponentsMatchSequentialScore() {
+        // Enough entities for both components to exceed the parallel work threshold.
+        int entityCount = 2 * BavetComponentPropagator.PARALLEL_WORK_THRESHOLD;
+        TestdataLavishSolution sequentialSolution = TestdataLavishSolution.generateSolution(2, 50, 3, entityCount);
+        TestdataLavishSolution parallelSolution = TestdataLavishSolution.generateSolution(2, 50, 3, entityCount);
+        BavetConstraintStreamScoreDirector<TestdataLavishSolution, SimpleScore> sequentialScoreDirector =
+                buildScoreDirector(false);
+        BavetConstraintStreamScoreDirector<TestdataLavishSolution, SimpleScore> parallelScoreDirector =
+                buildScoreDirector(true);
+        sequentialScoreDirector.setWorkingSolution(sequentialSolution);
+        parallelScoreDirector.setWorkingSolution(parallelSolution);
+        // Both constraints share the forEach node, which propagates before the 2 components below it.
+        assertThat(parallelScoreDirector.session.getComponentCount()).isEqualTo(2);
+        assertThat(parallelScoreDirector.session.getScoreInliner()).isInstanceOf(PartitionedScoreInliner.class);
+        assertThat(parallelScoreDirector.calculateScore()).isEqualTo(sequentialScoreDirector.calculateScore());
+
+        // A large move, which changes every entity at once.
+        changeAllValues(sequentialScoreDirector, sequentialSolution);
+        changeAllValues(parallelScoreDirector, parallelSolution);
+        assertThat(parallelScoreDirector.calculateScore()).isEqualTo(sequentialScoreDirector.calculateScore());
+
+        // A small move, which propagates on the calling thread.
+        changeValue(sequentialScoreDirector, sequentialSolution.getEntityList().get(0), null);
+        changeValue(parallelScoreDirector, parallelSolution.getEntityList().get(0), null);
+        assertThat(parallelScoreDirector.calculateScore()).isEqualTo(sequentialScoreDirector.calculateScore());
+    }
+
+    @Test
+    void sharedNodesJoinComponents() {
+        BavetConstraintStreamScoreDirectorFactory<TestdataLavishSolution, SimpleScore> scoreDirectorFactory =
+                new BavetConstraintStreamScoreDirectorFactory<>(TestdataLavishSolution.buildSolutionDescriptor(),
+                        new SharedJoinConstraintProvider(), EnvironmentMode.REPRODUCIBLE, true);
+        BavetConstraintStreamScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector =
+                scoreDirectorFactory.buildScoreDirector(false, false);
+        scoreDirector.setWorkingSolution(TestdataLavishSolution.generateSolution());
+        // Both constraints share the join node, so there is nothing to propagate in parallel.
+        assertThat(scoreDirector.session.getComponentCount()).isEqualTo(1);
+        assertThat(scoreDirector.session.getScoreInliner()).isNotInstanceOf(PartitionedScoreInliner.class);
+    }
+
+    @Test
+    void constraintMatchesDisableParallelPropagation() {
+        BavetConstraintStreamScoreDirectorFactory<TestdataLavishSolution, SimpleScore> scoreDirectorFactory =
+                new BavetConstraintStreamScoreDirectorFactory<>(TestdataLavishSolution.buildSolutionDescriptor(),
+                        new IndependentConstraintProvider(), EnvironmentMode.REPRODUCIBLE, true);
+        BavetConstraintStreamScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector =
+                scoreDirectorFactory.buildScoreDirector(false, true);
+        scoreDirector.setWorkingSolution(TestdataLavishSolution.generateSolution());
+        assertThat(scoreDirector.session.getScoreInliner()).isNotInstanceOf(PartitionedScoreInliner.class);
+        assertThat(scoreDirector.getConstraintMatchTotalMap()).hasSize(2);
+    }
+
+    private static BavetConstraintStreamScoreDirector<TestdataLavishSolution, SimpleScore>
+            buildScoreDirector(boolean parallelPropagationEnabled) {
+        BavetConstraintStreamScoreDirectorFactory<TestdataLavishSolution, SimpleScore> scoreDirectorFactory =
+                new BavetConstraintStreamScoreDirectorFactory<>(TestdataLavishSolution.buildSolutionDescriptor(),
+                        new IndependentConstraintProvider(), EnvironmentMode.REPRODUCIBLE, parallelPropagationEnabled);
+        return scoreDirectorFactory.buildScoreDirector(false, false);
+    }
+
+    private static void changeAllValues(BavetConstraintStreamScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector,
+            TestdataLavishSolution solution) {
+        List<TestdataLavishValue> valueList = solution.getValueList();
+        List<TestdataLavishEntity> entityList = solution.getEntityList();
+        for (int i = 0; i < entityList.size(); i++) {
+            changeValue(scoreDirector, entityList.get(i), valueList.get((i * 7) % valueList.size()));
+        }
+    }
+
+    private static void changeValue(BavetConstraintStreamScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector,
+            TestdataLavishEntity entity, TestdataLavishValue value) {
+        scoreDirector.beforeVariableChanged(entity, "value");
+        entity.setValue(value);
+        scoreDirector.afterVariableChanged(entity, "value");
+        scoreDirector.triggerVariableListeners();
+    }
+
+    public static final class IndependentConstraintProvider implements ConstraintProvider {
+
+        @Override
+        public Constraint[] defineConstraints(ConstraintFactory constraintFactory) {
+            // Both constraints share the forEach node of the entity class, but nothing below it.
+            return new Constraint[] {
+                    constraintFactory.forEach(TestdataLavishEntity.class)
+                            .groupBy(TestdataLavishEntity::getValue, ConstraintCollectors.count())
+                            .filter((value, count) -> value.getValueGroup().getCode().equals("Generated ValueGroup 0"))
+                            .penalize(SimpleScore.ONE, (value, count) -> count)
+                            .asConstraint("Entities in first value group"),
+                    constraintFactory.forEach(TestdataLavishEntity.class)
+                            .join(TestdataLavishEntity.class, Joiners.equal(TestdataLavishEntity::getValue),
+                                    Joiners.lessThan(TestdataLavishEntity::getCode))
+                            .penalize(SimpleScore.ONE)
+                            .asConstraint("Entities with the same value")
+            };
+        }
+
+    }
+
+    public static final class SharedJoinConstraintProvider implements ConstraintProvider {
+
+        @Override
+        public Constraint[] defineConstraints(ConstraintFactory constraintFactory) {
+            BiConstraintStream<TestdataLavishEntity, TestdataLavishEntity> sameValuePairs =
+                    constraintFactory.forEach(TestdataLavishEntity.class)
+                            .join(TestdataLavishEntity.class, Joiners.equal(TestdataLavishEntity::getValue),
+                                    Joiners.lessThan(TestdataLavishEntity::getCode));
+            return new Constraint[] {
+                    sameValuePairs.penalize(SimpleScore.ONE)
+                            .asConstraint("Entities with the same value"),
+                    sameValuePairs.filter((entity, otherEntity) -> entity.getEntityGroup() == otherEntity.getEntityGroup())
+                            .penalize(SimpleScore.ONE)
+                            .asConstraint("Entities of the same group with the same value")
+            };
+        }
+
+    }
+
+}
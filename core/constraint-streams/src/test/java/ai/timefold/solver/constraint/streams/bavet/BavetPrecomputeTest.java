@@ -0,0 +1,129 @@
+package ai.timefold.solver.constraint.streams.bavet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+import ai.timefold.solver.core.api.score.stream.Joiners;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.solver.thread.ChildThreadType;
+import ai.timefold.solver.core.impl.testdata.domain.score.lavish.TestdataLavishEntity;
+import ai.timefold.solver.core.impl.testdata.domain.score.lavish.TestdataLavishSolution;
+import ai.timefold.solver.core.impl.testdata.domain.score.lavish.TestdataLavishValue;
+import ai.timefold.solver.core.impl.testdata.domain.score.lavish.TestdataLavishValueGroup;
+
+import org.junit.jupiter.api.Test;
+
+class BavetPrecomputeTest {
+
+    @Test
+    void factOnlyJoinIsPrecomputed() {
+        BavetConstraintStreamScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector();
+        scoreDirector.overwriteProfilingEnabledPreference(true);
+        scoreDirector.setWorkingSolution(TestdataLavishSolution.generateSolution(2, 5, 3, 7));
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-7));
+
+        Set<String> nodeNameSet = scoreDirector.getScoreCalculationProfile().getNodeProfileMap().keySet();
+        assertThat(nodeNameSet).anyMatch(nodeName -> nodeName.startsWith("PrecomputeNode"));
+        // The join of the value groups and values is not in the session.
+        assertThat(nodeNameSet).noneMatch(nodeName -> nodeName.contains("JoinBiNode"));
+        assertThat(nodeNameSet).anyMatch(nodeName -> nodeName.contains("JoinTriNode"));
+    }
+
+    @Test
+    void problemFactChangeRecalculates() {
+        BavetConstraintStreamScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector();
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 3, 7);
+        scoreDirector.setWorkingSolution(solution);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-7));
+
+        // Value 0 is used by 2 entities.
+        TestdataLavishValue value = solution.getValueList().get(0);
+        scoreDirector.beforeProblemPropertyChanged(value);
+        value.setValueGroup(null);
+        scoreDirector.afterProblemPropertyChanged(value);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-5));
+
+        // The next session does not reuse the result from before the change.
+        scoreDirector.setWorkingSolution(solution);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-5));
+
+        scoreDirector.beforeProblemFactRemoved(value);
+        solution.getValueList().remove(value);
+        scoreDirector.afterProblemFactRemoved(value);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-5));
+
+        // Value 2 is used by 1 entity, and is neither the first nor the last input fact.
+        TestdataLavishValue otherValue = solution.getValueList().get(1);
+        scoreDirector.beforeProblemFactRemoved(otherValue);
+        solution.getValueList().remove(otherValue);
+        scoreDirector.afterProblemFactRemoved(otherValue);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-4));
+
+        value.setValueGroup(solution.getValueGroupList().get(0));
+        scoreDirector.beforeProblemFactAdded(value);
+        solution.getValueList().add(value);
+        scoreDirector.afterProblemFactAdded(value);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-6));
+    }
+
+    @Test
+    void childThreadScoreDirectorForksPrecomputedTuples() {
+        ValueGroupConstraintProvider constraintProvider = new ValueGroupConstraintProvider();
+        BavetConstraintStreamScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector =
+                buildScoreDirector(constraintProvider);
+        scoreDirector.setWorkingSolution(TestdataLavishSolution.generateSolution(2, 5, 3, 7));
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-7));
+        int joinMappingCount = constraintProvider.joinMappingCount.get();
+        assertThat(joinMappingCount).isPositive();
+
+        try (InnerScoreDirector<TestdataLavishSolution, SimpleScore> childThreadScoreDirector =
+                scoreDirector.createChildThreadScoreDirector(ChildThreadType.MOVE_THREAD)) {
+            assertThat(childThreadScoreDirector.getWorkingSolution()).isNotSameAs(scoreDirector.getWorkingSolution());
+            assertThat(childThreadScoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-7));
+            // The fact-only join did not run again.
+            assertThat(constraintProvider.joinMappingCount.get()).isEqualTo(joinMappingCount);
+        }
+    }
+
+    private static BavetConstraintStreamScoreDirector<TestdataLavishSolution, SimpleScore> buildScoreDirector() {
+        return buildScoreDirector(new ValueGroupConstraintProvider());
+    }
+
+    private static BavetConstraintStreamScoreDirector<TestdataLavishSolution, SimpleScore> buildScoreDirector(
+            ConstraintProvider constraintProvider) {
+        BavetConstraintStreamScoreDirectorFactory<TestdataLavishSolution, SimpleScore> scoreDirectorFactory =
+                new BavetConstraintStreamScoreDirectorFactory<>(TestdataLavishSolution.buildSolutionDescriptor(),
+                        constraintProvider, EnvironmentMode.REPRODUCIBLE);
+        return scoreDirectorFactory.buildScoreDirector(false, false);
+    }
+
+    public static final class ValueGroupConstraintProvider implements ConstraintProvider {
+
+        private final AtomicInteger joinMappingCount = new AtomicInteger();
+
+        @Override
+        public Constraint[] defineConstraints(ConstraintFactory constraintFactory) {
+            return new Constraint[] {
+                    constraintFactory.forEach(TestdataLavishValueGroup.class)
+                            .join(TestdataLavishValue.class,
+                                    Joiners.equal(valueGroup -> {
+                                        joinMappingCount.incrementAndGet();
+                                        return valueGroup;
+                                    }, TestdataLavishValue::getValueGroup))
+                            .join(TestdataLavishEntity.class,
+                                    Joiners.equal((valueGroup, value) -> value, TestdataLavishEntity::getValue))
+                            .penalize(SimpleScore.ONE)
+                            .asConstraint("Entity in value group")
+            };
+        }
+
+    }
+
+}
@@ -0,0 +1,72 @@
+package ai.timefold.solver.constraint.streams.bavet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.score.director.OperationProfile;
+import ai.timefold.solver.core.impl.score.director.ScoreCalculationProfile;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataEntity;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
+
+import org.junit.jupiter.api.Test;
+
+class BavetScoreCalculationProfileTest {
+
+    @Test
+    void disabledByDefault() {
+        BavetConstraintStreamScoreDirector<TestdataSolution, SimpleScore> scoreDirector = buildScoreDirector();
+        scoreDirector.setWorkingSolution(TestdataSolution.generateSolution(2, 7));
+        scoreDirector.calculateScore();
+        assertThat(scoreDirector.getScoreCalculationProfile()).isNull();
+    }
+
+    @Test
+    void countsOperationsPerNodeAndConstraint() {
+        BavetConstraintStreamScoreDirector<TestdataSolution, SimpleScore> scoreDirector = buildScoreDirector();
+        scoreDirector.overwriteProfilingEnabledPreference(true);
+        TestdataSolution solution = TestdataSolution.generateSolution(2, 7);
+        scoreDirector.setWorkingSolution(solution);
+        scoreDirector.calculateScore();
+
+        ScoreCalculationProfile profile = scoreDirector.getScoreCalculationProfile();
+        Map<String, OperationProfile> nodeProfileMap = profile.getNodeProfileMap();
+        assertThat(nodeProfileMap).hasSize(1); // Both filters are applied by the shared forEach node.
+        OperationProfile forEachProfile = nodeProfileMap.values().iterator().next();
+        assertThat(forEachProfile.getInsertCount()).isEqualTo(7);
+        assertThat(profile.getNodeConstraintIdListMap().values().iterator().next()).hasSize(2);
+
+        Map<String, OperationProfile> constraintProfileMap = profile.getConstraintProfileMap();
+        assertThat(constraintProfileMap).hasSize(2);
+        for (OperationProfile constraintProfile : constraintProfileMap.values()) {
+            // Only "Generated Entity 1" passes the filter.
+            assertThat(constraintProfile.getInsertCount()).isEqualTo(1);
+            assertThat(constraintProfile.getTimeNanos()).isNotNegative();
+        }
+
+        TestdataEntity entity = solution.getEntityList().get(1);
+        scoreDirector.beforeVariableChanged(entity, "value");
+        entity.setValue(solution.getValueList().get(0));
+        scoreDirector.afterVariableChanged(entity, "value");
+        scoreDirector.calculateScore();
+        assertThat(profile.getNodeProfileMap().values().iterator().next().getUpdateCount()).isEqualTo(1);
+        assertThat(profile.getConstraintProfileMap().values())
+                .allSatisfy(constraintProfile -> assertThat(constraintProfile.getUpdateCount()).isEqualTo(1));
+
+        // A new session accumulates into the same profile.
+        scoreDirector.setWorkingSolution(TestdataSolution.generateSolution(2, 7));
+        scoreDirector.calculateScore();
+        assertThat(profile.getNodeProfileMap()).hasSize(1);
+        assertThat(profile.getNodeProfileMap().values().iterator().next().getInsertCount()).isEqualTo(14);
+    }
+
+    private static BavetConstraintStreamScoreDirector<TestdataSolution, SimpleScore> buildScoreDirector() {
+        BavetConstraintStreamScoreDirectorFactory<TestdataSolution, SimpleScore> scoreDirectorFactory =
+                new BavetConstraintStreamScoreDirectorFactory<>(TestdataSolution.buildSolutionDescriptor(),
+                        new BavetNodeNetworkReportTest.DuplicateFilterConstraintProvider(), EnvironmentMode.REPRODUCIBLE);
+        return scoreDirectorFactory.buildScoreDirector(false, false);
+    }
+
+}
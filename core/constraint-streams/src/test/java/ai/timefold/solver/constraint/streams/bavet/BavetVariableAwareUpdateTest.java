@@ -0,0 +1,122 @@
+package ai.timefold.solver.constraint.streams.bavet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.Map;
+
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.score.director.OperationProfile;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataValue;
+import ai.timefold.solver.core.impl.testdata.domain.shadow.TestdataShadowedEntity;
+import ai.timefold.solver.core.impl.testdata.domain.shadow.TestdataShadowedSolution;
+
+import org.junit.jupiter.api.Test;
+
+class BavetVariableAwareUpdateTest {
+
+    @Test
+    void shadowVariableChangeOnlyUpdatesReactingNodes() {
+        BavetConstraintStreamScoreDirector<TestdataShadowedSolution, SimpleScore> scoreDirector =
+                buildScoreDirector(new VariableAwareConstraintProvider());
+        scoreDirector.overwriteProfilingEnabledPreference(true);
+        TestdataShadowedSolution solution = TestdataShadowedSolution.generateSolution(2, 3);
+        scoreDirector.setWorkingSolution(solution);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-6));
+
+        TestdataShadowedEntity entity = solution.getEntityList().get(0);
+        scoreDirector.beforeVariableChanged(entity, "firstShadow");
+        entity.setFirstShadow("changed");
+        scoreDirector.afterVariableChanged(entity, "firstShadow");
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-6));
+        assertThat(findForEachProfile(scoreDirector, "value]").getUpdateCount()).isZero();
+        assertThat(findForEachProfile(scoreDirector, "(TestdataShadowedEntity)").getUpdateCount()).isEqualTo(1);
+
+        // A change of the genuine variable reaches both nodes.
+        TestdataValue value = solution.getValueList().get(1);
+        scoreDirector.beforeVariableChanged(entity, "value");
+        entity.setValue(value);
+        scoreDirector.afterVariableChanged(entity, "value");
+        scoreDirector.triggerVariableListeners();
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-6));
+        assertThat(findForEachProfile(scoreDirector, "value]").getUpdateCount()).isEqualTo(1);
+        assertThat(findForEachProfile(scoreDirector, "(TestdataShadowedEntity)").getUpdateCount()).isEqualTo(3);
+    }
+
+    @Test
+    void sameVariablesShareNode() {
+        BavetConstraintStreamScoreDirector<TestdataShadowedSolution, SimpleScore> scoreDirector =
+                buildScoreDirector(constraintFactory -> new Constraint[] {
+                        constraintFactory.forEach(TestdataShadowedEntity.class, "firstShadow", "value")
+                                .penalize(SimpleScore.ONE)
+                                .asConstraint("First"),
+                        constraintFactory.forEach(TestdataShadowedEntity.class, "value", "firstShadow")
+                                .penalize(SimpleScore.ONE)
+                                .asConstraint("Second")
+                });
+        scoreDirector.setWorkingSolution(TestdataShadowedSolution.generateSolution(2, 3));
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-6));
+        assertThat(scoreDirector.getNodeNetworkReport().getNodeCount()).isEqualTo(1);
+    }
+
+    @Test
+    void failFastOnUnknownVariable() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> buildScoreDirector(constraintFactory -> new Constraint[] {
+                        constraintFactory.forEach(TestdataShadowedEntity.class, "nonExisting")
+                                .penalize(SimpleScore.ONE)
+                                .asConstraint("Unknown variable")
+                }))
+                .withMessageContaining("nonExisting");
+    }
+
+    @Test
+    void failFastOnProblemFact() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> buildScoreDirector(constraintFactory -> new Constraint[] {
+                        constraintFactory.forEach(TestdataValue.class, "value")
+                                .penalize(SimpleScore.ONE)
+                                .asConstraint("Problem fact")
+                }))
+                .withMessageContaining("is not a planning entity class");
+    }
+
+    private static OperationProfile findForEachProfile(
+            BavetConstraintStreamScoreDirector<TestdataShadowedSolution, SimpleScore> scoreDirector, String nodeSuffix) {
+        Map<String, OperationProfile> nodeProfileMap = scoreDirector.getScoreCalculationProfile().getNodeProfileMap();
+        return nodeProfileMap.entrySet().stream()
+                .filter(entry -> entry.getKey().startsWith("ForEachUniNode") && entry.getKey().endsWith(nodeSuffix))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static BavetConstraintStreamScoreDirector<TestdataShadowedSolution, SimpleScore>
+            buildScoreDirector(ConstraintProvider constraintProvider) {
+        BavetConstraintStreamScoreDirectorFactory<TestdataShadowedSolution, SimpleScore> scoreDirectorFactory =
+                new BavetConstraintStreamScoreDirectorFactory<>(TestdataShadowedSolution.buildSolutionDescriptor(),
+                        constraintProvider, EnvironmentMode.REPRODUCIBLE);
+        return scoreDirectorFactory.buildScoreDirector(false, false);
+    }
+
+    public static final class VariableAwareConstraintProvider implements ConstraintProvider {
+
+        @Override
+        public Constraint[] defineConstraints(ConstraintFactory constraintFactory) {
+            return new Constraint[] {
+                    constraintFactory.forEach(TestdataShadowedEntity.class)
+                            .penalize(SimpleScore.ONE)
+                            .asConstraint("Every variable"),
+                    constraintFactory.forEach(TestdataShadowedEntity.class, "value")
+                            .penalize(SimpleScore.ONE)
+                            .asConstraint("Only the genuine variable")
+            };
+        }
+
+    }
+
+}
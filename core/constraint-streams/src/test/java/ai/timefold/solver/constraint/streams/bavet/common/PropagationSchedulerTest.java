@@ -0,0 +1,77 @@
+package ai.timefold.solver.constraint.streams.bavet.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class PropagationSchedulerTest {
+
+    private final List<TestNode> calculatedNodeList = new ArrayList<>();
+
+    @Test
+    void onlyScheduledNodesAreCalculated() {
+        TestNode first = new TestNode(null);
+        TestNode second = new TestNode(null);
+        TestNode third = new TestNode(null);
+        PropagationScheduler scheduler = new PropagationScheduler(new AbstractNode[] { first, second, third });
+
+        scheduler.propagate();
+        assertThat(calculatedNodeList).isEmpty();
+
+        third.schedulePropagation();
+        first.schedulePropagation();
+        first.schedulePropagation();
+        scheduler.propagate();
+        assertThat(calculatedNodeList).containsExactly(first, third);
+
+        calculatedNodeList.clear();
+        scheduler.propagate();
+        assertThat(calculatedNodeList).isEmpty();
+    }
+
+    @Test
+    void downstreamNodesAreCalculatedInTheSameSweep() {
+        TestNode third = new TestNode(null);
+        TestNode second = new TestNode(third);
+        TestNode first = new TestNode(second);
+        PropagationScheduler scheduler = new PropagationScheduler(new AbstractNode[] { first, second, third });
+
+        first.schedulePropagation();
+        scheduler.propagate();
+        assertThat(calculatedNodeList).containsExactly(first, second, third);
+    }
+
+    @Test
+    void failFastOnUpstreamScheduling() {
+        TestNode first = new TestNode(null);
+        TestNode second = new TestNode(first);
+        PropagationScheduler scheduler = new PropagationScheduler(new AbstractNode[] { first, second });
+
+        second.schedulePropagation();
+        assertThatThrownBy(scheduler::propagate)
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private final class TestNode extends AbstractNode {
+
+        private final TestNode downstreamNode;
+
+        private TestNode(TestNode downstreamNode) {
+            this.downstreamNode = downstreamNode;
+        }
+
+        @Override
+        public void calculateScore() {
+            calculatedNodeList.add(this);
+            if (downstreamNode != null) {
+                downstreamNode.schedulePropagation();
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,103 @@
+package ai.timefold.solver.constraint.streams.bavet.common.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import ai.timefold.solver.constraint.streams.bavet.common.tuple.UniTuple;
+import ai.timefold.solver.constraint.streams.common.bi.DefaultBiJoiner;
+import ai.timefold.solver.core.api.score.stream.Joiners;
+import ai.timefold.solver.core.impl.util.ElementAwareListEntry;
+
+import org.junit.jupiter.api.Test;
+
+class ComparisonIndexerTest extends AbstractIndexerTest {
+
+    private final DefaultBiJoiner<Person, Person> lessThanJoiner =
+            (DefaultBiJoiner<Person, Person>) Joiners.lessThan((Person p) -> p.age);
+    private final DefaultBiJoiner<Person, Person> greaterThanOrEqualJoiner =
+            (DefaultBiJoiner<Person, Person>) Joiners.greaterThanOrEqual((Person p) -> p.age);
+
+    @Test
+    void isEmpty() {
+        Indexer<UniTuple<String>> indexer = new IndexerFactory(lessThanJoiner).buildIndexer(true);
+        assertThat(indexer.isEmpty()).isTrue();
+        assertThat(getTuples(indexer, 40)).isEmpty();
+        assertThat(indexer.size(new SingleIndexProperties(40))).isEqualTo(0);
+    }
+
+    @Test
+    void removeTwice() {
+        Indexer<UniTuple<String>> indexer = new IndexerFactory(lessThanJoiner).buildIndexer(true);
+        UniTuple<String> annTuple = newTuple("Ann-40");
+        ElementAwareListEntry<UniTuple<String>> annEntry = indexer.put(new SingleIndexProperties(40), annTuple);
+
+        indexer.remove(new SingleIndexProperties(40), annEntry);
+        assertThat(indexer.isEmpty()).isTrue();
+        assertThatThrownBy(() -> indexer.remove(new SingleIndexProperties(40), annEntry))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void visitLessThan() {
+        Indexer<UniTuple<String>> indexer = new IndexerFactory(lessThanJoiner).buildIndexer(true);
+
+        UniTuple<String> annTuple = newTuple("Ann-40");
+        indexer.put(new SingleIndexProperties(40), annTuple);
+        UniTuple<String> bethTuple = newTuple("Beth-30");
+        indexer.put(new SingleIndexProperties(30), bethTuple);
+        UniTuple<String> carlTuple = newTuple("Carl-20");
+        indexer.put(new SingleIndexProperties(20), carlTuple);
+        UniTuple<String> danTuple = newTuple("Dan-30");
+        indexer.put(new SingleIndexProperties(30), danTuple);
+
+        assertThat(getTuples(indexer, 50)).containsExactly(carlTuple, bethTuple, danTuple, annTuple);
+        assertThat(getTuples(indexer, 40)).containsExactly(carlTuple, bethTuple, danTuple);
+        assertThat(getTuples(indexer, 30)).containsExactly(carlTuple);
+        assertThat(getTuples(indexer, 20)).isEmpty();
+        assertThat(indexer.size(new SingleIndexProperties(50))).isEqualTo(4);
+        assertThat(indexer.size(new SingleIndexProperties(40))).isEqualTo(3);
+        assertThat(indexer.size(new SingleIndexProperties(30))).isEqualTo(1);
+        assertThat(indexer.size(new SingleIndexProperties(20))).isEqualTo(0);
+    }
+
+    @Test
+    void visitGreaterThanOrEqual() {
+        Indexer<UniTuple<String>> indexer = new IndexerFactory(greaterThanOrEqualJoiner).buildIndexer(true);
+
+        UniTuple<String> annTuple = newTuple("Ann-40");
+        indexer.put(new SingleIndexProperties(40), annTuple);
+        UniTuple<String> bethTuple = newTuple("Beth-30");
+        indexer.put(new SingleIndexProperties(30), bethTuple);
+        UniTuple<String> carlTuple = newTuple("Carl-20");
+        indexer.put(new SingleIndexProperties(20), carlTuple);
+
+        assertThat(getTuples(indexer, 30)).containsExactly(annTuple, bethTuple);
+        assertThat(getTuples(indexer, 10)).containsExactly(annTuple, bethTuple, carlTuple);
+        assertThat(getTuples(indexer, 50)).isEmpty();
+        assertThat(indexer.size(new SingleIndexProperties(30))).isEqualTo(2);
+        assertThat(indexer.size(new SingleIndexProperties(10))).isEqualTo(3);
+    }
+
+    @Test
+    void sizeAfterRemovals() {
+        Indexer<UniTuple<String>> indexer = new IndexerFactory(lessThanJoiner).buildIndexer(true);
+
+        ElementAwareListEntry<UniTuple<String>>[] entries = new ElementAwareListEntry[1000];
+        for (int i = 0; i < 1000; i++) {
+            entries[i] = indexer.put(new SingleIndexProperties(i / 2), newTuple("Person-" + i));
+        }
+        for (int i = 0; i < 1000; i += 3) {
+            indexer.remove(new SingleIndexProperties(i / 2), entries[i]);
+        }
+        // Persons 0 to 999 with age i / 2, minus every third one.
+        assertThat(indexer.size(new SingleIndexProperties(500))).isEqualTo(666);
+        assertThat(indexer.size(new SingleIndexProperties(250))).isEqualTo(333);
+        assertThat(getTuples(indexer, 250)).hasSize(333);
+        assertThat(indexer.size(new SingleIndexProperties(0))).isEqualTo(0);
+    }
+
+    private static UniTuple<String> newTuple(String factA) {
+        return new UniTuple<>(factA, 0);
+    }
+
+}
@@ -0,0 +1,145 @@
+package ai.timefold.solver.constraint.streams.bavet.common.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Set;
+
+import ai.timefold.solver.constraint.streams.bavet.common.tuple.UniTuple;
+import ai.timefold.solver.constraint.streams.common.bi.DefaultBiJoiner;
+import ai.timefold.solver.core.impl.score.stream.JoinerType;
+import ai.timefold.solver.core.impl.util.ElementAwareListEntry;
+
+import org.junit.jupiter.api.Test;
+
+class ContainmentIndexerTest extends AbstractIndexerTest {
+
+    static final class Employee {
+
+        public final Set<String> skills;
+
+        public Employee(Set<String> skills) {
+            this.skills = skills;
+        }
+
+    }
+
+    @Test
+    void containingIsEmpty() {
+        Indexer<UniTuple<String>> indexer = buildIndexer(JoinerType.CONTAINING, true);
+        assertThat(indexer.isEmpty()).isTrue();
+        assertThat(getTuples(indexer, "Java")).isEmpty();
+    }
+
+    @Test
+    void containingRemoveTwice() {
+        Indexer<UniTuple<String>> indexer = buildIndexer(JoinerType.CONTAINING, true);
+        UniTuple<String> annTuple = newTuple("Ann-Java-Python");
+        SingleIndexProperties annProperties = new SingleIndexProperties(Set.of("Java", "Python"));
+        ElementAwareListEntry<UniTuple<String>> annEntry = indexer.put(annProperties, annTuple);
+        assertThat(indexer.size(new SingleIndexProperties("Java"))).isEqualTo(1);
+
+        indexer.remove(annProperties, annEntry);
+        assertThat(indexer.isEmpty()).isTrue();
+        assertThat(indexer.size(new SingleIndexProperties("Java"))).isEqualTo(0);
+        assertThatThrownBy(() -> indexer.remove(annProperties, annEntry))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void containingVisit() {
+        Indexer<UniTuple<String>> indexer = buildIndexer(JoinerType.CONTAINING, true);
+
+        UniTuple<String> annTuple = newTuple("Ann-Java-Python");
+        indexer.put(new SingleIndexProperties(Set.of("Java", "Python")), annTuple);
+        UniTuple<String> bethTuple = newTuple("Beth-Java");
+        indexer.put(new SingleIndexProperties(List.of("Java", "Java")), bethTuple);
+        UniTuple<String> carlTuple = newTuple("Carl");
+        indexer.put(new SingleIndexProperties(Set.of()), carlTuple);
+
+        assertThat(getTuples(indexer, "Java")).containsExactly(annTuple, bethTuple);
+        assertThat(getTuples(indexer, "Python")).containsExactly(annTuple);
+        assertThat(getTuples(indexer, "Rust")).isEmpty();
+    }
+
+    @Test
+    void containedInVisit() {
+        // The right bridge of a CONTAINING joiner indexes the elements, and is visited with the collections.
+        Indexer<UniTuple<String>> indexer = buildIndexer(JoinerType.CONTAINING, false);
+
+        UniTuple<String> javaTuple = newTuple("Task-Java");
+        indexer.put(new SingleIndexProperties("Java"), javaTuple);
+        UniTuple<String> pythonTuple = newTuple("Task-Python");
+        indexer.put(new SingleIndexProperties("Python"), pythonTuple);
+        indexer.put(new SingleIndexProperties("Rust"), newTuple("Task-Rust"));
+
+        assertThat(getTuples(indexer, Set.of("Java", "Python"))).containsOnly(javaTuple, pythonTuple);
+        assertThat(getTuples(indexer, List.of("Java", "Java"))).containsExactly(javaTuple);
+        assertThat(indexer.size(new SingleIndexProperties(List.of("Java", "Java", "Python")))).isEqualTo(2);
+        assertThat(getTuples(indexer, Set.of())).isEmpty();
+    }
+
+    @Test
+    void intersectingVisit() {
+        Indexer<UniTuple<String>> indexer = buildIndexer(JoinerType.INTERSECTING, true);
+
+        UniTuple<String> annTuple = newTuple("Ann-Java-Python");
+        indexer.put(new SingleIndexProperties(Set.of("Java", "Python")), annTuple);
+        UniTuple<String> bethTuple = newTuple("Beth-Java");
+        indexer.put(new SingleIndexProperties(Set.of("Java")), bethTuple);
+        UniTuple<String> carlTuple = newTuple("Carl-Rust");
+        indexer.put(new SingleIndexProperties(Set.of("Rust")), carlTuple);
+
+        assertThat(getTuples(indexer, List.of("Java", "Python"))).containsExactly(annTuple, bethTuple);
+        assertThat(indexer.size(new SingleIndexProperties(List.of("Java", "Python")))).isEqualTo(2);
+        assertThat(getTuples(indexer, Set.of("Python", "Rust"))).containsOnly(annTuple, carlTuple);
+        assertThat(getTuples(indexer, Set.of("Go"))).isEmpty();
+    }
+
+    @Test
+    void disjointVisit() {
+        Indexer<UniTuple<String>> indexer = buildIndexer(JoinerType.DISJOINT, true);
+
+        UniTuple<String> annTuple = newTuple("Ann-Java-Python");
+        indexer.put(new SingleIndexProperties(Set.of("Java", "Python")), annTuple);
+        UniTuple<String> bethTuple = newTuple("Beth-Java");
+        indexer.put(new SingleIndexProperties(Set.of("Java")), bethTuple);
+        UniTuple<String> carlTuple = newTuple("Carl");
+        indexer.put(new SingleIndexProperties(Set.of()), carlTuple);
+
+        assertThat(getTuples(indexer, Set.of("Python"))).containsExactly(bethTuple, carlTuple);
+        assertThat(indexer.size(new SingleIndexProperties(Set.of("Python")))).isEqualTo(2);
+        assertThat(getTuples(indexer, Set.of("Java"))).containsExactly(carlTuple);
+        assertThat(getTuples(indexer, Set.of())).containsExactly(annTuple, bethTuple, carlTuple);
+    }
+
+    @Test
+    void equalsAndContainingVisit() {
+        DefaultBiJoiner<Employee, String> joiner =
+                new DefaultBiJoiner<Employee, String>(employee -> "F", JoinerType.EQUAL, task -> "F")
+                        .and(new DefaultBiJoiner<>(employee -> employee.skills, JoinerType.CONTAINING, task -> task));
+        Indexer<UniTuple<String>> indexer = new IndexerFactory(joiner).buildIndexer(true);
+
+        UniTuple<String> annTuple = newTuple("Ann-F-Java");
+        indexer.put(new ManyIndexProperties("F", Set.of("Java")), annTuple);
+        UniTuple<String> bethTuple = newTuple("Beth-F-Java-Python");
+        indexer.put(new ManyIndexProperties("F", Set.of("Java", "Python")), bethTuple);
+        indexer.put(new ManyIndexProperties("M", Set.of("Java")), newTuple("Carl-M-Java"));
+
+        assertThat(getTuples(indexer, "F", "Java")).containsExactly(annTuple, bethTuple);
+        assertThat(getTuples(indexer, "F", "Python")).containsExactly(bethTuple);
+        assertThat(getTuples(indexer, "M", "Python")).isEmpty();
+    }
+
+    private static Indexer<UniTuple<String>> buildIndexer(JoinerType joinerType, boolean isLeftBridge) {
+        DefaultBiJoiner<Employee, String> joiner =
+                new DefaultBiJoiner<>(employee -> employee.skills, joinerType, task -> task);
+        return new IndexerFactory(joiner).buildIndexer(isLeftBridge);
+    }
+
+    private static UniTuple<String> newTuple(String factA) {
+        return new UniTuple<>(factA, 0);
+    }
+
+}
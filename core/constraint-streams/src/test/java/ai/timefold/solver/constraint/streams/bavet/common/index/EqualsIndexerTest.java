@@ -3,6 +3,9 @@ package ai.timefold.solver.constraint.streams.bavet.common.index;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.time.DayOfWeek;
+import java.util.concurrent.TimeUnit;
+
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.UniTuple;
 import ai.timefold.solver.constraint.streams.common.bi.DefaultBiJoiner;
 import ai.timefold.solver.core.api.score.stream.Joiners;
@@ -60,6 +63,105 @@ class EqualsIndexerTest extends AbstractIndexerTest {
         assertThat(getTuples(indexer, "F", 20)).isEmpty();
     }
 
+    @Test
+    void visitIntKeys() {
+        Indexer<UniTuple<String>> indexer = buildSingleKeyIndexer();
+
+        UniTuple<String> annTuple = newTuple("Ann-40");
+        indexer.put(new SingleIndexProperties(40), annTuple);
+        UniTuple<String> bethTuple = newTuple("Beth-30");
+        ElementAwareListEntry<UniTuple<String>> bethEntry = indexer.put(new SingleIndexProperties(30), bethTuple);
+        UniTuple<String> carlTuple = newTuple("Carl-40");
+        indexer.put(new SingleIndexProperties(40), carlTuple);
+        for (int i = 0; i < 100; i++) { // Forces the map to grow.
+            indexer.put(new SingleIndexProperties(1000 + i), newTuple("Other-" + i));
+        }
+
+        assertThat(getTuples(indexer, 40)).containsExactly(annTuple, carlTuple);
+        assertThat(getTuples(indexer, 30)).containsExactly(bethTuple);
+        assertThat(getTuples(indexer, 40L)).isEmpty();
+        assertThat(getTuples(indexer, "40")).isEmpty();
+        indexer.remove(new SingleIndexProperties(30), bethEntry);
+        assertThat(getTuples(indexer, 30)).isEmpty();
+        assertThat(getTuples(indexer, 1099)).hasSize(1);
+    }
+
+    @Test
+    void visitLongKeys() {
+        Indexer<UniTuple<String>> indexer = buildSingleKeyIndexer();
+
+        UniTuple<String> annTuple = newTuple("Ann-40");
+        indexer.put(new SingleIndexProperties(40L), annTuple);
+        UniTuple<String> bethTuple = newTuple("Beth-30");
+        indexer.put(new SingleIndexProperties(Long.MAX_VALUE), bethTuple);
+
+        assertThat(getTuples(indexer, 40L)).containsExactly(annTuple);
+        assertThat(getTuples(indexer, Long.MAX_VALUE)).containsExactly(bethTuple);
+        assertThat(getTuples(indexer, 40)).isEmpty();
+    }
+
+    @Test
+    void visitEnumKeys() {
+        Indexer<UniTuple<String>> indexer = buildSingleKeyIndexer();
+
+        UniTuple<String> annTuple = newTuple("Ann-HOURS");
+        ElementAwareListEntry<UniTuple<String>> annEntry =
+                indexer.put(new SingleIndexProperties(TimeUnit.HOURS), annTuple);
+        UniTuple<String> bethTuple = newTuple("Beth-DAYS");
+        indexer.put(new SingleIndexProperties(TimeUnit.DAYS), bethTuple);
+
+        assertThat(getTuples(indexer, TimeUnit.HOURS)).containsExactly(annTuple);
+        assertThat(getTuples(indexer, TimeUnit.DAYS)).containsExactly(bethTuple);
+        assertThat(getTuples(indexer, TimeUnit.SECONDS)).isEmpty();
+        assertThat(getTuples(indexer, DayOfWeek.MONDAY)).isEmpty();
+        indexer.remove(new SingleIndexProperties(TimeUnit.HOURS), annEntry);
+        assertThat(getTuples(indexer, TimeUnit.HOURS)).isEmpty();
+    }
+
+    @Test
+    void visitMixedKeys() {
+        Indexer<UniTuple<String>> indexer = buildSingleKeyIndexer();
+
+        UniTuple<String> annTuple = newTuple("Ann-40");
+        indexer.put(new SingleIndexProperties(40), annTuple);
+        // Neither a null key nor a string key fit a map specialized for the first key, an int.
+        UniTuple<String> bethTuple = newTuple("Beth-null");
+        ElementAwareListEntry<UniTuple<String>> bethEntry = indexer.put(new SingleIndexProperties(null), bethTuple);
+        UniTuple<String> carlTuple = newTuple("Carl-40");
+        indexer.put(new SingleIndexProperties("40"), carlTuple);
+
+        assertThat(getTuples(indexer, 40)).containsExactly(annTuple);
+        assertThat(getTuples(indexer, new Object[] { null })).containsExactly(bethTuple);
+        assertThat(getTuples(indexer, "40")).containsExactly(carlTuple);
+        indexer.remove(new SingleIndexProperties(null), bethEntry);
+        assertThat(getTuples(indexer, new Object[] { null })).isEmpty();
+    }
+
+    @Test
+    void visitPartialCompositeKeys() {
+        DefaultBiJoiner<Person, Person> lessThanAndEqualJoiner =
+                (DefaultBiJoiner<Person, Person>) Joiners.lessThan((Person p) -> p.age)
+                        .and(Joiners.equal((Person p) -> p.gender))
+                        .and(Joiners.equal((Person p) -> p.age));
+        Indexer<UniTuple<String>> indexer = new IndexerFactory(lessThanAndEqualJoiner).buildIndexer(true);
+
+        UniTuple<String> annTuple = newTuple("Ann-F-40");
+        indexer.put(new ManyIndexProperties(40, "F", 40), annTuple);
+        UniTuple<String> bethTuple = newTuple("Beth-F-30");
+        indexer.put(new ManyIndexProperties(30, "F", 30), bethTuple);
+        indexer.put(new ManyIndexProperties(40, "M", 40), newTuple("Carl-M-40"));
+
+        assertThat(getTuples(indexer, 50, "F", 40)).containsExactly(annTuple);
+        assertThat(getTuples(indexer, 50, "F", 30)).containsExactly(bethTuple);
+        assertThat(getTuples(indexer, 40, "F", 40)).isEmpty();
+    }
+
+    private static Indexer<UniTuple<String>> buildSingleKeyIndexer() {
+        DefaultBiJoiner<Person, Person> singleJoiner =
+                (DefaultBiJoiner<Person, Person>) Joiners.equal((Person p) -> (Object) p.age);
+        return new IndexerFactory(singleJoiner).buildIndexer(true);
+    }
+
     private static UniTuple<String> newTuple(String factA) {
         return new UniTuple<>(factA, 0);
     }
@@ -0,0 +1,128 @@
+package ai.timefold.solver.constraint.streams.bavet.common.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import ai.timefold.solver.constraint.streams.bavet.common.tuple.UniTuple;
+import ai.timefold.solver.constraint.streams.common.bi.DefaultBiJoiner;
+import ai.timefold.solver.core.api.score.stream.Joiners;
+import ai.timefold.solver.core.impl.util.ElementAwareListEntry;
+
+import org.junit.jupiter.api.Test;
+
+class IntervalIndexerTest extends AbstractIndexerTest {
+
+    static final class Shift {
+
+        public final int start;
+        public final int end;
+
+        public Shift(int start, int end) {
+            this.start = start;
+            this.end = end;
+        }
+
+    }
+
+    private final DefaultBiJoiner<Shift, Shift> joiner =
+            (DefaultBiJoiner<Shift, Shift>) Joiners.overlapping((Shift s) -> s.start, s -> s.end);
+
+    /*
+     * The left indexer is keyed on (leftStart, leftEnd), and visited with (rightEnd, rightStart).
+     */
+
+    @Test
+    void isEmpty() {
+        Indexer<UniTuple<String>> indexer = new IndexerFactory(joiner).buildIndexer(true);
+        assertThat(indexer).isInstanceOf(IntervalIndexer.class);
+        assertThat(indexer.isEmpty()).isTrue();
+        assertThat(getTuples(indexer, 10, 0)).isEmpty();
+    }
+
+    @Test
+    void put() {
+        Indexer<UniTuple<String>> indexer = new IndexerFactory(joiner).buildIndexer(true);
+        UniTuple<String> annTuple = newTuple("Ann-0-10");
+        assertThat(indexer.size(new ManyIndexProperties(10, 0))).isEqualTo(0);
+        indexer.put(new ManyIndexProperties(0, 10), annTuple);
+        assertThat(indexer.size(new ManyIndexProperties(10, 0))).isEqualTo(1);
+        assertThat(indexer.isEmpty()).isFalse();
+    }
+
+    @Test
+    void removeTwice() {
+        Indexer<UniTuple<String>> indexer = new IndexerFactory(joiner).buildIndexer(true);
+        UniTuple<String> annTuple = newTuple("Ann-0-10");
+        ElementAwareListEntry<UniTuple<String>> annEntry = indexer.put(new ManyIndexProperties(0, 10), annTuple);
+
+        indexer.remove(new ManyIndexProperties(0, 10), annEntry);
+        assertThat(indexer.isEmpty()).isTrue();
+        assertThatThrownBy(() -> indexer.remove(new ManyIndexProperties(0, 10), annEntry))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void visit() {
+        Indexer<UniTuple<String>> indexer = new IndexerFactory(joiner).buildIndexer(true);
+
+        UniTuple<String> annTuple = newTuple("Ann-0-10");
+        indexer.put(new ManyIndexProperties(0, 10), annTuple);
+        UniTuple<String> bethTuple = newTuple("Beth-5-15");
+        indexer.put(new ManyIndexProperties(5, 15), bethTuple);
+        UniTuple<String> carlTuple = newTuple("Carl-10-20");
+        indexer.put(new ManyIndexProperties(10, 20), carlTuple);
+        UniTuple<String> danTuple = newTuple("Dan-20-30");
+        indexer.put(new ManyIndexProperties(20, 30), danTuple);
+        UniTuple<String> ednaTuple = newTuple("Edna-0-30");
+        indexer.put(new ManyIndexProperties(0, 30), ednaTuple);
+
+        assertThat(getTuples(indexer, 5, 0)).containsOnly(annTuple, ednaTuple);
+        assertThat(getTuples(indexer, 20, 10)).containsOnly(bethTuple, carlTuple, ednaTuple);
+        assertThat(getTuples(indexer, 11, 10)).containsOnly(bethTuple, carlTuple, ednaTuple);
+        assertThat(getTuples(indexer, 40, 30)).isEmpty();
+        assertThat(getTuples(indexer, 0, -10)).isEmpty();
+    }
+
+    @Test
+    void visitRightBridge() {
+        Indexer<UniTuple<String>> indexer = new IndexerFactory(joiner).buildIndexer(false);
+        assertThat(indexer).isInstanceOf(IntervalIndexer.class);
+
+        /*
+         * The right indexer is keyed on (rightEnd, rightStart), and visited with (leftStart, leftEnd).
+         */
+        UniTuple<String> annTuple = newTuple("Ann-0-10");
+        indexer.put(new ManyIndexProperties(10, 0), annTuple);
+        UniTuple<String> bethTuple = newTuple("Beth-5-15");
+        indexer.put(new ManyIndexProperties(15, 5), bethTuple);
+        UniTuple<String> carlTuple = newTuple("Carl-20-30");
+        indexer.put(new ManyIndexProperties(30, 20), carlTuple);
+
+        assertThat(getTuples(indexer, 0, 5)).containsOnly(annTuple);
+        assertThat(getTuples(indexer, 10, 20)).containsOnly(bethTuple);
+        assertThat(getTuples(indexer, 0, 30)).containsOnly(annTuple, bethTuple, carlTuple);
+        assertThat(getTuples(indexer, 15, 20)).isEmpty();
+    }
+
+    @Test
+    void visitAfterRemovals() {
+        Indexer<UniTuple<String>> indexer = new IndexerFactory(joiner).buildIndexer(true);
+
+        ElementAwareListEntry<UniTuple<String>>[] entries = new ElementAwareListEntry[100];
+        for (int i = 0; i < 100; i++) {
+            entries[i] = indexer.put(new ManyIndexProperties(i, i + 2), newTuple("Shift-" + i));
+        }
+        for (int i = 0; i < 100; i += 2) {
+            indexer.remove(new ManyIndexProperties(i, i + 2), entries[i]);
+        }
+        assertThat(getTuples(indexer, 51, 50)).extracting(tuple -> tuple.factA)
+                .containsOnly("Shift-49");
+        assertThat(getTuples(indexer, 100, 0)).hasSize(50);
+        assertThat(indexer.size(new ManyIndexProperties(100, 0))).isEqualTo(50);
+    }
+
+    private static UniTuple<String> newTuple(String factA) {
+        return new UniTuple<>(factA, 0);
+    }
+
+}
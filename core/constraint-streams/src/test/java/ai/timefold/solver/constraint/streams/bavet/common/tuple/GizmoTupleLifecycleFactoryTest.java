@@ -0,0 +1,66 @@
+package ai.timefold.solver.constraint.streams.bavet.common.tuple;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+
+import ai.timefold.solver.core.impl.domain.common.accessor.gizmo.GizmoClassLoader;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+class GizmoTupleLifecycleFactoryTest {
+
+    @Test
+    void callsEveryReceiverInOrder() {
+        TupleLifecycle<UniTuple<String>> plain = mock(TupleLifecycle.class);
+        LeftTupleLifecycle<UniTuple<String>> left = mock(LeftTupleLifecycle.class);
+        RightTupleLifecycle<UniTuple<String>> right = mock(RightTupleLifecycle.class);
+        TupleLifecycle<UniTuple<String>>[] tupleLifecycles = new TupleLifecycle[] {
+                plain, TupleLifecycle.ofLeft(left), TupleLifecycle.ofRight(right) };
+        TupleLifecycle<UniTuple<String>> tupleLifecycle =
+                GizmoTupleLifecycleFactory.build(tupleLifecycles, new GizmoClassLoader());
+        assertThat(tupleLifecycle.getClass().getName())
+                .startsWith("ai.timefold.solver.constraint.streams.bavet.generated.TupleLifecycle$TLR$");
+
+        UniTuple<String> tuple = new UniTuple<>("A", 0);
+        tupleLifecycle.insert(tuple);
+        tupleLifecycle.update(tuple);
+        tupleLifecycle.retract(tuple);
+        InOrder inOrder = inOrder(plain, left, right);
+        inOrder.verify(plain).insert(tuple);
+        inOrder.verify(left).insertLeft(tuple);
+        inOrder.verify(right).insertRight(tuple);
+        inOrder.verify(plain).update(tuple);
+        inOrder.verify(left).updateLeft(tuple);
+        inOrder.verify(right).updateRight(tuple);
+        inOrder.verify(plain).retract(tuple);
+        inOrder.verify(left).retractLeft(tuple);
+        inOrder.verify(right).retractRight(tuple);
+        inOrder.verifyNoMoreInteractions();
+    }
+
+    @Test
+    void sameReceiverClassesShareGeneratedClass() {
+        GizmoClassLoader gizmoClassLoader = new GizmoClassLoader();
+        LeftTupleLifecycle<UniTuple<String>> left = mock(LeftTupleLifecycle.class);
+        TupleLifecycle<UniTuple<String>> tupleLifecycle = GizmoTupleLifecycleFactory.build(
+                new TupleLifecycle[] { TupleLifecycle.ofLeft(left) }, gizmoClassLoader);
+        TupleLifecycle<UniTuple<String>> otherTupleLifecycle = GizmoTupleLifecycleFactory.build(
+                new TupleLifecycle[] { TupleLifecycle.ofLeft(left) }, gizmoClassLoader);
+        assertThat(otherTupleLifecycle).isNotSameAs(tupleLifecycle);
+        assertThat(otherTupleLifecycle.getClass()).isSameAs(tupleLifecycle.getClass());
+        assertThat(gizmoClassLoader.getClassNameSet()).hasSize(1);
+    }
+
+    @Test
+    void singlePlainReceiverIsNotWrapped() {
+        GizmoClassLoader gizmoClassLoader = new GizmoClassLoader();
+        TupleLifecycle<UniTuple<String>> plain = mock(TupleLifecycle.class);
+        TupleLifecycle<UniTuple<String>> tupleLifecycle =
+                GizmoTupleLifecycleFactory.build(new TupleLifecycle[] { plain }, gizmoClassLoader);
+        assertThat(tupleLifecycle).isSameAs(plain);
+        assertThat(gizmoClassLoader.getClassNameSet()).isEmpty();
+    }
+
+}
@@ -1,5 +1,6 @@
 package ai.timefold.solver.constraint.streams.common;
 
+import static ai.timefold.solver.core.impl.score.stream.JoinerType.CONTAINED_IN;
 import static ai.timefold.solver.core.impl.score.stream.JoinerType.CONTAINING;
 import static ai.timefold.solver.core.impl.score.stream.JoinerType.DISJOINT;
 import static ai.timefold.solver.core.impl.score.stream.JoinerType.EQUAL;
@@ -9,6 +10,7 @@ import static ai.timefold.solver.core.impl.score.stream.JoinerType.INTERSECTING;
 import static ai.timefold.solver.core.impl.score.stream.JoinerType.LESS_THAN;
 import static ai.timefold.solver.core.impl.score.stream.JoinerType.LESS_THAN_OR_EQUAL;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -61,6 +63,13 @@ class JoinerTypeTest {
         assertThat(CONTAINING.matches(collection, 2)).isFalse();
     }
 
+    @Test
+    void containedIn() {
+        Collection<Integer> collection = Arrays.asList(1);
+        assertThat(CONTAINED_IN.matches(1, collection)).isTrue();
+        assertThat(CONTAINED_IN.matches(2, collection)).isFalse();
+    }
+
     @Test
     void intersecting() {
         Collection<Integer> left = Arrays.asList(1, 2, 3);
@@ -83,4 +92,26 @@ class JoinerTypeTest {
         assertThat(DISJOINT.matches(Collections.emptyList(), Collections.emptySet())).isTrue();
         assertThat(DISJOINT.matches(first, Collections.emptySet())).isTrue();
     }
+
+    @Test
+    void flip() {
+        assertThat(LESS_THAN.flip()).isEqualTo(GREATER_THAN);
+        assertThat(LESS_THAN_OR_EQUAL.flip()).isEqualTo(GREATER_THAN_OR_EQUAL);
+        assertThat(GREATER_THAN.flip()).isEqualTo(LESS_THAN);
+        assertThat(GREATER_THAN_OR_EQUAL.flip()).isEqualTo(LESS_THAN_OR_EQUAL);
+        assertThat(CONTAINING.flip()).isEqualTo(CONTAINED_IN);
+        assertThat(CONTAINED_IN.flip()).isEqualTo(CONTAINING);
+        assertThat(INTERSECTING.flip()).isEqualTo(INTERSECTING);
+        assertThat(DISJOINT.flip()).isEqualTo(DISJOINT);
+        assertThatIllegalStateException().isThrownBy(EQUAL::flip);
+    }
+
+    @Test
+    void flipMatchesMirroredArguments() {
+        Collection<Integer> collection = Arrays.asList(1, 2);
+        assertThat(CONTAINING.flip().matches(1, collection)).isTrue();
+        assertThat(CONTAINING.flip().matches(3, collection)).isFalse();
+        assertThat(CONTAINED_IN.flip().matches(collection, 2)).isTrue();
+        assertThat(CONTAINED_IN.flip().matches(collection, 3)).isFalse();
+    }
 }
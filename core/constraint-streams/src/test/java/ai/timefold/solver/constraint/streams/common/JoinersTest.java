@@ -4,6 +4,9 @@ import static org.assertj.core.api.SoftAssertions.assertSoftly;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -303,6 +306,104 @@ class JoinersTest {
         });
     }
 
+    @Test
+    void containingBi() {
+        Function<List<Long>, List<Long>> leftMapping = Function.identity();
+        Function<BigDecimal, Long> rightMapping = BigDecimal::longValue;
+        DefaultBiJoiner<List<Long>, BigDecimal> joiner = (DefaultBiJoiner<List<Long>, BigDecimal>) Joiners
+                .containing(leftMapping, rightMapping);
+        assertSoftly(softly -> {
+            softly.assertThat(joiner.matches(List.of(1L, 10L), BigDecimal.TEN)).isTrue();
+            softly.assertThat(joiner.matches(List.of(1L, 10L), BigDecimal.ZERO)).isFalse();
+            softly.assertThat(joiner.matches(Collections.emptyList(), BigDecimal.ZERO)).isFalse();
+        });
+    }
+
+    @Test
+    void containedInBi() {
+        Function<BigInteger, Long> leftMapping = BigInteger::longValue;
+        Function<Set<Long>, Set<Long>> rightMapping = Function.identity();
+        DefaultBiJoiner<BigInteger, Set<Long>> joiner = (DefaultBiJoiner<BigInteger, Set<Long>>) Joiners
+                .containedIn(leftMapping, rightMapping);
+        assertSoftly(softly -> {
+            softly.assertThat(joiner.matches(BigInteger.TEN, Set.of(1L, 10L))).isTrue();
+            softly.assertThat(joiner.matches(BigInteger.ZERO, Set.of(1L, 10L))).isFalse();
+            softly.assertThat(joiner.matches(BigInteger.ZERO, Collections.emptySet())).isFalse();
+        });
+    }
+
+    @Test
+    void intersectingBi() {
+        Function<List<Long>, List<Long>> mapping = Function.identity();
+        DefaultBiJoiner<List<Long>, List<Long>> joiner = (DefaultBiJoiner<List<Long>, List<Long>>) Joiners
+                .intersecting(mapping);
+        assertSoftly(softly -> {
+            softly.assertThat(joiner.matches(List.of(1L, 10L), List.of(10L, 20L))).isTrue();
+            softly.assertThat(joiner.matches(List.of(1L, 10L), List.of(20L))).isFalse();
+            softly.assertThat(joiner.matches(List.of(1L, 10L), Collections.emptyList())).isFalse();
+        });
+    }
+
+    @Test
+    void disjointBi() {
+        Function<List<Long>, List<Long>> mapping = Function.identity();
+        DefaultBiJoiner<List<Long>, List<Long>> joiner = (DefaultBiJoiner<List<Long>, List<Long>>) Joiners
+                .disjoint(mapping);
+        assertSoftly(softly -> {
+            softly.assertThat(joiner.matches(List.of(1L, 10L), List.of(10L, 20L))).isFalse();
+            softly.assertThat(joiner.matches(List.of(1L, 10L), List.of(20L))).isTrue();
+            softly.assertThat(joiner.matches(List.of(1L, 10L), Collections.emptyList())).isTrue();
+        });
+    }
+
+    @Test
+    void containingTri() {
+        BiFunction<BigInteger, BigInteger, List<Long>> leftMapping = (a, b) -> List.of(a.longValue(), b.longValue());
+        Function<BigDecimal, Long> rightMapping = BigDecimal::longValue;
+        DefaultTriJoiner<BigInteger, BigInteger, BigDecimal> joiner =
+                (DefaultTriJoiner<BigInteger, BigInteger, BigDecimal>) Joiners.containing(leftMapping, rightMapping);
+        assertSoftly(softly -> {
+            softly.assertThat(joiner.matches(BigInteger.ONE, BigInteger.TEN, BigDecimal.TEN)).isTrue();
+            softly.assertThat(joiner.matches(BigInteger.ONE, BigInteger.TEN, BigDecimal.ZERO)).isFalse();
+        });
+    }
+
+    @Test
+    void containedInQuad() {
+        TriFunction<BigInteger, BigInteger, BigInteger, Long> leftMapping = (a, b, c) -> a.add(b).add(c).longValue();
+        Function<List<Long>, List<Long>> rightMapping = Function.identity();
+        DefaultQuadJoiner<BigInteger, BigInteger, BigInteger, List<Long>> joiner =
+                (DefaultQuadJoiner<BigInteger, BigInteger, BigInteger, List<Long>>) Joiners
+                        .containedIn(leftMapping, rightMapping);
+        assertSoftly(softly -> {
+            softly.assertThat(joiner.matches(BigInteger.TEN, BigInteger.ZERO, BigInteger.ZERO, List.of(10L))).isTrue();
+            softly.assertThat(joiner.matches(BigInteger.ONE, BigInteger.ZERO, BigInteger.ZERO, List.of(10L))).isFalse();
+        });
+    }
+
+    @Test
+    void intersectingAndDisjointPenta() {
+        QuadFunction<BigInteger, BigInteger, BigInteger, BigInteger, List<Long>> leftMapping =
+                (a, b, c, d) -> List.of(a.longValue(), b.longValue(), c.longValue(), d.longValue());
+        Function<List<Long>, List<Long>> rightMapping = Function.identity();
+        DefaultPentaJoiner<BigInteger, BigInteger, BigInteger, BigInteger, List<Long>> intersectingJoiner =
+                (DefaultPentaJoiner<BigInteger, BigInteger, BigInteger, BigInteger, List<Long>>) Joiners
+                        .intersecting(leftMapping, rightMapping);
+        DefaultPentaJoiner<BigInteger, BigInteger, BigInteger, BigInteger, List<Long>> disjointJoiner =
+                (DefaultPentaJoiner<BigInteger, BigInteger, BigInteger, BigInteger, List<Long>>) Joiners
+                        .disjoint(leftMapping, rightMapping);
+        assertSoftly(softly -> {
+            softly.assertThat(intersectingJoiner.matches(BigInteger.ONE, BigInteger.ZERO, BigInteger.ZERO, BigInteger.ZERO,
+                    List.of(1L, 2L))).isTrue();
+            softly.assertThat(intersectingJoiner.matches(BigInteger.TEN, BigInteger.ZERO, BigInteger.ZERO, BigInteger.ZERO,
+                    List.of(1L, 2L))).isFalse();
+            softly.assertThat(disjointJoiner.matches(BigInteger.ONE, BigInteger.ZERO, BigInteger.ZERO, BigInteger.ZERO,
+                    List.of(1L, 2L))).isFalse();
+            softly.assertThat(disjointJoiner.matches(BigInteger.TEN, BigInteger.ZERO, BigInteger.ZERO, BigInteger.ZERO,
+                    List.of(1L, 2L))).isTrue();
+        });
+    }
+
     private static final class Interval<A, B> {
         final A start;
         final A end;
@@ -3,6 +3,7 @@ package ai.timefold.solver.constraint.streams.common.inliner;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 import ai.timefold.solver.constraint.streams.common.AbstractConstraint;
 import ai.timefold.solver.constraint.streams.common.InnerConstraintFactory;
@@ -58,6 +59,11 @@ public abstract class AbstractScoreInlinerTest<Solution_, Score_ extends Score<S
             throw new UnsupportedOperationException();
         }
 
+        @Override
+        public <A> UniConstraintStream<A> forEachIncludingNullVars(Class<A> sourceClass, Set<String> variableNameSet) {
+            throw new UnsupportedOperationException();
+        }
+
         @Override
         public <A> UniConstraintStream<A> fromUnfiltered(Class<A> fromClass) {
             throw new UnsupportedOperationException();
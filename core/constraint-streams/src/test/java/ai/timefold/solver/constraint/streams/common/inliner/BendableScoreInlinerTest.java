@@ -20,6 +20,18 @@ class BendableScoreInlinerTest extends AbstractScoreInlinerTest<TestdataBendable
         assertThat(scoreInliner.extractScore(0)).isEqualTo(buildScore(0, 0, 0));
     }
 
+    @Test
+    void compareScoreTo() {
+        var impacter = buildScoreImpacter(buildScore(1, 0, 10));
+        var scoreInliner = (AbstractScoreInliner<BendableScore>) impacter.getContext().parent;
+        impacter.impactScore(1, ConstraintMatchSupplier.empty());
+
+        assertThat(scoreInliner.compareScoreTo(0, buildScore(1, 0, 10))).isZero();
+        assertThat(scoreInliner.compareScoreTo(0, buildScore(1, 0, 9))).isPositive();
+        assertThat(scoreInliner.compareScoreTo(0, buildScore(1, 1, 0))).isNegative();
+        assertThat(scoreInliner.compareScoreTo(-1, buildScore(1, 0, 10))).isNegative();
+    }
+
     @Test
     void impactHard() {
         var constraintWeight = buildScore(90, 0, 0);
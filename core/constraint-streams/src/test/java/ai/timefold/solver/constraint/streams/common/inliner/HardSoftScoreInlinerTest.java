@@ -20,6 +20,18 @@ class HardSoftScoreInlinerTest extends AbstractScoreInlinerTest<TestdataHardSoft
         assertThat(scoreInliner.extractScore(0)).isEqualTo(HardSoftScore.ZERO);
     }
 
+    @Test
+    void compareScoreTo() {
+        var impacter = buildScoreImpacter(HardSoftScore.of(1, 10));
+        var scoreInliner = (AbstractScoreInliner<HardSoftScore>) impacter.getContext().parent;
+        impacter.impactScore(1, ConstraintMatchSupplier.empty());
+
+        assertThat(scoreInliner.compareScoreTo(0, HardSoftScore.of(1, 10))).isZero();
+        assertThat(scoreInliner.compareScoreTo(0, HardSoftScore.of(1, 9))).isPositive();
+        assertThat(scoreInliner.compareScoreTo(0, HardSoftScore.of(2, 0))).isNegative();
+        assertThat(scoreInliner.compareScoreTo(-1, HardSoftScore.of(1, 10))).isNegative();
+    }
+
     @Test
     void impactHard() {
         var constraintWeight = HardSoftScore.ofHard(90);
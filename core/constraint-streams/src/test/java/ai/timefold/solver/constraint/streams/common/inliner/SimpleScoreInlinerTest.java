@@ -1,12 +1,17 @@
 package ai.timefold.solver.constraint.streams.common.inliner;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
+import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.api.score.constraint.ConstraintMatchTotal;
 import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.DefaultConstraintJustification;
 import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
 
@@ -43,6 +48,80 @@ class SimpleScoreInlinerTest extends AbstractScoreInlinerTest<TestdataSolution,
                 .isEqualTo(SimpleScore.of(0));
     }
 
+    @Test
+    void constraintMatchTotalsAndIndictmentsUpdatedIncrementally() {
+        var constraintWeight = SimpleScore.of(10);
+        var impacter = buildScoreImpacter(constraintWeight);
+        var scoreInliner = (AbstractScoreInliner<SimpleScore>) impacter.getContext().parent;
+
+        var undoA = impacter.impactScore(1, buildConstraintMatchSupplier("A"));
+        var constraintMatchTotal = extractConstraintMatchTotal(scoreInliner);
+        assertThat(constraintMatchTotal.getScore()).isEqualTo(SimpleScore.of(10));
+        assertThat(scoreInliner.getIndictmentMap()).containsOnlyKeys("A");
+        // Nothing changed in between, so nothing is copied.
+        assertThat(extractConstraintMatchTotal(scoreInliner)).isSameAs(constraintMatchTotal);
+
+        var undoB = impacter.impactScore(2, buildConstraintMatchSupplier("B"));
+        var undoC = impacter.impactScore(3, buildConstraintMatchSupplier("C"));
+        undoC.run(); // Never shows up in the maps.
+        constraintMatchTotal = extractConstraintMatchTotal(scoreInliner);
+        assertThat(constraintMatchTotal.getScore()).isEqualTo(SimpleScore.of(30));
+        assertThat(constraintMatchTotal.getConstraintMatchSet()).hasSize(2);
+        assertThat(scoreInliner.getIndictmentMap()).containsOnlyKeys("A", "B");
+
+        undoA.run();
+        assertThat(extractConstraintMatchTotal(scoreInliner).getScore()).isEqualTo(SimpleScore.of(20));
+        var indictmentMap = scoreInliner.getIndictmentMap();
+        assertThat(indictmentMap).containsOnlyKeys("B");
+        assertThat(indictmentMap.get("B").getScore()).isEqualTo(SimpleScore.of(20));
+
+        undoB.run();
+        assertThat(scoreInliner.getConstraintMatchTotalMap()).hasSize(1);
+        assertThat(extractConstraintMatchTotal(scoreInliner).getScore()).isEqualTo(SimpleScore.ZERO);
+        assertThat(scoreInliner.getIndictmentMap()).isEmpty();
+    }
+
+    @Test
+    void constraintMatchTotalsAndIndictmentsHandedOutDoNotChange() {
+        var constraintWeight = SimpleScore.of(10);
+        var impacter = buildScoreImpacter(constraintWeight);
+        var scoreInliner = (AbstractScoreInliner<SimpleScore>) impacter.getContext().parent;
+
+        var undoA = impacter.impactScore(1, buildConstraintMatchSupplier("A"));
+        impacter.impactScore(2, buildConstraintMatchSupplier("B"));
+        var constraintMatchTotalMap = scoreInliner.getConstraintMatchTotalMap();
+        var constraintMatchTotal = constraintMatchTotalMap.values().iterator().next();
+        var indictmentMap = scoreInliner.getIndictmentMap();
+        var indictmentA = indictmentMap.get("A");
+        assertThatThrownBy(constraintMatchTotalMap::clear).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(indictmentMap::clear).isInstanceOf(UnsupportedOperationException.class);
+
+        undoA.run();
+        impacter.impactScore(3, buildConstraintMatchSupplier("C"));
+        assertThat(extractConstraintMatchTotal(scoreInliner).getScore()).isEqualTo(SimpleScore.of(50));
+        assertThat(scoreInliner.getIndictmentMap()).containsOnlyKeys("B", "C");
+
+        // The caller which still holds the earlier maps still sees the earlier score explanation.
+        assertThat(constraintMatchTotalMap).containsOnlyKeys(constraintMatchTotal.getConstraintId());
+        assertThat(constraintMatchTotal.getScore()).isEqualTo(SimpleScore.of(30));
+        assertThat(constraintMatchTotal.getConstraintMatchSet()).hasSize(2);
+        assertThat(indictmentMap).containsOnlyKeys("A", "B");
+        assertThat(indictmentA.getScore()).isEqualTo(SimpleScore.of(10));
+        assertThat(indictmentA.getConstraintMatchSet()).hasSize(1);
+    }
+
+    private static ConstraintMatchTotal<SimpleScore> extractConstraintMatchTotal(
+            AbstractScoreInliner<SimpleScore> scoreInliner) {
+        Map<String, ConstraintMatchTotal<SimpleScore>> constraintMatchTotalMap = scoreInliner.getConstraintMatchTotalMap();
+        assertThat(constraintMatchTotalMap).hasSize(1);
+        return constraintMatchTotalMap.values().iterator().next();
+    }
+
+    private static ConstraintMatchSupplier<SimpleScore> buildConstraintMatchSupplier(String indictedObject) {
+        return ConstraintMatchSupplier.of((String fact, Score<?> impact) -> DefaultConstraintJustification.of(impact, fact),
+                fact -> List.of(fact), indictedObject);
+    }
+
     @Override
     protected SolutionDescriptor<TestdataSolution> buildSolutionDescriptor() {
         return TestdataSolution.buildSolutionDescriptor();
@@ -5,8 +5,12 @@ import static ai.timefold.solver.core.api.score.stream.ConstraintCollectors.coun
 import static ai.timefold.solver.core.api.score.stream.ConstraintCollectors.max;
 import static ai.timefold.solver.core.api.score.stream.ConstraintCollectors.min;
 import static ai.timefold.solver.core.api.score.stream.ConstraintCollectors.toSet;
+import static ai.timefold.solver.core.api.score.stream.Joiners.containedIn;
+import static ai.timefold.solver.core.api.score.stream.Joiners.containing;
+import static ai.timefold.solver.core.api.score.stream.Joiners.disjoint;
 import static ai.timefold.solver.core.api.score.stream.Joiners.equal;
 import static ai.timefold.solver.core.api.score.stream.Joiners.filtering;
+import static ai.timefold.solver.core.api.score.stream.Joiners.intersecting;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -334,6 +338,106 @@ public abstract class AbstractUniConstraintStreamTest
                 assertMatch("testConstraint2", value1, entity2));
     }
 
+    @TestTemplate
+    public void join_1Containing() {
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1);
+        TestdataLavishValue value1 = solution.getFirstValue();
+        TestdataLavishValue value2 = new TestdataLavishValue("MyValue 2", solution.getFirstValueGroup());
+        solution.getValueList().add(value2);
+        TestdataLavishEntity entity1 = solution.getFirstEntity();
+        TestdataLavishEntity entity2 = new TestdataLavishEntity("MyEntity 2", solution.getFirstEntityGroup(), value2);
+        solution.getEntityList().add(entity2);
+
+        InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(
+                TestdataLavishSolution.buildSolutionDescriptor(),
+                factory -> new Constraint[] {
+                        factory.forEach(TestdataLavishEntity.class)
+                                .join(TestdataLavishValue.class,
+                                        containing(entity -> Collections.singleton(entity.getValue()), value -> value))
+                                .penalize(SimpleScore.ONE)
+                                .asConstraint("testConstraint1"),
+                        factory.forEach(TestdataLavishValue.class)
+                                .join(TestdataLavishEntity.class,
+                                        containedIn(value -> value, entity -> Collections.singleton(entity.getValue())))
+                                .penalize(SimpleScore.ONE)
+                                .asConstraint("testConstraint2")
+                });
+
+        // From scratch
+        scoreDirector.setWorkingSolution(solution);
+        assertScore(scoreDirector,
+                assertMatch("testConstraint1", entity1, value1),
+                assertMatch("testConstraint2", value1, entity1),
+                assertMatch("testConstraint1", entity2, value2),
+                assertMatch("testConstraint2", value2, entity2));
+
+        // Incremental
+        scoreDirector.beforeVariableChanged(entity2, "value");
+        entity2.setValue(value1);
+        scoreDirector.afterVariableChanged(entity2, "value");
+        assertScore(scoreDirector,
+                assertMatch("testConstraint1", entity1, value1),
+                assertMatch("testConstraint2", value1, entity1),
+                assertMatch("testConstraint1", entity2, value1),
+                assertMatch("testConstraint2", value1, entity2));
+    }
+
+    @TestTemplate
+    public void join_1IntersectingAndDisjoint() {
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
+        TestdataLavishValue value1 = solution.getFirstValue();
+        TestdataLavishValue value2 = new TestdataLavishValue("MyValue 2", solution.getFirstValueGroup());
+        TestdataLavishEntity entity1 = solution.getFirstEntity();
+        TestdataLavishEntity entity2 = new TestdataLavishEntity("MyEntity 2", solution.getFirstEntityGroup(),
+                value2);
+        solution.getEntityList().add(entity2);
+        TestdataLavishEntity entity3 = new TestdataLavishEntity("MyEntity 3", solution.getFirstEntityGroup(),
+                value1);
+        solution.getEntityList().add(entity3);
+
+        Function<TestdataLavishEntity, Set<TestdataLavishValue>> mapping = entity -> Collections.singleton(entity.getValue());
+        InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(
+                TestdataLavishSolution.buildSolutionDescriptor(),
+                factory -> new Constraint[] {
+                        factory.forEach(TestdataLavishEntity.class)
+                                .join(TestdataLavishEntity.class, intersecting(mapping))
+                                .penalize(SimpleScore.ONE)
+                                .asConstraint("testConstraint1"),
+                        factory.forEach(TestdataLavishEntity.class)
+                                .join(TestdataLavishEntity.class, disjoint(mapping))
+                                .penalize(SimpleScore.ONE)
+                                .asConstraint("testConstraint2")
+                });
+
+        // From scratch
+        scoreDirector.setWorkingSolution(solution);
+        assertScore(scoreDirector,
+                assertMatch("testConstraint1", entity1, entity1),
+                assertMatch("testConstraint1", entity1, entity3),
+                assertMatch("testConstraint1", entity2, entity2),
+                assertMatch("testConstraint1", entity3, entity1),
+                assertMatch("testConstraint1", entity3, entity3),
+                assertMatch("testConstraint2", entity1, entity2),
+                assertMatch("testConstraint2", entity2, entity1),
+                assertMatch("testConstraint2", entity2, entity3),
+                assertMatch("testConstraint2", entity3, entity2));
+
+        // Incremental
+        scoreDirector.beforeVariableChanged(entity3, "value");
+        entity3.setValue(value2);
+        scoreDirector.afterVariableChanged(entity3, "value");
+        assertScore(scoreDirector,
+                assertMatch("testConstraint1", entity1, entity1),
+                assertMatch("testConstraint1", entity2, entity2),
+                assertMatch("testConstraint1", entity2, entity3),
+                assertMatch("testConstraint1", entity3, entity2),
+                assertMatch("testConstraint1", entity3, entity3),
+                assertMatch("testConstraint2", entity1, entity2),
+                assertMatch("testConstraint2", entity1, entity3),
+                assertMatch("testConstraint2", entity2, entity1),
+                assertMatch("testConstraint2", entity3, entity1));
+    }
+
     @Override
     @TestTemplate
     public void join_2Equal() {
@@ -5,6 +5,7 @@ import java.math.BigInteger;
 import java.math.RoundingMode;
 import java.time.Duration;
 import java.time.Period;
+import java.time.temporal.Temporal;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
@@ -43,10 +44,22 @@ import ai.timefold.solver.core.api.function.ToLongTriFunction;
 import ai.timefold.solver.core.api.function.TriFunction;
 import ai.timefold.solver.core.api.function.TriPredicate;
 import ai.timefold.solver.core.api.score.stream.bi.BiConstraintCollector;
+import ai.timefold.solver.core.api.score.stream.common.ConnectedRange;
+import ai.timefold.solver.core.api.score.stream.common.ConnectedRangeChain;
+import ai.timefold.solver.core.api.score.stream.common.SequenceChain;
 import ai.timefold.solver.core.api.score.stream.quad.QuadConstraintCollector;
 import ai.timefold.solver.core.api.score.stream.tri.TriConstraintCollector;
 import ai.timefold.solver.core.api.score.stream.uni.UniConstraintCollector;
 import ai.timefold.solver.core.api.score.stream.uni.UniConstraintStream;
+import ai.timefold.solver.core.impl.score.stream.collector.IntSumResultContainer;
+import ai.timefold.solver.core.impl.score.stream.collector.LongSumResultContainer;
+import ai.timefold.solver.core.impl.score.stream.collector.MutableContainerBiConstraintCollector;
+import ai.timefold.solver.core.impl.score.stream.collector.MutableContainerQuadConstraintCollector;
+import ai.timefold.solver.core.impl.score.stream.collector.MutableContainerTriConstraintCollector;
+import ai.timefold.solver.core.impl.score.stream.collector.MutableContainerUniConstraintCollector;
+import ai.timefold.solver.core.impl.score.stream.collector.consecutive.ConsecutiveSetTree;
+import ai.timefold.solver.core.impl.score.stream.collector.range.ConnectedRangeTracker;
+import ai.timefold.solver.core.impl.score.stream.collector.range.Range;
 import ai.timefold.solver.core.impl.util.MutableInt;
 import ai.timefold.solver.core.impl.util.MutableLong;
 import ai.timefold.solver.core.impl.util.MutableReference;
@@ -80,90 +93,72 @@ public final class ConstraintCollectors {
      * @return never null
      */
     public static <A> UniConstraintCollector<A, ?, Integer> count() {
-        return new DefaultUniConstraintCollector<>(
-                MutableInt::new,
-                (resultContainer, a) -> innerCount(resultContainer),
-                MutableInt::intValue);
-    }
-
-    private static Runnable innerCount(MutableInt resultContainer) {
-        resultContainer.increment();
-        return resultContainer::decrement;
+        return new MutableContainerUniConstraintCollector<>(
+                IntSumResultContainer::new,
+                a -> 1);
     }
 
     /**
      * As defined by {@link #count()}.
      */
     public static <A> UniConstraintCollector<A, ?, Long> countLong() {
-        return new DefaultUniConstraintCollector<>(
-                MutableLong::new,
-                (resultContainer, a) -> innerCount(resultContainer),
-                MutableLong::longValue);
-    }
-
-    private static Runnable innerCount(MutableLong resultContainer) {
-        resultContainer.increment();
-        return resultContainer::decrement;
+        return new MutableContainerUniConstraintCollector<>(
+                LongSumResultContainer::new,
+                a -> 1L);
     }
 
     /**
      * As defined by {@link #count()}.
      */
     public static <A, B> BiConstraintCollector<A, B, ?, Integer> countBi() {
-        return new DefaultBiConstraintCollector<>(
-                MutableInt::new,
-                (resultContainer, a, b) -> innerCount(resultContainer),
-                MutableInt::intValue);
+        return new MutableContainerBiConstraintCollector<>(
+                IntSumResultContainer::new,
+                (a, b) -> 1);
     }
 
     /**
      * As defined by {@link #count()}.
      */
     public static <A, B> BiConstraintCollector<A, B, ?, Long> countLongBi() {
-        return new DefaultBiConstraintCollector<>(
-                MutableLong::new,
-                (resultContainer, a, b) -> innerCount(resultContainer),
-                MutableLong::longValue);
+        return new MutableContainerBiConstraintCollector<>(
+                LongSumResultContainer::new,
+                (a, b) -> 1L);
     }
 
     /**
      * As defined by {@link #count()}.
      */
     public static <A, B, C> TriConstraintCollector<A, B, C, ?, Integer> countTri() {
-        return new DefaultTriConstraintCollector<>(
-                MutableInt::new,
-                (resultContainer, a, b, c) -> innerCount(resultContainer),
-                MutableInt::intValue);
+        return new MutableContainerTriConstraintCollector<>(
+                IntSumResultContainer::new,
+                (a, b, c) -> 1);
     }
 
     /**
      * As defined by {@link #count()}.
      */
     public static <A, B, C> TriConstraintCollector<A, B, C, ?, Long> countLongTri() {
-        return new DefaultTriConstraintCollector<>(
-                MutableLong::new,
-                (resultContainer, a, b, c) -> innerCount(resultContainer),
-                MutableLong::longValue);
+        return new MutableContainerTriConstraintCollector<>(
+                LongSumResultContainer::new,
+                (a, b, c) -> 1L);
     }
 
     /**
      * As defined by {@link #count()}.
      */
     public static <A, B, C, D> QuadConstraintCollector<A, B, C, D, ?, Integer> countQuad() {
-        return new DefaultQuadConstraintCollector<>(
-                MutableInt::new,
-                (resultContainer, a, b, c, d) -> innerCount(resultContainer),
-                MutableInt::intValue);
+        return new MutableContainerQuadConstraintCollector<>(
+                IntSumResultContainer::new,
+                (a, b, c, d) -> 1);
     }
 
     /**
      * As defined by {@link #count()}.
      */
     public static <A, B, C, D> QuadConstraintCollector<A, B, C, D, ?, Long> countLongQuad() {
-        return new DefaultQuadConstraintCollector<>(
-                MutableLong::new,
-                (resultContainer, a, b, c, d) -> innerCount(resultContainer),
-                MutableLong::longValue);
+        return new MutableContainerQuadConstraintCollector<>(
+                LongSumResultContainer::new,
+                (a, b, c, d) -> 1L);
     }
 
     // ************************************************************************
@@ -361,36 +356,18 @@ public final class ConstraintCollectors {
      * @return never null
      */
     public static <A> UniConstraintCollector<A, ?, Integer> sum(ToIntFunction<? super A> groupValueMapping) {
-        return new DefaultUniConstraintCollector<>(
-                MutableInt::new,
-                (resultContainer, a) -> {
-                    int value = groupValueMapping.applyAsInt(a);
-                    return innerSum(resultContainer, value);
-                },
-                MutableInt::intValue);
-    }
-
-    private static Runnable innerSum(MutableInt resultContainer, int value) {
-        resultContainer.add(value);
-        return () -> resultContainer.subtract(value);
+        return new MutableContainerUniConstraintCollector<>(
+                IntSumResultContainer::new,
+                groupValueMapping::applyAsInt);
     }
 
     /**
      * As defined by {@link #sum(ToIntFunction)}.
      */
     public static <A> UniConstraintCollector<A, ?, Long> sumLong(ToLongFunction<? super A> groupValueMapping) {
-        return new DefaultUniConstraintCollector<>(
-                MutableLong::new,
-                (resultContainer, a) -> {
-                    long value = groupValueMapping.applyAsLong(a);
-                    return innerSum(resultContainer, value);
-                },
-                MutableLong::longValue);
-    }
-
-    private static Runnable innerSum(MutableLong resultContainer, long value) {
-        resultContainer.add(value);
-        return () -> resultContainer.subtract(value);
+        return new MutableContainerUniConstraintCollector<>(
+                LongSumResultContainer::new,
+                groupValueMapping::applyAsLong);
     }
 
     /**
@@ -449,13 +426,9 @@ public final class ConstraintCollectors {
      */
     public static <A, B> BiConstraintCollector<A, B, ?, Integer> sum(
             ToIntBiFunction<? super A, ? super B> groupValueMapping) {
-        return new DefaultBiConstraintCollector<>(
-                MutableInt::new,
-                (resultContainer, a, b) -> {
-                    int value = groupValueMapping.applyAsInt(a, b);
-                    return innerSum(resultContainer, value);
-                },
-                MutableInt::intValue);
+        return new MutableContainerBiConstraintCollector<>(
+                IntSumResultContainer::new,
+                groupValueMapping::applyAsInt);
     }
 
     /**
@@ -463,13 +436,9 @@ public final class ConstraintCollectors {
      */
     public static <A, B> BiConstraintCollector<A, B, ?, Long> sumLong(
             ToLongBiFunction<? super A, ? super B> groupValueMapping) {
-        return new DefaultBiConstraintCollector<>(
-                MutableLong::new,
-                (resultContainer, a, b) -> {
-                    long value = groupValueMapping.applyAsLong(a, b);
-                    return innerSum(resultContainer, value);
-                },
-                MutableLong::longValue);
+        return new MutableContainerBiConstraintCollector<>(
+                LongSumResultContainer::new,
+                groupValueMapping::applyAsLong);
     }
 
     /**
@@ -524,13 +493,9 @@ public final class ConstraintCollectors {
      */
     public static <A, B, C> TriConstraintCollector<A, B, C, ?, Integer> sum(
             ToIntTriFunction<? super A, ? super B, ? super C> groupValueMapping) {
-        return new DefaultTriConstraintCollector<>(
-                MutableInt::new,
-                (resultContainer, a, b, c) -> {
-                    int value = groupValueMapping.applyAsInt(a, b, c);
-                    return innerSum(resultContainer, value);
-                },
-                MutableInt::intValue);
+        return new MutableContainerTriConstraintCollector<>(
+                IntSumResultContainer::new,
+                groupValueMapping::applyAsInt);
     }
 
     /**
@@ -538,13 +503,9 @@ public final class ConstraintCollectors {
      */
     public static <A, B, C> TriConstraintCollector<A, B, C, ?, Long> sumLong(
             ToLongTriFunction<? super A, ? super B, ? super C> groupValueMapping) {
-        return new DefaultTriConstraintCollector<>(
-                MutableLong::new,
-                (resultContainer, a, b, c) -> {
-                    long value = groupValueMapping.applyAsLong(a, b, c);
-                    return innerSum(resultContainer, value);
-                },
-                MutableLong::longValue);
+        return new MutableContainerTriConstraintCollector<>(
+                LongSumResultContainer::new,
+                groupValueMapping::applyAsLong);
     }
 
     /**
@@ -599,13 +560,9 @@ public final class ConstraintCollectors {
      */
     public static <A, B, C, D> QuadConstraintCollector<A, B, C, D, ?, Integer> sum(
             ToIntQuadFunction<? super A, ? super B, ? super C, ? super D> groupValueMapping) {
-        return new DefaultQuadConstraintCollector<>(
-                MutableInt::new,
-                (resultContainer, a, b, c, d) -> {
-                    int value = groupValueMapping.applyAsInt(a, b, c, d);
-                    return innerSum(resultContainer, value);
-                },
-                MutableInt::intValue);
+        return new MutableContainerQuadConstraintCollector<>(
+                IntSumResultContainer::new,
+                groupValueMapping::applyAsInt);
     }
 
     /**
@@ -613,13 +570,9 @@ public final class ConstraintCollectors {
      */
     public static <A, B, C, D> QuadConstraintCollector<A, B, C, D, ?, Long> sumLong(
             ToLongQuadFunction<? super A, ? super B, ? super C, ? super D> groupValueMapping) {
-        return new DefaultQuadConstraintCollector<>(
-                MutableLong::new,
-                (resultContainer, a, b, c, d) -> {
-                    long value = groupValueMapping.applyAsLong(a, b, c, d);
-                    return innerSum(resultContainer, value);
-                },
-                MutableLong::longValue);
+        return new MutableContainerQuadConstraintCollector<>(
+                LongSumResultContainer::new,
+                groupValueMapping::applyAsLong);
     }
 
     /**
@@ -2992,6 +2945,403 @@ public final class ConstraintCollectors {
                         subCollector4.finisher(), composeFunction));
     }
 
+    // ************************************************************************
+    // consecutive collectors
+    // ************************************************************************
+
+    /**
+     * Creates a constraint collector that returns {@link SequenceChain} about the first fact.
+     *
+     * For instance, {@code [Shift slot=1] [Shift slot=2] [Shift slot=4] [Shift slot=6]}
+     * returns the following information:
+     *
+     * <pre>
+     * {@code
+     * Consecutive Lengths: 2, 1, 1
+     * Break Lengths: 1, 2
+     * Consecutive Items: [[Shift slot=1] [Shift slot=2]], [[Shift slot=4]], [[Shift slot=6]]
+     * }
+     * </pre>
+     * <p>
+     * The result is maintained incrementally:
+     * adding or removing a fact only updates the sequences and breaks around it, in O(log n),
+     * unless it splits a sequence, which costs O(k) for the smaller half of k items.
+     *
+     * @param indexMap Maps the fact to its position in the sequence
+     * @param <A> type of the first mapped fact
+     * @return never null
+     */
+    public static <A> UniConstraintCollector<A, ?, SequenceChain<A, Integer>>
+            toConsecutiveSequences(ToIntFunction<A> indexMap) {
+        return new DefaultUniConstraintCollector<>(
+                ConstraintCollectors::<A> newConsecutiveSetTree,
+                (acc, a) -> toConsecutiveSequencesAccumulator(acc, a, indexMap),
+                tree -> tree);
+    }
+
+    /**
+     * As defined by {@link #toConsecutiveSequences(ToIntFunction)}.
+     *
+     * @param resultMap Maps both facts to an item in the sequence
+     * @param indexMap Maps the item to its position in the sequence
+     * @param <A> type of the first mapped fact
+     * @param <B> type of the second mapped fact
+     * @param <Result_> type of item in the sequence
+     * @return never null
+     */
+    public static <A, B, Result_> BiConstraintCollector<A, B, ?, SequenceChain<Result_, Integer>>
+            toConsecutiveSequences(BiFunction<A, B, Result_> resultMap, ToIntFunction<Result_> indexMap) {
+        return new DefaultBiConstraintCollector<>(
+                ConstraintCollectors::<Result_> newConsecutiveSetTree,
+                (acc, a, b) -> toConsecutiveSequencesAccumulator(acc, resultMap.apply(a, b), indexMap),
+                tree -> tree);
+    }
+
+    /**
+     * As defined by {@link #toConsecutiveSequences(ToIntFunction)}.
+     *
+     * @param resultMap Maps the three facts to an item in the sequence
+     * @param indexMap Maps the item to its position in the sequence
+     * @param <A> type of the first mapped fact
+     * @param <B> type of the second mapped fact
+     * @param <C> type of the third mapped fact
+     * @param <Result_> type of item in the sequence
+     * @return never null
+     */
+    public static <A, B, C, Result_> TriConstraintCollector<A, B, C, ?, SequenceChain<Result_, Integer>>
+            toConsecutiveSequences(TriFunction<A, B, C, Result_> resultMap, ToIntFunction<Result_> indexMap) {
+        return new DefaultTriConstraintCollector<>(
+                ConstraintCollectors::<Result_> newConsecutiveSetTree,
+                (acc, a, b, c) -> toConsecutiveSequencesAccumulator(acc, resultMap.apply(a, b, c), indexMap),
+                tree -> tree);
+    }
+
+    /**
+     * As defined by {@link #toConsecutiveSequences(ToIntFunction)}.
+     *
+     * @param resultMap Maps the four facts to an item in the sequence
+     * @param indexMap Maps the item to its position in the sequence
+     * @param <A> type of the first mapped fact
+     * @param <B> type of the second mapped fact
+     * @param <C> type of the third mapped fact
+     * @param <D> type of the fourth mapped fact
+     * @param <Result_> type of item in the sequence
+     * @return never null
+     */
+    public static <A, B, C, D, Result_> QuadConstraintCollector<A, B, C, D, ?, SequenceChain<Result_, Integer>>
+            toConsecutiveSequences(QuadFunction<A, B, C, D, Result_> resultMap, ToIntFunction<Result_> indexMap) {
+        return new DefaultQuadConstraintCollector<>(
+                ConstraintCollectors::<Result_> newConsecutiveSetTree,
+                (acc, a, b, c, d) -> toConsecutiveSequencesAccumulator(acc, resultMap.apply(a, b, c, d), indexMap),
+                tree -> tree);
+    }
+
+    private static <Result_> ConsecutiveSetTree<Result_, Integer, Integer> newConsecutiveSetTree() {
+        return new ConsecutiveSetTree<>((Integer a, Integer b) -> b - a, Integer::sum, 1, 0);
+    }
+
+    private static <Result_> Runnable toConsecutiveSequencesAccumulator(ConsecutiveSetTree<Result_, Integer, Integer> tree,
+            Result_ result, ToIntFunction<Result_> indexMap) {
+        tree.add(result, indexMap.applyAsInt(result));
+        return () -> tree.remove(result);
+    }
+
+    // ************************************************************************
+    // connected ranges collectors
+    // ************************************************************************
+
+    /**
+     * Creates a constraint collector that returns {@link ConnectedRangeChain} about the first fact.
+     *
+     * For instance, {@code [Equipment fromInclusive=2, toExclusive=4] [Equipment fromInclusive=3, toExclusive=5]
+     *                      [Equipment fromInclusive=6, toExclusive=7] [Equipment fromInclusive=7, toExclusive=8]}
+     * returns the following information:
+     *
+     * <pre>
+     * {@code
+     * ConnectedRanges: [minOverlap: 1, maxOverlap: 2,
+     *                  [Equipment fromInclusive=2, toExclusive=4] [Equipment fromInclusive=3, toExclusive=5]],
+     *                  [minOverlap: 1, maxOverlap: 1,
+     *                  [Equipment fromInclusive=6, toExclusive=7] [Equipment fromInclusive=7, toExclusive=8]]
+     * Breaks: [[Break from=5, to=6, length=1]]
+     * }
+     * </pre>
+     * <p>
+     * The result is maintained incrementally:
+     * adding or removing a fact costs O(log n) for every connected range that is created, merged or split as a result,
+     * including updating the {@link ConnectedRange#getContainedRangeCount() size}
+     * and the {@link ConnectedRange#getMaximumOverlap() overlap} of those connected ranges.
+     *
+     * @param startMap Maps the fact to its start
+     * @param endMap Maps the fact to its end
+     * @param differenceFunction Computes the difference between two points. The second argument is always
+     *        larger than the first (ex: {@link Duration#between}
+     *        or {@code (a,b) -> b - a}).
+     * @param <A> type of the first mapped fact
+     * @param <PointType_> type of the fact endpoints
+     * @param <DifferenceType_> type of difference between points
+     * @return never null
+     */
+    public static <A, PointType_ extends Comparable<PointType_>, DifferenceType_ extends Comparable<DifferenceType_>>
+            UniConstraintCollector<A, ?, ConnectedRangeChain<A, PointType_, DifferenceType_>>
+            toConnectedRanges(Function<? super A, ? extends PointType_> startMap,
+                    Function<? super A, ? extends PointType_> endMap,
+                    BiFunction<? super PointType_, ? super PointType_, ? extends DifferenceType_> differenceFunction) {
+        return new DefaultUniConstraintCollector<>(
+                () -> new ConnectedRangeTracker<A, PointType_, DifferenceType_>(startMap, endMap, differenceFunction),
+                ConstraintCollectors::toConnectedRangesAccumulator,
+                ConnectedRangeTracker::getConnectedRangeChain);
+    }
+
+    /**
+     * Specialized version of {@link #toConnectedRanges(Function,Function,BiFunction)} for
+     * {@link Temporal} types.
+     *
+     * @param <A> type of the first mapped fact
+     * @param <PointType_> temporal type of the endpoints
+     * @param startMap Maps the fact to its start
+     * @param endMap Maps the fact to its end
+     * @return never null
+     */
+    public static <A, PointType_ extends Temporal & Comparable<PointType_>>
+            UniConstraintCollector<A, ?, ConnectedRangeChain<A, PointType_, Duration>>
+            toConnectedTemporalRanges(Function<? super A, ? extends PointType_> startMap,
+                    Function<? super A, ? extends PointType_> endMap) {
+        return toConnectedRanges(startMap, endMap, Duration::between);
+    }
+
+    /**
+     * Specialized version of {@link #toConnectedRanges(Function,Function,BiFunction)} for Long.
+     *
+     * @param startMap Maps the fact to its start
+     * @param endMap Maps the fact to its end
+     * @param <A> type of the first mapped fact
+     * @return never null
+     */
+    public static <A> UniConstraintCollector<A, ?, ConnectedRangeChain<A, Long, Long>>
+            toConnectedRanges(ToLongFunction<? super A> startMap, ToLongFunction<? super A> endMap) {
+        return toConnectedRanges(startMap::applyAsLong, endMap::applyAsLong, (a, b) -> b - a);
+    }
+
+    /**
+     * As defined by {@link #toConnectedRanges(Function,Function,BiFunction)}.
+     *
+     * @param intervalMap Maps both facts to an item in the cluster
+     * @param startMap Maps the item to its start
+     * @param endMap Maps the item to its end
+     * @param differenceFunction Computes the difference between two points. The second argument is always
+     *        larger than the first (ex: {@link Duration#between}
+     *        or {@code (a,b) -> b - a}).
+     * @param <A> type of the first mapped fact
+     * @param <B> type of the second mapped fact
+     * @param <IntervalType_> type of the item in the cluster
+     * @param <PointType_> type of the item endpoints
+     * @param <DifferenceType_> type of difference between points
+     * @return never null
+     */
+    public static <A, B, IntervalType_, PointType_ extends Comparable<PointType_>, DifferenceType_ extends Comparable<DifferenceType_>>
+            BiConstraintCollector<A, B, ?, ConnectedRangeChain<IntervalType_, PointType_, DifferenceType_>>
+            toConnectedRanges(BiFunction<? super A, ? super B, ? extends IntervalType_> intervalMap,
+                    Function<? super IntervalType_, ? extends PointType_> startMap,
+                    Function<? super IntervalType_, ? extends PointType_> endMap,
+                    BiFunction<? super PointType_, ? super PointType_, ? extends DifferenceType_> differenceFunction) {
+        return new DefaultBiConstraintCollector<>(
+                () -> new ConnectedRangeTracker<IntervalType_, PointType_, DifferenceType_>(startMap, endMap,
+                        differenceFunction),
+                (acc, a, b) -> toConnectedRangesAccumulator(acc, intervalMap.apply(a, b)),
+                ConnectedRangeTracker::getConnectedRangeChain);
+    }
+
+    /**
+     * As defined by {@link #toConnectedTemporalRanges(Function,Function)}.
+     *
+     * @param intervalMap Maps the two facts to an item in the cluster
+     * @param startMap Maps the item to its start
+     * @param endMap Maps the item to its end
+     * @param <A> type of the first mapped fact
+     * @param <B> type of the second mapped fact
+     * @param <IntervalType_> type of the item in the cluster
+     * @param <PointType_> temporal type of the endpoints
+     * @return never null
+     */
+    public static <A, B, IntervalType_, PointType_ extends Temporal & Comparable<PointType_>>
+            BiConstraintCollector<A, B, ?, ConnectedRangeChain<IntervalType_, PointType_, Duration>>
+            toConnectedTemporalRanges(BiFunction<? super A, ? super B, ? extends IntervalType_> intervalMap,
+                    Function<? super IntervalType_, ? extends PointType_> startMap,
+                    Function<? super IntervalType_, ? extends PointType_> endMap) {
+        return toConnectedRanges(intervalMap, startMap, endMap, Duration::between);
+    }
+
+    /**
+     * As defined by {@link #toConnectedRanges(ToLongFunction, ToLongFunction)}.
+     *
+     * @param intervalMap Maps the two facts to an item in the cluster
+     * @param startMap Maps the item to its start
+     * @param endMap Maps the item to its end
+     * @param <A> type of the first mapped fact
+     * @param <B> type of the second mapped fact
+     * @param <IntervalType_> type of the item in the cluster
+     * @return never null
+     */
+    public static <A, B, IntervalType_>
+            BiConstraintCollector<A, B, ?, ConnectedRangeChain<IntervalType_, Long, Long>>
+            toConnectedRanges(BiFunction<? super A, ? super B, ? extends IntervalType_> intervalMap,
+                    ToLongFunction<? super IntervalType_> startMap, ToLongFunction<? super IntervalType_> endMap) {
+        return toConnectedRanges(intervalMap, startMap::applyAsLong, endMap::applyAsLong, (a, b) -> b - a);
+    }
+
+    /**
+     * As defined by {@link #toConnectedRanges(Function,Function,BiFunction)}.
+     *
+     * @param intervalMap Maps the three facts to an item in the cluster
+     * @param startMap Maps the item to its start
+     * @param endMap Maps the item to its end
+     * @param differenceFunction Computes the difference between two points. The second argument is always
+     *        larger than the first (ex: {@link Duration#between}
+     *        or {@code (a,b) -> b - a}).
+     * @param <A> type of the first mapped fact
+     * @param <B> type of the second mapped fact
+     * @param <C> type of the third mapped fact
+     * @param <IntervalType_> type of the item in the cluster
+     * @param <PointType_> type of the item endpoints
+     * @param <DifferenceType_> type of difference between points
+     * @return never null
+     */
+    public static <A, B, C, IntervalType_, PointType_ extends Comparable<PointType_>, DifferenceType_ extends Comparable<DifferenceType_>>
+            TriConstraintCollector<A, B, C, ?, ConnectedRangeChain<IntervalType_, PointType_, DifferenceType_>>
+            toConnectedRanges(TriFunction<? super A, ? super B, ? super C, ? extends IntervalType_> intervalMap,
+                    Function<? super IntervalType_, ? extends PointType_> startMap,
+                    Function<? super IntervalType_, ? extends PointType_> endMap,
+                    BiFunction<? super PointType_, ? super PointType_, ? extends DifferenceType_> differenceFunction) {
+        return new DefaultTriConstraintCollector<>(
+                () -> new ConnectedRangeTracker<IntervalType_, PointType_, DifferenceType_>(startMap, endMap,
+                        differenceFunction),
+                (acc, a, b, c) -> toConnectedRangesAccumulator(acc, intervalMap.apply(a, b, c)),
+                ConnectedRangeTracker::getConnectedRangeChain);
+    }
+
+    /**
+     * As defined by {@link #toConnectedTemporalRanges(Function,Function)}.
+     *
+     * @param intervalMap Maps the three facts to an item in the cluster
+     * @param startMap Maps the item to its start
+     * @param endMap Maps the item to its end
+     * @param <A> type of the first mapped fact
+     * @param <B> type of the second mapped fact
+     * @param <C> type of the third mapped fact
+     * @param <IntervalType_> type of the item in the cluster
+     * @param <PointType_> temporal type of the endpoints
+     * @return never null
+     */
+    public static <A, B, C, IntervalType_, PointType_ extends Temporal & Comparable<PointType_>>
+            TriConstraintCollector<A, B, C, ?, ConnectedRangeChain<IntervalType_, PointType_, Duration>>
+            toConnectedTemporalRanges(TriFunction<? super A, ? super B, ? super C, ? extends IntervalType_> intervalMap,
+                    Function<? super IntervalType_, ? extends PointType_> startMap,
+                    Function<? super IntervalType_, ? extends PointType_> endMap) {
+        return toConnectedRanges(intervalMap, startMap, endMap, Duration::between);
+    }
+
+    /**
+     * As defined by {@link #toConnectedRanges(ToLongFunction, ToLongFunction)}.
+     *
+     * @param intervalMap Maps the three facts to an item in the cluster
+     * @param startMap Maps the item to its start
+     * @param endMap Maps the item to its end
+     * @param <A> type of the first mapped fact
+     * @param <B> type of the second mapped fact
+     * @param <C> type of the third mapped fact
+     * @param <IntervalType_> type of the item in the cluster
+     * @return never null
+     */
+    public static <A, B, C, IntervalType_>
+            TriConstraintCollector<A, B, C, ?, ConnectedRangeChain<IntervalType_, Long, Long>>
+            toConnectedRanges(TriFunction<? super A, ? super B, ? super C, ? extends IntervalType_> intervalMap,
+                    ToLongFunction<? super IntervalType_> startMap, ToLongFunction<? super IntervalType_> endMap) {
+        return toConnectedRanges(intervalMap, startMap::applyAsLong, endMap::applyAsLong, (a, b) -> b - a);
+    }
+
+    /**
+     * As defined by {@link #toConnectedRanges(Function,Function,BiFunction)}.
+     *
+     * @param intervalMap Maps the four facts to an item in the cluster
+     * @param startMap Maps the item to its start
+     * @param endMap Maps the item to its end
+     * @param differenceFunction Computes the difference between two points. The second argument is always
+     *        larger than the first (ex: {@link Duration#between}
+     *        or {@code (a,b) -> b - a}).
+     * @param <A> type of the first mapped fact
+     * @param <B> type of the second mapped fact
+     * @param <C> type of the third mapped fact
+     * @param <D> type of the fourth mapped fact
+     * @param <IntervalType_> type of the item in the cluster
+     * @param <PointType_> type of the item endpoints
+     * @param <DifferenceType_> type of difference between points
+     * @return never null
+     */
+    public static <A, B, C, D, IntervalType_, PointType_ extends Comparable<PointType_>, DifferenceType_ extends Comparable<DifferenceType_>>
+            QuadConstraintCollector<A, B, C, D, ?, ConnectedRangeChain<IntervalType_, PointType_, DifferenceType_>>
+            toConnectedRanges(QuadFunction<? super A, ? super B, ? super C, ? super D, ? extends IntervalType_> intervalMap,
+                    Function<? super IntervalType_, ? extends PointType_> startMap,
+                    Function<? super IntervalType_, ? extends PointType_> endMap,
+                    BiFunction<? super PointType_, ? super PointType_, ? extends DifferenceType_> differenceFunction) {
+        return new DefaultQuadConstraintCollector<>(
+                () -> new ConnectedRangeTracker<IntervalType_, PointType_, DifferenceType_>(startMap, endMap,
+                        differenceFunction),
+                (acc, a, b, c, d) -> toConnectedRangesAccumulator(acc, intervalMap.apply(a, b, c, d)),
+                ConnectedRangeTracker::getConnectedRangeChain);
+    }
+
+    /**
+     * As defined by {@link #toConnectedTemporalRanges(Function,Function)}.
+     *
+     * @param intervalMap Maps the four facts to an item in the cluster
+     * @param startMap Maps the item to its start
+     * @param endMap Maps the item to its end
+     * @param <A> type of the first mapped fact
+     * @param <B> type of the second mapped fact
+     * @param <C> type of the third mapped fact
+     * @param <D> type of the fourth mapped fact
+     * @param <IntervalType_> type of the item in the cluster
+     * @param <PointType_> temporal type of the endpoints
+     * @return never null
+     */
+    public static <A, B, C, D, IntervalType_, PointType_ extends Temporal & Comparable<PointType_>>
+            QuadConstraintCollector<A, B, C, D, ?, ConnectedRangeChain<IntervalType_, PointType_, Duration>>
+            toConnectedTemporalRanges(
+                    QuadFunction<? super A, ? super B, ? super C, ? super D, ? extends IntervalType_> intervalMap,
+                    Function<? super IntervalType_, ? extends PointType_> startMap,
+                    Function<? super IntervalType_, ? extends PointType_> endMap) {
+        return toConnectedRanges(intervalMap, startMap, endMap, Duration::between);
+    }
+
+    /**
+     * As defined by {@link #toConnectedRanges(ToLongFunction, ToLongFunction)}.
+     *
+     * @param intervalMap Maps the four facts to an item in the cluster
+     * @param startMap Maps the item to its start
+     * @param endMap Maps the item to its end
+     * @param <A> type of the first mapped fact
+     * @param <B> type of the second mapped fact
+     * @param <C> type of the third mapped fact
+     * @param <D> type of the fourth mapped fact
+     * @param <IntervalType_> type of the item in the cluster
+     * @return never null
+     */
+    public static <A, B, C, D, IntervalType_>
+            QuadConstraintCollector<A, B, C, D, ?, ConnectedRangeChain<IntervalType_, Long, Long>>
+            toConnectedRanges(QuadFunction<? super A, ? super B, ? super C, ? super D, ? extends IntervalType_> intervalMap,
+                    ToLongFunction<? super IntervalType_> startMap, ToLongFunction<? super IntervalType_> endMap) {
+        return toConnectedRanges(intervalMap, startMap::applyAsLong, endMap::applyAsLong, (a, b) -> b - a);
+    }
+
+    private static <IntervalType_, PointType_ extends Comparable<PointType_>, DifferenceType_ extends Comparable<DifferenceType_>>
+            Runnable toConnectedRangesAccumulator(ConnectedRangeTracker<IntervalType_, PointType_, DifferenceType_> tracker,
+                    IntervalType_ interval) {
+        Range<IntervalType_, PointType_> range = tracker.getRange(interval);
+        tracker.add(range);
+        return () -> tracker.remove(range);
+    }
+
     private ConstraintCollectors() {
     }
 }
@@ -56,6 +56,28 @@ public interface ConstraintFactory {
      */
     <A> UniConstraintStream<A> forEachIncludingNullVars(Class<A> sourceClass);
 
+    /**
+     * As defined by {@link #forEach(Class)},
+     * but a change of a {@link PlanningEntity planning entity} only propagates through the stream
+     * if it changed one of the given variables or a genuine {@link PlanningVariable}.
+     * <p>
+     * The genuine variables are always included, because they decide whether the entity passes the null variable filter.
+     * Changes to any other variable (typically shadow variables) of the same entity are ignored by this stream,
+     * so the building blocks which follow it are not re-evaluated for them.
+     * This is an optimization for entities with many shadow variables, of which each constraint only reads a few.
+     * <p>
+     * Important: the building blocks which follow this stream (filters, joiners, groupBy mappings, ...)
+     * must not read any other variable of the sourceClass, or the score will be corrupted.
+     * {@link ai.timefold.solver.core.config.solver.EnvironmentMode#FULL_ASSERT} detects such score corruption.
+     *
+     * @param sourceClass never null, a {@link PlanningEntity} class
+     * @param variableNames never null, the names of the genuine or shadow variables of the sourceClass
+     *        that the building blocks of this stream read
+     * @param <A> the type of the matched {@link PlanningEntity planning entity}
+     * @return never null
+     */
+    <A> UniConstraintStream<A> forEach(Class<A> sourceClass, String... variableNames);
+
     /**
      * Create a new {@link BiConstraintStream} for every unique combination of A and another A with a higher {@link PlanningId}.
      * <p>
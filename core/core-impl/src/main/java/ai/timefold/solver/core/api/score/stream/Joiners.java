@@ -1,5 +1,6 @@
 package ai.timefold.solver.core.api.score.stream;
 
+import java.util.Collection;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
@@ -25,7 +26,6 @@ import ai.timefold.solver.core.impl.score.stream.JoinerType;
 public final class Joiners {
 
     // TODO Support using non-natural comparators, such as lessThan(leftMapping, rightMapping, comparator).
-    // TODO Support collection-based joiners, such as containing(), intersecting() and disjoint().
 
     // ************************************************************************
     // BiJoiner
@@ -267,6 +267,133 @@ public final class Joiners {
                 .and(Joiners.greaterThan(leftEndMapping, rightStartMapping));
     }
 
+    /**
+     * Joins every A and B where the collection of A contains the property of B.
+     * These are exactly the pairs where {@code A.collection.contains(B.property)}.
+     *
+     * For example, on a cartesian product of list
+     * {@code [Ann(skills=[Java, SQL]), Beth(skills=[SQL]), Eric(skills=[])]}
+     * and list {@code [Task(skill=Java), Report(skill=SQL)]}
+     * with leftMapping being {@code Person::getSkills} and rightMapping being {@code Job::getSkill},
+     * this joiner will produce pairs {@code (Ann, Task), (Ann, Report), (Beth, Report)}.
+     * <p>
+     * The collection is read when its fact is inserted or updated.
+     * A collection that is modified in place, without telling the score director that the fact changed,
+     * leaves the join index stale.
+     *
+     * @param leftMapping mapping function to apply to A, never returns null
+     * @param rightMapping mapping function to apply to B
+     * @param <A> the type of object on the left
+     * @param <B> the type of object on the right
+     * @param <Property_> the type of the elements of the collection
+     * @return never null
+     */
+    @SuppressWarnings("unchecked")
+    public static <A, B, Property_> BiJoiner<A, B> containing(Function<A, ? extends Collection<Property_>> leftMapping,
+            Function<B, Property_> rightMapping) {
+        // The joiner has a single property type; the joiner type tells the indexer which side holds the collection.
+        return JoinerSupport.getJoinerService()
+                .newBiJoiner((Function<A, Object>) (Function<A, ?>) leftMapping, JoinerType.CONTAINING,
+                        (Function<B, Object>) rightMapping);
+    }
+
+    /**
+     * Joins every A and B where the property of A is contained in the collection of B.
+     * These are exactly the pairs where {@code B.collection.contains(A.property)}.
+     * It is the mirror image of {@link #containing(Function, Function)}
+     * and the same caveat applies to collections that are modified in place.
+     *
+     * @param leftMapping mapping function to apply to A
+     * @param rightMapping mapping function to apply to B, never returns null
+     * @param <A> the type of object on the left
+     * @param <B> the type of object on the right
+     * @param <Property_> the type of the elements of the collection
+     * @return never null
+     */
+    @SuppressWarnings("unchecked")
+    public static <A, B, Property_> BiJoiner<A, B> containedIn(Function<A, Property_> leftMapping,
+            Function<B, ? extends Collection<Property_>> rightMapping) {
+        return JoinerSupport.getJoinerService()
+                .newBiJoiner((Function<A, Object>) leftMapping, JoinerType.CONTAINED_IN,
+                        (Function<B, Object>) (Function<B, ?>) rightMapping);
+    }
+
+    /**
+     * As defined by {@link #intersecting(Function, Function)} with both arguments using the same mapping.
+     *
+     * @param mapping mapping function to apply to both A and B, never returns null
+     * @param <A> the type of both objects
+     * @param <Property_> the type of the elements of the collection
+     * @return never null
+     */
+    public static <A, Property_> BiJoiner<A, A> intersecting(Function<A, ? extends Collection<Property_>> mapping) {
+        return intersecting(mapping, mapping);
+    }
+
+    /**
+     * Joins every A and B whose collections have at least one element in common.
+     * These are exactly the pairs where {@code !Collections.disjoint(A.collection, B.collection)}.
+     *
+     * For example, on a cartesian product of list
+     * {@code [Ann(skills=[Java, SQL]), Beth(skills=[SQL]), Eric(skills=[])]}
+     * with both leftMapping and rightMapping being {@code Person::getSkills},
+     * this joiner will produce pairs {@code (Ann, Ann), (Ann, Beth), (Beth, Ann), (Beth, Beth)}.
+     * <p>
+     * The same caveat as for {@link #containing(Function, Function)} applies to collections that are modified in place.
+     *
+     * @param leftMapping mapping function to apply to A, never returns null
+     * @param rightMapping mapping function to apply to B, never returns null
+     * @param <A> the type of object on the left
+     * @param <B> the type of object on the right
+     * @param <Property_> the type of the elements of the collections
+     * @return never null
+     */
+    @SuppressWarnings("unchecked")
+    public static <A, B, Property_> BiJoiner<A, B> intersecting(Function<A, ? extends Collection<Property_>> leftMapping,
+            Function<B, ? extends Collection<Property_>> rightMapping) {
+        return JoinerSupport.getJoinerService()
+                .newBiJoiner((Function<A, Object>) (Function<A, ?>) leftMapping, JoinerType.INTERSECTING,
+                        (Function<B, Object>) (Function<B, ?>) rightMapping);
+    }
+
+    /**
+     * As defined by {@link #disjoint(Function, Function)} with both arguments using the same mapping.
+     *
+     * @param mapping mapping function to apply to both A and B, never returns null
+     * @param <A> the type of both objects
+     * @param <Property_> the type of the elements of the collection
+     * @return never null
+     */
+    public static <A, Property_> BiJoiner<A, A> disjoint(Function<A, ? extends Collection<Property_>> mapping) {
+        return disjoint(mapping, mapping);
+    }
+
+    /**
+     * Joins every A and B whose collections have no element in common.
+     * These are exactly the pairs where {@code Collections.disjoint(A.collection, B.collection)}.
+     *
+     * For example, on a cartesian product of list
+     * {@code [Ann(skills=[Java, SQL]), Beth(skills=[SQL]), Eric(skills=[])]}
+     * with both leftMapping and rightMapping being {@code Person::getSkills},
+     * this joiner will produce pairs {@code (Ann, Eric), (Beth, Eric), (Eric, Ann), (Eric, Beth), (Eric, Eric)}.
+     * <p>
+     * The same caveat as for {@link #containing(Function, Function)} applies to collections that are modified in place.
+     *
+     * @param leftMapping mapping function to apply to A, never returns null
+     * @param rightMapping mapping function to apply to B, never returns null
+     * @param <A> the type of object on the left
+     * @param <B> the type of object on the right
+     * @param <Property_> the type of the elements of the collections
+     * @return never null
+     */
+    @SuppressWarnings("unchecked")
+    public static <A, B, Property_> BiJoiner<A, B> disjoint(Function<A, ? extends Collection<Property_>> leftMapping,
+            Function<B, ? extends Collection<Property_>> rightMapping) {
+        return JoinerSupport.getJoinerService()
+                .newBiJoiner((Function<A, Object>) (Function<A, ?>) leftMapping, JoinerType.DISJOINT,
+                        (Function<B, Object>) (Function<B, ?>) rightMapping);
+    }
+
     // ************************************************************************
     // TriJoiner
     // ************************************************************************
@@ -390,6 +517,84 @@ public final class Joiners {
                 .and(Joiners.greaterThan(leftEndMapping, rightStartMapping));
     }
 
+    /**
+     * As defined by {@link #containing(Function, Function)}.
+     *
+     * @param leftMapping mapping function to apply to (A,B), never returns null
+     * @param rightMapping mapping function to apply to C
+     * @param <A> the type of the first object on the left
+     * @param <B> the type of the second object on the left
+     * @param <C> the type of object on the right
+     * @param <Property_> the type of the elements of the collection
+     * @return never null
+     */
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, Property_> TriJoiner<A, B, C> containing(
+            BiFunction<A, B, ? extends Collection<Property_>> leftMapping, Function<C, Property_> rightMapping) {
+        return JoinerSupport.getJoinerService()
+                .newTriJoiner((BiFunction<A, B, Object>) (BiFunction<A, B, ?>) leftMapping, JoinerType.CONTAINING,
+                        (Function<C, Object>) rightMapping);
+    }
+
+    /**
+     * As defined by {@link #containedIn(Function, Function)}.
+     *
+     * @param leftMapping mapping function to apply to (A,B)
+     * @param rightMapping mapping function to apply to C, never returns null
+     * @param <A> the type of the first object on the left
+     * @param <B> the type of the second object on the left
+     * @param <C> the type of object on the right
+     * @param <Property_> the type of the elements of the collection
+     * @return never null
+     */
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, Property_> TriJoiner<A, B, C> containedIn(
+            BiFunction<A, B, Property_> leftMapping, Function<C, ? extends Collection<Property_>> rightMapping) {
+        return JoinerSupport.getJoinerService()
+                .newTriJoiner((BiFunction<A, B, Object>) leftMapping, JoinerType.CONTAINED_IN,
+                        (Function<C, Object>) (Function<C, ?>) rightMapping);
+    }
+
+    /**
+     * As defined by {@link #intersecting(Function, Function)}.
+     *
+     * @param leftMapping mapping function to apply to (A,B), never returns null
+     * @param rightMapping mapping function to apply to C, never returns null
+     * @param <A> the type of the first object on the left
+     * @param <B> the type of the second object on the left
+     * @param <C> the type of object on the right
+     * @param <Property_> the type of the elements of the collections
+     * @return never null
+     */
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, Property_> TriJoiner<A, B, C> intersecting(
+            BiFunction<A, B, ? extends Collection<Property_>> leftMapping,
+            Function<C, ? extends Collection<Property_>> rightMapping) {
+        return JoinerSupport.getJoinerService()
+                .newTriJoiner((BiFunction<A, B, Object>) (BiFunction<A, B, ?>) leftMapping, JoinerType.INTERSECTING,
+                        (Function<C, Object>) (Function<C, ?>) rightMapping);
+    }
+
+    /**
+     * As defined by {@link #disjoint(Function, Function)}.
+     *
+     * @param leftMapping mapping function to apply to (A,B), never returns null
+     * @param rightMapping mapping function to apply to C, never returns null
+     * @param <A> the type of the first object on the left
+     * @param <B> the type of the second object on the left
+     * @param <C> the type of object on the right
+     * @param <Property_> the type of the elements of the collections
+     * @return never null
+     */
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, Property_> TriJoiner<A, B, C> disjoint(
+            BiFunction<A, B, ? extends Collection<Property_>> leftMapping,
+            Function<C, ? extends Collection<Property_>> rightMapping) {
+        return JoinerSupport.getJoinerService()
+                .newTriJoiner((BiFunction<A, B, Object>) (BiFunction<A, B, ?>) leftMapping, JoinerType.DISJOINT,
+                        (Function<C, Object>) (Function<C, ?>) rightMapping);
+    }
+
     // ************************************************************************
     // QuadJoiner
     // ************************************************************************
@@ -520,6 +725,88 @@ public final class Joiners {
                 .and(Joiners.greaterThan(leftEndMapping, rightStartMapping));
     }
 
+    /**
+     * As defined by {@link #containing(Function, Function)}.
+     *
+     * @param leftMapping mapping function to apply to (A,B,C), never returns null
+     * @param rightMapping mapping function to apply to D
+     * @param <A> the type of the first object on the left
+     * @param <B> the type of the second object on the left
+     * @param <C> the type of the third object on the left
+     * @param <D> the type of object on the right
+     * @param <Property_> the type of the elements of the collection
+     * @return never null
+     */
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, Property_> QuadJoiner<A, B, C, D> containing(
+            TriFunction<A, B, C, ? extends Collection<Property_>> leftMapping, Function<D, Property_> rightMapping) {
+        return JoinerSupport.getJoinerService()
+                .newQuadJoiner((TriFunction<A, B, C, Object>) (TriFunction<A, B, C, ?>) leftMapping, JoinerType.CONTAINING,
+                        (Function<D, Object>) rightMapping);
+    }
+
+    /**
+     * As defined by {@link #containedIn(Function, Function)}.
+     *
+     * @param leftMapping mapping function to apply to (A,B,C)
+     * @param rightMapping mapping function to apply to D, never returns null
+     * @param <A> the type of the first object on the left
+     * @param <B> the type of the second object on the left
+     * @param <C> the type of the third object on the left
+     * @param <D> the type of object on the right
+     * @param <Property_> the type of the elements of the collection
+     * @return never null
+     */
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, Property_> QuadJoiner<A, B, C, D> containedIn(
+            TriFunction<A, B, C, Property_> leftMapping, Function<D, ? extends Collection<Property_>> rightMapping) {
+        return JoinerSupport.getJoinerService()
+                .newQuadJoiner((TriFunction<A, B, C, Object>) leftMapping, JoinerType.CONTAINED_IN,
+                        (Function<D, Object>) (Function<D, ?>) rightMapping);
+    }
+
+    /**
+     * As defined by {@link #intersecting(Function, Function)}.
+     *
+     * @param leftMapping mapping function to apply to (A,B,C), never returns null
+     * @param rightMapping mapping function to apply to D, never returns null
+     * @param <A> the type of the first object on the left
+     * @param <B> the type of the second object on the left
+     * @param <C> the type of the third object on the left
+     * @param <D> the type of object on the right
+     * @param <Property_> the type of the elements of the collections
+     * @return never null
+     */
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, Property_> QuadJoiner<A, B, C, D> intersecting(
+            TriFunction<A, B, C, ? extends Collection<Property_>> leftMapping,
+            Function<D, ? extends Collection<Property_>> rightMapping) {
+        return JoinerSupport.getJoinerService()
+                .newQuadJoiner((TriFunction<A, B, C, Object>) (TriFunction<A, B, C, ?>) leftMapping, JoinerType.INTERSECTING,
+                        (Function<D, Object>) (Function<D, ?>) rightMapping);
+    }
+
+    /**
+     * As defined by {@link #disjoint(Function, Function)}.
+     *
+     * @param leftMapping mapping function to apply to (A,B,C), never returns null
+     * @param rightMapping mapping function to apply to D, never returns null
+     * @param <A> the type of the first object on the left
+     * @param <B> the type of the second object on the left
+     * @param <C> the type of the third object on the left
+     * @param <D> the type of object on the right
+     * @param <Property_> the type of the elements of the collections
+     * @return never null
+     */
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, Property_> QuadJoiner<A, B, C, D> disjoint(
+            TriFunction<A, B, C, ? extends Collection<Property_>> leftMapping,
+            Function<D, ? extends Collection<Property_>> rightMapping) {
+        return JoinerSupport.getJoinerService()
+                .newQuadJoiner((TriFunction<A, B, C, Object>) (TriFunction<A, B, C, ?>) leftMapping, JoinerType.DISJOINT,
+                        (Function<D, Object>) (Function<D, ?>) rightMapping);
+    }
+
     // ************************************************************************
     // PentaJoiner
     // ************************************************************************
@@ -657,6 +944,92 @@ public final class Joiners {
                 .and(Joiners.greaterThan(leftEndMapping, rightStartMapping));
     }
 
+    /**
+     * As defined by {@link #containing(Function, Function)}.
+     *
+     * @param leftMapping mapping function to apply to (A,B,C,D), never returns null
+     * @param rightMapping mapping function to apply to E
+     * @param <A> the type of the first object on the left
+     * @param <B> the type of the second object on the left
+     * @param <C> the type of the third object on the left
+     * @param <D> the type of the fourth object on the left
+     * @param <E> the type of object on the right
+     * @param <Property_> the type of the elements of the collection
+     * @return never null
+     */
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E, Property_> PentaJoiner<A, B, C, D, E> containing(
+            QuadFunction<A, B, C, D, ? extends Collection<Property_>> leftMapping, Function<E, Property_> rightMapping) {
+        return JoinerSupport.getJoinerService()
+                .newPentaJoiner((QuadFunction<A, B, C, D, Object>) (QuadFunction<A, B, C, D, ?>) leftMapping,
+                        JoinerType.CONTAINING, (Function<E, Object>) rightMapping);
+    }
+
+    /**
+     * As defined by {@link #containedIn(Function, Function)}.
+     *
+     * @param leftMapping mapping function to apply to (A,B,C,D)
+     * @param rightMapping mapping function to apply to E, never returns null
+     * @param <A> the type of the first object on the left
+     * @param <B> the type of the second object on the left
+     * @param <C> the type of the third object on the left
+     * @param <D> the type of the fourth object on the left
+     * @param <E> the type of object on the right
+     * @param <Property_> the type of the elements of the collection
+     * @return never null
+     */
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E, Property_> PentaJoiner<A, B, C, D, E> containedIn(
+            QuadFunction<A, B, C, D, Property_> leftMapping, Function<E, ? extends Collection<Property_>> rightMapping) {
+        return JoinerSupport.getJoinerService()
+                .newPentaJoiner((QuadFunction<A, B, C, D, Object>) leftMapping, JoinerType.CONTAINED_IN,
+                        (Function<E, Object>) (Function<E, ?>) rightMapping);
+    }
+
+    /**
+     * As defined by {@link #intersecting(Function, Function)}.
+     *
+     * @param leftMapping mapping function to apply to (A,B,C,D), never returns null
+     * @param rightMapping mapping function to apply to E, never returns null
+     * @param <A> the type of the first object on the left
+     * @param <B> the type of the second object on the left
+     * @param <C> the type of the third object on the left
+     * @param <D> the type of the fourth object on the left
+     * @param <E> the type of object on the right
+     * @param <Property_> the type of the elements of the collections
+     * @return never null
+     */
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E, Property_> PentaJoiner<A, B, C, D, E> intersecting(
+            QuadFunction<A, B, C, D, ? extends Collection<Property_>> leftMapping,
+            Function<E, ? extends Collection<Property_>> rightMapping) {
+        return JoinerSupport.getJoinerService()
+                .newPentaJoiner((QuadFunction<A, B, C, D, Object>) (QuadFunction<A, B, C, D, ?>) leftMapping,
+                        JoinerType.INTERSECTING, (Function<E, Object>) (Function<E, ?>) rightMapping);
+    }
+
+    /**
+     * As defined by {@link #disjoint(Function, Function)}.
+     *
+     * @param leftMapping mapping function to apply to (A,B,C,D), never returns null
+     * @param rightMapping mapping function to apply to E, never returns null
+     * @param <A> the type of the first object on the left
+     * @param <B> the type of the second object on the left
+     * @param <C> the type of the third object on the left
+     * @param <D> the type of the fourth object on the left
+     * @param <E> the type of object on the right
+     * @param <Property_> the type of the elements of the collections
+     * @return never null
+     */
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E, Property_> PentaJoiner<A, B, C, D, E> disjoint(
+            QuadFunction<A, B, C, D, ? extends Collection<Property_>> leftMapping,
+            Function<E, ? extends Collection<Property_>> rightMapping) {
+        return JoinerSupport.getJoinerService()
+                .newPentaJoiner((QuadFunction<A, B, C, D, Object>) (QuadFunction<A, B, C, D, ?>) leftMapping,
+                        JoinerType.DISJOINT, (Function<E, Object>) (Function<E, ?>) rightMapping);
+    }
+
     private Joiners() {
     }
 
@@ -1,4 +1,4 @@
-package ai.timefold.solver.examples.common.experimental.api;
+package ai.timefold.solver.core.api.score.stream.common;
 
 /**
  * A Break is a gap between two consecutive values. For instance,
@@ -9,6 +9,7 @@ package ai.timefold.solver.examples.common.experimental.api;
  * @param <Difference_> The type of difference between values in the sequence
  */
 public interface Break<Value_, Difference_ extends Comparable<Difference_>> {
+
     /**
      * @return never null, the sequence leading directly into this
      */
@@ -41,7 +42,7 @@ public interface Break<Value_, Difference_ extends Comparable<Difference_>> {
      */
     default Value_ getPreviousSequenceEnd() {
         return getPreviousSequence().getLastItem();
-    };
+    }
 
     /**
      * Return the start of the sequence after this break. For the
@@ -61,4 +62,5 @@ public interface Break<Value_, Difference_ extends Comparable<Difference_>> {
      * @return never null, the length of this break
      */
     Difference_ getLength();
+
 }
@@ -0,0 +1,45 @@
+package ai.timefold.solver.core.api.score.stream.common;
+
+/**
+ * Represents a collection of ranges that are connected, meaning the union of all the ranges results in the range
+ * [{@link #getStart()}, {@link #getEnd()}) without gaps.
+ * Ranges that only touch (the end of one is the start of the other) are connected too.
+ *
+ * @param <Range_> The type of range in the collection
+ * @param <Point_> The type of the start and end points for each range
+ * @param <Difference_> The type of difference between start and end points
+ */
+public interface ConnectedRange<Range_, Point_ extends Comparable<Point_>, Difference_ extends Comparable<Difference_>>
+        extends Iterable<Range_> {
+
+    /**
+     * @return the number of ranges contained by this {@link ConnectedRange}, counting every range once
+     */
+    int getContainedRangeCount();
+
+    /**
+     * @return true if at least two ranges in this {@link ConnectedRange} overlap each other
+     */
+    boolean hasOverlap();
+
+    /**
+     * @return the maximum number of ranges overlapping any given point in this {@link ConnectedRange}
+     */
+    int getMaximumOverlap();
+
+    /**
+     * @return never null, the length of this {@link ConnectedRange}
+     */
+    Difference_ getLength();
+
+    /**
+     * @return never null, the minimum point of all the ranges in this {@link ConnectedRange}
+     */
+    Point_ getStart();
+
+    /**
+     * @return never null, the maximum point of all the ranges in this {@link ConnectedRange}
+     */
+    Point_ getEnd();
+
+}
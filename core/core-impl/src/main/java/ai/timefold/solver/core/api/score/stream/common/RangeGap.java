@@ -0,0 +1,52 @@
+package ai.timefold.solver.core.api.score.stream.common;
+
+/**
+ * A RangeGap is a gap between two consecutive {@link ConnectedRange}s.
+ * For instance, the list [(1,3),(2,4),(3,5),(7,8)] has a gap of length 2 between 5 and 7.
+ *
+ * @param <Range_> The type of range in the collection
+ * @param <Point_> The type of the start and end points for each range
+ * @param <Difference_> The type of difference between start and end points
+ */
+public interface RangeGap<Range_, Point_ extends Comparable<Point_>, Difference_ extends Comparable<Difference_>> {
+
+    /**
+     * @return never null, the connected range leading directly into this gap
+     */
+    ConnectedRange<Range_, Point_, Difference_> getPreviousConnectedRange();
+
+    /**
+     * @return never null, the connected range immediately following this gap
+     */
+    ConnectedRange<Range_, Point_, Difference_> getNextConnectedRange();
+
+    /**
+     * Return the end of the {@link ConnectedRange} before this gap.
+     * For the gap between 6 and 10, this will return 6.
+     *
+     * @return never null, the point this gap is directly after
+     */
+    default Point_ getPreviousRangeEnd() {
+        return getPreviousConnectedRange().getEnd();
+    }
+
+    /**
+     * Return the start of the {@link ConnectedRange} after this gap.
+     * For the gap between 6 and 10, this will return 10.
+     *
+     * @return never null, the point this gap is directly before
+     */
+    default Point_ getNextRangeStart() {
+        return getNextConnectedRange().getStart();
+    }
+
+    /**
+     * Return the length of the break, which is the difference
+     * between {@link #getNextRangeStart()} and {@link #getPreviousRangeEnd()}.
+     * For the gap between 6 and 10, this will return 4.
+     *
+     * @return never null, the length of this break
+     */
+    Difference_ getLength();
+
+}
@@ -1,4 +1,6 @@
-package ai.timefold.solver.examples.common.experimental.api;
+package ai.timefold.solver.core.api.score.stream.common;
+
+import java.util.Collection;
 
 /**
  * A Sequence is a series of consecutive values. For instance,
@@ -8,6 +10,7 @@ package ai.timefold.solver.examples.common.experimental.api;
  * @param <Difference_> The type of difference between values in the sequence
  */
 public interface Sequence<Value_, Difference_ extends Comparable<Difference_>> {
+
     /**
      * @return never null, the first item in the sequence
      */
@@ -39,9 +42,9 @@ public interface Sequence<Value_, Difference_ extends Comparable<Difference_>> {
     Break<Value_, Difference_> getNextBreak();
 
     /**
-     * @return never null, an iterable that can iterate through this sequence
+     * @return never null, a read-only view of the items in this sequence, in ascending order
      */
-    Iterable<Value_> getItems();
+    Collection<Value_> getItems();
 
     /**
      * @return the number of items in this sequence
@@ -49,8 +52,8 @@ public interface Sequence<Value_, Difference_ extends Comparable<Difference_>> {
     int getCount();
 
     /**
-     * @return never null, the difference between the last item and
-     *         first item in this sequence
+     * @return never null, the difference between the last item and first item in this sequence
      */
     Difference_ getLength();
+
 }
@@ -0,0 +1,45 @@
+package ai.timefold.solver.core.api.score.stream.common;
+
+import java.util.Collection;
+
+/**
+ * Contains info regarding the consecutive sequences and breaks in a collection of points.
+ * The instance is maintained incrementally by the collector that produced it,
+ * so it must not be kept around after the constraint stream moved on.
+ *
+ * @param <Value_> The type of value in the sequence
+ * @param <Difference_> The type of difference between values in the sequence
+ */
+public interface SequenceChain<Value_, Difference_ extends Comparable<Difference_>> {
+
+    /**
+     * @return never null, a read-only view of the sequences contained in the collection, in ascending order
+     */
+    Collection<Sequence<Value_, Difference_>> getConsecutiveSequences();
+
+    /**
+     * @return never null, a read-only view of the breaks contained in the collection, in ascending order
+     */
+    Collection<Break<Value_, Difference_>> getBreaks();
+
+    /**
+     * @return null if there are no sequences
+     */
+    Sequence<Value_, Difference_> getFirstSequence();
+
+    /**
+     * @return null if there are no sequences
+     */
+    Sequence<Value_, Difference_> getLastSequence();
+
+    /**
+     * @return null if there are less than 2 sequences
+     */
+    Break<Value_, Difference_> getFirstBreak();
+
+    /**
+     * @return null if there are less than 2 sequences
+     */
+    Break<Value_, Difference_> getLastBreak();
+
+}
@@ -0,0 +1,7 @@
+/**
+ * Types returned by the sequence and range collectors in
+ * {@link ai.timefold.solver.core.api.score.stream.ConstraintCollectors},
+ * such as {@link ai.timefold.solver.core.api.score.stream.ConstraintCollectors#toConsecutiveSequences(java.util.function.ToIntFunction)}
+ * and {@link ai.timefold.solver.core.api.score.stream.ConstraintCollectors#toConnectedRanges(java.util.function.Function, java.util.function.Function, java.util.function.BiFunction)}.
+ */
+package ai.timefold.solver.core.api.score.stream.common;
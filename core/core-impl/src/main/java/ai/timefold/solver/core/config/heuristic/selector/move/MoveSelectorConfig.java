@@ -18,6 +18,7 @@ import ai.timefold.solver.core.config.heuristic.selector.move.factory.MoveListFa
 import ai.timefold.solver.core.config.heuristic.selector.move.generic.ChangeMoveSelectorConfig;
 import ai.timefold.solver.core.config.heuristic.selector.move.generic.PillarChangeMoveSelectorConfig;
 import ai.timefold.solver.core.config.heuristic.selector.move.generic.PillarSwapMoveSelectorConfig;
+import ai.timefold.solver.core.config.heuristic.selector.move.generic.RuinRecreateMoveSelectorConfig;
 import ai.timefold.solver.core.config.heuristic.selector.move.generic.SwapMoveSelectorConfig;
 import ai.timefold.solver.core.config.heuristic.selector.move.generic.chained.SubChainChangeMoveSelectorConfig;
 import ai.timefold.solver.core.config.heuristic.selector.move.generic.chained.SubChainSwapMoveSelectorConfig;
@@ -47,6 +48,7 @@ import ai.timefold.solver.core.impl.heuristic.selector.common.decorator.Selectio
         MoveListFactoryConfig.class,
         PillarChangeMoveSelectorConfig.class,
         PillarSwapMoveSelectorConfig.class,
+        RuinRecreateMoveSelectorConfig.class,
         SubChainChangeMoveSelectorConfig.class,
         SubChainSwapMoveSelectorConfig.class,
         SubListChangeMoveSelectorConfig.class,
@@ -0,0 +1,139 @@
+package ai.timefold.solver.core.config.heuristic.selector.move.generic;
+
+import java.util.function.Consumer;
+
+import jakarta.xml.bind.annotation.XmlType;
+
+import ai.timefold.solver.core.config.heuristic.selector.move.MoveSelectorConfig;
+import ai.timefold.solver.core.config.util.ConfigUtils;
+
+/**
+ * Unassigns a number of planning entities (or list elements) at once
+ * and then assigns each of them again, to the best value (or position) for the score.
+ * Because it changes many variables in a single move,
+ * it escapes local optima which moves that change only 1 or 2 variables can not get out of.
+ * <p>
+ * Only supports random selection.
+ * The entityClass and variableName only need to be configured
+ * if the model has multiple planning entity classes or multiple genuine planning variables.
+ */
+@XmlType(propOrder = {
+        "entityClass",
+        "variableName",
+        "minimumRuinedCount",
+        "maximumRuinedCount",
+        "ruinSelectionType"
+})
+public class RuinRecreateMoveSelectorConfig extends MoveSelectorConfig<RuinRecreateMoveSelectorConfig> {
+
+    public static final String XML_ELEMENT_NAME = "ruinRecreateMoveSelector";
+
+    protected Class<?> entityClass = null;
+    protected String variableName = null;
+    protected Integer minimumRuinedCount = null;
+    protected Integer maximumRuinedCount = null;
+    protected RuinSelectionType ruinSelectionType = null;
+
+    public Class<?> getEntityClass() {
+        return entityClass;
+    }
+
+    public void setEntityClass(Class<?> entityClass) {
+        this.entityClass = entityClass;
+    }
+
+    public String getVariableName() {
+        return variableName;
+    }
+
+    public void setVariableName(String variableName) {
+        this.variableName = variableName;
+    }
+
+    public Integer getMinimumRuinedCount() {
+        return minimumRuinedCount;
+    }
+
+    public void setMinimumRuinedCount(Integer minimumRuinedCount) {
+        this.minimumRuinedCount = minimumRuinedCount;
+    }
+
+    public Integer getMaximumRuinedCount() {
+        return maximumRuinedCount;
+    }
+
+    public void setMaximumRuinedCount(Integer maximumRuinedCount) {
+        this.maximumRuinedCount = maximumRuinedCount;
+    }
+
+    public RuinSelectionType getRuinSelectionType() {
+        return ruinSelectionType;
+    }
+
+    public void setRuinSelectionType(RuinSelectionType ruinSelectionType) {
+        this.ruinSelectionType = ruinSelectionType;
+    }
+
+    // ************************************************************************
+    // With methods
+    // ************************************************************************
+
+    public RuinRecreateMoveSelectorConfig withEntityClass(Class<?> entityClass) {
+        this.entityClass = entityClass;
+        return this;
+    }
+
+    public RuinRecreateMoveSelectorConfig withVariableName(String variableName) {
+        this.variableName = variableName;
+        return this;
+    }
+
+    public RuinRecreateMoveSelectorConfig withMinimumRuinedCount(Integer minimumRuinedCount) {
+        this.minimumRuinedCount = minimumRuinedCount;
+        return this;
+    }
+
+    public RuinRecreateMoveSelectorConfig withMaximumRuinedCount(Integer maximumRuinedCount) {
+        this.maximumRuinedCount = maximumRuinedCount;
+        return this;
+    }
+
+    public RuinRecreateMoveSelectorConfig withRuinSelectionType(RuinSelectionType ruinSelectionType) {
+        this.ruinSelectionType = ruinSelectionType;
+        return this;
+    }
+
+    // ************************************************************************
+    // Builder methods
+    // ************************************************************************
+
+    @Override
+    public RuinRecreateMoveSelectorConfig inherit(RuinRecreateMoveSelectorConfig inheritedConfig) {
+        super.inherit(inheritedConfig);
+        this.entityClass = ConfigUtils.inheritOverwritableProperty(entityClass, inheritedConfig.entityClass);
+        this.variableName = ConfigUtils.inheritOverwritableProperty(variableName, inheritedConfig.variableName);
+        this.minimumRuinedCount =
+                ConfigUtils.inheritOverwritableProperty(minimumRuinedCount, inheritedConfig.minimumRuinedCount);
+        this.maximumRuinedCount =
+                ConfigUtils.inheritOverwritableProperty(maximumRuinedCount, inheritedConfig.maximumRuinedCount);
+        this.ruinSelectionType = ConfigUtils.inheritOverwritableProperty(ruinSelectionType, inheritedConfig.ruinSelectionType);
+        return this;
+    }
+
+    @Override
+    public RuinRecreateMoveSelectorConfig copyConfig() {
+        return new RuinRecreateMoveSelectorConfig().inherit(this);
+    }
+
+    @Override
+    public void visitReferencedClasses(Consumer<Class<?>> classVisitor) {
+        visitCommonReferencedClasses(classVisitor);
+        classVisitor.accept(entityClass);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + entityClass + ", " + variableName + ", "
+                + minimumRuinedCount + ", " + maximumRuinedCount + ", " + ruinSelectionType + ")";
+    }
+}
@@ -0,0 +1,18 @@
+package ai.timefold.solver.core.config.heuristic.selector.move.generic;
+
+import jakarta.xml.bind.annotation.XmlEnum;
+
+@XmlEnum
+public enum RuinSelectionType {
+
+    /**
+     * The ruined entities (or list elements) are picked at random, independently of each other.
+     */
+    RANDOM,
+    /**
+     * The ruined entities (or list elements) are related to each other:
+     * for a basic variable, entities which have the same value as a randomly picked entity,
+     * for a list variable, a string of consecutive elements in the list of a randomly picked entity.
+     */
+    RELATED;
+}
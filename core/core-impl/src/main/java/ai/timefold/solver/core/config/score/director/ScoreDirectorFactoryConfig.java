@@ -23,6 +23,7 @@ import ai.timefold.solver.core.impl.io.jaxb.adapter.JaxbCustomPropertiesAdapter;
         "constraintProviderClass",
         "constraintProviderCustomProperties",
         "constraintStreamImplType",
+        "constraintStreamParallelPropagation",
         "incrementalScoreCalculatorClass",
         "incrementalScoreCalculatorCustomProperties",
         "scoreDrlList",
@@ -41,6 +42,7 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
     @XmlJavaTypeAdapter(JaxbCustomPropertiesAdapter.class)
     protected Map<String, String> constraintProviderCustomProperties = null;
     protected ConstraintStreamImplType constraintStreamImplType;
+    protected Boolean constraintStreamParallelPropagation = null;
 
     protected Class<? extends IncrementalScoreCalculator> incrementalScoreCalculatorClass = null;
 
@@ -101,6 +103,26 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
         this.constraintStreamImplType = constraintStreamImplType;
     }
 
+    /**
+     * Only affects {@link ConstraintStreamImplType#BAVET}.
+     * If true, the parts of the node network which do not share any nodes propagate on multiple threads,
+     * as long as they have enough pending changes to be worth it, such as after a large move or a problem change.
+     * The forEach nodes, which are shared by most constraints, still propagate on the solver thread,
+     * but everything downstream of them may run on another thread.
+     * Therefore the lambdas, collectors and other user code in the constraints must be thread-safe
+     * when this is enabled.
+     * Defaults to false.
+     *
+     * @return null if the default applies
+     */
+    public Boolean getConstraintStreamParallelPropagation() {
+        return constraintStreamParallelPropagation;
+    }
+
+    public void setConstraintStreamParallelPropagation(Boolean constraintStreamParallelPropagation) {
+        this.constraintStreamParallelPropagation = constraintStreamParallelPropagation;
+    }
+
     public Class<? extends IncrementalScoreCalculator> getIncrementalScoreCalculatorClass() {
         return incrementalScoreCalculatorClass;
     }
@@ -187,6 +209,11 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
         return this;
     }
 
+    public ScoreDirectorFactoryConfig withConstraintStreamParallelPropagation(Boolean constraintStreamParallelPropagation) {
+        this.constraintStreamParallelPropagation = constraintStreamParallelPropagation;
+        return this;
+    }
+
     public ScoreDirectorFactoryConfig
             withIncrementalScoreCalculatorClass(Class<? extends IncrementalScoreCalculator> incrementalScoreCalculatorClass) {
         this.incrementalScoreCalculatorClass = incrementalScoreCalculatorClass;
@@ -246,6 +273,8 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
                 constraintProviderCustomProperties, inheritedConfig.getConstraintProviderCustomProperties());
         constraintStreamImplType = ConfigUtils.inheritOverwritableProperty(
                 constraintStreamImplType, inheritedConfig.getConstraintStreamImplType());
+        constraintStreamParallelPropagation = ConfigUtils.inheritOverwritableProperty(
+                constraintStreamParallelPropagation, inheritedConfig.getConstraintStreamParallelPropagation());
         incrementalScoreCalculatorClass = ConfigUtils.inheritOverwritableProperty(
                 incrementalScoreCalculatorClass, inheritedConfig.getIncrementalScoreCalculatorClass());
         incrementalScoreCalculatorCustomProperties = ConfigUtils.inheritMergeableMapProperty(
@@ -64,6 +64,8 @@ import ai.timefold.solver.core.impl.solver.random.RandomFactory;
         "moveThreadCount",
         "moveThreadBufferSize",
         "threadFactoryClass",
+        "incrementalBestSolutionCloning",
+        "lazyBestSolutionEventIntervalMillis",
         "monitoringConfig",
         "solutionClass",
         "entityClassList",
@@ -223,6 +225,8 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
     protected String moveThreadCount = null;
     protected Integer moveThreadBufferSize = null;
     protected Class<? extends ThreadFactory> threadFactoryClass = null;
+    protected Boolean incrementalBestSolutionCloning = null;
+    protected Long lazyBestSolutionEventIntervalMillis = null;
 
     protected Class<?> solutionClass = null;
 
@@ -355,6 +359,45 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         this.threadFactoryClass = threadFactoryClass;
     }
 
+    /**
+     * If true, a new best solution reuses the planning clones of the entities of the previous best solution
+     * which have not changed since, instead of cloning every entity again.
+     * Consecutive best solutions then share those entity instances,
+     * so a best solution must not be modified once it has been handed out.
+     * Only applies to the default solution cloner with {@link DomainAccessType#REFLECTION}.
+     * Defaults to false.
+     *
+     * @return null if the default applies
+     */
+    public Boolean getIncrementalBestSolutionCloning() {
+        return incrementalBestSolutionCloning;
+    }
+
+    public void setIncrementalBestSolutionCloning(Boolean incrementalBestSolutionCloning) {
+        this.incrementalBestSolutionCloning = incrementalBestSolutionCloning;
+    }
+
+    /**
+     * If set, a local search step which improves the best solution does not clone it immediately.
+     * Instead, the best solution is only cloned when a
+     * {@link ai.timefold.solver.core.api.solver.event.BestSolutionChangedEvent} is due,
+     * or when the phase ends, by undoing the steps done since on the working solution.
+     * A best solution changed event is due if at least this many milliseconds passed since the previous one
+     * and the intermediate best solution consumer of the {@link ai.timefold.solver.core.api.solver.SolverManager}
+     * is not busy, so the intermediate best solutions in between are never cloned, nor fired.
+     * A phase always ends with an event for its final best solution.
+     * Defaults to null, which clones and fires every new best solution immediately.
+     *
+     * @return null if every new best solution is cloned immediately, otherwise {@code >= 0}
+     */
+    public Long getLazyBestSolutionEventIntervalMillis() {
+        return lazyBestSolutionEventIntervalMillis;
+    }
+
+    public void setLazyBestSolutionEventIntervalMillis(Long lazyBestSolutionEventIntervalMillis) {
+        this.lazyBestSolutionEventIntervalMillis = lazyBestSolutionEventIntervalMillis;
+    }
+
     public Class<?> getSolutionClass() {
         return solutionClass;
     }
@@ -471,6 +514,16 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         return this;
     }
 
+    public SolverConfig withIncrementalBestSolutionCloning(Boolean incrementalBestSolutionCloning) {
+        this.incrementalBestSolutionCloning = incrementalBestSolutionCloning;
+        return this;
+    }
+
+    public SolverConfig withLazyBestSolutionEventIntervalMillis(Long lazyBestSolutionEventIntervalMillis) {
+        this.lazyBestSolutionEventIntervalMillis = lazyBestSolutionEventIntervalMillis;
+        return this;
+    }
+
     public SolverConfig withSolutionClass(Class<?> solutionClass) {
         this.solutionClass = solutionClass;
         return this;
@@ -645,6 +698,10 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
                 inheritedConfig.getMoveThreadBufferSize());
         threadFactoryClass = ConfigUtils.inheritOverwritableProperty(threadFactoryClass,
                 inheritedConfig.getThreadFactoryClass());
+        incrementalBestSolutionCloning = ConfigUtils.inheritOverwritableProperty(incrementalBestSolutionCloning,
+                inheritedConfig.getIncrementalBestSolutionCloning());
+        lazyBestSolutionEventIntervalMillis = ConfigUtils.inheritOverwritableProperty(lazyBestSolutionEventIntervalMillis,
+                inheritedConfig.getLazyBestSolutionEventIntervalMillis());
         solutionClass = ConfigUtils.inheritOverwritableProperty(solutionClass, inheritedConfig.getSolutionClass());
         entityClassList = ConfigUtils.inheritMergeableListProperty(entityClassList,
                 inheritedConfig.getEntityClassList());
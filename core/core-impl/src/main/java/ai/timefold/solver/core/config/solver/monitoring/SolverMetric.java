@@ -15,6 +15,7 @@ import ai.timefold.solver.core.impl.statistic.BestSolutionMutationCountStatistic
 import ai.timefold.solver.core.impl.statistic.MemoryUseStatistic;
 import ai.timefold.solver.core.impl.statistic.PickedMoveBestScoreDiffStatistic;
 import ai.timefold.solver.core.impl.statistic.PickedMoveStepScoreDiffStatistic;
+import ai.timefold.solver.core.impl.statistic.ScoreCalculationProfileStatistic;
 import ai.timefold.solver.core.impl.statistic.SolverStatistic;
 import ai.timefold.solver.core.impl.statistic.StatelessSolverStatistic;
 
@@ -36,6 +37,8 @@ public enum SolverMetric {
     PICKED_MOVE_TYPE_BEST_SCORE_DIFF("timefold.solver.move.type.best.score.diff", new PickedMoveBestScoreDiffStatistic<>(),
             true),
     PICKED_MOVE_TYPE_STEP_SCORE_DIFF("timefold.solver.move.type.step.score.diff", new PickedMoveStepScoreDiffStatistic<>(),
+            false),
+    SCORE_CALCULATION_PROFILE("timefold.solver.score.calculation.profile", new ScoreCalculationProfileStatistic<>(),
             false);
 
     String meterId;
@@ -34,6 +34,8 @@ import ai.timefold.solver.core.impl.solver.termination.Termination;
         "bestScoreFeasible",
         "stepCountLimit",
         "unimprovedStepCountLimit",
+        "diminishedReturnsSlidingWindowMilliseconds",
+        "diminishedReturnsMinimumImprovementRatio",
         "scoreCalculationCountLimit",
         "terminationConfigList"
 })
@@ -70,6 +72,9 @@ public class TerminationConfig extends AbstractConfig<TerminationConfig> {
     private Integer stepCountLimit = null;
     private Integer unimprovedStepCountLimit = null;
 
+    private Long diminishedReturnsSlidingWindowMilliseconds = null;
+    private Double diminishedReturnsMinimumImprovementRatio = null;
+
     private Long scoreCalculationCountLimit = null;
 
     @XmlElement(name = "termination")
@@ -235,6 +240,22 @@ public class TerminationConfig extends AbstractConfig<TerminationConfig> {
         this.unimprovedStepCountLimit = unimprovedStepCountLimit;
     }
 
+    public Long getDiminishedReturnsSlidingWindowMilliseconds() {
+        return diminishedReturnsSlidingWindowMilliseconds;
+    }
+
+    public void setDiminishedReturnsSlidingWindowMilliseconds(Long diminishedReturnsSlidingWindowMilliseconds) {
+        this.diminishedReturnsSlidingWindowMilliseconds = diminishedReturnsSlidingWindowMilliseconds;
+    }
+
+    public Double getDiminishedReturnsMinimumImprovementRatio() {
+        return diminishedReturnsMinimumImprovementRatio;
+    }
+
+    public void setDiminishedReturnsMinimumImprovementRatio(Double diminishedReturnsMinimumImprovementRatio) {
+        this.diminishedReturnsMinimumImprovementRatio = diminishedReturnsMinimumImprovementRatio;
+    }
+
     public Long getScoreCalculationCountLimit() {
         return scoreCalculationCountLimit;
     }
@@ -354,6 +375,16 @@ public class TerminationConfig extends AbstractConfig<TerminationConfig> {
         return this;
     }
 
+    public TerminationConfig withDiminishedReturnsSlidingWindowMilliseconds(Long diminishedReturnsSlidingWindowMilliseconds) {
+        this.diminishedReturnsSlidingWindowMilliseconds = diminishedReturnsSlidingWindowMilliseconds;
+        return this;
+    }
+
+    public TerminationConfig withDiminishedReturnsMinimumImprovementRatio(Double diminishedReturnsMinimumImprovementRatio) {
+        this.diminishedReturnsMinimumImprovementRatio = diminishedReturnsMinimumImprovementRatio;
+        return this;
+    }
+
     public TerminationConfig withScoreCalculationCountLimit(Long scoreCalculationCountLimit) {
         this.scoreCalculationCountLimit = scoreCalculationCountLimit;
         return this;
@@ -465,10 +496,15 @@ public class TerminationConfig extends AbstractConfig<TerminationConfig> {
                 bestScoreFeasible != null ||
                 stepCountLimit != null ||
                 unimprovedStepCountLimit != null ||
+                isDiminishedReturnsConfigured() ||
                 scoreCalculationCountLimit != null ||
                 isTerminationListConfigured();
     }
 
+    private boolean isDiminishedReturnsConfigured() {
+        return diminishedReturnsSlidingWindowMilliseconds != null || diminishedReturnsMinimumImprovementRatio != null;
+    }
+
     private boolean isTerminationListConfigured() {
         if (terminationConfigList == null || terminationCompositionStyle == null) {
             return false;
@@ -506,6 +542,10 @@ public class TerminationConfig extends AbstractConfig<TerminationConfig> {
                 inheritedConfig.getStepCountLimit());
         unimprovedStepCountLimit = ConfigUtils.inheritOverwritableProperty(unimprovedStepCountLimit,
                 inheritedConfig.getUnimprovedStepCountLimit());
+        diminishedReturnsSlidingWindowMilliseconds = ConfigUtils.inheritOverwritableProperty(
+                diminishedReturnsSlidingWindowMilliseconds, inheritedConfig.getDiminishedReturnsSlidingWindowMilliseconds());
+        diminishedReturnsMinimumImprovementRatio = ConfigUtils.inheritOverwritableProperty(
+                diminishedReturnsMinimumImprovementRatio, inheritedConfig.getDiminishedReturnsMinimumImprovementRatio());
         scoreCalculationCountLimit = ConfigUtils.inheritOverwritableProperty(scoreCalculationCountLimit,
                 inheritedConfig.getScoreCalculationCountLimit());
         terminationConfigList = ConfigUtils.inheritMergeableListConfig(
@@ -1,7 +1,9 @@
 package ai.timefold.solver.core.impl.domain.common.accessor.gizmo;
 
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Loads a class if we have the Gizmo-generated bytecode for it,
@@ -48,4 +50,11 @@ public final class GizmoClassLoader extends ClassLoader {
         classNameToBytecodeMap.put(className, bytecode);
     }
 
+    /**
+     * @return never null, a copy of the names of every class this has the bytecode for
+     */
+    public synchronized Set<String> getClassNameSet() {
+        return new LinkedHashSet<>(classNameToBytecodeMap.keySet());
+    }
+
 }
@@ -8,6 +8,7 @@ import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.Deque;
 import java.util.HashMap;
@@ -63,6 +64,46 @@ public final class FieldAccessingSolutionCloner<Solution_> implements SolutionCl
         return cloneSolution;
     }
 
+    /**
+     * Like {@link #cloneSolution(Object)}, but reuses the clones of a previous planning clone
+     * instead of cloning those originals again.
+     * The caller must remove every original which changed since that previous planning clone from the map,
+     * so the clones which remain in the map are still equal to their originals.
+     * <p>
+     * Afterwards, the map only holds the clones which do not reference any deep cloned value,
+     * such as another entity or a collection.
+     * Those clones do not need to be repaired when another clone changes, so they can be reused again,
+     * by a planning clone which shares them with this one.
+     *
+     * @param originalSolution never null
+     * @param reusableOriginalToCloneMap never null, updated in place
+     * @return never null, shares the reused clones with the previous planning clone
+     */
+    public Solution_ cloneSolution(Solution_ originalSolution, Map<Object, Object> reusableOriginalToCloneMap) {
+        int entityCount = solutionDescriptor.getEntityCount(originalSolution);
+        Map<Object, Object> originalToCloneMap = new IdentityHashMap<>(entityCount + 1);
+        originalToCloneMap.putAll(reusableOriginalToCloneMap);
+        Queue<Unprocessed> unprocessedQueue = new ArrayDeque<>(entityCount + 1);
+        Solution_ cloneSolution = clone(originalSolution, originalToCloneMap, unprocessedQueue,
+                retrieveClassMetadata(originalSolution.getClass()));
+        Set<Object> referencingCloneSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        while (!unprocessedQueue.isEmpty()) {
+            Unprocessed unprocessed = unprocessedQueue.remove();
+            referencingCloneSet.add(unprocessed.bean);
+            Object cloneValue = process(unprocessed, originalToCloneMap, unprocessedQueue);
+            FieldCloningUtils.setObjectFieldValue(unprocessed.bean, unprocessed.field, cloneValue);
+        }
+        validateCloneSolution(originalSolution, cloneSolution);
+        reusableOriginalToCloneMap.clear();
+        for (Map.Entry<Object, Object> entry : originalToCloneMap.entrySet()) {
+            Object clone = entry.getValue();
+            if (clone != cloneSolution && !referencingCloneSet.contains(clone)) {
+                reusableOriginalToCloneMap.put(entry.getKey(), clone);
+            }
+        }
+        return cloneSolution;
+    }
+
     private Object process(Unprocessed unprocessed, Map<Object, Object> originalToCloneMap,
             Queue<Unprocessed> unprocessedQueue) {
         Object originalValue = unprocessed.originalValue;
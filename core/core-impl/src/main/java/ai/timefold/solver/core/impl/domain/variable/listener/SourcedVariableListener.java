@@ -1,5 +1,8 @@
 package ai.timefold.solver.core.impl.domain.variable.listener;
 
+import java.util.Collection;
+import java.util.Collections;
+
 import ai.timefold.solver.core.api.domain.variable.AbstractVariableListener;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.VariableDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.supply.Supply;
@@ -11,4 +14,11 @@ public interface SourcedVariableListener<Solution_> extends AbstractVariableList
 
     VariableDescriptor<Solution_> getSourceVariableDescriptor();
 
+    /**
+     * @return never null, at least 1 element, every variable this listener is notified of
+     */
+    default Collection<VariableDescriptor<Solution_>> getSourceVariableDescriptors() {
+        return Collections.singletonList(getSourceVariableDescriptor());
+    }
+
 }
@@ -38,6 +38,8 @@ public final class VariableListenerSupport<Solution_> implements SupplyManager {
     // If thread-safety is ever required, the two collections before need to be updated together.
     private final Map<Demand<?>, Supply> supplyMap = new LinkedHashMap<>();
     private final Map<Demand<?>, Long> demandCounterMap = new HashMap<>();
+    // Notifiables of the externalized supplies, so they stop being notified once their supply is removed.
+    private final Map<Demand<?>, EntityNotifiable<Solution_>> externalizedNotifiableMap = new HashMap<>();
 
     private boolean notificationQueuesAreEmpty = true;
     private int nextGlobalOrder = 0;
@@ -94,9 +96,10 @@ public final class VariableListenerSupport<Solution_> implements SupplyManager {
             if (scoreDirector.getWorkingSolution() != null) {
                 variableListener.resetWorkingSolution(scoreDirector);
             }
-            notifiableRegistry.registerNotifiable(
-                    variableListener.getSourceVariableDescriptor(),
-                    AbstractNotifiable.buildNotifiable(scoreDirector, variableListener, nextGlobalOrder++));
+            EntityNotifiable<Solution_> notifiable =
+                    AbstractNotifiable.buildNotifiable(scoreDirector, variableListener, nextGlobalOrder++);
+            notifiableRegistry.registerNotifiable(variableListener.getSourceVariableDescriptors(), notifiable);
+            externalizedNotifiableMap.put(demand, notifiable);
         }
         return supply;
     }
@@ -107,7 +110,17 @@ public final class VariableListenerSupport<Solution_> implements SupplyManager {
         if (result != null) {
             return true;
         }
-        return supplyMap.remove(demand) != null;
+        Supply supply = supplyMap.remove(demand);
+        if (supply == null) {
+            return false;
+        }
+        EntityNotifiable<Solution_> notifiable = externalizedNotifiableMap.remove(demand);
+        if (notifiable != null) {
+            notifiableRegistry.unregisterNotifiable(
+                    ((SourcedVariableListener<Solution_>) supply).getSourceVariableDescriptors(), notifiable);
+            notifiable.closeVariableListener();
+        }
+        return true;
     }
 
     @Override
@@ -19,6 +19,8 @@ import ai.timefold.solver.core.impl.heuristic.selector.common.iterator.CachedLis
 import ai.timefold.solver.core.impl.heuristic.selector.common.iterator.UpcomingSelectionIterator;
 import ai.timefold.solver.core.impl.heuristic.selector.entity.EntitySelector;
 import ai.timefold.solver.core.impl.heuristic.selector.move.generic.PillarDemand;
+import ai.timefold.solver.core.impl.heuristic.selector.move.generic.PillarSupply;
+import ai.timefold.solver.core.impl.phase.scope.AbstractPhaseScope;
 import ai.timefold.solver.core.impl.solver.scope.SolverScope;
 
 /**
@@ -34,6 +36,7 @@ public final class DefaultPillarSelector<Solution_> extends AbstractSelector<Sol
     private final SubPillarConfigPolicy subpillarConfigPolicy;
     private final PillarDemand<Solution_> pillarDemand;
 
+    private PillarSupply<Solution_> pillarSupply = null;
     private List<List<Object>> cachedBasePillarList = null;
 
     public DefaultPillarSelector(EntitySelector<Solution_> entitySelector,
@@ -93,24 +96,36 @@ public final class DefaultPillarSelector<Solution_> extends AbstractSelector<Sol
     }
 
     @Override
-    public void constructCache(SolverScope<Solution_> solverScope) {
+    public void phaseStarted(AbstractPhaseScope<Solution_> phaseScope) {
         /*
          * The first pillar selector creates the supply.
          * Other matching pillar selectors, if there are any, reuse the supply.
+         * The supply keeps its pillars up to date for the entire phase.
          */
-        cachedBasePillarList = solverScope.getScoreDirector().getSupplyManager()
-                .demand(pillarDemand)
-                .read();
+        pillarSupply = phaseScope.getSolverScope().getScoreDirector().getSupplyManager()
+                .demand(pillarDemand);
+        super.phaseStarted(phaseScope);
     }
 
     @Override
-    public void disposeCache(SolverScope<Solution_> solverScope) {
+    public void phaseEnded(AbstractPhaseScope<Solution_> phaseScope) {
+        super.phaseEnded(phaseScope);
         /*
          * Cancel the demand of each pillar selector.
          * The final pillar selector's demand cancellation will cause the supply to be removed entirely.
          */
-        solverScope.getScoreDirector().getSupplyManager()
+        phaseScope.getSolverScope().getScoreDirector().getSupplyManager()
                 .cancel(pillarDemand);
+        pillarSupply = null;
+    }
+
+    @Override
+    public void constructCache(SolverScope<Solution_> solverScope) {
+        cachedBasePillarList = pillarSupply.read();
+    }
+
+    @Override
+    public void disposeCache(SolverScope<Solution_> solverScope) {
         cachedBasePillarList = null;
     }
 
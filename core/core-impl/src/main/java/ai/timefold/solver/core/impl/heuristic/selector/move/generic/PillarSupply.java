@@ -0,0 +1,407 @@
+package ai.timefold.solver.core.impl.heuristic.selector.move.generic;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import ai.timefold.solver.core.api.domain.variable.VariableListener;
+import ai.timefold.solver.core.api.score.director.ScoreDirector;
+import ai.timefold.solver.core.config.heuristic.selector.entity.pillar.SubPillarConfigPolicy;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.VariableDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.listener.SourcedVariableListener;
+import ai.timefold.solver.core.impl.heuristic.selector.entity.EntitySelector;
+
+/**
+ * Holds the pillars of the entities of an {@link EntitySelector}:
+ * every pillar contains the entities which have the same value for each of the variables.
+ * <p>
+ * The pillars are built once, from the entities selected at that time,
+ * and afterwards kept up to date by the variable listener notifications,
+ * so a variable change only moves its entity from one pillar to another, in O(1) time.
+ * Any other change to the working solution (such as an entity added or removed) builds them again.
+ * <p>
+ * The entities of a pillar are in selection order, or in the order of the entity comparator if there is one.
+ * The pillars are in the order of their first entity.
+ * Those orders are only restored when the pillars are {@link #read() read},
+ * and only for the pillars which have different entities than at the previous read.
+ * Therefore a move which is done and undone in between (such as an evaluated move that is not picked)
+ * costs no sorting or copying at all.
+ *
+ * @param <Solution_> the solution type
+ */
+public final class PillarSupply<Solution_>
+        implements SourcedVariableListener<Solution_>, VariableListener<Solution_, Object> {
+
+    private static final Comparator<PillarMember> SELECTION_INDEX_COMPARATOR =
+            Comparator.comparingInt(member -> member.selectionIndex);
+    private static final Comparator<Pillar> FIRST_MEMBER_COMPARATOR =
+            Comparator.comparingInt(pillar -> pillar.firstSelectionIndex);
+
+    private final EntitySelector<Solution_> entitySelector;
+    private final List<GenuineVariableDescriptor<Solution_>> variableDescriptors;
+    private final List<VariableDescriptor<Solution_>> sourceVariableDescriptorList;
+    private final Comparator<Object> entityComparator;
+    private final int minimumSubPillarSize;
+
+    // All null until the pillars are built.
+    private Map<Object, PillarMember> entityToMemberMap = null;
+    private Map<Object, Pillar> valueStateToPillarMap = null;
+    // The pillars with at least minimumSubPillarSize entities at the previous read, in the order of their first entity.
+    private List<Pillar> listedPillarList = null;
+    // The pillars which had an entity added or removed since the previous read.
+    private final List<Pillar> dirtyPillarList = new ArrayList<>();
+    private List<List<Object>> pillarListSnapshot = null;
+
+    public PillarSupply(EntitySelector<Solution_> entitySelector,
+            List<GenuineVariableDescriptor<Solution_>> variableDescriptors, SubPillarConfigPolicy subpillarConfigPolicy) {
+        this.entitySelector = entitySelector;
+        this.variableDescriptors = variableDescriptors;
+        this.sourceVariableDescriptorList = new ArrayList<>(variableDescriptors);
+        this.entityComparator = (Comparator<Object>) subpillarConfigPolicy.getEntityComparator();
+        this.minimumSubPillarSize = subpillarConfigPolicy.getMinimumSubPillarSize();
+    }
+
+    /**
+     * @return the first of {@link #getSourceVariableDescriptors()}
+     */
+    @Override
+    public VariableDescriptor<Solution_> getSourceVariableDescriptor() {
+        return sourceVariableDescriptorList.get(0);
+    }
+
+    @Override
+    public Collection<VariableDescriptor<Solution_>> getSourceVariableDescriptors() {
+        return sourceVariableDescriptorList;
+    }
+
+    /**
+     * Neither the returned list nor its pillars change afterwards,
+     * so the selected pillars stay the same while moves are done and undone.
+     * If no pillar has different entities than at the previous read, the same list is returned.
+     *
+     * @return never null, every pillar with at least the minimum sub pillar size
+     */
+    public List<List<Object>> read() {
+        if (entityToMemberMap == null) {
+            buildPillars();
+        } else if (!dirtyPillarList.isEmpty()) {
+            refreshDirtyPillars();
+        }
+        if (pillarListSnapshot == null) {
+            List<List<Object>> snapshot = new ArrayList<>(listedPillarList.size());
+            for (Pillar pillar : listedPillarList) {
+                snapshot.add(pillar.getEntityListSnapshot());
+            }
+            pillarListSnapshot = snapshot;
+        }
+        return pillarListSnapshot;
+    }
+
+    private void buildPillars() {
+        long entitySize = entitySelector.getSize();
+        if (entitySize > Integer.MAX_VALUE) {
+            throw new IllegalStateException("The supply (" + this + ") has an entitySelector ("
+                    + entitySelector + ") with entitySize (" + entitySize
+                    + ") which is higher than Integer.MAX_VALUE.");
+        }
+        List<Object> entityList = new ArrayList<>((int) entitySize);
+        for (Object entity : entitySelector) {
+            entityList.add(entity);
+        }
+        if (entityComparator != null) {
+            // All the pillars will be sorted without having to sort them individually later.
+            entityList.sort(entityComparator);
+        }
+        entityToMemberMap = new IdentityHashMap<>(entityList.size());
+        valueStateToPillarMap = new HashMap<>();
+        // The pillars in the order of their first entity, like the entities.
+        List<Pillar> builtPillarList = new ArrayList<>();
+        for (int i = 0; i < entityList.size(); i++) {
+            Object entity = entityList.get(i);
+            PillarMember member = new PillarMember(entity, i);
+            entityToMemberMap.put(entity, member);
+            Object valueState = extractValueState(entity);
+            Pillar pillar = valueStateToPillarMap.get(valueState);
+            if (pillar == null) {
+                pillar = new Pillar(valueState);
+                valueStateToPillarMap.put(valueState, pillar);
+                builtPillarList.add(pillar);
+            }
+            // The entities are visited in selection order, so appending keeps every pillar sorted.
+            pillar.append(member);
+        }
+        listedPillarList = new ArrayList<>(builtPillarList.size());
+        for (Pillar pillar : builtPillarList) {
+            if (pillar.size() >= minimumSubPillarSize) {
+                pillar.listed = true;
+                listedPillarList.add(pillar);
+            }
+        }
+        dirtyPillarList.clear();
+        pillarListSnapshot = null;
+    }
+
+    /**
+     * Only the pillars which have different entities than at the previous read are sorted again.
+     * Only if there are any, the pillar list is sorted again too,
+     * which is cheap because it is still in order, except for those pillars.
+     */
+    private void refreshDirtyPillars() {
+        List<Pillar> changedPillarList = null;
+        for (Pillar pillar : dirtyPillarList) {
+            pillar.dirty = false;
+            if (pillar.size() == 0) {
+                valueStateToPillarMap.remove(pillar.valueState);
+            }
+            if (pillar.changedMemberCount == 0) {
+                continue; // Every change was undone, such as by an undo move.
+            }
+            pillar.restoreSelectionOrder();
+            if (changedPillarList == null) {
+                changedPillarList = new ArrayList<>();
+            }
+            changedPillarList.add(pillar);
+        }
+        dirtyPillarList.clear();
+        if (changedPillarList == null) {
+            return;
+        }
+        List<Pillar> newListedPillarList = new ArrayList<>(listedPillarList.size() + changedPillarList.size());
+        for (Pillar pillar : listedPillarList) {
+            if (pillar.size() >= minimumSubPillarSize) {
+                newListedPillarList.add(pillar);
+            } else {
+                pillar.listed = false;
+            }
+        }
+        for (Pillar pillar : changedPillarList) {
+            if (!pillar.listed && pillar.size() >= minimumSubPillarSize) {
+                pillar.listed = true;
+                newListedPillarList.add(pillar);
+            }
+        }
+        // The pillars are disjoint, so no two pillars share their first entity.
+        newListedPillarList.sort(FIRST_MEMBER_COMPARATOR);
+        listedPillarList = newListedPillarList;
+        pillarListSnapshot = null;
+    }
+
+    /**
+     * A single variable uses its value as is, to avoid creating a list per entity.
+     */
+    private Object extractValueState(Object entity) {
+        int variableCount = variableDescriptors.size();
+        if (variableCount == 1) {
+            return variableDescriptors.get(0).getValue(entity);
+        }
+        Object[] valueState = new Object[variableCount];
+        for (int i = 0; i < variableCount; i++) {
+            valueState[i] = variableDescriptors.get(i).getValue(entity);
+        }
+        return Arrays.asList(valueState);
+    }
+
+    private void invalidate() {
+        entityToMemberMap = null;
+        valueStateToPillarMap = null;
+        listedPillarList = null;
+        dirtyPillarList.clear();
+        pillarListSnapshot = null;
+    }
+
+    // ************************************************************************
+    // Variable listener methods
+    // ************************************************************************
+
+    @Override
+    public void resetWorkingSolution(ScoreDirector<Solution_> scoreDirector) {
+        invalidate();
+    }
+
+    @Override
+    public void close() {
+        invalidate();
+    }
+
+    @Override
+    public void beforeEntityAdded(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    @Override
+    public void afterEntityAdded(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        // Whether the entitySelector selects the new entity is unknown.
+        invalidate();
+    }
+
+    @Override
+    public void beforeVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    @Override
+    public void afterVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        if (entityToMemberMap == null) {
+            return; // The pillars are built from scratch on the next read.
+        }
+        PillarMember member = entityToMemberMap.get(entity);
+        if (member == null) {
+            return; // Not selected by the entitySelector.
+        }
+        Object valueState = extractValueState(entity);
+        if (Objects.equals(valueState, member.pillar.valueState)) {
+            return; // Another variable of the same entity changed, or it changed back.
+        }
+        retract(member);
+        insert(member, valueState);
+    }
+
+    @Override
+    public void beforeEntityRemoved(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    @Override
+    public void afterEntityRemoved(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        invalidate();
+    }
+
+    private void insert(PillarMember member, Object valueState) {
+        Pillar pillar = valueStateToPillarMap.get(valueState);
+        if (pillar == null) {
+            pillar = new Pillar(valueState);
+            valueStateToPillarMap.put(valueState, pillar);
+        }
+        pillar.add(member);
+        markDirty(pillar);
+    }
+
+    private void retract(PillarMember member) {
+        Pillar pillar = member.pillar;
+        // Even if it is empty, the pillar stays until the next read, in case an undo move adds the entities back.
+        pillar.remove(member);
+        markDirty(pillar);
+    }
+
+    private void markDirty(Pillar pillar) {
+        if (!pillar.dirty) {
+            pillar.dirty = true;
+            dirtyPillarList.add(pillar);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + entitySelector + ")";
+    }
+
+    private static final class PillarMember {
+
+        private final Object entity;
+        // The position of the entity in the (sorted) entity selection.
+        private final int selectionIndex;
+        private Pillar pillar = null;
+        private int pillarIndex = -1;
+        // The pillar which contained the entity at the previous read.
+        private Pillar readPillar = null;
+
+        private PillarMember(Object entity, int selectionIndex) {
+            this.entity = entity;
+            this.selectionIndex = selectionIndex;
+        }
+
+    }
+
+    private static final class Pillar {
+
+        private final Object valueState;
+        // Out of selection order after a removal, which swaps in the last member, until a read restores it.
+        private final List<PillarMember> memberList = new ArrayList<>();
+        /**
+         * The number of members which were added since the previous read, plus the number which were removed.
+         * A member which is removed and added again (or the other way around) does not count,
+         * so 0 means the pillar has the same members as at the previous read.
+         */
+        private int changedMemberCount = 0;
+        // The selection index of the first member at the previous read.
+        private int firstSelectionIndex = -1;
+        private boolean dirty = false;
+        private boolean listed = false;
+        // Null if the members changed since it was created.
+        private List<Object> entityListSnapshot = null;
+
+        private Pillar(Object valueState) {
+            this.valueState = valueState;
+        }
+
+        private int size() {
+            return memberList.size();
+        }
+
+        /**
+         * @param member its selection index must be higher than that of every member of this pillar
+         */
+        private void append(PillarMember member) {
+            if (memberList.isEmpty()) {
+                firstSelectionIndex = member.selectionIndex;
+            }
+            member.pillarIndex = memberList.size();
+            memberList.add(member);
+            member.pillar = this;
+            member.readPillar = this;
+        }
+
+        private void add(PillarMember member) {
+            member.pillarIndex = memberList.size();
+            memberList.add(member);
+            member.pillar = this;
+            changedMemberCount += member.readPillar == this ? -1 : 1;
+        }
+
+        private void remove(PillarMember member) {
+            // Swap with the last member, to avoid shifting the others.
+            int lastIndex = memberList.size() - 1;
+            PillarMember lastMember = memberList.remove(lastIndex);
+            if (lastMember != member) {
+                memberList.set(member.pillarIndex, lastMember);
+                lastMember.pillarIndex = member.pillarIndex;
+            }
+            member.pillarIndex = -1;
+            member.pillar = null;
+            changedMemberCount += member.readPillar == this ? 1 : -1;
+        }
+
+        private void restoreSelectionOrder() {
+            memberList.sort(SELECTION_INDEX_COMPARATOR);
+            for (int i = 0; i < memberList.size(); i++) {
+                PillarMember member = memberList.get(i);
+                member.pillarIndex = i;
+                member.readPillar = this;
+            }
+            firstSelectionIndex = memberList.isEmpty() ? -1 : memberList.get(0).selectionIndex;
+            changedMemberCount = 0;
+            entityListSnapshot = null;
+        }
+
+        private List<Object> getEntityListSnapshot() {
+            if (entityListSnapshot == null) {
+                Object[] entities = new Object[memberList.size()];
+                for (int i = 0; i < entities.length; i++) {
+                    entities[i] = memberList.get(i).entity;
+                }
+                entityListSnapshot = Collections.unmodifiableList(Arrays.asList(entities));
+            }
+            return entityListSnapshot;
+        }
+
+    }
+
+}
@@ -0,0 +1,162 @@
+package ai.timefold.solver.core.impl.heuristic.selector.move.generic;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+import ai.timefold.solver.core.api.domain.valuerange.CountableValueRange;
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.api.score.director.ScoreDirector;
+import ai.timefold.solver.core.impl.domain.valuerange.descriptor.ValueRangeDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import ai.timefold.solver.core.impl.heuristic.move.AbstractMove;
+import ai.timefold.solver.core.impl.heuristic.move.CompositeMove;
+import ai.timefold.solver.core.impl.heuristic.move.Move;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * Unassigns the basic planning variable of every ruined entity
+ * and then assigns each of those entities again, in order, to the value with the best score.
+ * <p>
+ * Does not extend {@link AbstractMove}, because the recreated values are only known while the move is being done,
+ * so the undo move has to be created before the ruin.
+ */
+public class RuinRecreateMove<Solution_> implements Move<Solution_> {
+
+    private final GenuineVariableDescriptor<Solution_> variableDescriptor;
+    private final List<Object> ruinedEntityList;
+    /**
+     * The values of the {@link #ruinedEntityList} the last time this move was done, null if it was never done.
+     * Value tabu reads them after the move is undone, when the entities no longer have those values.
+     */
+    private List<Object> recreatedValueList = null;
+
+    /**
+     * @param variableDescriptor never null, a basic variable with a countable value range
+     * @param ruinedEntityList never null, the entities in the order in which they are recreated
+     */
+    public RuinRecreateMove(GenuineVariableDescriptor<Solution_> variableDescriptor, List<Object> ruinedEntityList) {
+        this.variableDescriptor = variableDescriptor;
+        this.ruinedEntityList = ruinedEntityList;
+    }
+
+    public List<Object> getRuinedEntityList() {
+        return ruinedEntityList;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public boolean isMoveDoable(ScoreDirector<Solution_> scoreDirector) {
+        return !ruinedEntityList.isEmpty();
+    }
+
+    @Override
+    public Move<Solution_> doMove(ScoreDirector<Solution_> scoreDirector) {
+        List<ChangeMove<Solution_>> undoMoveList = new ArrayList<>(ruinedEntityList.size());
+        for (Object entity : ruinedEntityList) {
+            undoMoveList.add(new ChangeMove<>(variableDescriptor, entity, variableDescriptor.getValue(entity)));
+        }
+        doMoveOnly(scoreDirector);
+        return CompositeMove.buildMove(undoMoveList);
+    }
+
+    @Override
+    public void doMoveOnly(ScoreDirector<Solution_> scoreDirector) {
+        InnerScoreDirector<Solution_, ?> innerScoreDirector = (InnerScoreDirector<Solution_, ?>) scoreDirector;
+        for (Object entity : ruinedEntityList) {
+            innerScoreDirector.changeVariableFacade(variableDescriptor, entity, null);
+        }
+        innerScoreDirector.triggerVariableListeners();
+        List<Object> valueList = new ArrayList<>(ruinedEntityList.size());
+        for (Object entity : ruinedEntityList) {
+            valueList.add(recreate(innerScoreDirector, entity));
+        }
+        recreatedValueList = valueList;
+    }
+
+    /**
+     * @return the value the entity was recreated to, null if a nullable variable stays unassigned
+     */
+    private <Score_ extends Score<Score_>> Object recreate(InnerScoreDirector<Solution_, Score_> scoreDirector,
+            Object entity) {
+        ValueRangeDescriptor<Solution_> valueRangeDescriptor = variableDescriptor.getValueRangeDescriptor();
+        Iterator<?> valueIterator = ((CountableValueRange<?>) valueRangeDescriptor
+                .extractValueRange(scoreDirector.getWorkingSolution(), entity)).createOriginalIterator();
+        Object bestValue = null;
+        // A nullable variable can also stay unassigned.
+        Score_ bestScore = variableDescriptor.isNullable() ? scoreDirector.calculateScore() : null;
+        while (valueIterator.hasNext()) {
+            Object value = valueIterator.next();
+            Score_ score = scoreDirector.doAndProcessMove(new ChangeMove<>(variableDescriptor, entity, value), false);
+            if (bestScore == null || score.compareTo(bestScore) > 0) {
+                bestValue = value;
+                bestScore = score;
+            }
+        }
+        if (bestValue != null) {
+            scoreDirector.changeVariableFacade(variableDescriptor, entity, bestValue);
+            scoreDirector.triggerVariableListeners();
+        } else if (!variableDescriptor.isNullable()) {
+            throw new IllegalStateException("The entity (" + entity + ") has an empty value range for its variable ("
+                    + variableDescriptor.getSimpleEntityAndVariableName()
+                    + "), which is not nullable, so it cannot be recreated.\n"
+                    + "Maybe make the variable nullable or make sure its value range is never empty.");
+        }
+        return bestValue;
+    }
+
+    @Override
+    public RuinRecreateMove<Solution_> rebase(ScoreDirector<Solution_> destinationScoreDirector) {
+        return new RuinRecreateMove<>(variableDescriptor,
+                AbstractMove.rebaseList(ruinedEntityList, destinationScoreDirector));
+    }
+
+    // ************************************************************************
+    // Introspection methods
+    // ************************************************************************
+
+    @Override
+    public String getSimpleMoveTypeDescription() {
+        return getClass().getSimpleName() + "(" + variableDescriptor.getSimpleEntityAndVariableName() + ")";
+    }
+
+    @Override
+    public Collection<? extends Object> getPlanningEntities() {
+        return ruinedEntityList;
+    }
+
+    @Override
+    public Collection<? extends Object> getPlanningValues() {
+        // The entities only have their recreated values until the move is undone, so they are recorded.
+        return recreatedValueList == null ? Collections.emptyList() : recreatedValueList;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        RuinRecreateMove<?> other = (RuinRecreateMove<?>) o;
+        return Objects.equals(variableDescriptor, other.variableDescriptor)
+                && Objects.equals(ruinedEntityList, other.ruinedEntityList);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(variableDescriptor, ruinedEntityList);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + ruinedEntityList;
+    }
+}
@@ -0,0 +1,231 @@
+package ai.timefold.solver.core.impl.heuristic.selector.move.generic;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+import ai.timefold.solver.core.config.heuristic.selector.move.generic.RuinSelectionType;
+import ai.timefold.solver.core.impl.domain.entity.descriptor.EntityDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import ai.timefold.solver.core.impl.heuristic.move.Move;
+import ai.timefold.solver.core.impl.heuristic.selector.common.iterator.UpcomingSelectionIterator;
+import ai.timefold.solver.core.impl.heuristic.selector.list.ElementRef;
+import ai.timefold.solver.core.impl.heuristic.selector.move.generic.list.ListRuinRecreateMove;
+import ai.timefold.solver.core.impl.phase.scope.AbstractPhaseScope;
+import ai.timefold.solver.core.impl.phase.scope.AbstractStepScope;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * Selects {@link RuinRecreateMove}s for a basic variable and {@link ListRuinRecreateMove}s for a list variable.
+ * Only ruins movable entities (and the elements of movable entities).
+ */
+public class RuinRecreateMoveSelector<Solution_> extends GenericMoveSelector<Solution_> {
+
+    private final GenuineVariableDescriptor<Solution_> variableDescriptor;
+    private final int minimumRuinedCount;
+    private final int maximumRuinedCount;
+    private final RuinSelectionType ruinSelectionType;
+
+    private InnerScoreDirector<Solution_, ?> scoreDirector = null;
+    /**
+     * Null until it is needed in a step.
+     * Its order has no meaning, so picking random entities reorders it in place.
+     */
+    private List<Object> cachedMovableEntityList = null;
+
+    public RuinRecreateMoveSelector(GenuineVariableDescriptor<Solution_> variableDescriptor, int minimumRuinedCount,
+            int maximumRuinedCount, RuinSelectionType ruinSelectionType) {
+        this.variableDescriptor = variableDescriptor;
+        this.minimumRuinedCount = minimumRuinedCount;
+        this.maximumRuinedCount = maximumRuinedCount;
+        this.ruinSelectionType = ruinSelectionType;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public void phaseStarted(AbstractPhaseScope<Solution_> phaseScope) {
+        super.phaseStarted(phaseScope);
+        scoreDirector = phaseScope.getScoreDirector();
+        cachedMovableEntityList = null;
+    }
+
+    @Override
+    public void stepStarted(AbstractStepScope<Solution_> stepScope) {
+        super.stepStarted(stepScope);
+        // The previous step might have changed which entities are movable.
+        cachedMovableEntityList = null;
+    }
+
+    @Override
+    public void phaseEnded(AbstractPhaseScope<Solution_> phaseScope) {
+        super.phaseEnded(phaseScope);
+        scoreDirector = null;
+        cachedMovableEntityList = null;
+    }
+
+    @Override
+    public boolean isCountable() {
+        return false;
+    }
+
+    @Override
+    public boolean isNeverEnding() {
+        return true;
+    }
+
+    /**
+     * @return the number of entities (or list elements) that can be ruined,
+     *         so a union move selector does not select this selector more often than the others
+     */
+    @Override
+    public long getSize() {
+        List<Object> entityList = getMovableEntityList();
+        if (!variableDescriptor.isListVariable()) {
+            return entityList.size();
+        }
+        ListVariableDescriptor<Solution_> listVariableDescriptor = (ListVariableDescriptor<Solution_>) variableDescriptor;
+        long elementCount = 0L;
+        for (Object entity : entityList) {
+            elementCount += listVariableDescriptor.getListSize(entity);
+        }
+        return elementCount;
+    }
+
+    @Override
+    public Iterator<Move<Solution_>> iterator() {
+        return new RuinRecreateMoveIterator();
+    }
+
+    private List<Object> getMovableEntityList() {
+        if (cachedMovableEntityList == null) {
+            EntityDescriptor<Solution_> entityDescriptor = variableDescriptor.getEntityDescriptor();
+            List<Object> entityList = entityDescriptor.extractEntities(scoreDirector.getWorkingSolution());
+            cachedMovableEntityList = new ArrayList<>(entityList.size());
+            for (Object entity : entityList) {
+                if (entityDescriptor.isMovable(scoreDirector, entity)) {
+                    cachedMovableEntityList.add(entity);
+                }
+            }
+        }
+        return cachedMovableEntityList;
+    }
+
+    private int pickRuinedCount(int availableCount) {
+        int ruinedCount = minimumRuinedCount + workingRandom.nextInt(maximumRuinedCount - minimumRuinedCount + 1);
+        return Math.min(ruinedCount, availableCount);
+    }
+
+    /**
+     * Moves count random elements of the sourceList to the targetList, in random order.
+     *
+     * @param sourceList never null, modified (shuffled partially)
+     * @param count {@code >= 0}, more than the size of the sourceList moves all of them
+     * @param targetList never null
+     */
+    private <T> void pickRandomly(List<T> sourceList, int count, List<T> targetList) {
+        int pickedCount = Math.min(count, sourceList.size());
+        for (int i = 0; i < pickedCount; i++) {
+            Collections.swap(sourceList, i, i + workingRandom.nextInt(sourceList.size() - i));
+            targetList.add(sourceList.get(i));
+        }
+    }
+
+    private Move<Solution_> createRuinRecreateMove() {
+        List<Object> entityList = getMovableEntityList();
+        if (entityList.isEmpty()) {
+            return null;
+        }
+        int ruinedCount = pickRuinedCount(entityList.size());
+        List<Object> ruinedEntityList = new ArrayList<>(ruinedCount);
+        if (ruinSelectionType == RuinSelectionType.RANDOM) {
+            pickRandomly(entityList, ruinedCount, ruinedEntityList);
+        } else {
+            // The entities that share a value with the seed entity, then any other entities if there are too few.
+            Object seedEntity = entityList.get(workingRandom.nextInt(entityList.size()));
+            Object seedValue = variableDescriptor.getValue(seedEntity);
+            ruinedEntityList.add(seedEntity);
+            List<Object> relatedEntityList = new ArrayList<>();
+            List<Object> unrelatedEntityList = new ArrayList<>();
+            for (Object entity : entityList) {
+                if (entity == seedEntity) {
+                    continue;
+                }
+                if (Objects.equals(variableDescriptor.getValue(entity), seedValue)) {
+                    relatedEntityList.add(entity);
+                } else {
+                    unrelatedEntityList.add(entity);
+                }
+            }
+            pickRandomly(relatedEntityList, ruinedCount - ruinedEntityList.size(), ruinedEntityList);
+            pickRandomly(unrelatedEntityList, ruinedCount - ruinedEntityList.size(), ruinedEntityList);
+        }
+        return new RuinRecreateMove<>(variableDescriptor, ruinedEntityList);
+    }
+
+    private Move<Solution_> createListRuinRecreateMove() {
+        ListVariableDescriptor<Solution_> listVariableDescriptor = (ListVariableDescriptor<Solution_>) variableDescriptor;
+        List<ElementRef> elementRefList = new ArrayList<>();
+        for (Object entity : getMovableEntityList()) {
+            int listSize = listVariableDescriptor.getListSize(entity);
+            for (int index = 0; index < listSize; index++) {
+                elementRefList.add(ElementRef.of(entity, index));
+            }
+        }
+        if (elementRefList.isEmpty()) {
+            return null;
+        }
+        int ruinedCount = pickRuinedCount(elementRefList.size());
+        List<ElementRef> ruinedElementRefList = new ArrayList<>(ruinedCount);
+        if (ruinSelectionType == RuinSelectionType.RANDOM) {
+            pickRandomly(elementRefList, ruinedCount, ruinedElementRefList);
+        } else {
+            // A string of consecutive elements around a seed element, all in the list of the seed entity.
+            ElementRef seedElementRef = elementRefList.get(workingRandom.nextInt(elementRefList.size()));
+            Object seedEntity = seedElementRef.getEntity();
+            int listSize = listVariableDescriptor.getListSize(seedEntity);
+            int stringLength = Math.min(ruinedCount, listSize);
+            int minimumStart = Math.max(0, seedElementRef.getIndex() - stringLength + 1);
+            int maximumStart = Math.min(seedElementRef.getIndex(), listSize - stringLength);
+            int start = minimumStart + workingRandom.nextInt(maximumStart - minimumStart + 1);
+            List<ElementRef> stringElementRefList = new ArrayList<>(stringLength);
+            for (int index = start; index < start + stringLength; index++) {
+                stringElementRefList.add(ElementRef.of(seedEntity, index));
+            }
+            pickRandomly(stringElementRefList, stringLength, ruinedElementRefList);
+        }
+        List<Object> ruinedElementList = new ArrayList<>(ruinedElementRefList.size());
+        List<Object> ruinedEntityList = new ArrayList<>(ruinedElementRefList.size());
+        int[] ruinedIndexes = new int[ruinedElementRefList.size()];
+        for (int i = 0; i < ruinedElementRefList.size(); i++) {
+            ElementRef elementRef = ruinedElementRefList.get(i);
+            ruinedElementList.add(listVariableDescriptor.getElement(elementRef.getEntity(), elementRef.getIndex()));
+            ruinedEntityList.add(elementRef.getEntity());
+            ruinedIndexes[i] = elementRef.getIndex();
+        }
+        return new ListRuinRecreateMove<>(listVariableDescriptor, ruinedElementList, ruinedEntityList, ruinedIndexes);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + variableDescriptor.getSimpleEntityAndVariableName() + ", "
+                + ruinSelectionType + ")";
+    }
+
+    private class RuinRecreateMoveIterator extends UpcomingSelectionIterator<Move<Solution_>> {
+
+        @Override
+        protected Move<Solution_> createUpcomingSelection() {
+            Move<Solution_> move = variableDescriptor.isListVariable() ? createListRuinRecreateMove()
+                    : createRuinRecreateMove();
+            return move == null ? noUpcomingSelection() : move;
+        }
+
+    }
+
+}
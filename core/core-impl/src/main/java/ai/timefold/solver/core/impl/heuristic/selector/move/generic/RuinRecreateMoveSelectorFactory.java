@@ -0,0 +1,59 @@
+package ai.timefold.solver.core.impl.heuristic.selector.move.generic;
+
+import java.util.Objects;
+
+import ai.timefold.solver.core.config.heuristic.selector.common.SelectionCacheType;
+import ai.timefold.solver.core.config.heuristic.selector.move.generic.RuinRecreateMoveSelectorConfig;
+import ai.timefold.solver.core.config.heuristic.selector.move.generic.RuinSelectionType;
+import ai.timefold.solver.core.impl.domain.entity.descriptor.EntityDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import ai.timefold.solver.core.impl.heuristic.HeuristicConfigPolicy;
+import ai.timefold.solver.core.impl.heuristic.selector.move.AbstractMoveSelectorFactory;
+import ai.timefold.solver.core.impl.heuristic.selector.move.MoveSelector;
+
+public class RuinRecreateMoveSelectorFactory<Solution_>
+        extends AbstractMoveSelectorFactory<Solution_, RuinRecreateMoveSelectorConfig> {
+
+    private static final int DEFAULT_MINIMUM_RUINED_COUNT = 5;
+    private static final int DEFAULT_MAXIMUM_RUINED_COUNT = 20;
+
+    public RuinRecreateMoveSelectorFactory(RuinRecreateMoveSelectorConfig moveSelectorConfig) {
+        super(moveSelectorConfig);
+    }
+
+    @Override
+    protected MoveSelector<Solution_> buildBaseMoveSelector(HeuristicConfigPolicy<Solution_> configPolicy,
+            SelectionCacheType minimumCacheType, boolean randomSelection) {
+        if (!randomSelection) {
+            throw new IllegalArgumentException("The ruinRecreateMoveSelector (" + config
+                    + ") only supports random selection order.");
+        }
+        EntityDescriptor<Solution_> entityDescriptor = deduceEntityDescriptor(configPolicy, config.getEntityClass());
+        GenuineVariableDescriptor<Solution_> variableDescriptor =
+                deduceGenuineVariableDescriptor(entityDescriptor, config.getVariableName());
+        if (variableDescriptor.isChained()) {
+            throw new IllegalArgumentException("The ruinRecreateMoveSelector (" + config
+                    + ") does not support the chained variable (" + variableDescriptor.getSimpleEntityAndVariableName()
+                    + ").");
+        }
+        if (!variableDescriptor.isListVariable() && !variableDescriptor.getValueRangeDescriptor().isCountable()) {
+            throw new IllegalArgumentException("The ruinRecreateMoveSelector (" + config
+                    + ") needs a countable value range for the variable ("
+                    + variableDescriptor.getSimpleEntityAndVariableName() + ") to recreate its entities.");
+        }
+        int minimumRuinedCount = Objects.requireNonNullElse(config.getMinimumRuinedCount(), DEFAULT_MINIMUM_RUINED_COUNT);
+        if (minimumRuinedCount < 1) {
+            throw new IllegalArgumentException("minimumRuinedCount (" + minimumRuinedCount + ") must be at least 1.");
+        }
+        int maximumRuinedCount = Objects.requireNonNullElse(config.getMaximumRuinedCount(),
+                Math.max(minimumRuinedCount, DEFAULT_MAXIMUM_RUINED_COUNT));
+        if (maximumRuinedCount < minimumRuinedCount) {
+            throw new IllegalArgumentException("maximumRuinedCount (" + maximumRuinedCount
+                    + ") must be at least minimumRuinedCount (" + minimumRuinedCount + ").");
+        }
+        RuinSelectionType ruinSelectionType =
+                Objects.requireNonNullElse(config.getRuinSelectionType(), RuinSelectionType.RANDOM);
+        return new RuinRecreateMoveSelector<>(variableDescriptor, minimumRuinedCount, maximumRuinedCount,
+                ruinSelectionType);
+    }
+}
@@ -0,0 +1,219 @@
+package ai.timefold.solver.core.impl.heuristic.selector.move.generic.list;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.api.score.director.ScoreDirector;
+import ai.timefold.solver.core.impl.domain.entity.descriptor.EntityDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import ai.timefold.solver.core.impl.heuristic.move.AbstractMove;
+import ai.timefold.solver.core.impl.heuristic.move.Move;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * Unassigns every ruined element from its list variable
+ * and then assigns each of those elements again, in order, to the position with the best score.
+ * <p>
+ * Does not extend {@link AbstractMove}, because the recreated positions are only known while the move is being done,
+ * so the undo move is created after the recreate.
+ */
+public class ListRuinRecreateMove<Solution_> implements Move<Solution_> {
+
+    private final ListVariableDescriptor<Solution_> variableDescriptor;
+    private final List<Object> ruinedElementList;
+    private final List<Object> ruinedEntityList;
+    private final int[] ruinedIndexes;
+
+    /**
+     * @param variableDescriptor never null
+     * @param ruinedElementList never null, the elements in the order in which they are recreated
+     * @param ruinedEntityList never null, the entity of every ruined element
+     * @param ruinedIndexes never null, the index of every ruined element
+     */
+    public ListRuinRecreateMove(ListVariableDescriptor<Solution_> variableDescriptor, List<Object> ruinedElementList,
+            List<Object> ruinedEntityList, int[] ruinedIndexes) {
+        this.variableDescriptor = variableDescriptor;
+        this.ruinedElementList = ruinedElementList;
+        this.ruinedEntityList = ruinedEntityList;
+        this.ruinedIndexes = ruinedIndexes;
+    }
+
+    public List<Object> getRuinedElementList() {
+        return ruinedElementList;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public boolean isMoveDoable(ScoreDirector<Solution_> scoreDirector) {
+        return !ruinedElementList.isEmpty();
+    }
+
+    @Override
+    public ListRuinRecreateUndoMove<Solution_> doMove(ScoreDirector<Solution_> scoreDirector) {
+        InnerScoreDirector<Solution_, ?> innerScoreDirector = (InnerScoreDirector<Solution_, ?>) scoreDirector;
+        int ruinedCount = ruinedElementList.size();
+        // Ruin the highest indexes first, so ruining an element does not shift the index of those ruined after it.
+        Integer[] ruinOrder = new Integer[ruinedCount];
+        for (int i = 0; i < ruinedCount; i++) {
+            ruinOrder[i] = i;
+        }
+        Arrays.sort(ruinOrder, (a, b) -> Integer.compare(ruinedIndexes[b], ruinedIndexes[a]));
+        for (Integer ruinedOrdinal : ruinOrder) {
+            unassign(innerScoreDirector, variableDescriptor, ruinedEntityList.get(ruinedOrdinal),
+                    ruinedIndexes[ruinedOrdinal]);
+        }
+        innerScoreDirector.triggerVariableListeners();
+        List<Object> destinationEntityList = extractMovableEntities(innerScoreDirector);
+        Object[] recreatedEntities = new Object[ruinedCount];
+        int[] recreatedIndexes = new int[ruinedCount];
+        for (int i = 0; i < ruinedCount; i++) {
+            recreate(innerScoreDirector, destinationEntityList, ruinedElementList.get(i), recreatedEntities,
+                    recreatedIndexes, i);
+        }
+        // Undo the recreate in reverse order, then the ruin in reverse order.
+        List<Object> undoUnassignedEntityList = new ArrayList<>(ruinedCount);
+        int[] undoUnassignedIndexes = new int[ruinedCount];
+        List<Object> undoAssignedElementList = new ArrayList<>(ruinedCount);
+        List<Object> undoAssignedEntityList = new ArrayList<>(ruinedCount);
+        int[] undoAssignedIndexes = new int[ruinedCount];
+        for (int i = 0; i < ruinedCount; i++) {
+            int reversedIndex = ruinedCount - 1 - i;
+            undoUnassignedEntityList.add(recreatedEntities[reversedIndex]);
+            undoUnassignedIndexes[i] = recreatedIndexes[reversedIndex];
+            int ruinedOrdinal = ruinOrder[reversedIndex];
+            undoAssignedElementList.add(ruinedElementList.get(ruinedOrdinal));
+            undoAssignedEntityList.add(ruinedEntityList.get(ruinedOrdinal));
+            undoAssignedIndexes[i] = ruinedIndexes[ruinedOrdinal];
+        }
+        return new ListRuinRecreateUndoMove<>(variableDescriptor, undoUnassignedEntityList, undoUnassignedIndexes,
+                undoAssignedElementList, undoAssignedEntityList, undoAssignedIndexes);
+    }
+
+    private List<Object> extractMovableEntities(InnerScoreDirector<Solution_, ?> scoreDirector) {
+        EntityDescriptor<Solution_> entityDescriptor = variableDescriptor.getEntityDescriptor();
+        List<Object> entityList = entityDescriptor.extractEntities(scoreDirector.getWorkingSolution());
+        List<Object> movableEntityList = new ArrayList<>(entityList.size());
+        for (Object entity : entityList) {
+            if (entityDescriptor.isMovable(scoreDirector, entity)) {
+                movableEntityList.add(entity);
+            }
+        }
+        return movableEntityList;
+    }
+
+    private <Score_ extends Score<Score_>> void recreate(InnerScoreDirector<Solution_, Score_> scoreDirector,
+            List<Object> destinationEntityList, Object element, Object[] recreatedEntities, int[] recreatedIndexes,
+            int recreatedOrdinal) {
+        Object bestEntity = null;
+        int bestIndex = -1;
+        Score_ bestScore = null;
+        for (Object entity : destinationEntityList) {
+            int listSize = variableDescriptor.getListSize(entity);
+            for (int index = 0; index <= listSize; index++) {
+                Score_ score = scoreDirector.doAndProcessMove(
+                        new ListAssignMove<>(variableDescriptor, element, entity, index), false);
+                if (bestScore == null || score.compareTo(bestScore) > 0) {
+                    bestEntity = entity;
+                    bestIndex = index;
+                    bestScore = score;
+                }
+            }
+        }
+        if (bestEntity == null) {
+            throw new IllegalStateException("Impossible state: the ruined element (" + element
+                    + ") has no movable entity to be recreated in.");
+        }
+        new ListAssignMove<>(variableDescriptor, element, bestEntity, bestIndex).doMoveOnly(scoreDirector);
+        recreatedEntities[recreatedOrdinal] = bestEntity;
+        recreatedIndexes[recreatedOrdinal] = bestIndex;
+    }
+
+    /**
+     * Like {@link ListUnassignMove}, but without triggering the variable listeners.
+     *
+     * @return the unassigned element
+     */
+    static <Solution_> Object unassign(InnerScoreDirector<Solution_, ?> scoreDirector,
+            ListVariableDescriptor<Solution_> variableDescriptor, Object entity, int index) {
+        List<Object> listVariable = variableDescriptor.getListVariable(entity);
+        Object element = listVariable.get(index);
+        scoreDirector.beforeListVariableChanged(variableDescriptor, entity, index, index + 1);
+        scoreDirector.beforeListVariableElementUnassigned(variableDescriptor, element);
+        listVariable.remove(index);
+        scoreDirector.afterListVariableElementUnassigned(variableDescriptor, element);
+        scoreDirector.afterListVariableChanged(variableDescriptor, entity, index, index);
+        return element;
+    }
+
+    /**
+     * Like {@link ListAssignMove}, but without triggering the variable listeners.
+     */
+    static <Solution_> void assign(InnerScoreDirector<Solution_, ?> scoreDirector,
+            ListVariableDescriptor<Solution_> variableDescriptor, Object element, Object entity, int index) {
+        scoreDirector.beforeListVariableChanged(variableDescriptor, entity, index, index);
+        scoreDirector.beforeListVariableElementAssigned(variableDescriptor, element);
+        variableDescriptor.addElement(entity, index, element);
+        scoreDirector.afterListVariableElementAssigned(variableDescriptor, element);
+        scoreDirector.afterListVariableChanged(variableDescriptor, entity, index, index + 1);
+    }
+
+    @Override
+    public ListRuinRecreateMove<Solution_> rebase(ScoreDirector<Solution_> destinationScoreDirector) {
+        return new ListRuinRecreateMove<>(variableDescriptor,
+                AbstractMove.rebaseList(ruinedElementList, destinationScoreDirector),
+                AbstractMove.rebaseList(ruinedEntityList, destinationScoreDirector),
+                ruinedIndexes);
+    }
+
+    // ************************************************************************
+    // Introspection methods
+    // ************************************************************************
+
+    @Override
+    public String getSimpleMoveTypeDescription() {
+        return getClass().getSimpleName() + "(" + variableDescriptor.getSimpleEntityAndVariableName() + ")";
+    }
+
+    @Override
+    public Collection<? extends Object> getPlanningEntities() {
+        return new LinkedHashSet<>(ruinedEntityList);
+    }
+
+    @Override
+    public Collection<? extends Object> getPlanningValues() {
+        return ruinedElementList;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ListRuinRecreateMove<?> other = (ListRuinRecreateMove<?>) o;
+        return Objects.equals(variableDescriptor, other.variableDescriptor)
+                && Objects.equals(ruinedElementList, other.ruinedElementList)
+                && Objects.equals(ruinedEntityList, other.ruinedEntityList)
+                && Arrays.equals(ruinedIndexes, other.ruinedIndexes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(variableDescriptor, ruinedElementList, ruinedEntityList, Arrays.hashCode(ruinedIndexes));
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + ruinedElementList;
+    }
+}
@@ -0,0 +1,127 @@
+package ai.timefold.solver.core.impl.heuristic.selector.move.generic.list;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import ai.timefold.solver.core.api.score.director.ScoreDirector;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import ai.timefold.solver.core.impl.heuristic.move.AbstractMove;
+import ai.timefold.solver.core.impl.heuristic.move.Move;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * Undoes a {@link ListRuinRecreateMove}: first unassigns the elements at the given positions, in order,
+ * then assigns the given elements to the given positions, in order.
+ * Its own undo move is of the same type, so it can be redone too.
+ */
+public class ListRuinRecreateUndoMove<Solution_> implements Move<Solution_> {
+
+    private final ListVariableDescriptor<Solution_> variableDescriptor;
+    private final List<Object> unassignedEntityList;
+    private final int[] unassignedIndexes;
+    private final List<Object> assignedElementList;
+    private final List<Object> assignedEntityList;
+    private final int[] assignedIndexes;
+
+    public ListRuinRecreateUndoMove(ListVariableDescriptor<Solution_> variableDescriptor,
+            List<Object> unassignedEntityList, int[] unassignedIndexes,
+            List<Object> assignedElementList, List<Object> assignedEntityList, int[] assignedIndexes) {
+        this.variableDescriptor = variableDescriptor;
+        this.unassignedEntityList = unassignedEntityList;
+        this.unassignedIndexes = unassignedIndexes;
+        this.assignedElementList = assignedElementList;
+        this.assignedEntityList = assignedEntityList;
+        this.assignedIndexes = assignedIndexes;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public boolean isMoveDoable(ScoreDirector<Solution_> scoreDirector) {
+        return true;
+    }
+
+    @Override
+    public ListRuinRecreateUndoMove<Solution_> doMove(ScoreDirector<Solution_> scoreDirector) {
+        List<Object> unassignedElementList = doUnassignAndAssign(scoreDirector);
+        int unassignedCount = unassignedEntityList.size();
+        int assignedCount = assignedElementList.size();
+        List<Object> undoUnassignedEntityList = new ArrayList<>(assignedCount);
+        int[] undoUnassignedIndexes = new int[assignedCount];
+        for (int i = 0; i < assignedCount; i++) {
+            int reversedIndex = assignedCount - 1 - i;
+            undoUnassignedEntityList.add(assignedEntityList.get(reversedIndex));
+            undoUnassignedIndexes[i] = assignedIndexes[reversedIndex];
+        }
+        List<Object> undoAssignedElementList = new ArrayList<>(unassignedCount);
+        List<Object> undoAssignedEntityList = new ArrayList<>(unassignedCount);
+        int[] undoAssignedIndexes = new int[unassignedCount];
+        for (int i = 0; i < unassignedCount; i++) {
+            int reversedIndex = unassignedCount - 1 - i;
+            undoAssignedElementList.add(unassignedElementList.get(reversedIndex));
+            undoAssignedEntityList.add(unassignedEntityList.get(reversedIndex));
+            undoAssignedIndexes[i] = unassignedIndexes[reversedIndex];
+        }
+        return new ListRuinRecreateUndoMove<>(variableDescriptor, undoUnassignedEntityList, undoUnassignedIndexes,
+                undoAssignedElementList, undoAssignedEntityList, undoAssignedIndexes);
+    }
+
+    @Override
+    public void doMoveOnly(ScoreDirector<Solution_> scoreDirector) {
+        doUnassignAndAssign(scoreDirector);
+    }
+
+    private List<Object> doUnassignAndAssign(ScoreDirector<Solution_> scoreDirector) {
+        InnerScoreDirector<Solution_, ?> innerScoreDirector = (InnerScoreDirector<Solution_, ?>) scoreDirector;
+        List<Object> unassignedElementList = new ArrayList<>(unassignedEntityList.size());
+        for (int i = 0; i < unassignedEntityList.size(); i++) {
+            unassignedElementList.add(ListRuinRecreateMove.unassign(innerScoreDirector, variableDescriptor,
+                    unassignedEntityList.get(i), unassignedIndexes[i]));
+        }
+        for (int i = 0; i < assignedElementList.size(); i++) {
+            ListRuinRecreateMove.assign(innerScoreDirector, variableDescriptor, assignedElementList.get(i),
+                    assignedEntityList.get(i), assignedIndexes[i]);
+        }
+        innerScoreDirector.triggerVariableListeners();
+        return unassignedElementList;
+    }
+
+    @Override
+    public ListRuinRecreateUndoMove<Solution_> rebase(ScoreDirector<Solution_> destinationScoreDirector) {
+        return new ListRuinRecreateUndoMove<>(variableDescriptor,
+                AbstractMove.rebaseList(unassignedEntityList, destinationScoreDirector), unassignedIndexes,
+                AbstractMove.rebaseList(assignedElementList, destinationScoreDirector),
+                AbstractMove.rebaseList(assignedEntityList, destinationScoreDirector), assignedIndexes);
+    }
+
+    // ************************************************************************
+    // Introspection methods
+    // ************************************************************************
+
+    @Override
+    public String getSimpleMoveTypeDescription() {
+        return getClass().getSimpleName() + "(" + variableDescriptor.getSimpleEntityAndVariableName() + ")";
+    }
+
+    @Override
+    public Collection<? extends Object> getPlanningEntities() {
+        Set<Object> entities = new LinkedHashSet<>(unassignedEntityList);
+        entities.addAll(assignedEntityList);
+        return entities;
+    }
+
+    @Override
+    public Collection<? extends Object> getPlanningValues() {
+        return assignedElementList;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + assignedElementList;
+    }
+}
@@ -103,7 +103,7 @@ public class DefaultLocalSearchPhase<Solution_> extends AbstractPhase<Solution_>
         Move<Solution_> undoStep = step.doMove(stepScope.getScoreDirector());
         stepScope.setUndoStep(undoStep);
         predictWorkingStepScore(stepScope, step);
-        solver.getBestSolutionRecaller().processWorkingSolutionDuringStep(stepScope);
+        solver.getBestSolutionRecaller().processWorkingSolutionDuringUndoableStep(stepScope, undoStep);
     }
 
     @Override
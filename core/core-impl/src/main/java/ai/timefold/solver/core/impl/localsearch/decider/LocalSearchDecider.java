@@ -115,12 +115,16 @@ public class LocalSearchDecider<Solution_> {
 
     protected <Score_ extends Score<Score_>> void doMove(LocalSearchMoveScope<Solution_> moveScope) {
         InnerScoreDirector<Solution_, Score_> scoreDirector = moveScope.getScoreDirector();
-        scoreDirector.doAndProcessMove(moveScope.getMove(), assertMoveScoreFromScratch, score -> {
-            moveScope.setScore(score);
+        moveScope.setScoreCalculatedLazily(true);
+        scoreDirector.doAndProcessMoveLazily(moveScope.getMove(), assertMoveScoreFromScratch, () -> {
             boolean accepted = acceptor.isAccepted(moveScope);
             moveScope.setAccepted(accepted);
             forager.addMove(moveScope);
+            if (logger.isTraceEnabled()) {
+                moveScope.materializeScore();
+            }
         });
+        moveScope.setScoreCalculatedLazily(false);
         if (assertExpectedUndoMoveScore) {
             scoreDirector.assertExpectedUndoMoveScore(moveScope.getMove(),
                     (Score_) moveScope.getStepScope().getPhaseScope().getLastCompletedStepScope().getScore());
@@ -12,9 +12,8 @@ public class HillClimbingAcceptor<Solution_> extends AbstractAcceptor<Solution_>
 
     @Override
     public boolean isAccepted(LocalSearchMoveScope<Solution_> moveScope) {
-        Score moveScore = moveScope.getScore();
         Score lastStepScore = moveScope.getStepScope().getPhaseScope().getLastCompletedStepScope().getScore();
-        return moveScore.compareTo(lastStepScore) >= 0;
+        return moveScope.compareScoreTo(lastStepScore) >= 0;
     }
 
 }
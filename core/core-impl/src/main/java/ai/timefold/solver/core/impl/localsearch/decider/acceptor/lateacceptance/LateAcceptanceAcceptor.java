@@ -47,14 +47,13 @@ public class LateAcceptanceAcceptor<Solution_> extends AbstractAcceptor<Solution
 
     @Override
     public boolean isAccepted(LocalSearchMoveScope<Solution_> moveScope) {
-        Score moveScore = moveScope.getScore();
         Score lateScore = previousScores[lateScoreIndex];
-        if (moveScore.compareTo(lateScore) >= 0) {
+        if (moveScope.compareScoreTo(lateScore) >= 0) {
             return true;
         }
         if (hillClimbingEnabled) {
             Score lastStepScore = moveScope.getStepScope().getPhaseScope().getLastCompletedStepScope().getScore();
-            if (moveScore.compareTo(lastStepScore) >= 0) {
+            if (moveScope.compareScoreTo(lastStepScore) >= 0) {
                 return true;
             }
         }
@@ -87,14 +87,16 @@ public class AcceptedLocalSearchForager<Solution_> extends AbstractLocalSearchFo
                 break;
             case FIRST_BEST_SCORE_IMPROVING:
                 Score bestScore = moveScope.getStepScope().getPhaseScope().getBestScore();
-                if (moveScope.getScore().compareTo(bestScore) > 0) {
+                if (moveScope.compareScoreTo(bestScore) > 0) {
+                    moveScope.materializeScore();
                     earlyPickedMoveScope = moveScope;
                 }
                 break;
             case FIRST_LAST_STEP_SCORE_IMPROVING:
                 Score lastStepScore = moveScope.getStepScope().getPhaseScope()
                         .getLastCompletedStepScope().getScore();
-                if (moveScope.getScore().compareTo(lastStepScore) > 0) {
+                if (moveScope.compareScoreTo(lastStepScore) > 0) {
+                    moveScope.materializeScore();
                     earlyPickedMoveScope = moveScope;
                 }
                 break;
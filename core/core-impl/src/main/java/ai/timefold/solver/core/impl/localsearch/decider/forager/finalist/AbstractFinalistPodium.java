@@ -30,6 +30,7 @@ public abstract class AbstractFinalistPodium<Solution_> extends LocalSearchPhase
 
     protected void clearAndAddFinalist(LocalSearchMoveScope<Solution_> moveScope) {
         finalistList.clear();
+        moveScope.materializeScore();
         finalistList.add(moveScope);
     }
 
@@ -38,6 +39,7 @@ public abstract class AbstractFinalistPodium<Solution_> extends LocalSearchPhase
             // Avoid unbounded growth and OutOfMemoryException
             return;
         }
+        moveScope.materializeScore();
         finalistList.add(moveScope);
     }
 
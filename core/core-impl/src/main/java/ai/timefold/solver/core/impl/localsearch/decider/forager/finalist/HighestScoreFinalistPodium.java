@@ -30,21 +30,20 @@ public final class HighestScoreFinalistPodium<Solution_> extends AbstractFinalis
             finalistIsAccepted = true;
             finalistScore = null;
         }
-        Score moveScore = moveScope.getScore();
-        int scoreComparison = doComparison(moveScore);
+        int scoreComparison = doComparison(moveScope);
         if (scoreComparison > 0) {
-            finalistScore = moveScore;
             clearAndAddFinalist(moveScope);
+            finalistScore = moveScope.getScore();
         } else if (scoreComparison == 0) {
             addFinalist(moveScope);
         }
     }
 
-    private int doComparison(Score moveScore) {
+    private int doComparison(LocalSearchMoveScope<Solution_> moveScope) {
         if (finalistScore == null) {
             return 1;
         }
-        return moveScore.compareTo(finalistScore);
+        return moveScope.compareScoreTo(finalistScore);
     }
 
     @Override
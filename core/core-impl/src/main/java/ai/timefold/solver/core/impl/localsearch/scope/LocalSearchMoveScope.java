@@ -1,8 +1,10 @@
 package ai.timefold.solver.core.impl.localsearch.scope;
 
 import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.impl.heuristic.move.Move;
 import ai.timefold.solver.core.impl.phase.scope.AbstractMoveScope;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
 
 /**
  * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
@@ -12,6 +14,7 @@ public class LocalSearchMoveScope<Solution_> extends AbstractMoveScope<Solution_
     private final LocalSearchStepScope<Solution_> stepScope;
 
     private Boolean accepted = null;
+    private boolean scoreCalculatedLazily = false;
 
     public LocalSearchMoveScope(LocalSearchStepScope<Solution_> stepScope, int moveIndex, Move<Solution_> move) {
         super(moveIndex, move);
@@ -31,8 +34,48 @@ public class LocalSearchMoveScope<Solution_> extends AbstractMoveScope<Solution_
         this.accepted = accepted;
     }
 
+    /**
+     * @param scoreCalculatedLazily true while the move is processed by
+     *        {@link ai.timefold.solver.core.impl.score.director.InnerScoreDirector#doAndProcessMoveLazily}
+     *        and the score has not been set
+     */
+    public void setScoreCalculatedLazily(boolean scoreCalculatedLazily) {
+        this.scoreCalculatedLazily = scoreCalculatedLazily;
+    }
+
     // ************************************************************************
     // Calculated methods
     // ************************************************************************
 
+    @Override
+    public Score getScore() {
+        if (score == null && scoreCalculatedLazily) {
+            score = getScoreDirector().getMoveScore();
+        }
+        return score;
+    }
+
+    /**
+     * Unlike {@code getScore().compareTo(otherScore)},
+     * this does not create a {@link Score} instance for a lazily calculated score.
+     *
+     * @param otherScore never null
+     * @return same as {@link Score#compareTo(Object)}
+     */
+    public <Score_ extends Score<Score_>> int compareScoreTo(Score_ otherScore) {
+        if (score == null && scoreCalculatedLazily) {
+            InnerScoreDirector<Solution_, Score_> scoreDirector = getScoreDirector();
+            return scoreDirector.compareMoveScoreTo(otherScore);
+        }
+        return ((Score_) score).compareTo(otherScore);
+    }
+
+    /**
+     * A lazily calculated score is lost once the move is undone,
+     * so call this before keeping this move scope for later, such as a finalist.
+     */
+    public void materializeScore() {
+        getScore();
+    }
+
 }
@@ -62,7 +62,7 @@ public abstract class AbstractStepScope<Solution_> {
 
     public Solution_ createOrGetClonedSolution() {
         if (clonedSolution == null) {
-            clonedSolution = getScoreDirector().cloneWorkingSolution();
+            clonedSolution = getScoreDirector().cloneWorkingSolutionIncrementally();
         }
         return clonedSolution;
     }
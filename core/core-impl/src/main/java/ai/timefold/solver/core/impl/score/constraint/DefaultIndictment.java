@@ -88,14 +88,21 @@ public final class DefaultIndictment<Score_ extends Score<Score_>> implements In
     }
 
     public void removeConstraintMatch(ConstraintMatch<Score_> constraintMatch) {
-        score = score.subtract(constraintMatch.getScore());
-        boolean removed = constraintMatchSet.remove(constraintMatch);
+        boolean removed = removeConstraintMatchWithoutFail(constraintMatch);
         if (!removed) {
             throw new IllegalStateException("The indictment (" + this
                     + ") could not remove constraintMatch (" + constraintMatch
                     + ") from its constraintMatchSet (" + constraintMatchSet + ").");
         }
-        constraintJustificationList = null; // Rebuild later.
+    }
+
+    public boolean removeConstraintMatchWithoutFail(ConstraintMatch<Score_> constraintMatch) {
+        boolean removed = constraintMatchSet.remove(constraintMatch);
+        if (removed) {
+            score = score.subtract(constraintMatch.getScore());
+            constraintJustificationList = null; // Rebuild later.
+        }
+        return removed;
     }
 
     // ************************************************************************
@@ -28,6 +28,7 @@ import ai.timefold.solver.core.impl.domain.common.accessor.MemberAccessor;
 import ai.timefold.solver.core.impl.domain.constraintweight.descriptor.ConstraintConfigurationDescriptor;
 import ai.timefold.solver.core.impl.domain.entity.descriptor.EntityDescriptor;
 import ai.timefold.solver.core.impl.domain.lookup.LookUpManager;
+import ai.timefold.solver.core.impl.domain.solution.cloner.FieldAccessingSolutionCloner;
 import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.VariableDescriptor;
@@ -60,6 +61,12 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
     protected final boolean lookUpEnabled;
     protected final LookUpManager lookUpManager;
     protected boolean constraintMatchEnabledPreference;
+    protected ScoreCalculationProfile scoreCalculationProfile = null;
+    /**
+     * Null if incremental cloning is disabled.
+     * Maps every working object which has not changed since the last incremental clone to its reusable clone.
+     */
+    protected Map<Object, Object> reusableOriginalToCloneMap = null;
     protected final VariableListenerSupport<Solution_> variableListenerSupport;
 
     protected Solution_ workingSolution;
@@ -70,6 +77,9 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
 
     protected long calculationCount = 0L;
 
+    protected boolean moveScoreAvailable = false;
+    protected Score_ moveScore = null;
+
     protected AbstractScoreDirector(Factory_ scoreDirectorFactory,
             boolean lookUpEnabled, boolean constraintMatchEnabledPreference) {
         this.scoreDirectorFactory = scoreDirectorFactory;
@@ -102,6 +112,34 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         this.constraintMatchEnabledPreference = constraintMatchEnabledPreference;
     }
 
+    @Override
+    public void overwriteProfilingEnabledPreference(boolean profilingEnabledPreference) {
+        if (!profilingEnabledPreference) {
+            scoreCalculationProfile = null;
+        } else if (scoreCalculationProfile == null) {
+            scoreCalculationProfile = new ScoreCalculationProfile();
+        }
+    }
+
+    @Override
+    public void overwriteIncrementalCloningEnabledPreference(boolean incrementalCloningEnabledPreference) {
+        if (!incrementalCloningEnabledPreference) {
+            reusableOriginalToCloneMap = null;
+        } else if (reusableOriginalToCloneMap == null) {
+            reusableOriginalToCloneMap = new IdentityHashMap<>();
+        }
+    }
+
+    /**
+     * Only a {@link ScoreDirector} implementation which supports profiling populates the profile.
+     *
+     * @return null if profiling is not enabled
+     */
+    @Override
+    public ScoreCalculationProfile getScoreCalculationProfile() {
+        return scoreCalculationProfile;
+    }
+
     @Override
     public Solution_ getWorkingSolution() {
         return workingSolution;
@@ -151,6 +189,9 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
     @Override
     public void setWorkingSolution(Solution_ workingSolution) {
         this.workingSolution = requireNonNull(workingSolution);
+        if (reusableOriginalToCloneMap != null) {
+            reusableOriginalToCloneMap.clear();
+        }
         SolutionDescriptor<Solution_> solutionDescriptor = getSolutionDescriptor();
         workingInitScore = -solutionDescriptor.countUninitialized(workingSolution);
         if (lookUpEnabled) {
@@ -209,6 +250,64 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         undoMove.doMoveOnly(this);
     }
 
+    @Override
+    public void doAndProcessMoveLazily(Move<Solution_> move, boolean assertMoveScoreFromScratch, Runnable moveProcessor) {
+        Move<Solution_> undoMove = move.doMove(this);
+        if (assertMoveScoreFromScratch) {
+            moveScore = calculateScore();
+            assertWorkingScoreFromScratch(moveScore, move);
+        } else {
+            moveScore = calculateMoveScore();
+        }
+        moveScoreAvailable = true;
+        try {
+            moveProcessor.run();
+        } finally {
+            // Even if the moveProcessor fails, a stale move score must never be read for the next move.
+            moveScoreAvailable = false;
+            moveScore = null;
+            undoMove.doMoveOnly(this);
+        }
+    }
+
+    /**
+     * Calculates the score of the working solution for {@link #doAndProcessMoveLazily(Move, boolean, Runnable)}.
+     * Subclasses which can compare the score without a {@link Score} instance override this,
+     * together with {@link #compareMoveScoreTo(Score)} and {@link #materializeMoveScore()}.
+     *
+     * @return null if the score is only materialized on demand
+     */
+    protected Score_ calculateMoveScore() {
+        return calculateScore();
+    }
+
+    /**
+     * Only called if {@link #calculateMoveScore()} returned null.
+     *
+     * @return never null
+     */
+    protected Score_ materializeMoveScore() {
+        throw new IllegalStateException("Impossible state: the score director (" + this
+                + ") does not calculate the move score lazily.");
+    }
+
+    @Override
+    public int compareMoveScoreTo(Score_ score) {
+        return getMoveScore().compareTo(score);
+    }
+
+    @Override
+    public Score_ getMoveScore() {
+        if (!moveScoreAvailable) {
+            throw new IllegalStateException("Impossible state: the move score is only available"
+                    + " while a move is processed by doAndProcessMoveLazily().");
+        }
+        if (moveScore == null) {
+            moveScore = materializeMoveScore();
+        }
+        return moveScore;
+    }
+
     @Override
     public boolean isWorkingEntityListDirty(long expectedWorkingEntityListRevision) {
         return workingEntityListRevision != expectedWorkingEntityListRevision;
@@ -223,11 +322,30 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         return cloneSolution(workingSolution);
     }
 
+    @Override
+    public Solution_ cloneWorkingSolutionIncrementally() {
+        SolutionDescriptor<Solution_> solutionDescriptor = getSolutionDescriptor();
+        if (reusableOriginalToCloneMap == null
+                || !(solutionDescriptor.getSolutionCloner() instanceof FieldAccessingSolutionCloner)) {
+            return cloneWorkingSolution();
+        }
+        FieldAccessingSolutionCloner<Solution_> solutionCloner =
+                (FieldAccessingSolutionCloner<Solution_>) solutionDescriptor.getSolutionCloner();
+        Solution_ cloneSolution = solutionCloner.cloneSolution(workingSolution, reusableOriginalToCloneMap);
+        assertClonedSolution(workingSolution, cloneSolution);
+        return cloneSolution;
+    }
+
     @Override
     public Solution_ cloneSolution(Solution_ originalSolution) {
+        Solution_ cloneSolution = getSolutionDescriptor().getSolutionCloner().cloneSolution(originalSolution);
+        assertClonedSolution(originalSolution, cloneSolution);
+        return cloneSolution;
+    }
+
+    private void assertClonedSolution(Solution_ originalSolution, Solution_ cloneSolution) {
         SolutionDescriptor<Solution_> solutionDescriptor = getSolutionDescriptor();
         Score_ originalScore = (Score_) solutionDescriptor.getScore(originalSolution);
-        Solution_ cloneSolution = solutionDescriptor.getSolutionCloner().cloneSolution(originalSolution);
         Score_ cloneScore = (Score_) solutionDescriptor.getScore(cloneSolution);
         if (scoreDirectorFactory.isAssertClonedSolution()) {
             if (!Objects.equals(originalScore, cloneScore)) {
@@ -250,7 +368,26 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
                 }
             });
         }
-        return cloneSolution;
+    }
+
+    /**
+     * A problem change resets the variable listeners, which might change shadow variables without notifying us.
+     */
+    private void clearReusableClones() {
+        if (reusableOriginalToCloneMap != null) {
+            reusableOriginalToCloneMap.clear();
+        }
+    }
+
+    /**
+     * The clone of a changed working object can no longer be reused by {@link #cloneWorkingSolutionIncrementally()}.
+     *
+     * @param problemFactOrEntity never null
+     */
+    private void markCloneDirty(Object problemFactOrEntity) {
+        if (reusableOriginalToCloneMap != null) {
+            reusableOriginalToCloneMap.remove(problemFactOrEntity);
+        }
     }
 
     @Override
@@ -411,6 +548,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         if (variableDescriptor.isGenuineAndUninitialized(entity)) {
             workingInitScore++;
         }
+        markCloneDirty(entity);
         variableListenerSupport.beforeVariableChanged(variableDescriptor, entity);
     }
 
@@ -440,7 +578,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
 
     @Override
     public void beforeListVariableElementUnassigned(ListVariableDescriptor<Solution_> variableDescriptor, Object element) {
-        // Do nothing
+        markCloneDirty(element);
     }
 
     @Override
@@ -452,6 +590,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
     @Override
     public void beforeListVariableChanged(ListVariableDescriptor<Solution_> variableDescriptor,
             Object entity, int fromIndex, int toIndex) {
+        markCloneDirty(entity);
         variableListenerSupport.beforeListVariableChanged(variableDescriptor, entity, fromIndex, toIndex);
     }
 
@@ -463,6 +602,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
 
     public void beforeEntityRemoved(EntityDescriptor<Solution_> entityDescriptor, Object entity) {
         workingInitScore += entityDescriptor.countUninitializedVariables(entity);
+        markCloneDirty(entity);
         variableListenerSupport.beforeEntityRemoved(entityDescriptor, entity);
     }
 
@@ -481,7 +621,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
 
     @Override
     public void beforeProblemFactAdded(Object problemFact) {
-        // Do nothing
+        clearReusableClones();
     }
 
     @Override
@@ -494,7 +634,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
 
     @Override
     public void beforeProblemPropertyChanged(Object problemFactOrEntity) {
-        // Do nothing
+        clearReusableClones();
     }
 
     @Override
@@ -513,6 +653,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
                     ") from solution (" + workingSolution + ").\n" +
                     "Maybe use before/afterProblemPropertyChanged(...) instead.");
         }
+        clearReusableClones();
     }
 
     @Override
@@ -58,6 +58,11 @@ public interface InnerScoreDirector<Solution_, Score_ extends Score<Score_>>
      * <p>
      * Call {@link #calculateScore()} before calling this method,
      * unless that method has already been called since the last {@link PlanningVariable} changes.
+     * <p>
+     * Do not modify the returned map.
+     * It is not guaranteed to reflect later changes, so call this method again after those.
+     * Conversely, constraint streams never change a map they returned, nor its totals,
+     * so a caller may keep it as the explanation of the score at the time.
      *
      * @return never null, the key is the {@link ConstraintMatchTotal#getConstraintId() constraintId}
      *         (to create one, use {@link ConstraintMatchTotal#composeConstraintId(String, String)}).
@@ -91,6 +96,30 @@ public interface InnerScoreDirector<Solution_, Score_ extends Score<Score_>>
      */
     void overwriteConstraintMatchEnabledPreference(boolean constraintMatchEnabledPreference);
 
+    /**
+     * Profiling has a performance cost, so it is disabled by default.
+     * Must be called before {@link #setWorkingSolution(Object)} to take effect.
+     *
+     * @param profilingEnabledPreference true if a {@link ScoreDirector} implementation
+     *        should record how much time its score calculation spends where, if it supports it.
+     */
+    void overwriteProfilingEnabledPreference(boolean profilingEnabledPreference);
+
+    /**
+     * Incremental cloning tracks which working objects changed, so it is disabled by default.
+     *
+     * @param incrementalCloningEnabledPreference true if {@link #cloneWorkingSolutionIncrementally()}
+     *        should reuse the clones of the working objects which did not change since its previous call
+     */
+    void overwriteIncrementalCloningEnabledPreference(boolean incrementalCloningEnabledPreference);
+
+    /**
+     * @return null if profiling is not enabled,
+     *         empty if it is not supported by this {@link ScoreDirector} implementation
+     * @see #overwriteProfilingEnabledPreference(boolean)
+     */
+    ScoreCalculationProfile getScoreCalculationProfile();
+
     /**
      * @return used to check {@link #isWorkingEntityListDirty(long)} later on
      */
@@ -110,6 +139,32 @@ public interface InnerScoreDirector<Solution_, Score_ extends Score<Score_>>
      */
     void doAndProcessMove(Move<Solution_> move, boolean assertMoveScoreFromScratch, Consumer<Score_> moveProcessor);
 
+    /**
+     * Like {@link #doAndProcessMove(Move, boolean, Consumer)},
+     * but the score of the move is only turned into a {@link Score} instance if {@link #getMoveScore()} asks for it.
+     * Inside the moveProcessor, use {@link #compareMoveScoreTo(Score)} to compare the score of the move.
+     *
+     * @param move never null
+     * @param assertMoveScoreFromScratch true will hurt performance
+     * @param moveProcessor never null, use this to call the acceptor and forager
+     */
+    void doAndProcessMoveLazily(Move<Solution_> move, boolean assertMoveScoreFromScratch, Runnable moveProcessor);
+
+    /**
+     * Only available inside the moveProcessor of {@link #doAndProcessMoveLazily(Move, boolean, Runnable)}.
+     *
+     * @param score never null
+     * @return same as {@link Score#compareTo(Object)} of the score of the move
+     */
+    int compareMoveScoreTo(Score_ score);
+
+    /**
+     * Only available inside the moveProcessor of {@link #doAndProcessMoveLazily(Move, boolean, Runnable)}.
+     *
+     * @return never null, the score of the move
+     */
+    Score_ getMoveScore();
+
     /**
      * @param expectedWorkingEntityListRevision an
      * @return true if the entityList might have a different set of instances now
@@ -148,6 +203,16 @@ public interface InnerScoreDirector<Solution_, Score_ extends Score<Score_>>
      */
     Solution_ cloneWorkingSolution();
 
+    /**
+     * As defined by {@link #cloneWorkingSolution()},
+     * but if {@link #overwriteIncrementalCloningEnabledPreference(boolean) incremental cloning is enabled},
+     * the clone shares every entity which did not change since the previous call with the previous clone.
+     * Neither clone may therefore be modified, so only use this for a best solution.
+     *
+     * @return never null, planning clone
+     */
+    Solution_ cloneWorkingSolutionIncrementally();
+
     /**
      * Returns a planning clone of the solution,
      * which is not a shallow clone nor a deep clone nor a partition clone.
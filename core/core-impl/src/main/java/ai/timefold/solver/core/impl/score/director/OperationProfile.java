@@ -0,0 +1,76 @@
+package ai.timefold.solver.core.impl.score.director;
+
+/**
+ * Counts the insert, update and retract operations of a single part of the score calculation,
+ * such as a node or a constraint, and the time spent in them.
+ *
+ * @see ScoreCalculationProfile
+ */
+public final class OperationProfile {
+
+    private long insertCount = 0L;
+    private long updateCount = 0L;
+    private long retractCount = 0L;
+    private long timeNanos = 0L;
+
+    public void addInsert(long timeNanos) {
+        insertCount++;
+        this.timeNanos += timeNanos;
+    }
+
+    public void addUpdate(long timeNanos) {
+        updateCount++;
+        this.timeNanos += timeNanos;
+    }
+
+    public void addRetract(long timeNanos) {
+        retractCount++;
+        this.timeNanos += timeNanos;
+    }
+
+    /**
+     * For time which is not spent in an insert, update or retract operation, such as propagating to the next nodes.
+     *
+     * @param timeNanos the time spent
+     */
+    public void addTime(long timeNanos) {
+        this.timeNanos += timeNanos;
+    }
+
+    void addAll(OperationProfile other) {
+        insertCount += other.insertCount;
+        updateCount += other.updateCount;
+        retractCount += other.retractCount;
+        timeNanos += other.timeNanos;
+    }
+
+    public long getInsertCount() {
+        return insertCount;
+    }
+
+    public long getUpdateCount() {
+        return updateCount;
+    }
+
+    public long getRetractCount() {
+        return retractCount;
+    }
+
+    /**
+     * @return the sum of {@link #getInsertCount()}, {@link #getUpdateCount()} and {@link #getRetractCount()}
+     */
+    public long getOperationCount() {
+        return insertCount + updateCount + retractCount;
+    }
+
+    public long getTimeNanos() {
+        return timeNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "inserts (" + insertCount + "), updates (" + updateCount + "), retracts (" + retractCount
+                + "), time (" + (timeNanos / 1_000_000L) + " ms)";
+    }
+
+}
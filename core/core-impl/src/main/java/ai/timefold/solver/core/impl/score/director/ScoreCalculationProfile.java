@@ -0,0 +1,102 @@
+package ai.timefold.solver.core.impl.score.director;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import ai.timefold.solver.core.api.score.constraint.ConstraintMatchTotal;
+
+/**
+ * Aggregates the {@link OperationProfile}s of an {@link InnerScoreDirector} over its lifetime,
+ * even if it rebuilds its internal structures, for example when the working solution is set.
+ * Only used when profiling is enabled,
+ * see {@link InnerScoreDirector#overwriteProfilingEnabledPreference(boolean)}.
+ * <p>
+ * Every time is self time: the time spent in a node does not include the time spent in the next nodes.
+ * Therefore the time spent in a constraint is the time spent in its own score impacts,
+ * plus an equal share of the time spent in every node it uses
+ * (a node shared by 3 constraints adds a third of its time to each).
+ * That way, the constraint times add up to the total time.
+ */
+public final class ScoreCalculationProfile {
+
+    private final Map<String, List<OperationProfile>> nodeIdToProfileListMap = new LinkedHashMap<>();
+    private final Map<String, List<String>> nodeIdToConstraintIdListMap = new LinkedHashMap<>();
+    private final Map<String, List<OperationProfile>> constraintIdToProfileListMap = new LinkedHashMap<>();
+
+    /**
+     * @param nodeId never null, stable over the lifetime of the score director
+     * @param constraintIdList never null, the {@link ConstraintMatchTotal#getConstraintId() constraintIds}
+     *        of the constraints which use the node
+     * @param profile never null, records the operations of the node
+     */
+    public void addNode(String nodeId, List<String> constraintIdList, OperationProfile profile) {
+        nodeIdToProfileListMap.computeIfAbsent(nodeId, k -> new ArrayList<>()).add(profile);
+        nodeIdToConstraintIdListMap.put(nodeId, constraintIdList);
+    }
+
+    /**
+     * @param constraintId never null, see {@link ConstraintMatchTotal#getConstraintId()}
+     * @param profile never null, records the score impacts of the constraint
+     */
+    public void addConstraint(String constraintId, OperationProfile profile) {
+        constraintIdToProfileListMap.computeIfAbsent(constraintId, k -> new ArrayList<>()).add(profile);
+    }
+
+    /**
+     * @return never null, a snapshot
+     */
+    public Map<String, OperationProfile> getNodeProfileMap() {
+        return sum(nodeIdToProfileListMap);
+    }
+
+    /**
+     * @return never null, the constraints which use each node
+     */
+    public Map<String, List<String>> getNodeConstraintIdListMap() {
+        return Collections.unmodifiableMap(nodeIdToConstraintIdListMap);
+    }
+
+    /**
+     * The counts are the score impacts of the constraint itself,
+     * the time also includes a share of the time spent in its nodes.
+     *
+     * @return never null, a snapshot, the key is the {@link ConstraintMatchTotal#getConstraintId() constraintId}
+     */
+    public Map<String, OperationProfile> getConstraintProfileMap() {
+        Map<String, OperationProfile> constraintProfileMap = sum(constraintIdToProfileListMap);
+        sum(nodeIdToProfileListMap).forEach((nodeId, nodeProfile) -> {
+            List<String> constraintIdList = nodeIdToConstraintIdListMap.get(nodeId);
+            if (constraintIdList.isEmpty()) {
+                return;
+            }
+            long timeNanosShare = nodeProfile.getTimeNanos() / constraintIdList.size();
+            for (String constraintId : constraintIdList) {
+                constraintProfileMap.computeIfAbsent(constraintId, k -> new OperationProfile())
+                        .addTime(timeNanosShare);
+            }
+        });
+        return constraintProfileMap;
+    }
+
+    private static Map<String, OperationProfile> sum(Map<String, List<OperationProfile>> idToProfileListMap) {
+        Map<String, OperationProfile> idToProfileMap = new LinkedHashMap<>(idToProfileListMap.size());
+        idToProfileListMap.forEach((id, profileList) -> {
+            OperationProfile total = new OperationProfile();
+            for (OperationProfile profile : profileList) {
+                total.addAll(profile);
+            }
+            idToProfileMap.put(id, total);
+        });
+        return idToProfileMap;
+    }
+
+    @Override
+    public String toString() {
+        return "ScoreCalculationProfile(" + nodeIdToProfileListMap.size() + " nodes, "
+                + constraintIdToProfileListMap.size() + " constraints)";
+    }
+
+}
@@ -11,6 +11,7 @@ public enum JoinerType {
     GREATER_THAN((a, b) -> ((Comparable) a).compareTo(b) > 0),
     GREATER_THAN_OR_EQUAL((a, b) -> ((Comparable) a).compareTo(b) >= 0),
     CONTAINING((a, b) -> ((Collection) a).contains(b)),
+    CONTAINED_IN((a, b) -> ((Collection) b).contains(a)),
     INTERSECTING((a, b) -> intersecting((Collection) a, (Collection) b)),
     DISJOINT((a, b) -> disjoint((Collection) a, (Collection) b));
 
@@ -30,6 +31,13 @@ public enum JoinerType {
                 return LESS_THAN;
             case GREATER_THAN_OR_EQUAL:
                 return LESS_THAN_OR_EQUAL;
+            case CONTAINING:
+                return CONTAINED_IN;
+            case CONTAINED_IN:
+                return CONTAINING;
+            case INTERSECTING:
+            case DISJOINT:
+                return this;
             default:
                 throw new IllegalStateException("The joinerType (" + this + ") cannot be flipped.");
         }
@@ -0,0 +1,27 @@
+package ai.timefold.solver.core.impl.score.stream.collector;
+
+public final class IntSumResultContainer implements MutableResultContainer<Integer, Integer> {
+
+    private int sum = 0;
+
+    @Override
+    public void insert(Integer value) {
+        sum += value;
+    }
+
+    @Override
+    public void retract(Integer value) {
+        sum -= value;
+    }
+
+    @Override
+    public Integer getResult() {
+        return sum;
+    }
+
+    @Override
+    public String toString() {
+        return Integer.toString(sum);
+    }
+
+}
@@ -0,0 +1,27 @@
+package ai.timefold.solver.core.impl.score.stream.collector;
+
+public final class LongSumResultContainer implements MutableResultContainer<Long, Long> {
+
+    private long sum = 0L;
+
+    @Override
+    public void insert(Long value) {
+        sum += value;
+    }
+
+    @Override
+    public void retract(Long value) {
+        sum -= value;
+    }
+
+    @Override
+    public Long getResult() {
+        return sum;
+    }
+
+    @Override
+    public String toString() {
+        return Long.toString(sum);
+    }
+
+}
@@ -0,0 +1,50 @@
+package ai.timefold.solver.core.impl.score.stream.collector;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import ai.timefold.solver.core.api.function.TriFunction;
+import ai.timefold.solver.core.api.score.stream.bi.BiConstraintCollector;
+
+/**
+ * As defined by {@link MutableContainerUniConstraintCollector}.
+ */
+public final class MutableContainerBiConstraintCollector<A, B, Value_, ResultContainer_ extends MutableResultContainer<Value_, Result_>, Result_>
+        implements BiConstraintCollector<A, B, ResultContainer_, Result_> {
+
+    private final Supplier<ResultContainer_> supplier;
+    private final BiFunction<? super A, ? super B, ? extends Value_> valueMapping;
+    private final TriFunction<ResultContainer_, A, B, Runnable> accumulator;
+
+    public MutableContainerBiConstraintCollector(Supplier<ResultContainer_> supplier,
+            BiFunction<? super A, ? super B, ? extends Value_> valueMapping) {
+        this.supplier = supplier;
+        this.valueMapping = valueMapping;
+        this.accumulator = (resultContainer, a, b) -> {
+            Value_ value = valueMapping.apply(a, b);
+            resultContainer.insert(value);
+            return () -> resultContainer.retract(value);
+        };
+    }
+
+    public BiFunction<? super A, ? super B, ? extends Value_> getValueMapping() {
+        return valueMapping;
+    }
+
+    @Override
+    public Supplier<ResultContainer_> supplier() {
+        return supplier;
+    }
+
+    @Override
+    public TriFunction<ResultContainer_, A, B, Runnable> accumulator() {
+        return accumulator;
+    }
+
+    @Override
+    public Function<ResultContainer_, Result_> finisher() {
+        return MutableResultContainer::getResult;
+    }
+
+}
@@ -0,0 +1,50 @@
+package ai.timefold.solver.core.impl.score.stream.collector;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import ai.timefold.solver.core.api.function.PentaFunction;
+import ai.timefold.solver.core.api.function.QuadFunction;
+import ai.timefold.solver.core.api.score.stream.quad.QuadConstraintCollector;
+
+/**
+ * As defined by {@link MutableContainerUniConstraintCollector}.
+ */
+public final class MutableContainerQuadConstraintCollector<A, B, C, D, Value_, ResultContainer_ extends MutableResultContainer<Value_, Result_>, Result_>
+        implements QuadConstraintCollector<A, B, C, D, ResultContainer_, Result_> {
+
+    private final Supplier<ResultContainer_> supplier;
+    private final QuadFunction<? super A, ? super B, ? super C, ? super D, ? extends Value_> valueMapping;
+    private final PentaFunction<ResultContainer_, A, B, C, D, Runnable> accumulator;
+
+    public MutableContainerQuadConstraintCollector(Supplier<ResultContainer_> supplier,
+            QuadFunction<? super A, ? super B, ? super C, ? super D, ? extends Value_> valueMapping) {
+        this.supplier = supplier;
+        this.valueMapping = valueMapping;
+        this.accumulator = (resultContainer, a, b, c, d) -> {
+            Value_ value = valueMapping.apply(a, b, c, d);
+            resultContainer.insert(value);
+            return () -> resultContainer.retract(value);
+        };
+    }
+
+    public QuadFunction<? super A, ? super B, ? super C, ? super D, ? extends Value_> getValueMapping() {
+        return valueMapping;
+    }
+
+    @Override
+    public Supplier<ResultContainer_> supplier() {
+        return supplier;
+    }
+
+    @Override
+    public PentaFunction<ResultContainer_, A, B, C, D, Runnable> accumulator() {
+        return accumulator;
+    }
+
+    @Override
+    public Function<ResultContainer_, Result_> finisher() {
+        return MutableResultContainer::getResult;
+    }
+
+}
@@ -0,0 +1,50 @@
+package ai.timefold.solver.core.impl.score.stream.collector;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import ai.timefold.solver.core.api.function.QuadFunction;
+import ai.timefold.solver.core.api.function.TriFunction;
+import ai.timefold.solver.core.api.score.stream.tri.TriConstraintCollector;
+
+/**
+ * As defined by {@link MutableContainerUniConstraintCollector}.
+ */
+public final class MutableContainerTriConstraintCollector<A, B, C, Value_, ResultContainer_ extends MutableResultContainer<Value_, Result_>, Result_>
+        implements TriConstraintCollector<A, B, C, ResultContainer_, Result_> {
+
+    private final Supplier<ResultContainer_> supplier;
+    private final TriFunction<? super A, ? super B, ? super C, ? extends Value_> valueMapping;
+    private final QuadFunction<ResultContainer_, A, B, C, Runnable> accumulator;
+
+    public MutableContainerTriConstraintCollector(Supplier<ResultContainer_> supplier,
+            TriFunction<? super A, ? super B, ? super C, ? extends Value_> valueMapping) {
+        this.supplier = supplier;
+        this.valueMapping = valueMapping;
+        this.accumulator = (resultContainer, a, b, c) -> {
+            Value_ value = valueMapping.apply(a, b, c);
+            resultContainer.insert(value);
+            return () -> resultContainer.retract(value);
+        };
+    }
+
+    public TriFunction<? super A, ? super B, ? super C, ? extends Value_> getValueMapping() {
+        return valueMapping;
+    }
+
+    @Override
+    public Supplier<ResultContainer_> supplier() {
+        return supplier;
+    }
+
+    @Override
+    public QuadFunction<ResultContainer_, A, B, C, Runnable> accumulator() {
+        return accumulator;
+    }
+
+    @Override
+    public Function<ResultContainer_, Result_> finisher() {
+        return MutableResultContainer::getResult;
+    }
+
+}
@@ -0,0 +1,57 @@
+package ai.timefold.solver.core.impl.score.stream.collector;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import ai.timefold.solver.core.api.score.stream.uni.UniConstraintCollector;
+
+/**
+ * A {@link UniConstraintCollector} which maps every tuple to a value
+ * and accumulates that value into a {@link MutableResultContainer}.
+ * Bavet uses {@link #getValueMapping()} directly, so it does not create an undo closure per accumulation.
+ * {@link #accumulator()} is still available for everything else, such as composed collectors.
+ *
+ * @param <A> the type of the fact of the tuple
+ * @param <Value_> the type of the value mapped from every tuple
+ * @param <ResultContainer_> the type of the mutable result container
+ * @param <Result_> the type of the result
+ */
+public final class MutableContainerUniConstraintCollector<A, Value_, ResultContainer_ extends MutableResultContainer<Value_, Result_>, Result_>
+        implements UniConstraintCollector<A, ResultContainer_, Result_> {
+
+    private final Supplier<ResultContainer_> supplier;
+    private final Function<? super A, ? extends Value_> valueMapping;
+    private final BiFunction<ResultContainer_, A, Runnable> accumulator;
+
+    public MutableContainerUniConstraintCollector(Supplier<ResultContainer_> supplier,
+            Function<? super A, ? extends Value_> valueMapping) {
+        this.supplier = supplier;
+        this.valueMapping = valueMapping;
+        this.accumulator = (resultContainer, a) -> {
+            Value_ value = valueMapping.apply(a);
+            resultContainer.insert(value);
+            return () -> resultContainer.retract(value);
+        };
+    }
+
+    public Function<? super A, ? extends Value_> getValueMapping() {
+        return valueMapping;
+    }
+
+    @Override
+    public Supplier<ResultContainer_> supplier() {
+        return supplier;
+    }
+
+    @Override
+    public BiFunction<ResultContainer_, A, Runnable> accumulator() {
+        return accumulator;
+    }
+
+    @Override
+    public Function<ResultContainer_, Result_> finisher() {
+        return MutableResultContainer::getResult;
+    }
+
+}
@@ -0,0 +1,27 @@
+package ai.timefold.solver.core.impl.score.stream.collector;
+
+/**
+ * A result container which can undo an accumulation by itself, given the value that was accumulated.
+ * <p>
+ * Collectors with such a container (see {@link MutableContainerUniConstraintCollector} and its siblings)
+ * let the group nodes remember the accumulated value per tuple, instead of an undo {@link Runnable}.
+ * That avoids creating a closure for every accumulation.
+ *
+ * @param <Value_> the type of the value mapped from every tuple
+ * @param <Result_> the type of the result
+ */
+public interface MutableResultContainer<Value_, Result_> {
+
+    /**
+     * @param value the value mapped from the tuple, may be null
+     */
+    void insert(Value_ value);
+
+    /**
+     * @param value the same value that was passed to {@link #insert(Object)} earlier
+     */
+    void retract(Value_ value);
+
+    Result_ getResult();
+
+}
@@ -1,9 +1,9 @@
-package ai.timefold.solver.examples.common.experimental.impl;
+package ai.timefold.solver.core.impl.score.stream.collector.consecutive;
 
 import java.util.function.BiFunction;
 
-import ai.timefold.solver.examples.common.experimental.api.Break;
-import ai.timefold.solver.examples.common.experimental.api.Sequence;
+import ai.timefold.solver.core.api.score.stream.common.Break;
+import ai.timefold.solver.core.api.score.stream.common.Sequence;
 
 final class BreakImpl<Value_, Point_ extends Comparable<Point_>, Difference_ extends Comparable<Difference_>>
         implements Break<Value_, Difference_> {
@@ -52,4 +52,5 @@ final class BreakImpl<Value_, Point_ extends Comparable<Point_>, Difference_ ext
                 ", length=" + length +
                 '}';
     }
+
 }
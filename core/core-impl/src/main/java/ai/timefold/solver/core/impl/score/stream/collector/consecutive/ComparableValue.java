@@ -1,4 +1,4 @@
-package ai.timefold.solver.examples.common.experimental.impl;
+package ai.timefold.solver.core.impl.score.stream.collector.consecutive;
 
 import java.util.TreeMap;
 import java.util.TreeSet;
@@ -6,21 +6,39 @@ import java.util.TreeSet;
 /**
  * Each {@link #value()} is associated with a point ({@link #index()}) on the number line.
  * Comparisons are made using the points on the number line, not the actual values.
- *
  * <p>
  * {@link #equals(Object)} and {@link #hashCode()} of this class is not a concern,
  * as it is only used in a {@link TreeSet} or {@link TreeMap}.
  * No two values {@link #compareTo(ComparableValue) compare} equal unless they are the same object,
  * even if they are in the same position on the number line.
  *
- * @param value the value to be put on the number line
- * @param index position of the value on the number line
  * @param <Value_> generic type of the value
  * @param <Point_> generic type of the point on the number line
  */
-record ComparableValue<Value_, Point_ extends Comparable<Point_>>(Value_ value, Point_ index)
-        implements
-            Comparable<ComparableValue<Value_, Point_>> {
+final class ComparableValue<Value_, Point_ extends Comparable<Point_>>
+        implements Comparable<ComparableValue<Value_, Point_>> {
+
+    private final Value_ value;
+    private final Point_ index;
+
+    ComparableValue(Value_ value, Point_ index) {
+        this.value = value;
+        this.index = index;
+    }
+
+    /**
+     * @return the value put on the number line
+     */
+    Value_ value() {
+        return value;
+    }
+
+    /**
+     * @return the position of the value on the number line
+     */
+    Point_ index() {
+        return index;
+    }
 
     @Override
     public int compareTo(ComparableValue<Value_, Point_> other) {
@@ -29,12 +47,11 @@ record ComparableValue<Value_, Point_ extends Comparable<Point_>>(Value_ value,
         }
         Point_ point1 = this.index;
         Point_ point2 = other.index;
-        if (point1 == point2) {
-            return compareWithIdentityHashCode(this.value, other.value);
-        }
-        int comparison = point1.compareTo(point2);
-        if (comparison != 0) {
-            return comparison;
+        if (point1 != point2) {
+            int comparison = point1.compareTo(point2);
+            if (comparison != 0) {
+                return comparison;
+            }
         }
         return compareWithIdentityHashCode(this.value, other.value);
     }
@@ -50,4 +67,9 @@ record ComparableValue<Value_, Point_ extends Comparable<Point_>>(Value_ value,
         return Integer.compare(identityHashCode1, identityHashCode2);
     }
 
+    @Override
+    public String toString() {
+        return value + "@" + index;
+    }
+
 }
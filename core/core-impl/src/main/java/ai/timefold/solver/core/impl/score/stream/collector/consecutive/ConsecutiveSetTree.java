@@ -1,5 +1,7 @@
-package ai.timefold.solver.examples.common.experimental.impl;
+package ai.timefold.solver.core.impl.score.stream.collector.consecutive;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.NavigableMap;
@@ -9,9 +11,9 @@ import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.function.BiFunction;
 
-import ai.timefold.solver.examples.common.experimental.api.Break;
-import ai.timefold.solver.examples.common.experimental.api.ConsecutiveInfo;
-import ai.timefold.solver.examples.common.experimental.api.Sequence;
+import ai.timefold.solver.core.api.score.stream.common.Break;
+import ai.timefold.solver.core.api.score.stream.common.Sequence;
+import ai.timefold.solver.core.api.score.stream.common.SequenceChain;
 
 /**
  * A {@code ConsecutiveSetTree} determines what values are consecutive. A sequence
@@ -21,13 +23,17 @@ import ai.timefold.solver.examples.common.experimental.api.Sequence;
  * x<sub>n-1</sub> &le; d</i>.
  * This data structure can be thought as an interval tree that maps the point <i>p</i> to
  * the interval <i>[p, p + d]</i>.
+ * <p>
+ * Adding or removing a value only touches the sequences and breaks around it, in O(log n),
+ * except when the removal splits a sequence in two,
+ * in which case the cost is proportional to the smaller of the two halves.
  *
  * @param <Value_> The type of value stored (examples: shifts)
  * @param <Point_> The type of the point (examples: int, LocalDateTime)
  * @param <Difference_> The type of the difference (examples: int, Duration)
  */
 public final class ConsecutiveSetTree<Value_, Point_ extends Comparable<Point_>, Difference_ extends Comparable<Difference_>>
-        implements ConsecutiveInfo<Value_, Difference_> {
+        implements SequenceChain<Value_, Difference_> {
 
     private final BiFunction<Point_, Point_, Difference_> differenceFunction;
     private final BiFunction<Point_, Point_, Difference_> sequenceLengthFunction;
@@ -55,14 +61,38 @@ public final class ConsecutiveSetTree<Value_, Point_ extends Comparable<Point_>,
     // Public API
     @SuppressWarnings({ "unchecked", "rawtypes" })
     @Override
-    public Iterable<Sequence<Value_, Difference_>> getConsecutiveSequences() {
-        return (Iterable) startItemToSequence.values();
+    public Collection<Sequence<Value_, Difference_>> getConsecutiveSequences() {
+        return Collections.unmodifiableCollection((Collection) startItemToSequence.values());
     }
 
     @SuppressWarnings({ "unchecked", "rawtypes" })
     @Override
-    public Iterable<Break<Value_, Difference_>> getBreaks() {
-        return (Iterable) startItemToPreviousBreak.values();
+    public Collection<Break<Value_, Difference_>> getBreaks() {
+        return Collections.unmodifiableCollection((Collection) startItemToPreviousBreak.values());
+    }
+
+    @Override
+    public Sequence<Value_, Difference_> getFirstSequence() {
+        var entry = startItemToSequence.firstEntry();
+        return entry == null ? null : entry.getValue();
+    }
+
+    @Override
+    public Sequence<Value_, Difference_> getLastSequence() {
+        var entry = startItemToSequence.lastEntry();
+        return entry == null ? null : entry.getValue();
+    }
+
+    @Override
+    public Break<Value_, Difference_> getFirstBreak() {
+        var entry = startItemToPreviousBreak.firstEntry();
+        return entry == null ? null : entry.getValue();
+    }
+
+    @Override
+    public Break<Value_, Difference_> getLastBreak() {
+        var entry = startItemToPreviousBreak.lastEntry();
+        return entry == null ? null : entry.getValue();
     }
 
     public boolean add(Value_ value, Point_ valueIndex) {
@@ -93,11 +123,12 @@ public final class ConsecutiveSetTree<Value_, Point_ extends Comparable<Point_>,
         var firstBeforeItemEntry = startItemToSequence.floorEntry(addingItem);
         if (firstBeforeItemEntry != null) {
             var firstBeforeItem = firstBeforeItemEntry.getKey();
-            var endOfBeforeSequenceItem = firstBeforeItemEntry.getValue().lastItem;
-            var endOfBeforeSequenceIndex = endOfBeforeSequenceItem.index();
-            if (isInNaturalOrderAndHashOrderIfEqual(valueIndex, value, endOfBeforeSequenceIndex,
-                    endOfBeforeSequenceItem.value())) {
-                // Item is already in the bag; do nothing
+            var prevBag = firstBeforeItemEntry.getValue();
+            var endOfBeforeSequenceItem = prevBag.lastItem;
+            if (addingItem.compareTo(endOfBeforeSequenceItem) < 0) {
+                // Item is inside the bag; only its count changes
+                prevBag.count++;
+                prevBag.invalidate();
                 return true;
             }
             // Item is outside the bag
@@ -105,11 +136,11 @@ public final class ConsecutiveSetTree<Value_, Point_ extends Comparable<Point_>,
             if (firstAfterItem != null) {
                 addBetweenItems(addingItem, firstBeforeItem, endOfBeforeSequenceItem, firstAfterItem);
             } else {
-                var prevBag = startItemToSequence.get(firstBeforeItem);
                 if (isFirstSuccessorOfSecond(addingItem, endOfBeforeSequenceItem)) {
                     // We need to extend the first bag
                     // No break since afterItem is null
                     prevBag.setEnd(addingItem);
+                    prevBag.count++;
                 } else {
                     // Start a new bag of consecutive items
                     var newBag = new SequenceImpl<>(this, addingItem, sequenceLengthFunction);
@@ -125,6 +156,7 @@ public final class ConsecutiveSetTree<Value_, Point_ extends Comparable<Point_>,
                     // We need to move the after bag to use item as key
                     var afterBag = startItemToSequence.remove(firstAfterItem);
                     afterBag.setStart(addingItem);
+                    afterBag.count++;
                     // No break since this is the first sequence
                     startItemToSequence.put(addingItem, afterBag);
                 } else {
@@ -170,6 +202,7 @@ public final class ConsecutiveSetTree<Value_, Point_ extends Comparable<Point_>,
                 }
             } else {
                 prevBag.setEnd(comparableItem);
+                prevBag.count++;
                 startItemToPreviousBreak.get(firstAfterItem).updateLength();
             }
         } else {
@@ -178,6 +211,7 @@ public final class ConsecutiveSetTree<Value_, Point_ extends Comparable<Point_>,
                 // We need to move the after bag to use item as key
                 var afterBag = startItemToSequence.remove(firstAfterItem);
                 afterBag.setStart(comparableItem);
+                afterBag.count++;
                 startItemToSequence.put(comparableItem, afterBag);
                 var prevBreak = startItemToPreviousBreak.remove(firstAfterItem);
                 prevBreak.updateLength();
@@ -208,17 +242,17 @@ public final class ConsecutiveSetTree<Value_, Point_ extends Comparable<Point_>,
         var removingItem = valueCount.value;
         itemSet.remove(removingItem);
         boolean noMoreItems = itemSet.isEmpty();
-        if (removingItem.compareTo(firstItem) == 0) {
+        if (removingItem == firstItem) {
             firstItem = noMoreItems ? null : itemSet.first();
         }
-        if (removingItem.compareTo(lastItem) == 0) {
+        if (removingItem == lastItem) {
             lastItem = noMoreItems ? null : itemSet.last();
         }
 
         var firstBeforeItemEntry = startItemToSequence.floorEntry(removingItem);
         var firstBeforeItem = firstBeforeItemEntry.getKey();
         var bag = firstBeforeItemEntry.getValue();
-        if (bag.getFirstItem() == bag.getLastItem()) { // Bag is empty if first item = last item
+        if (bag.firstItem == bag.lastItem) { // Bag is empty if first item = last item
             startItemToSequence.remove(firstBeforeItem);
             var removedBreak = startItemToPreviousBreak.remove(firstBeforeItem);
             var extendedBreakEntry = startItemToPreviousBreak.higherEntry(firstBeforeItem);
@@ -239,9 +273,10 @@ public final class ConsecutiveSetTree<Value_, Point_ extends Comparable<Point_>,
     // Protected API
     private void removeItemFromBag(SequenceImpl<Value_, Point_, Difference_> bag, ComparableValue<Value_, Point_> item,
             ComparableValue<Value_, Point_> sequenceStart, ComparableValue<Value_, Point_> sequenceEnd) {
-        if (item.equals(sequenceStart)) {
+        if (item == sequenceStart) {
             // Change start key to the item after this one
             bag.setStart(itemSet.higher(item));
+            bag.count--;
             startItemToSequence.remove(sequenceStart);
             var extendedBreak = startItemToPreviousBreak.remove(sequenceStart);
             var firstItem = bag.firstItem;
@@ -252,9 +287,10 @@ public final class ConsecutiveSetTree<Value_, Point_ extends Comparable<Point_>,
             }
             return;
         }
-        if (item.equals(sequenceEnd)) {
+        if (item == sequenceEnd) {
             // Set end key to the item before this one
             bag.setEnd(itemSet.lower(item));
+            bag.count--;
             var extendedBreakEntry = startItemToPreviousBreak.higherEntry(item);
             if (extendedBreakEntry != null) {
                 var extendedBreak = extendedBreakEntry.getValue();
@@ -263,10 +299,12 @@ public final class ConsecutiveSetTree<Value_, Point_ extends Comparable<Point_>,
             return;
         }
 
-        var firstAfterItem = bag.getComparableItems().higher(item);
-        var firstBeforeItem = bag.getComparableItems().lower(item);
+        var firstAfterItem = itemSet.higher(item);
+        var firstBeforeItem = itemSet.lower(item);
         if (isFirstSuccessorOfSecond(firstAfterItem, firstBeforeItem)) {
             // Bag is not split since the next two items are still close enough
+            bag.count--;
+            bag.invalidate();
             return;
         }
 
@@ -0,0 +1,196 @@
+package ai.timefold.solver.core.impl.score.stream.collector.consecutive;
+
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NavigableSet;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+import ai.timefold.solver.core.api.score.stream.common.Break;
+import ai.timefold.solver.core.api.score.stream.common.Sequence;
+
+/**
+ * Its {@link #getCount() count} is maintained by the {@link ConsecutiveSetTree} as items are added and removed,
+ * so it is O(1) instead of requiring a walk over the items of the sequence.
+ */
+final class SequenceImpl<Value_, Point_ extends Comparable<Point_>, Difference_ extends Comparable<Difference_>>
+        implements Sequence<Value_, Difference_> {
+
+    private final ConsecutiveSetTree<Value_, Point_, Difference_> sourceTree;
+    private final BiFunction<Point_, Point_, Difference_> lengthFunction;
+    ComparableValue<Value_, Point_> firstItem;
+    ComparableValue<Value_, Point_> lastItem;
+    int count;
+
+    // Memorized calculations
+    private Difference_ length;
+    private NavigableSet<ComparableValue<Value_, Point_>> items;
+
+    SequenceImpl(ConsecutiveSetTree<Value_, Point_, Difference_> sourceTree, ComparableValue<Value_, Point_> item,
+            BiFunction<Point_, Point_, Difference_> lengthFunction) {
+        this(sourceTree, item, item, 1, lengthFunction);
+    }
+
+    SequenceImpl(ConsecutiveSetTree<Value_, Point_, Difference_> sourceTree, ComparableValue<Value_, Point_> firstItem,
+            ComparableValue<Value_, Point_> lastItem, int count, BiFunction<Point_, Point_, Difference_> lengthFunction) {
+        this.sourceTree = sourceTree;
+        this.lengthFunction = lengthFunction;
+        this.firstItem = firstItem;
+        this.lastItem = lastItem;
+        this.count = count;
+        length = null;
+        items = null;
+    }
+
+    @Override
+    public Value_ getFirstItem() {
+        return firstItem.value();
+    }
+
+    @Override
+    public Value_ getLastItem() {
+        return lastItem.value();
+    }
+
+    @Override
+    public Break<Value_, Difference_> getPreviousBreak() {
+        return sourceTree.getBreakBefore(firstItem);
+    }
+
+    @Override
+    public Break<Value_, Difference_> getNextBreak() {
+        return sourceTree.getBreakAfter(lastItem);
+    }
+
+    @Override
+    public boolean isFirst() {
+        return firstItem == sourceTree.getFirstItem();
+    }
+
+    @Override
+    public boolean isLast() {
+        return lastItem == sourceTree.getLastItem();
+    }
+
+    @Override
+    public Collection<Value_> getItems() {
+        return new AbstractCollection<>() {
+
+            @Override
+            public Iterator<Value_> iterator() {
+                Iterator<ComparableValue<Value_, Point_>> iterator = getComparableItems().iterator();
+                return new Iterator<>() {
+
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public Value_ next() {
+                        return iterator.next().value();
+                    }
+
+                };
+            }
+
+            @Override
+            public int size() {
+                return count;
+            }
+
+        };
+    }
+
+    NavigableSet<ComparableValue<Value_, Point_>> getComparableItems() {
+        if (items == null) {
+            items = sourceTree.getItemSet().subSet(firstItem, true, lastItem, true);
+        }
+        return items;
+    }
+
+    @Override
+    public int getCount() {
+        return count;
+    }
+
+    @Override
+    public Difference_ getLength() {
+        if (length == null) {
+            length = lengthFunction.apply(firstItem.index(), lastItem.index());
+        }
+        return length;
+    }
+
+    void setStart(ComparableValue<Value_, Point_> item) {
+        firstItem = item;
+        invalidate();
+    }
+
+    void setEnd(ComparableValue<Value_, Point_> item) {
+        lastItem = item;
+        invalidate();
+    }
+
+    // Called when start or end are removed; length
+    // need to be invalidated
+    void invalidate() {
+        length = null;
+        items = null;
+    }
+
+    /**
+     * Splits this sequence around an item that was already removed from the source tree.
+     * The count of both halves is found by walking away from the removed item in both directions at the same time,
+     * so the cost is proportional to the smaller half, not the whole sequence.
+     *
+     * @param fromElement never null, no longer in the source tree, strictly between the first and last item
+     * @return never null, the second half
+     */
+    SequenceImpl<Value_, Point_, Difference_> split(ComparableValue<Value_, Point_> fromElement) {
+        NavigableSet<ComparableValue<Value_, Point_>> itemSet = sourceTree.getItemSet();
+        ComparableValue<Value_, Point_> newSequenceStart = itemSet.higher(fromElement);
+        ComparableValue<Value_, Point_> newSequenceEnd = lastItem;
+        int remainingCount = count - 1;
+        Iterator<ComparableValue<Value_, Point_>> beforeIterator = itemSet.headSet(fromElement, false).descendingIterator();
+        Iterator<ComparableValue<Value_, Point_>> afterIterator = itemSet.tailSet(fromElement, false).iterator();
+        int beforeCount = 0;
+        int afterCount = 0;
+        int newSequenceCount;
+        // Both halves are non-empty, so neither iterator runs out before it reaches the end of its half.
+        while (true) {
+            beforeCount++;
+            if (beforeIterator.next() == firstItem) {
+                newSequenceCount = remainingCount - beforeCount;
+                break;
+            }
+            afterCount++;
+            if (afterIterator.next() == newSequenceEnd) {
+                newSequenceCount = afterCount;
+                break;
+            }
+        }
+        setEnd(itemSet.lower(fromElement));
+        count = remainingCount - newSequenceCount;
+        return new SequenceImpl<>(sourceTree, newSequenceStart, newSequenceEnd, newSequenceCount, lengthFunction);
+    }
+
+    /**
+     * @param other never null, ALWAYS after this sequence,
+     *        with exactly one new item between the last item of this and the first item of the other
+     */
+    void merge(SequenceImpl<Value_, Point_, Difference_> other) {
+        lastItem = other.lastItem;
+        count += 1 + other.count;
+        invalidate();
+    }
+
+    @Override
+    public String toString() {
+        return getComparableItems().stream()
+                .map(s -> String.valueOf(s.value()))
+                .collect(Collectors.joining(", ", "Sequence [", "]"));
+    }
+
+}
@@ -0,0 +1,168 @@
+package ai.timefold.solver.core.impl.score.stream.collector.range;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.function.BiFunction;
+
+import ai.timefold.solver.core.api.score.stream.common.ConnectedRange;
+import ai.timefold.solver.core.api.score.stream.common.ConnectedRangeChain;
+import ai.timefold.solver.core.api.score.stream.common.RangeGap;
+
+/**
+ * Keeps the {@link ConnectedRange}s and {@link RangeGap}s up to date as ranges are added and removed.
+ * Both are keyed by the start of their (previous) connected range.
+ * <p>
+ * Adding a range merges the connected ranges it touches.
+ * Removing a range only rebuilds the connected range it was in,
+ * by jumping from one closing point to the next with the {@link SplitPointCoverageTree}.
+ * Either way, every connected range that is created, merged or removed costs O(log n).
+ */
+public final class ConnectedRangeChainImpl<Range_, Point_ extends Comparable<Point_>, Difference_ extends Comparable<Difference_>>
+        implements ConnectedRangeChain<Range_, Point_, Difference_> {
+
+    private final NavigableMap<RangeSplitPoint<Range_, Point_>, ConnectedRangeImpl<Range_, Point_, Difference_>> startSplitPointToConnectedRange =
+            new TreeMap<>();
+    private final NavigableMap<RangeSplitPoint<Range_, Point_>, RangeGapImpl<Range_, Point_, Difference_>> startSplitPointToNextGap =
+            new TreeMap<>();
+    private final NavigableSet<RangeSplitPoint<Range_, Point_>> splitPointSet;
+    private final SplitPointCoverageTree<Range_, Point_> coverageTree;
+    private final BiFunction<? super Point_, ? super Point_, ? extends Difference_> differenceFunction;
+
+    ConnectedRangeChainImpl(NavigableSet<RangeSplitPoint<Range_, Point_>> splitPointSet,
+            SplitPointCoverageTree<Range_, Point_> coverageTree,
+            BiFunction<? super Point_, ? super Point_, ? extends Difference_> differenceFunction) {
+        this.splitPointSet = splitPointSet;
+        this.coverageTree = coverageTree;
+        this.differenceFunction = differenceFunction;
+    }
+
+    /**
+     * @param startSplitPoint never null, the split point in the split point set where the added range starts,
+     *        called after the split point set and coverage tree have been updated
+     */
+    void addRange(RangeSplitPoint<Range_, Point_> startSplitPoint) {
+        RangeSplitPoint<Range_, Point_> connectedRangeStart = startSplitPoint;
+        Map.Entry<RangeSplitPoint<Range_, Point_>, ConnectedRangeImpl<Range_, Point_, Difference_>> floorEntry =
+                startSplitPointToConnectedRange.floorEntry(startSplitPoint);
+        if (floorEntry != null && !floorEntry.getValue().getEndSplitPoint().isBefore(startSplitPoint)) {
+            connectedRangeStart = floorEntry.getKey();
+        }
+        // The coverage before the added range did not change, so the points in between are still covered.
+        RangeSplitPoint<Range_, Point_> connectedRangeEnd = coverageTree.findFirstClosingPoint(startSplitPoint);
+
+        // Merge all the connected ranges that the added range touches into the first one
+        NavigableMap<RangeSplitPoint<Range_, Point_>, ConnectedRangeImpl<Range_, Point_, Difference_>> mergedMap =
+                startSplitPointToConnectedRange.subMap(connectedRangeStart, true, connectedRangeEnd, true);
+        ConnectedRangeImpl<Range_, Point_, Difference_> connectedRange = null;
+        Iterator<Map.Entry<RangeSplitPoint<Range_, Point_>, ConnectedRangeImpl<Range_, Point_, Difference_>>> mergedIterator =
+                mergedMap.entrySet().iterator();
+        while (mergedIterator.hasNext()) {
+            Map.Entry<RangeSplitPoint<Range_, Point_>, ConnectedRangeImpl<Range_, Point_, Difference_>> mergedEntry =
+                    mergedIterator.next();
+            if (connectedRange == null) {
+                connectedRange = mergedEntry.getValue();
+            }
+            startSplitPointToNextGap.remove(mergedEntry.getKey());
+            mergedIterator.remove();
+        }
+        if (connectedRange == null) {
+            connectedRange = new ConnectedRangeImpl<>(splitPointSet, differenceFunction);
+        }
+        connectedRange.reset(connectedRangeStart, connectedRangeEnd, coverageTree);
+        startSplitPointToConnectedRange.put(connectedRangeStart, connectedRange);
+
+        refreshGapBefore(connectedRangeStart);
+        refreshGapAfter(connectedRangeStart, connectedRange);
+    }
+
+    /**
+     * @param range never null, called after the split point set and coverage tree have been updated
+     */
+    void removeRange(Range<Range_, Point_> range) {
+        Map.Entry<RangeSplitPoint<Range_, Point_>, ConnectedRangeImpl<Range_, Point_, Difference_>> connectedRangeEntry =
+                startSplitPointToConnectedRange.floorEntry(range.getStartSplitPoint());
+        if (connectedRangeEntry == null) {
+            throw new IllegalStateException("Impossible state: the range (" + range
+                    + ") is not in any connected range of " + this + ".");
+        }
+        RangeSplitPoint<Range_, Point_> oldStart = connectedRangeEntry.getKey();
+        ConnectedRangeImpl<Range_, Point_, Difference_> connectedRange = connectedRangeEntry.getValue();
+        RangeSplitPoint<Range_, Point_> oldEnd = connectedRange.getEndSplitPoint();
+        startSplitPointToConnectedRange.remove(oldStart);
+        startSplitPointToNextGap.remove(oldStart);
+
+        // Only the segments the removed range covered lost coverage,
+        // so the old connected range falls apart into one piece per closing point that was uncovered.
+        RangeSplitPoint<Range_, Point_> pieceStart = splitPointSet.ceiling(oldStart);
+        RangeSplitPoint<Range_, Point_> lastPieceStart = null;
+        ConnectedRangeImpl<Range_, Point_, Difference_> lastPiece = null;
+        while (pieceStart != null && !pieceStart.isAfter(oldEnd)) {
+            RangeSplitPoint<Range_, Point_> pieceEnd = coverageTree.findFirstClosingPoint(pieceStart);
+            ConnectedRangeImpl<Range_, Point_, Difference_> piece = (lastPiece == null) ? connectedRange
+                    : new ConnectedRangeImpl<>(splitPointSet, differenceFunction);
+            piece.reset(pieceStart, pieceEnd, coverageTree);
+            startSplitPointToConnectedRange.put(pieceStart, piece);
+            // Links the previous piece (or the connected range before the old one) to this piece
+            refreshGapBefore(pieceStart);
+            lastPieceStart = pieceStart;
+            lastPiece = piece;
+            pieceStart = splitPointSet.higher(pieceEnd);
+        }
+        if (lastPiece == null) {
+            refreshGapBefore(oldStart);
+        } else {
+            refreshGapAfter(lastPieceStart, lastPiece);
+        }
+    }
+
+    private void refreshGapBefore(RangeSplitPoint<Range_, Point_> startSplitPoint) {
+        Map.Entry<RangeSplitPoint<Range_, Point_>, ConnectedRangeImpl<Range_, Point_, Difference_>> previousEntry =
+                startSplitPointToConnectedRange.lowerEntry(startSplitPoint);
+        if (previousEntry != null) {
+            refreshGapAfter(previousEntry.getKey(), previousEntry.getValue());
+        }
+    }
+
+    private void refreshGapAfter(RangeSplitPoint<Range_, Point_> startSplitPoint,
+            ConnectedRangeImpl<Range_, Point_, Difference_> connectedRange) {
+        Map.Entry<RangeSplitPoint<Range_, Point_>, ConnectedRangeImpl<Range_, Point_, Difference_>> nextEntry =
+                startSplitPointToConnectedRange.higherEntry(startSplitPoint);
+        if (nextEntry == null) {
+            startSplitPointToNextGap.remove(startSplitPoint);
+            return;
+        }
+        RangeGapImpl<Range_, Point_, Difference_> gap = startSplitPointToNextGap.get(startSplitPoint);
+        if (gap == null) {
+            gap = new RangeGapImpl<>();
+            startSplitPointToNextGap.put(startSplitPoint, gap);
+        }
+        ConnectedRangeImpl<Range_, Point_, Difference_> nextConnectedRange = nextEntry.getValue();
+        gap.reset(connectedRange, nextConnectedRange,
+                differenceFunction.apply(connectedRange.getEnd(), nextConnectedRange.getStart()));
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    @Override
+    public Iterable<ConnectedRange<Range_, Point_, Difference_>> getConnectedRanges() {
+        return (Iterable) Collections.unmodifiableCollection(startSplitPointToConnectedRange.values());
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    @Override
+    public Iterable<RangeGap<Range_, Point_, Difference_>> getGaps() {
+        return (Iterable) Collections.unmodifiableCollection(startSplitPointToNextGap.values());
+    }
+
+    @Override
+    public String toString() {
+        return "ConnectedRanges {" +
+                "connectedRanges=" + startSplitPointToConnectedRange.values() +
+                ", gaps=" + startSplitPointToNextGap.values() +
+                '}';
+    }
+
+}
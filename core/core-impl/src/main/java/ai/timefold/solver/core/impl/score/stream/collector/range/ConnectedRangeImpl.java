@@ -0,0 +1,95 @@
+package ai.timefold.solver.core.impl.score.stream.collector.range;
+
+import java.util.Iterator;
+import java.util.NavigableSet;
+import java.util.function.BiFunction;
+
+import ai.timefold.solver.core.api.score.stream.common.ConnectedRange;
+
+final class ConnectedRangeImpl<Range_, Point_ extends Comparable<Point_>, Difference_ extends Comparable<Difference_>>
+        implements ConnectedRange<Range_, Point_, Difference_> {
+
+    private final NavigableSet<RangeSplitPoint<Range_, Point_>> splitPointSet;
+    private final BiFunction<? super Point_, ? super Point_, ? extends Difference_> differenceFunction;
+    private RangeSplitPoint<Range_, Point_> startSplitPoint;
+    private RangeSplitPoint<Range_, Point_> endSplitPoint;
+
+    private int count;
+    private int maximumOverlap;
+
+    ConnectedRangeImpl(NavigableSet<RangeSplitPoint<Range_, Point_>> splitPointSet,
+            BiFunction<? super Point_, ? super Point_, ? extends Difference_> differenceFunction) {
+        this.splitPointSet = splitPointSet;
+        this.differenceFunction = differenceFunction;
+    }
+
+    /**
+     * O(log n), the size and overlap are read from the coverage tree instead of walking the split points.
+     *
+     * @param startSplitPoint never null
+     * @param endSplitPoint never null, not before startSplitPoint
+     * @param coverageTree never null
+     */
+    void reset(RangeSplitPoint<Range_, Point_> startSplitPoint, RangeSplitPoint<Range_, Point_> endSplitPoint,
+            SplitPointCoverageTree<Range_, Point_> coverageTree) {
+        this.startSplitPoint = startSplitPoint;
+        this.endSplitPoint = endSplitPoint;
+        this.count = coverageTree.countStartsBetween(startSplitPoint, endSplitPoint);
+        // A connected range of only empty ranges never has any coverage, but still contains a range.
+        this.maximumOverlap = Math.max(1, coverageTree.getMaximumCoverageBetween(startSplitPoint, endSplitPoint));
+    }
+
+    RangeSplitPoint<Range_, Point_> getStartSplitPoint() {
+        return startSplitPoint;
+    }
+
+    RangeSplitPoint<Range_, Point_> getEndSplitPoint() {
+        return endSplitPoint;
+    }
+
+    @Override
+    public Iterator<Range_> iterator() {
+        return new ContainedRangeIterator<>(splitPointSet.subSet(startSplitPoint, true, endSplitPoint, true));
+    }
+
+    @Override
+    public int getContainedRangeCount() {
+        return count;
+    }
+
+    @Override
+    public boolean hasOverlap() {
+        return maximumOverlap > 1;
+    }
+
+    @Override
+    public int getMaximumOverlap() {
+        return maximumOverlap;
+    }
+
+    @Override
+    public Point_ getStart() {
+        return startSplitPoint.splitPoint;
+    }
+
+    @Override
+    public Point_ getEnd() {
+        return endSplitPoint.splitPoint;
+    }
+
+    @Override
+    public Difference_ getLength() {
+        return differenceFunction.apply(startSplitPoint.splitPoint, endSplitPoint.splitPoint);
+    }
+
+    @Override
+    public String toString() {
+        return "ConnectedRange{" +
+                "start=" + startSplitPoint +
+                ", end=" + endSplitPoint +
+                ", count=" + count +
+                ", maximumOverlap=" + maximumOverlap +
+                '}';
+    }
+
+}
@@ -0,0 +1,106 @@
+package ai.timefold.solver.core.impl.score.stream.collector.range;
+
+import java.util.Iterator;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * The result container of the connected range collectors.
+ *
+ * @param <Range_> The type of range in the collection
+ * @param <Point_> The type of the start and end points for each range
+ * @param <Difference_> The type of difference between start and end points
+ */
+public final class ConnectedRangeTracker<Range_, Point_ extends Comparable<Point_>, Difference_ extends Comparable<Difference_>> {
+
+    private final Function<? super Range_, ? extends Point_> startMapping;
+    private final Function<? super Range_, ? extends Point_> endMapping;
+    private final NavigableSet<RangeSplitPoint<Range_, Point_>> splitPointSet = new TreeSet<>();
+    private final SplitPointCoverageTree<Range_, Point_> coverageTree = new SplitPointCoverageTree<>();
+    private final ConnectedRangeChainImpl<Range_, Point_, Difference_> connectedRangeChain;
+
+    public ConnectedRangeTracker(Function<? super Range_, ? extends Point_> startMapping,
+            Function<? super Range_, ? extends Point_> endMapping,
+            BiFunction<? super Point_, ? super Point_, ? extends Difference_> differenceFunction) {
+        this.startMapping = startMapping;
+        this.endMapping = endMapping;
+        this.connectedRangeChain = new ConnectedRangeChainImpl<>(splitPointSet, coverageTree, differenceFunction);
+    }
+
+    public Range<Range_, Point_> getRange(Range_ rangeValue) {
+        return new Range<>(rangeValue, startMapping, endMapping);
+    }
+
+    public boolean isEmpty() {
+        return splitPointSet.isEmpty();
+    }
+
+    public boolean contains(Range_ o) {
+        if (null == o || splitPointSet.isEmpty()) {
+            return false;
+        }
+        Range<Range_, Point_> range = getRange(o);
+        RangeSplitPoint<Range_, Point_> floorStartSplitPoint = splitPointSet.floor(range.getStartSplitPoint());
+        if (floorStartSplitPoint == null || !floorStartSplitPoint.equals(range.getStartSplitPoint())) {
+            return false;
+        }
+        return floorStartSplitPoint.containsRangeStarting(range);
+    }
+
+    public Iterator<Range_> iterator() {
+        return new ContainedRangeIterator<>(splitPointSet);
+    }
+
+    public void add(Range<Range_, Point_> range) {
+        RangeSplitPoint<Range_, Point_> startSplitPoint = findOrCreateSplitPoint(range.getStartSplitPoint());
+        startSplitPoint.addRangeStartingAtSplitPoint(range);
+        coverageTree.update(startSplitPoint);
+
+        RangeSplitPoint<Range_, Point_> endSplitPoint = findOrCreateSplitPoint(range.getEndSplitPoint());
+        endSplitPoint.addRangeEndingAtSplitPoint(range);
+        coverageTree.update(endSplitPoint);
+
+        connectedRangeChain.addRange(startSplitPoint);
+    }
+
+    private RangeSplitPoint<Range_, Point_> findOrCreateSplitPoint(RangeSplitPoint<Range_, Point_> splitPoint) {
+        RangeSplitPoint<Range_, Point_> existingSplitPoint = splitPointSet.floor(splitPoint);
+        if (existingSplitPoint != null && existingSplitPoint.equals(splitPoint)) {
+            return existingSplitPoint;
+        }
+        splitPoint.createCollections();
+        splitPointSet.add(splitPoint);
+        return splitPoint;
+    }
+
+    public void remove(Range<Range_, Point_> range) {
+        RangeSplitPoint<Range_, Point_> startSplitPoint = splitPointSet.floor(range.getStartSplitPoint());
+        if (startSplitPoint == null || !startSplitPoint.equals(range.getStartSplitPoint())
+                || !startSplitPoint.containsRangeStarting(range)) {
+            throw new IllegalStateException("Impossible state: the range (" + range
+                    + ") was removed, but it was never added.");
+        }
+        startSplitPoint.removeRangeStartingAtSplitPoint(range);
+        coverageTree.update(startSplitPoint);
+        if (startSplitPoint.isEmpty()) {
+            splitPointSet.remove(startSplitPoint);
+        }
+
+        // Not null since the start point contained the range
+        RangeSplitPoint<Range_, Point_> endSplitPoint = splitPointSet.ceiling(range.getEndSplitPoint());
+        endSplitPoint.removeRangeEndingAtSplitPoint(range);
+        coverageTree.update(endSplitPoint);
+        if (endSplitPoint.isEmpty()) {
+            splitPointSet.remove(endSplitPoint);
+        }
+
+        connectedRangeChain.removeRange(range);
+    }
+
+    public ConnectedRangeChainImpl<Range_, Point_, Difference_> getConnectedRangeChain() {
+        return connectedRangeChain;
+    }
+
+}
@@ -0,0 +1,38 @@
+package ai.timefold.solver.core.impl.score.stream.collector.range;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+final class ContainedRangeIterator<Range_, Point_ extends Comparable<Point_>> implements Iterator<Range_> {
+
+    private final Iterator<RangeSplitPoint<Range_, Point_>> splitPointSetIterator;
+    private Iterator<Range_> splitPointValueIterator;
+
+    ContainedRangeIterator(Iterable<RangeSplitPoint<Range_, Point_>> splitPointSet) {
+        this.splitPointSetIterator = splitPointSet.iterator();
+        advance();
+    }
+
+    private void advance() {
+        while ((splitPointValueIterator == null || !splitPointValueIterator.hasNext())
+                && splitPointSetIterator.hasNext()) {
+            splitPointValueIterator = splitPointSetIterator.next().getValuesStartingFromSplitPointIterator();
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return splitPointValueIterator != null && splitPointValueIterator.hasNext();
+    }
+
+    @Override
+    public Range_ next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Range_ next = splitPointValueIterator.next();
+        advance();
+        return next;
+    }
+
+}
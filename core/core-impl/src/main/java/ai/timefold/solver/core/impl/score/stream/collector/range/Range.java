@@ -0,0 +1,74 @@
+package ai.timefold.solver.core.impl.score.stream.collector.range;
+
+import java.util.function.Function;
+
+/**
+ * Captures the start and end of a range value at the time it was added,
+ * so it can still be removed after the value itself changed.
+ */
+public final class Range<Range_, Point_ extends Comparable<Point_>> {
+
+    private final Range_ value;
+    private final RangeSplitPoint<Range_, Point_> startSplitPoint;
+    private final RangeSplitPoint<Range_, Point_> endSplitPoint;
+
+    public Range(Range_ value, Function<? super Range_, ? extends Point_> startMapping,
+            Function<? super Range_, ? extends Point_> endMapping) {
+        this.value = value;
+        Point_ start = startMapping.apply(value);
+        Point_ end = endMapping.apply(value);
+        if (start.compareTo(end) > 0) {
+            throw new IllegalArgumentException("The range (" + value + ") has a start (" + start
+                    + ") which is after its end (" + end + ").");
+        }
+        this.startSplitPoint = new RangeSplitPoint<>(start);
+        this.endSplitPoint = (start == end) ? this.startSplitPoint : new RangeSplitPoint<>(end);
+    }
+
+    public Range_ getValue() {
+        return value;
+    }
+
+    public Point_ getStart() {
+        return startSplitPoint.splitPoint;
+    }
+
+    public Point_ getEnd() {
+        return endSplitPoint.splitPoint;
+    }
+
+    public RangeSplitPoint<Range_, Point_> getStartSplitPoint() {
+        return startSplitPoint;
+    }
+
+    public RangeSplitPoint<Range_, Point_> getEndSplitPoint() {
+        return endSplitPoint;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        Range<?, ?> that = (Range<?, ?>) o;
+        return value == that.value;
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(value);
+    }
+
+    @Override
+    public String toString() {
+        return "Range{" +
+                "value=" + value +
+                ", start=" + getStart() +
+                ", end=" + getEnd() +
+                '}';
+    }
+
+}
@@ -0,0 +1,44 @@
+package ai.timefold.solver.core.impl.score.stream.collector.range;
+
+import ai.timefold.solver.core.api.score.stream.common.ConnectedRange;
+import ai.timefold.solver.core.api.score.stream.common.RangeGap;
+
+final class RangeGapImpl<Range_, Point_ extends Comparable<Point_>, Difference_ extends Comparable<Difference_>>
+        implements RangeGap<Range_, Point_, Difference_> {
+
+    private ConnectedRange<Range_, Point_, Difference_> previousConnectedRange;
+    private ConnectedRange<Range_, Point_, Difference_> nextConnectedRange;
+    private Difference_ length;
+
+    @Override
+    public ConnectedRange<Range_, Point_, Difference_> getPreviousConnectedRange() {
+        return previousConnectedRange;
+    }
+
+    @Override
+    public ConnectedRange<Range_, Point_, Difference_> getNextConnectedRange() {
+        return nextConnectedRange;
+    }
+
+    @Override
+    public Difference_ getLength() {
+        return length;
+    }
+
+    void reset(ConnectedRange<Range_, Point_, Difference_> previousConnectedRange,
+            ConnectedRange<Range_, Point_, Difference_> nextConnectedRange, Difference_ length) {
+        this.previousConnectedRange = previousConnectedRange;
+        this.nextConnectedRange = nextConnectedRange;
+        this.length = length;
+    }
+
+    @Override
+    public String toString() {
+        return "RangeGap{" +
+                "previousConnectedRange=" + previousConnectedRange +
+                ", nextConnectedRange=" + nextConnectedRange +
+                ", length=" + length +
+                '}';
+    }
+
+}
@@ -0,0 +1,146 @@
+package ai.timefold.solver.core.impl.score.stream.collector.range;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * A point on the number line where at least one {@link Range} starts or ends.
+ * Ranges which are added more than once are stored once, with a multiplicity.
+ */
+public final class RangeSplitPoint<Range_, Point_ extends Comparable<Point_>>
+        implements Comparable<RangeSplitPoint<Range_, Point_>> {
+
+    final Point_ splitPoint;
+    private Map<Range_, Integer> startRangeToCountMap;
+    private Map<Range_, Integer> endRangeToCountMap;
+    private TreeSet<Range<Range_, Point_>> rangesStartingAtSplitPointSet;
+    private TreeSet<Range<Range_, Point_>> rangesEndingAtSplitPointSet;
+    /**
+     * The number of ranges starting here, counting every range as many times as it was added.
+     */
+    private int startCount = 0;
+    /**
+     * The number of ranges ending here, counting every range as many times as it was added.
+     */
+    private int endCount = 0;
+
+    public RangeSplitPoint(Point_ splitPoint) {
+        this.splitPoint = splitPoint;
+    }
+
+    void createCollections() {
+        startRangeToCountMap = new IdentityHashMap<>();
+        endRangeToCountMap = new IdentityHashMap<>();
+        rangesStartingAtSplitPointSet = new TreeSet<>(
+                Comparator.<Range<Range_, Point_>, Point_> comparing(Range::getEnd)
+                        .thenComparingInt(range -> System.identityHashCode(range.getValue())));
+        rangesEndingAtSplitPointSet = new TreeSet<>(
+                Comparator.<Range<Range_, Point_>, Point_> comparing(Range::getStart)
+                        .thenComparingInt(range -> System.identityHashCode(range.getValue())));
+    }
+
+    void addRangeStartingAtSplitPoint(Range<Range_, Point_> range) {
+        startRangeToCountMap.merge(range.getValue(), 1, Integer::sum);
+        rangesStartingAtSplitPointSet.add(range);
+        startCount++;
+    }
+
+    void removeRangeStartingAtSplitPoint(Range<Range_, Point_> range) {
+        if (decrement(startRangeToCountMap, range.getValue())) {
+            rangesStartingAtSplitPointSet.remove(range);
+        }
+        startCount--;
+    }
+
+    void addRangeEndingAtSplitPoint(Range<Range_, Point_> range) {
+        endRangeToCountMap.merge(range.getValue(), 1, Integer::sum);
+        rangesEndingAtSplitPointSet.add(range);
+        endCount++;
+    }
+
+    void removeRangeEndingAtSplitPoint(Range<Range_, Point_> range) {
+        if (decrement(endRangeToCountMap, range.getValue())) {
+            rangesEndingAtSplitPointSet.remove(range);
+        }
+        endCount--;
+    }
+
+    /**
+     * @return true if the value is no longer in the map
+     */
+    private static <Range_> boolean decrement(Map<Range_, Integer> rangeToCountMap, Range_ value) {
+        Integer count = rangeToCountMap.get(value);
+        if (count == null || count == 1) {
+            rangeToCountMap.remove(value);
+            return true;
+        }
+        rangeToCountMap.put(value, count - 1);
+        return false;
+    }
+
+    boolean containsRangeStarting(Range<Range_, Point_> range) {
+        return rangesStartingAtSplitPointSet.contains(range);
+    }
+
+    int getStartCount() {
+        return startCount;
+    }
+
+    int getEndCount() {
+        return endCount;
+    }
+
+    Iterator<Range_> getValuesStartingFromSplitPointIterator() {
+        if (startCount == 0) {
+            return Collections.emptyIterator();
+        }
+        return rangesStartingAtSplitPointSet.stream()
+                .flatMap(range -> Collections.nCopies(startRangeToCountMap.get(range.getValue()), range.getValue())
+                        .stream())
+                .iterator();
+    }
+
+    boolean isEmpty() {
+        return startCount == 0 && endCount == 0;
+    }
+
+    boolean isBefore(RangeSplitPoint<Range_, Point_> other) {
+        return compareTo(other) < 0;
+    }
+
+    boolean isAfter(RangeSplitPoint<Range_, Point_> other) {
+        return compareTo(other) > 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        RangeSplitPoint<?, ?> that = (RangeSplitPoint<?, ?>) o;
+        return splitPoint.equals(that.splitPoint);
+    }
+
+    @Override
+    public int hashCode() {
+        return splitPoint.hashCode();
+    }
+
+    @Override
+    public int compareTo(RangeSplitPoint<Range_, Point_> other) {
+        return splitPoint.compareTo(other.splitPoint);
+    }
+
+    @Override
+    public String toString() {
+        return splitPoint.toString();
+    }
+
+}
@@ -0,0 +1,286 @@
+package ai.timefold.solver.core.impl.score.stream.collector.range;
+
+/**
+ * An AVL tree of the non-empty {@link RangeSplitPoint}s, ordered by their point.
+ * Every split point contributes the number of ranges starting there minus the number of ranges ending there,
+ * so the running sum of those contributions up to and including a split point (its prefix)
+ * is the number of ranges covering the segment directly after it (its coverage).
+ * <p>
+ * Every node caches the sum, the minimum prefix and the maximum prefix of its subtree,
+ * which makes the following queries O(log n):
+ * <ul>
+ * <li>the end of the {@link ConnectedRangeImpl connected range} which contains a split point,
+ * being the first split point at or after it where the coverage drops to 0,</li>
+ * <li>the number of ranges starting between two split points,</li>
+ * <li>the maximum coverage between two split points.</li>
+ * </ul>
+ */
+final class SplitPointCoverageTree<Range_, Point_ extends Comparable<Point_>> {
+
+    private Node<Range_, Point_> root = null;
+
+    /**
+     * Inserts, refreshes or removes the split point, depending on whether it still has any ranges.
+     * Must be called every time a range starts or stops starting or ending at the split point.
+     *
+     * @param splitPoint never null
+     */
+    void update(RangeSplitPoint<Range_, Point_> splitPoint) {
+        if (splitPoint.isEmpty()) {
+            root = delete(root, splitPoint);
+        } else {
+            root = upsert(root, splitPoint);
+        }
+    }
+
+    /**
+     * @param from never null, in the tree
+     * @return the first split point at or after from where the coverage drops to 0,
+     *         null if there is none
+     */
+    RangeSplitPoint<Range_, Point_> findFirstClosingPoint(RangeSplitPoint<Range_, Point_> from) {
+        return findFirstClosingPoint(root, from, 0);
+    }
+
+    private RangeSplitPoint<Range_, Point_> findFirstClosingPoint(Node<Range_, Point_> node,
+            RangeSplitPoint<Range_, Point_> from, int offset) {
+        if (node == null) {
+            return null;
+        }
+        int nodePrefix = offset + Node.sum(node.left) + node.delta;
+        if (node.splitPoint.compareTo(from) < 0) {
+            return findFirstClosingPoint(node.right, from, nodePrefix);
+        }
+        RangeSplitPoint<Range_, Point_> found = findFirstClosingPoint(node.left, from, offset);
+        if (found != null) {
+            return found;
+        }
+        if (nodePrefix <= 0) {
+            return node.splitPoint;
+        }
+        // The right subtree is entirely at or after from.
+        Node<Range_, Point_> subtree = node.right;
+        offset = nodePrefix;
+        while (subtree != null && offset + subtree.minPrefix <= 0) {
+            if (subtree.left != null && offset + subtree.left.minPrefix <= 0) {
+                subtree = subtree.left;
+            } else {
+                int subtreeNodePrefix = offset + Node.sum(subtree.left) + subtree.delta;
+                if (subtreeNodePrefix <= 0) {
+                    return subtree.splitPoint;
+                }
+                offset = subtreeNodePrefix;
+                subtree = subtree.right;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param from never null
+     * @param to never null, not before from
+     * @return the number of ranges starting at a split point between from and to (both inclusive)
+     */
+    int countStartsBetween(RangeSplitPoint<Range_, Point_> from, RangeSplitPoint<Range_, Point_> to) {
+        return countStartsBefore(to, true) - countStartsBefore(from, false);
+    }
+
+    private int countStartsBefore(RangeSplitPoint<Range_, Point_> splitPoint, boolean inclusive) {
+        int count = 0;
+        Node<Range_, Point_> node = root;
+        while (node != null) {
+            int comparison = node.splitPoint.compareTo(splitPoint);
+            if (comparison < 0 || (comparison == 0 && inclusive)) {
+                count += Node.startCount(node.left) + node.startCount;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @param from never null
+     * @param to never null, not before from
+     * @return the maximum number of ranges that cover the same segment between from and to (both inclusive),
+     *         0 if there are no split points between them
+     */
+    int getMaximumCoverageBetween(RangeSplitPoint<Range_, Point_> from, RangeSplitPoint<Range_, Point_> to) {
+        return Math.max(0, getMaximumCoverageBetween(root, from, to, 0, false, false));
+    }
+
+    private int getMaximumCoverageBetween(Node<Range_, Point_> node, RangeSplitPoint<Range_, Point_> from,
+            RangeSplitPoint<Range_, Point_> to, int offset, boolean subtreeAtOrAfterFrom, boolean subtreeAtOrBeforeTo) {
+        if (node == null) {
+            return Integer.MIN_VALUE;
+        }
+        if (subtreeAtOrAfterFrom && subtreeAtOrBeforeTo) {
+            return offset + node.maxPrefix;
+        }
+        boolean nodeAtOrAfterFrom = subtreeAtOrAfterFrom || node.splitPoint.compareTo(from) >= 0;
+        boolean nodeAtOrBeforeTo = subtreeAtOrBeforeTo || node.splitPoint.compareTo(to) <= 0;
+        int nodePrefix = offset + Node.sum(node.left) + node.delta;
+        int max = Integer.MIN_VALUE;
+        if (subtreeAtOrAfterFrom || node.splitPoint.compareTo(from) > 0) {
+            max = getMaximumCoverageBetween(node.left, from, to, offset, subtreeAtOrAfterFrom, nodeAtOrBeforeTo);
+        }
+        if (nodeAtOrAfterFrom && nodeAtOrBeforeTo) {
+            max = Math.max(max, nodePrefix);
+        }
+        if (subtreeAtOrBeforeTo || node.splitPoint.compareTo(to) < 0) {
+            max = Math.max(max,
+                    getMaximumCoverageBetween(node.right, from, to, nodePrefix, nodeAtOrAfterFrom, subtreeAtOrBeforeTo));
+        }
+        return max;
+    }
+
+    // ************************************************************************
+    // AVL tree
+    // ************************************************************************
+
+    private Node<Range_, Point_> upsert(Node<Range_, Point_> subtreeRoot, RangeSplitPoint<Range_, Point_> splitPoint) {
+        if (subtreeRoot == null) {
+            Node<Range_, Point_> newNode = new Node<>(splitPoint);
+            newNode.refresh();
+            return newNode;
+        }
+        int comparison = splitPoint.compareTo(subtreeRoot.splitPoint);
+        if (comparison == 0) {
+            subtreeRoot.refresh();
+            return subtreeRoot;
+        } else if (comparison < 0) {
+            subtreeRoot.left = upsert(subtreeRoot.left, splitPoint);
+        } else {
+            subtreeRoot.right = upsert(subtreeRoot.right, splitPoint);
+        }
+        return rebalance(subtreeRoot);
+    }
+
+    private Node<Range_, Point_> delete(Node<Range_, Point_> subtreeRoot, RangeSplitPoint<Range_, Point_> splitPoint) {
+        if (subtreeRoot == null) {
+            throw new IllegalStateException("Impossible state: the split point (" + splitPoint
+                    + ") doesn't exist in the coverage tree.");
+        }
+        int comparison = splitPoint.compareTo(subtreeRoot.splitPoint);
+        if (comparison < 0) {
+            subtreeRoot.left = delete(subtreeRoot.left, splitPoint);
+        } else if (comparison > 0) {
+            subtreeRoot.right = delete(subtreeRoot.right, splitPoint);
+        } else if (subtreeRoot.left == null) {
+            return subtreeRoot.right;
+        } else if (subtreeRoot.right == null) {
+            return subtreeRoot.left;
+        } else {
+            Node<Range_, Point_> successor = subtreeRoot.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            subtreeRoot.right = detachMin(subtreeRoot.right);
+            successor.left = subtreeRoot.left;
+            successor.right = subtreeRoot.right;
+            subtreeRoot.left = null;
+            subtreeRoot.right = null;
+            return rebalance(successor);
+        }
+        return rebalance(subtreeRoot);
+    }
+
+    private Node<Range_, Point_> detachMin(Node<Range_, Point_> subtreeRoot) {
+        if (subtreeRoot.left == null) {
+            return subtreeRoot.right;
+        }
+        subtreeRoot.left = detachMin(subtreeRoot.left);
+        return rebalance(subtreeRoot);
+    }
+
+    private Node<Range_, Point_> rebalance(Node<Range_, Point_> node) {
+        node.refresh();
+        int balance = Node.height(node.left) - Node.height(node.right);
+        if (balance > 1) {
+            if (Node.height(node.left.left) < Node.height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        } else if (balance < -1) {
+            if (Node.height(node.right.right) < Node.height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private Node<Range_, Point_> rotateRight(Node<Range_, Point_> node) {
+        Node<Range_, Point_> newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        node.refresh();
+        newRoot.refresh();
+        return newRoot;
+    }
+
+    private Node<Range_, Point_> rotateLeft(Node<Range_, Point_> node) {
+        Node<Range_, Point_> newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        node.refresh();
+        newRoot.refresh();
+        return newRoot;
+    }
+
+    private static final class Node<Range_, Point_ extends Comparable<Point_>> {
+
+        private final RangeSplitPoint<Range_, Point_> splitPoint;
+        private Node<Range_, Point_> left = null;
+        private Node<Range_, Point_> right = null;
+        private int height = 1;
+        /**
+         * The number of ranges starting at this split point minus the number of ranges ending at it.
+         */
+        private int delta = 0;
+        private int startCount = 0;
+        // Subtree aggregates, including this node.
+        private int subtreeSum = 0;
+        private int subtreeStartCount = 0;
+        private int minPrefix = 0;
+        private int maxPrefix = 0;
+
+        private Node(RangeSplitPoint<Range_, Point_> splitPoint) {
+            this.splitPoint = splitPoint;
+        }
+
+        private static int height(Node<?, ?> node) {
+            return node == null ? 0 : node.height;
+        }
+
+        private static int sum(Node<?, ?> node) {
+            return node == null ? 0 : node.subtreeSum;
+        }
+
+        private static int startCount(Node<?, ?> node) {
+            return node == null ? 0 : node.subtreeStartCount;
+        }
+
+        private void refresh() {
+            startCount = splitPoint.getStartCount();
+            delta = startCount - splitPoint.getEndCount();
+            height = 1 + Math.max(height(left), height(right));
+            int nodePrefix = sum(left) + delta;
+            subtreeSum = nodePrefix + sum(right);
+            subtreeStartCount = startCount(left) + startCount + startCount(right);
+            minPrefix = nodePrefix;
+            maxPrefix = nodePrefix;
+            if (left != null) {
+                minPrefix = Math.min(minPrefix, left.minPrefix);
+                maxPrefix = Math.max(maxPrefix, left.maxPrefix);
+            }
+            if (right != null) {
+                minPrefix = Math.min(minPrefix, nodePrefix + right.minPrefix);
+                maxPrefix = Math.max(maxPrefix, nodePrefix + right.maxPrefix);
+            }
+        }
+
+    }
+
+}
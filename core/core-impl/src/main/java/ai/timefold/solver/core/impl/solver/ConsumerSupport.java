@@ -42,6 +42,12 @@ final class ConsumerSupport<Solution_, ProblemId_> implements AutoCloseable {
         }
     }
 
+    // Called on the Solver thread.
+    boolean isIntermediateBestSolutionConsumerIdle() {
+        // A busy consumer skips every best solution but the last one it receives.
+        return activeConsumption.availablePermits() > 0;
+    }
+
     // Called on the Solver thread after Solver#solve() returns.
     void consumeFinalBestSolution(Solution_ finalBestSolution) {
         try {
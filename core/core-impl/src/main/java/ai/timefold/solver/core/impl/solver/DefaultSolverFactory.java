@@ -108,9 +108,17 @@ public final class DefaultSolverFactory<Solution_> implements SolverFactory<Solu
                     SolverMetric.CONSTRAINT_MATCH_TOTAL_BEST_SCORE.getMeterId());
         }
 
+        if (solverScope.isMetricEnabled(SolverMetric.SCORE_CALCULATION_PROFILE)) {
+            innerScoreDirector.overwriteProfilingEnabledPreference(true);
+        }
+        if (Boolean.TRUE.equals(solverConfig.getIncrementalBestSolutionCloning())) {
+            innerScoreDirector.overwriteIncrementalCloningEnabledPreference(true);
+        }
+
         Integer moveThreadCount_ = new MoveThreadCountResolver().resolveMoveThreadCount(solverConfig.getMoveThreadCount());
         BestSolutionRecaller<Solution_> bestSolutionRecaller =
                 BestSolutionRecallerFactory.create().buildBestSolutionRecaller(environmentMode_);
+        bestSolutionRecaller.setLazyBestSolutionEventIntervalMillis(solverConfig.getLazyBestSolutionEventIntervalMillis());
         HeuristicConfigPolicy<Solution_> configPolicy = new HeuristicConfigPolicy.Builder<>(
                 environmentMode_,
                 moveThreadCount_,
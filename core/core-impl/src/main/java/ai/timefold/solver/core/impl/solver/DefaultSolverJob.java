@@ -107,6 +107,8 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
             // add a phase lifecycle listener that unlock the solver status lock when solving started
             solver.addPhaseLifecycleListener(new UnlockLockPhaseLifecycleListener());
             solver.addEventListener(this::onBestSolutionChangedEvent);
+            solver.getBestSolutionRecaller()
+                    .setBestSolutionConsumerReadiness(consumerSupport::isIntermediateBestSolutionConsumerIdle);
             final Solution_ finalBestSolution = solver.solve(problem);
             consumerSupport.consumeFinalBestSolution(finalBestSolution);
             return finalBestSolution;
@@ -22,6 +22,10 @@ public class SolverEventSupport<Solution_> extends AbstractEventSupport<SolverEv
         this.solver = solver;
     }
 
+    public boolean hasEventListeners() {
+        return !getEventListeners().isEmpty();
+    }
+
     public void fireBestSolutionChanged(SolverScope<Solution_> solverScope, Solution_ newBestSolution) {
         final Iterator<SolverEventListener<Solution_>> it = getEventListeners().iterator();
         long timeMillisSpent = solverScope.getBestSolutionTimeMillisSpent();
@@ -1,8 +1,13 @@
 package ai.timefold.solver.core.impl.solver.recaller;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
 import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
 import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.api.solver.Solver;
+import ai.timefold.solver.core.impl.heuristic.move.Move;
 import ai.timefold.solver.core.impl.phase.event.PhaseLifecycleListenerAdapter;
 import ai.timefold.solver.core.impl.phase.scope.AbstractPhaseScope;
 import ai.timefold.solver.core.impl.phase.scope.AbstractStepScope;
@@ -17,12 +22,30 @@ import ai.timefold.solver.core.impl.solver.scope.SolverScope;
  */
 public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapter<Solution_> {
 
+    /**
+     * Replaying the undo trail costs 2 moves per step, so beyond this many steps a clone is cheaper.
+     */
+    protected static final int MAXIMUM_UNDO_TRAIL_LENGTH = 1000;
+
     protected boolean assertInitialScoreFromScratch = false;
     protected boolean assertShadowVariablesAreNotStale = false;
     protected boolean assertBestScoreIsUnmodified = false;
 
     protected SolverEventSupport<Solution_> solverEventSupport;
 
+    /**
+     * Null if every new best solution is cloned immediately.
+     */
+    protected Long lazyBestSolutionEventIntervalMillis = null;
+    protected BooleanSupplier bestSolutionConsumerReadiness = () -> true;
+    /**
+     * The undo moves of the steps done since the best solution, which has not been cloned yet.
+     * Null if the best solution of the solver scope is up-to-date.
+     */
+    protected List<Move<Solution_>> undoTrail = null;
+    protected boolean bestSolutionEventPending = false;
+    protected long lastBestSolutionEventTimeMillis = 0L;
+
     public void setAssertInitialScoreFromScratch(boolean assertInitialScoreFromScratch) {
         this.assertInitialScoreFromScratch = assertInitialScoreFromScratch;
     }
@@ -39,6 +62,24 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
         this.solverEventSupport = solverEventSupport;
     }
 
+    /**
+     * @param lazyBestSolutionEventIntervalMillis null if every new best solution is cloned and fired immediately,
+     *        otherwise the minimal time between 2 best solution changed events during an undoable step
+     */
+    public void setLazyBestSolutionEventIntervalMillis(Long lazyBestSolutionEventIntervalMillis) {
+        this.lazyBestSolutionEventIntervalMillis = lazyBestSolutionEventIntervalMillis;
+    }
+
+    /**
+     * Only relevant if {@link #setLazyBestSolutionEventIntervalMillis(Long) lazy}.
+     *
+     * @param bestSolutionConsumerReadiness never null, false while firing an intermediate best solution changed event
+     *        is pointless, because its listener would skip that best solution
+     */
+    public void setBestSolutionConsumerReadiness(BooleanSupplier bestSolutionConsumerReadiness) {
+        this.bestSolutionConsumerReadiness = bestSolutionConsumerReadiness;
+    }
+
     // ************************************************************************
     // Worker methods
     // ************************************************************************
@@ -46,6 +87,8 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
     @Override
     public void solvingStarted(SolverScope<Solution_> solverScope) {
         // Starting bestSolution is already set by Solver.solve(Solution)
+        undoTrail = null;
+        bestSolutionEventPending = false;
         InnerScoreDirector scoreDirector = solverScope.getScoreDirector();
         Score score = scoreDirector.calculateScore();
         solverScope.setBestScore(score);
@@ -91,6 +134,111 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
         }
     }
 
+    /**
+     * As defined by {@link #processWorkingSolutionDuringStep(AbstractStepScope)},
+     * but if {@link #setLazyBestSolutionEventIntervalMillis(Long) lazy},
+     * a new best solution is only cloned once a best solution changed event is due or the phase ends.
+     * Until then, the working solution can still be turned back into the best solution,
+     * by undoing the steps done since.
+     *
+     * @param stepScope never null
+     * @param undoStep never null, undoes the step which has just been done
+     */
+    public void processWorkingSolutionDuringUndoableStep(AbstractStepScope<Solution_> stepScope, Move<Solution_> undoStep) {
+        if (lazyBestSolutionEventIntervalMillis == null) {
+            processWorkingSolutionDuringStep(stepScope);
+            return;
+        }
+        AbstractPhaseScope<Solution_> phaseScope = stepScope.getPhaseScope();
+        Score score = stepScope.getScore();
+        SolverScope<Solution_> solverScope = phaseScope.getSolverScope();
+        boolean bestScoreImproved = score.compareTo(solverScope.getBestScore()) > 0;
+        stepScope.setBestScoreImproved(bestScoreImproved);
+        if (bestScoreImproved) {
+            phaseScope.setBestSolutionStepIndex(stepScope.getStepIndex());
+            // The best solution of the solver scope is stale until it is materialized.
+            updateBestScoreWithoutSolution(solverScope, score);
+            if (undoTrail == null) {
+                undoTrail = new ArrayList<>();
+            } else {
+                undoTrail.clear();
+            }
+            bestSolutionEventPending = true;
+        } else if (undoTrail != null) {
+            undoTrail.add(undoStep);
+        } else if (assertBestScoreIsUnmodified) {
+            solverScope.assertScoreFromScratch(solverScope.getBestSolution());
+        }
+        if (bestSolutionEventPending && isBestSolutionEventDue()) {
+            materializeBestSolution(solverScope);
+            fireBestSolutionChanged(solverScope);
+        } else if (undoTrail != null && undoTrail.size() >= MAXIMUM_UNDO_TRAIL_LENGTH) {
+            materializeBestSolution(solverScope);
+        }
+    }
+
+    private boolean isBestSolutionEventDue() {
+        if (!solverEventSupport.hasEventListeners()) {
+            return false;
+        }
+        return System.currentTimeMillis() - lastBestSolutionEventTimeMillis >= lazyBestSolutionEventIntervalMillis
+                && bestSolutionConsumerReadiness.getAsBoolean();
+    }
+
+    /**
+     * Clones the best solution, by undoing the steps done since, cloning the working solution and redoing those steps.
+     * The score of the best solution is already known, so the score is not calculated again,
+     * which would count as a score calculation.
+     *
+     * @param solverScope never null
+     */
+    private void materializeBestSolution(SolverScope<Solution_> solverScope) {
+        if (undoTrail == null) {
+            return;
+        }
+        InnerScoreDirector<Solution_, ?> scoreDirector = solverScope.getScoreDirector();
+        List<Move<Solution_>> redoTrail = new ArrayList<>(undoTrail.size());
+        for (int i = undoTrail.size() - 1; i >= 0; i--) {
+            redoTrail.add(undoTrail.get(i).doMove(scoreDirector));
+        }
+        if (assertBestScoreIsUnmodified) {
+            Score score = scoreDirector.calculateScore();
+            if (!score.equals(solverScope.getBestScore())) {
+                throw new IllegalStateException("Impossible state: undoing the steps since the best solution"
+                        + " results in a score (" + score + ") which differs from the best score ("
+                        + solverScope.getBestScore() + ").\n"
+                        + "Maybe an undo move is not the exact opposite of its move.");
+            }
+        }
+        Solution_ newBestSolution = scoreDirector.cloneWorkingSolutionIncrementally();
+        // The working solution still has the score of the last step.
+        solverScope.getSolutionDescriptor().setScore(newBestSolution, solverScope.getBestScore());
+        solverScope.setBestSolution(newBestSolution);
+        for (int i = redoTrail.size() - 1; i >= 0; i--) {
+            redoTrail.get(i).doMove(scoreDirector);
+        }
+        if (assertBestScoreIsUnmodified && !redoTrail.isEmpty()) {
+            // Restores the score of the last step on the working solution.
+            scoreDirector.calculateScore();
+        }
+        undoTrail = null;
+    }
+
+    private void fireBestSolutionChanged(SolverScope<Solution_> solverScope) {
+        lastBestSolutionEventTimeMillis = System.currentTimeMillis();
+        bestSolutionEventPending = false;
+        solverEventSupport.fireBestSolutionChanged(solverScope, solverScope.getBestSolution());
+    }
+
+    @Override
+    public void phaseEnded(AbstractPhaseScope<Solution_> phaseScope) {
+        SolverScope<Solution_> solverScope = phaseScope.getSolverScope();
+        materializeBestSolution(solverScope);
+        if (bestSolutionEventPending) {
+            fireBestSolutionChanged(solverScope);
+        }
+    }
+
     public void processWorkingSolutionDuringMove(Score score, AbstractStepScope<Solution_> stepScope) {
         AbstractPhaseScope<Solution_> phaseScope = stepScope.getPhaseScope();
         SolverScope<Solution_> solverScope = phaseScope.getSolverScope();
@@ -102,7 +250,7 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
         }
         if (bestScoreImproved) {
             phaseScope.setBestSolutionStepIndex(stepScope.getStepIndex());
-            Solution_ newBestSolution = solverScope.getScoreDirector().cloneWorkingSolution();
+            Solution_ newBestSolution = solverScope.getScoreDirector().cloneWorkingSolutionIncrementally();
             updateBestSolutionAndFire(solverScope, score, newBestSolution);
         } else if (assertBestScoreIsUnmodified) {
             solverScope.assertScoreFromScratch(solverScope.getBestSolution());
@@ -127,18 +275,22 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
     }
 
     private void updateBestSolutionWithoutFiring(SolverScope<Solution_> solverScope) {
-        Solution_ newBestSolution = solverScope.getScoreDirector().cloneWorkingSolution();
+        Solution_ newBestSolution = solverScope.getScoreDirector().cloneWorkingSolutionIncrementally();
         Score newBestScore = solverScope.getSolutionDescriptor().getScore(newBestSolution);
         updateBestSolutionWithoutFiring(solverScope, newBestScore, newBestSolution);
     }
 
     private void updateBestSolutionWithoutFiring(SolverScope<Solution_> solverScope, Score bestScore, Solution_ bestSolution) {
+        updateBestScoreWithoutSolution(solverScope, bestScore);
+        solverScope.setBestSolution(bestSolution);
+    }
+
+    private void updateBestScoreWithoutSolution(SolverScope<Solution_> solverScope, Score bestScore) {
         if (bestScore.isSolutionInitialized()) {
             if (!solverScope.isBestSolutionInitialized()) {
                 solverScope.setStartingInitializedScore(bestScore);
             }
         }
-        solverScope.setBestSolution(bestSolution);
         solverScope.setBestScore(bestScore);
         solverScope.setBestSolutionTimeMillis(System.currentTimeMillis());
     }
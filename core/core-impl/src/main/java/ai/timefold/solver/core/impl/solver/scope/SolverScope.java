@@ -164,6 +164,15 @@ public class SolverScope<Solution_> {
         return scoreDirector.getCalculationCount() + childThreadsScoreCalculationCount;
     }
 
+    /**
+     * During a local search phase with a lazy best solution
+     * (see {@link ai.timefold.solver.core.config.solver.SolverConfig#getLazyBestSolutionEventIntervalMillis()}),
+     * this can be older than {@link #getBestScore()},
+     * until the {@link ai.timefold.solver.core.impl.solver.recaller.BestSolutionRecaller} clones the new best solution.
+     * Both match again whenever a best solution changed event is fired and when the phase ends.
+     *
+     * @return the best solution so far, never null once solving has started
+     */
     public Solution_ getBestSolution() {
         return bestSolution;
     }
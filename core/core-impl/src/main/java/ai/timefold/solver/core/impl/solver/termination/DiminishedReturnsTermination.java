@@ -0,0 +1,209 @@
+package ai.timefold.solver.core.impl.solver.termination;
+
+import java.time.Clock;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.impl.phase.scope.AbstractPhaseScope;
+import ai.timefold.solver.core.impl.phase.scope.AbstractStepScope;
+import ai.timefold.solver.core.impl.solver.scope.SolverScope;
+import ai.timefold.solver.core.impl.solver.thread.ChildThreadType;
+import ai.timefold.solver.core.impl.util.Pair;
+
+/**
+ * Terminates the phase when the best score improves too slowly.
+ * It compares the best score improvement during the last sliding window
+ * with the best score improvement during the first sliding window of the phase,
+ * on the most important score level that improved.
+ * <p>
+ * When the most important improving score level changes (for example the hard score no longer improves,
+ * but the soft score does), the improvement at the start of the phase tells nothing about that level,
+ * so the last sliding window becomes the reference instead.
+ * <p>
+ * Only for phases which start from an initialized solution, such as local search.
+ * During a construction heuristic, the score levels get worse as more entities are initialized.
+ */
+public class DiminishedReturnsTermination<Solution_> extends AbstractTermination<Solution_> {
+
+    private final long slidingWindowMillis;
+    private final double minimumImprovementRatio;
+    private final Clock clock;
+
+    // Best score improvements of the phase, oldest first; the first one is the best score at the window start.
+    private Deque<Pair<Long, double[]>> bestScoreHistoryDeque;
+    private long phaseStartingTimeMillis = -1L;
+    private double[] phaseStartingScoreLevels = null;
+    private double[] referenceImprovement = null;
+
+    public DiminishedReturnsTermination(long slidingWindowMillis, double minimumImprovementRatio) {
+        this(slidingWindowMillis, minimumImprovementRatio, Clock.systemUTC());
+    }
+
+    protected DiminishedReturnsTermination(long slidingWindowMillis, double minimumImprovementRatio, Clock clock) {
+        this.slidingWindowMillis = slidingWindowMillis;
+        this.minimumImprovementRatio = minimumImprovementRatio;
+        if (slidingWindowMillis <= 0L) {
+            throw new IllegalArgumentException("The slidingWindowMillis (" + slidingWindowMillis
+                    + ") must be positive.");
+        }
+        if (minimumImprovementRatio <= 0.0 || minimumImprovementRatio > 1.0) {
+            throw new IllegalArgumentException("The minimumImprovementRatio (" + minimumImprovementRatio
+                    + ") must be above 0.0 and at most 1.0.");
+        }
+        this.clock = clock;
+    }
+
+    public long getSlidingWindowMillis() {
+        return slidingWindowMillis;
+    }
+
+    public double getMinimumImprovementRatio() {
+        return minimumImprovementRatio;
+    }
+
+    @Override
+    public void phaseStarted(AbstractPhaseScope<Solution_> phaseScope) {
+        Score<?> startingScore = phaseScope.getStartingScore();
+        if (!startingScore.isSolutionInitialized()) {
+            throw new IllegalStateException("The termination (" + this
+                    + ") can only be used for a phase which starts from an initialized solution, such as a local search,"
+                    + " but the phase starts from an uninitialized solution (" + startingScore + ").\n"
+                    + "Maybe move it to the termination of a local search phase.");
+        }
+        bestScoreHistoryDeque = new ArrayDeque<>();
+        phaseStartingTimeMillis = clock.millis();
+        phaseStartingScoreLevels = startingScore.toLevelDoubles();
+        bestScoreHistoryDeque.add(Pair.of(phaseStartingTimeMillis, phaseStartingScoreLevels));
+        referenceImprovement = null;
+    }
+
+    @Override
+    public void phaseEnded(AbstractPhaseScope<Solution_> phaseScope) {
+        bestScoreHistoryDeque = null;
+        phaseStartingTimeMillis = -1L;
+        phaseStartingScoreLevels = null;
+        referenceImprovement = null;
+    }
+
+    @Override
+    public void stepEnded(AbstractStepScope<Solution_> stepScope) {
+        if (stepScope.getBestScoreImproved()) {
+            bestScoreHistoryDeque.add(Pair.of(clock.millis(), stepScope.getPhaseScope().getBestScore().toLevelDoubles()));
+        }
+    }
+
+    // ************************************************************************
+    // Terminated methods
+    // ************************************************************************
+
+    @Override
+    public boolean isSolverTerminated(SolverScope<Solution_> solverScope) {
+        throw new UnsupportedOperationException(
+                getClass().getSimpleName() + " can only be used for phase termination.");
+    }
+
+    @Override
+    public boolean isPhaseTerminated(AbstractPhaseScope<Solution_> phaseScope) {
+        long now = clock.millis();
+        if (now - phaseStartingTimeMillis < slidingWindowMillis) {
+            return false;
+        }
+        if (referenceImprovement == null) {
+            // The history is not polled before the first sliding window has passed, so it is still complete.
+            double[] firstWindowEndScoreLevels = findBestScoreLevelsAt(phaseStartingTimeMillis + slidingWindowMillis);
+            referenceImprovement = subtract(firstWindowEndScoreLevels, phaseStartingScoreLevels);
+        }
+        double[] bestScoreLevels = bestScoreHistoryDeque.getLast().getValue();
+        double[] windowImprovement = subtract(bestScoreLevels, pollUntilWindowStart(now - slidingWindowMillis));
+        int windowLevel = findMostImportantImprovedLevel(windowImprovement);
+        if (windowLevel < 0) {
+            return true;
+        }
+        if (windowLevel != findMostImportantImprovedLevel(referenceImprovement)) {
+            referenceImprovement = windowImprovement;
+            return false;
+        }
+        return windowImprovement[windowLevel] / referenceImprovement[windowLevel] < minimumImprovementRatio;
+    }
+
+    /**
+     * @param timeMillis at least the phase starting time
+     * @return the score levels of the best score at timeMillis
+     */
+    private double[] findBestScoreLevelsAt(long timeMillis) {
+        double[] bestScoreLevels = null;
+        for (Pair<Long, double[]> bestScore : bestScoreHistoryDeque) {
+            if (bestScore.getKey() > timeMillis) {
+                break;
+            }
+            bestScoreLevels = bestScore.getValue();
+        }
+        return bestScoreLevels;
+    }
+
+    /**
+     * @param windowStartTimeMillis the history before this time is no longer needed
+     * @return the score levels of the best score at windowStartTimeMillis
+     */
+    private double[] pollUntilWindowStart(long windowStartTimeMillis) {
+        Pair<Long, double[]> windowStartBestScore = bestScoreHistoryDeque.pollFirst();
+        while (!bestScoreHistoryDeque.isEmpty() && bestScoreHistoryDeque.peekFirst().getKey() <= windowStartTimeMillis) {
+            windowStartBestScore = bestScoreHistoryDeque.pollFirst();
+        }
+        bestScoreHistoryDeque.addFirst(windowStartBestScore);
+        return windowStartBestScore.getValue();
+    }
+
+    private static double[] subtract(double[] scoreLevels, double[] otherScoreLevels) {
+        double[] difference = new double[scoreLevels.length];
+        for (int i = 0; i < scoreLevels.length; i++) {
+            difference[i] = scoreLevels[i] - otherScoreLevels[i];
+        }
+        return difference;
+    }
+
+    /**
+     * @return -1 if no level improved
+     */
+    private static int findMostImportantImprovedLevel(double[] improvement) {
+        for (int i = 0; i < improvement.length; i++) {
+            if (improvement[i] > 0.0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // ************************************************************************
+    // Time gradient methods
+    // ************************************************************************
+
+    @Override
+    public double calculateSolverTimeGradient(SolverScope<Solution_> solverScope) {
+        throw new UnsupportedOperationException(
+                getClass().getSimpleName() + " can only be used for phase termination.");
+    }
+
+    @Override
+    public double calculatePhaseTimeGradient(AbstractPhaseScope<Solution_> phaseScope) {
+        // How fast the best score will improve is unknown, so is the time until the phase terminates.
+        return -1.0;
+    }
+
+    // ************************************************************************
+    // Other methods
+    // ************************************************************************
+
+    @Override
+    public DiminishedReturnsTermination<Solution_> createChildThreadTermination(SolverScope<Solution_> solverScope,
+            ChildThreadType childThreadType) {
+        return new DiminishedReturnsTermination<>(slidingWindowMillis, minimumImprovementRatio);
+    }
+
+    @Override
+    public String toString() {
+        return "DiminishedReturns(" + slidingWindowMillis + ", " + minimumImprovementRatio + ")";
+    }
+
+}
@@ -16,6 +16,9 @@ import ai.timefold.solver.core.impl.score.definition.ScoreDefinition;
 
 public class TerminationFactory<Solution_> {
 
+    static final long DEFAULT_DIMINISHED_RETURNS_SLIDING_WINDOW_MILLIS = 30_000L;
+    static final double DEFAULT_DIMINISHED_RETURNS_MINIMUM_IMPROVEMENT_RATIO = 0.0001;
+
     public static <Solution_> TerminationFactory<Solution_> create(TerminationConfig terminationConfig) {
         return new TerminationFactory<>(terminationConfig);
     }
@@ -83,6 +86,16 @@ public class TerminationFactory<Solution_> {
         if (terminationConfig.getUnimprovedStepCountLimit() != null) {
             terminationList.add(new UnimprovedStepCountTermination<>(terminationConfig.getUnimprovedStepCountLimit()));
         }
+        if (terminationConfig.getDiminishedReturnsSlidingWindowMilliseconds() != null
+                || terminationConfig.getDiminishedReturnsMinimumImprovementRatio() != null) {
+            long slidingWindowMillis = Objects.requireNonNullElse(
+                    terminationConfig.getDiminishedReturnsSlidingWindowMilliseconds(),
+                    DEFAULT_DIMINISHED_RETURNS_SLIDING_WINDOW_MILLIS);
+            double minimumImprovementRatio = Objects.requireNonNullElse(
+                    terminationConfig.getDiminishedReturnsMinimumImprovementRatio(),
+                    DEFAULT_DIMINISHED_RETURNS_MINIMUM_IMPROVEMENT_RATIO);
+            terminationList.add(new DiminishedReturnsTermination<>(slidingWindowMillis, minimumImprovementRatio));
+        }
 
         terminationList.addAll(buildInnerTermination(configPolicy));
         return buildTerminationFromList(terminationList);
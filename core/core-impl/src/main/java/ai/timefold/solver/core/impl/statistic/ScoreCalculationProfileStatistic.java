@@ -0,0 +1,85 @@
+package ai.timefold.solver.core.impl.statistic;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import ai.timefold.solver.core.api.solver.Solver;
+import ai.timefold.solver.core.config.solver.monitoring.SolverMetric;
+import ai.timefold.solver.core.impl.phase.event.PhaseLifecycleListenerAdapter;
+import ai.timefold.solver.core.impl.phase.scope.AbstractStepScope;
+import ai.timefold.solver.core.impl.score.director.OperationProfile;
+import ai.timefold.solver.core.impl.score.director.ScoreCalculationProfile;
+import ai.timefold.solver.core.impl.solver.DefaultSolver;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * Publishes the {@link ScoreCalculationProfile} of the working score director after every step,
+ * as an operation count and a time (in nanoseconds) per constraint and per node.
+ * The values accumulate over the entire solve.
+ */
+public class ScoreCalculationProfileStatistic<Solution_> implements SolverStatistic<Solution_> {
+
+    private final Map<Solver<Solution_>, PhaseLifecycleListenerAdapter<Solution_>> solverToPhaseLifecycleListenerMap =
+            new WeakHashMap<>();
+
+    @Override
+    public void unregister(Solver<Solution_> solver) {
+        PhaseLifecycleListenerAdapter<Solution_> listener = solverToPhaseLifecycleListenerMap.remove(solver);
+        if (listener != null) {
+            ((DefaultSolver<Solution_>) solver).removePhaseLifecycleListener(listener);
+        }
+    }
+
+    @Override
+    public void register(Solver<Solution_> solver) {
+        DefaultSolver<Solution_> defaultSolver = (DefaultSolver<Solution_>) solver;
+        ScoreCalculationProfileStatisticListener<Solution_> listener = new ScoreCalculationProfileStatisticListener<>();
+        solverToPhaseLifecycleListenerMap.put(solver, listener);
+        defaultSolver.addPhaseLifecycleListener(listener);
+    }
+
+    private static class ScoreCalculationProfileStatisticListener<Solution_>
+            extends PhaseLifecycleListenerAdapter<Solution_> {
+        private final Map<Tags, AtomicLong> tagsToCountMap = new ConcurrentHashMap<>();
+        private final Map<Tags, AtomicLong> tagsToTimeMap = new ConcurrentHashMap<>();
+
+        @Override
+        public void stepEnded(AbstractStepScope<Solution_> stepScope) {
+            ScoreCalculationProfile scoreCalculationProfile = stepScope.getScoreDirector().getScoreCalculationProfile();
+            if (scoreCalculationProfile == null) {
+                return;
+            }
+            Tags solverTags = stepScope.getPhaseScope().getSolverScope().getMonitoringTags();
+            scoreCalculationProfile.getConstraintProfileMap().forEach((constraintId, profile) -> {
+                int separatorIndex = constraintId.indexOf('/');
+                Tags tags = solverTags.and(
+                        "constraint.package", constraintId.substring(0, separatorIndex),
+                        "constraint.name", constraintId.substring(separatorIndex + 1));
+                updateMeters(tags, profile);
+            });
+            scoreCalculationProfile.getNodeProfileMap()
+                    .forEach((nodeId, profile) -> updateMeters(solverTags.and("node", nodeId), profile));
+        }
+
+        private void updateMeters(Tags tags, OperationProfile profile) {
+            updateMeter(tagsToCountMap, ".count", tags, profile.getOperationCount());
+            updateMeter(tagsToTimeMap, ".time", tags, profile.getTimeNanos());
+        }
+
+        private static void updateMeter(Map<Tags, AtomicLong> tagsToValueMap, String meterIdSuffix, Tags tags,
+                long value) {
+            AtomicLong meterValue = tagsToValueMap.get(tags);
+            if (meterValue != null) {
+                meterValue.set(value);
+            } else {
+                meterValue = new AtomicLong(value);
+                tagsToValueMap.put(tags, meterValue);
+                Metrics.gauge(SolverMetric.SCORE_CALCULATION_PROFILE.getMeterId() + meterIdSuffix, tags, meterValue);
+            }
+        }
+    }
+}
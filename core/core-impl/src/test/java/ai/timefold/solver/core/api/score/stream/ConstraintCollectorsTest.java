@@ -24,9 +24,13 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.time.Period;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.SortedSet;
@@ -36,6 +40,10 @@ import java.util.function.Function;
 import ai.timefold.solver.core.api.function.QuadFunction;
 import ai.timefold.solver.core.api.function.TriFunction;
 import ai.timefold.solver.core.api.score.stream.bi.BiConstraintCollector;
+import ai.timefold.solver.core.api.score.stream.common.ConnectedRange;
+import ai.timefold.solver.core.api.score.stream.common.ConnectedRangeChain;
+import ai.timefold.solver.core.api.score.stream.common.Sequence;
+import ai.timefold.solver.core.api.score.stream.common.SequenceChain;
 import ai.timefold.solver.core.api.score.stream.quad.QuadConstraintCollector;
 import ai.timefold.solver.core.api.score.stream.tri.TriConstraintCollector;
 import ai.timefold.solver.core.api.score.stream.uni.UniConstraintCollector;
@@ -3919,6 +3927,235 @@ class ConstraintCollectorsTest {
         assertResult(collector, container, Quadruple.of(0, null, null, null));
     }
 
+    @Test
+    void toConsecutiveSequences() {
+        // Do a basic test w/o edge cases; edge cases are covered in ConsecutiveSetTreeTest
+        UniConstraintCollector<Integer, ?, SequenceChain<Integer, Integer>> collector =
+                ConstraintCollectors.toConsecutiveSequences(Integer::intValue);
+        Object container = collector.supplier().get();
+
+        // Default state.
+        assertSequences(finish(collector, container));
+        // Add first value, sequence is [2]
+        int firstValue = 2;
+        Runnable firstRetractor = accumulate(collector, container, firstValue);
+        assertSequences(finish(collector, container), asList(2));
+        // Add second value, sequence is [1,2]
+        int secondValue = 1;
+        Runnable secondRetractor = accumulate(collector, container, secondValue);
+        assertSequences(finish(collector, container), asList(1, 2));
+        // Add third value, same as the second. Sequence is [{1,1},2}]
+        Runnable thirdRetractor = accumulate(collector, container, secondValue);
+        assertSequences(finish(collector, container), asList(1, 1, 2));
+        // Add fourth value, not consecutive. Sequences are [{1,1},2}] and [4]
+        int fourthValue = 4;
+        Runnable fourthRetractor = accumulate(collector, container, fourthValue);
+        assertSequences(finish(collector, container), asList(1, 1, 2), asList(4));
+        // Retract one instance of the second value; we only have three values now.
+        secondRetractor.run();
+        assertSequences(finish(collector, container), asList(1, 2), asList(4));
+        // Retract final instance of the second value; we only have two values now.
+        thirdRetractor.run();
+        assertSequences(finish(collector, container), asList(2), asList(4));
+        // Retract the fourth value; we only have one value now.
+        fourthRetractor.run();
+        assertSequences(finish(collector, container), asList(2));
+        // Retract last value; there are no values now.
+        firstRetractor.run();
+        assertSequences(finish(collector, container));
+    }
+
+    @Test
+    void toConsecutiveSequencesBi() {
+        BiConstraintCollector<Integer, Integer, ?, SequenceChain<Integer, Integer>> collector =
+                ConstraintCollectors.toConsecutiveSequences((a, b) -> a + b, Integer::intValue);
+        Object container = collector.supplier().get();
+
+        // Default state.
+        assertSequences(finish(collector, container));
+        // Add first value, sequence is [2]
+        Runnable firstRetractor = accumulate(collector, container, 1, 1);
+        assertSequences(finish(collector, container), asList(2));
+        // Add second value, sequence is [2,3]
+        Runnable secondRetractor = accumulate(collector, container, 2, 1);
+        assertSequences(finish(collector, container), asList(2, 3));
+        // Add third value, not consecutive. Sequences are [2,3] and [5]
+        Runnable thirdRetractor = accumulate(collector, container, 3, 2);
+        assertSequences(finish(collector, container), asList(2, 3), asList(5));
+        // Retract the second value.
+        secondRetractor.run();
+        assertSequences(finish(collector, container), asList(2), asList(5));
+        // Retract the remaining values; there are no values now.
+        firstRetractor.run();
+        thirdRetractor.run();
+        assertSequences(finish(collector, container));
+    }
+
+    @Test
+    void toConnectedRanges() {
+        // Do a basic test w/o edge cases; edge cases are covered in ConnectedRangeTrackerTest
+        UniConstraintCollector<Interval, ?, ConnectedRangeChain<Interval, Integer, Integer>> collector =
+                ConstraintCollectors.toConnectedRanges(Interval::getStart, Interval::getEnd, (a, b) -> b - a);
+        Object container = collector.supplier().get();
+
+        // Default state.
+        assertConnectedRanges(finish(collector, container));
+        // Add first value, connected range is [(1,3)]
+        Interval firstValue = new Interval(1, 3);
+        Runnable firstRetractor = accumulate(collector, container, firstValue);
+        assertConnectedRanges(finish(collector, container), asList(firstValue));
+        // Add second value, connected range is [(1,3),(2,4)]
+        Interval secondValue = new Interval(2, 4);
+        Runnable secondRetractor = accumulate(collector, container, secondValue);
+        assertConnectedRanges(finish(collector, container), asList(firstValue, secondValue));
+        // Add third value, same as the second. Connected range is [(1,3),{(2,4),(2,4)}]
+        Runnable thirdRetractor = accumulate(collector, container, secondValue);
+        assertConnectedRanges(finish(collector, container), asList(firstValue, secondValue, secondValue));
+        assertThat(finish(collector, container).getConnectedRanges().iterator().next().getMaximumOverlap())
+                .isEqualTo(3);
+        // Add fourth value, not connected. Connected ranges are [(1,3),{(2,4),(2,4)}] and [(6,7)]
+        Interval fourthValue = new Interval(6, 7);
+        Runnable fourthRetractor = accumulate(collector, container, fourthValue);
+        assertConnectedRanges(finish(collector, container), asList(firstValue, secondValue, secondValue),
+                asList(fourthValue));
+        assertThat(finish(collector, container).getGaps().iterator().next().getLength())
+                .isEqualTo(2);
+        // Retract one instance of the second value; we only have three values now.
+        secondRetractor.run();
+        assertConnectedRanges(finish(collector, container), asList(firstValue, secondValue), asList(fourthValue));
+        // Retract final instance of the second value; we only have two values now.
+        thirdRetractor.run();
+        assertConnectedRanges(finish(collector, container), asList(firstValue), asList(fourthValue));
+        // Retract the fourth value; we only have one value now.
+        fourthRetractor.run();
+        assertConnectedRanges(finish(collector, container), asList(firstValue));
+        // Retract last value; there are no values now.
+        firstRetractor.run();
+        assertConnectedRanges(finish(collector, container));
+    }
+
+    @Test
+    void toConnectedRangesLong() {
+        UniConstraintCollector<Interval, ?, ConnectedRangeChain<Interval, Long, Long>> collector =
+                ConstraintCollectors.toConnectedRanges(Interval::getStart, Interval::getEnd);
+        Object container = collector.supplier().get();
+
+        Interval firstValue = new Interval(1, 3);
+        Runnable firstRetractor = accumulate(collector, container, firstValue);
+        Interval secondValue = new Interval(5, 7);
+        Runnable secondRetractor = accumulate(collector, container, secondValue);
+        assertConnectedRanges(finish(collector, container), asList(firstValue), asList(secondValue));
+        assertThat(finish(collector, container).getGaps().iterator().next().getLength())
+                .isEqualTo(2L);
+        secondRetractor.run();
+        assertConnectedRanges(finish(collector, container), asList(firstValue));
+        firstRetractor.run();
+        assertConnectedRanges(finish(collector, container));
+    }
+
+    @Test
+    void toConnectedTemporalRangesBi() {
+        OffsetDateTime start = OffsetDateTime.of(2000, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+        BiConstraintCollector<Integer, Integer, ?, ConnectedRangeChain<Interval, OffsetDateTime, Duration>> collector =
+                ConstraintCollectors.toConnectedTemporalRanges(Interval::new,
+                        interval -> start.plusHours(interval.getStart()),
+                        interval -> start.plusHours(interval.getEnd()));
+        Object container = collector.supplier().get();
+
+        Runnable firstRetractor = accumulate(collector, container, 1, 3);
+        Runnable secondRetractor = accumulate(collector, container, 3, 4);
+        assertConnectedRanges(finish(collector, container), asList(new Interval(1, 3), new Interval(3, 4)));
+        assertThat(finish(collector, container).getConnectedRanges().iterator().next().getLength())
+                .isEqualTo(Duration.ofHours(3));
+        Runnable thirdRetractor = accumulate(collector, container, 6, 8);
+        assertConnectedRanges(finish(collector, container), asList(new Interval(1, 3), new Interval(3, 4)),
+                asList(new Interval(6, 8)));
+        assertThat(finish(collector, container).getGaps().iterator().next().getLength())
+                .isEqualTo(Duration.ofHours(2));
+        firstRetractor.run();
+        secondRetractor.run();
+        thirdRetractor.run();
+        assertConnectedRanges(finish(collector, container));
+    }
+
+    private static final class Interval {
+
+        private final int start;
+        private final int end;
+
+        public Interval(int start, int end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        public int getStart() {
+            return start;
+        }
+
+        public int getEnd() {
+            return end;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Interval interval = (Interval) o;
+            return start == interval.start && end == interval.end;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(start, end);
+        }
+
+        @Override
+        public String toString() {
+            return "(" + start + ", " + end + ")";
+        }
+
+    }
+
+    @SafeVarargs
+    private static <Value_> void assertSequences(SequenceChain<Value_, ?> sequenceChain,
+            List<Value_>... expectedSequences) {
+        List<List<Value_>> actualSequences = new ArrayList<>();
+        for (Sequence<Value_, ?> sequence : sequenceChain.getConsecutiveSequences()) {
+            assertThat(sequence.getItems()).hasSize(sequence.getCount());
+            actualSequences.add(new ArrayList<>(sequence.getItems()));
+        }
+        assertThat(actualSequences).containsExactly(expectedSequences);
+        assertThat(sequenceChain.getBreaks()).hasSize(Math.max(0, expectedSequences.length - 1));
+    }
+
+    @SafeVarargs
+    private static <Range_> void assertConnectedRanges(ConnectedRangeChain<Range_, ?, ?> connectedRangeChain,
+            List<Range_>... expectedConnectedRanges) {
+        List<List<Range_>> actualConnectedRanges = new ArrayList<>();
+        for (ConnectedRange<Range_, ?, ?> connectedRange : connectedRangeChain.getConnectedRanges()) {
+            List<Range_> rangeList = new ArrayList<>();
+            connectedRange.forEach(rangeList::add);
+            assertThat(rangeList).hasSize(connectedRange.getContainedRangeCount());
+            actualConnectedRanges.add(rangeList);
+        }
+        assertThat(actualConnectedRanges).containsExactly(expectedConnectedRanges);
+        assertThat(connectedRangeChain.getGaps()).hasSize(Math.max(0, expectedConnectedRanges.length - 1));
+    }
+
+    private static <A, B, Container_, Result_> Result_ finish(
+            BiConstraintCollector<A, B, Container_, Result_> collector, Object container) {
+        return collector.finisher().apply((Container_) container);
+    }
+
+    private static <A, Container_, Result_> Result_ finish(
+            UniConstraintCollector<A, Container_, Result_> collector, Object container) {
+        return collector.finisher().apply((Container_) container);
+    }
+
     private static <A, B, C, Container_, Result_> Runnable accumulate(
             TriConstraintCollector<A, B, C, Container_, Result_> collector, Object container, A valueA, B valueB,
             C valueC) {
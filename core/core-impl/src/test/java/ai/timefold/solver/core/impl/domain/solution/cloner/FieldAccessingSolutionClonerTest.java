@@ -1,7 +1,22 @@
 package ai.timefold.solver.core.impl.domain.solution.cloner;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
 import ai.timefold.solver.core.api.domain.solution.cloner.SolutionCloner;
 import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataEntity;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataValue;
+import ai.timefold.solver.core.impl.testdata.domain.chained.TestdataChainedAnchor;
+import ai.timefold.solver.core.impl.testdata.domain.chained.TestdataChainedEntity;
+import ai.timefold.solver.core.impl.testdata.domain.chained.TestdataChainedSolution;
+
+import org.junit.jupiter.api.Test;
 
 class FieldAccessingSolutionClonerTest extends AbstractSolutionClonerTest {
 
@@ -10,4 +25,64 @@ class FieldAccessingSolutionClonerTest extends AbstractSolutionClonerTest {
             SolutionDescriptor<Solution_> solutionDescriptor) {
         return new FieldAccessingSolutionCloner<>(solutionDescriptor);
     }
+
+    @Test
+    void cloneSolutionIncrementally() {
+        FieldAccessingSolutionCloner<TestdataSolution> cloner =
+                new FieldAccessingSolutionCloner<>(TestdataSolution.buildSolutionDescriptor());
+        TestdataValue val1 = new TestdataValue("1");
+        TestdataValue val2 = new TestdataValue("2");
+        TestdataEntity a = new TestdataEntity("a", val1);
+        TestdataEntity b = new TestdataEntity("b", val1);
+        TestdataEntity c = new TestdataEntity("c", val2);
+        TestdataSolution original = new TestdataSolution("solution");
+        original.setValueList(Arrays.asList(val1, val2));
+        original.setEntityList(Arrays.asList(a, b, c));
+
+        Map<Object, Object> reusableOriginalToCloneMap = new IdentityHashMap<>();
+        TestdataSolution firstClone = cloner.cloneSolution(original, reusableOriginalToCloneMap);
+        List<TestdataEntity> firstCloneEntityList = firstClone.getEntityList();
+        assertThat(reusableOriginalToCloneMap)
+                .containsOnlyKeys(a, b, c)
+                .doesNotContainValue(firstClone);
+
+        // The caller removes every changed original.
+        reusableOriginalToCloneMap.remove(b);
+        b.setValue(val2);
+        TestdataSolution secondClone = cloner.cloneSolution(original, reusableOriginalToCloneMap);
+        List<TestdataEntity> secondCloneEntityList = secondClone.getEntityList();
+        assertThat(secondClone).isNotSameAs(firstClone);
+        assertThat(secondCloneEntityList).isNotSameAs(firstCloneEntityList);
+        assertThat(secondCloneEntityList.get(0)).isSameAs(firstCloneEntityList.get(0));
+        assertThat(secondCloneEntityList.get(1)).isNotSameAs(firstCloneEntityList.get(1)).isNotSameAs(b);
+        assertThat(secondCloneEntityList.get(2)).isSameAs(firstCloneEntityList.get(2));
+        assertThat(firstCloneEntityList.get(1).getValue()).isSameAs(val1);
+        assertThat(secondCloneEntityList.get(1).getValue()).isSameAs(val2);
+        assertThat(reusableOriginalToCloneMap)
+                .containsOnlyKeys(a, b, c)
+                .containsEntry(b, secondCloneEntityList.get(1));
+    }
+
+    @Test
+    void cloneChainedSolutionIncrementallyDoesNotReuseReferencingClones() {
+        FieldAccessingSolutionCloner<TestdataChainedSolution> cloner =
+                new FieldAccessingSolutionCloner<>(TestdataChainedSolution.buildSolutionDescriptor());
+        TestdataChainedAnchor a0 = new TestdataChainedAnchor("a0");
+        TestdataChainedEntity a1 = new TestdataChainedEntity("a1", a0);
+        TestdataChainedEntity a2 = new TestdataChainedEntity("a2", a1);
+        TestdataChainedSolution original = new TestdataChainedSolution("solution");
+        original.setChainedAnchorList(Arrays.asList(a0));
+        original.setChainedEntityList(Arrays.asList(a1, a2));
+
+        Map<Object, Object> reusableOriginalToCloneMap = new IdentityHashMap<>();
+        TestdataChainedSolution firstClone = cloner.cloneSolution(original, reusableOriginalToCloneMap);
+        // The clone of a2 references the clone of a1, so it would have to be repaired if a1 is cloned again.
+        assertThat(reusableOriginalToCloneMap).doesNotContainKey(a2);
+
+        TestdataChainedSolution secondClone = cloner.cloneSolution(original, reusableOriginalToCloneMap);
+        TestdataChainedEntity secondCloneA1 = secondClone.getChainedEntityList().get(0);
+        TestdataChainedEntity secondCloneA2 = secondClone.getChainedEntityList().get(1);
+        assertThat(secondCloneA2).isNotSameAs(firstClone.getChainedEntityList().get(1));
+        assertThat(secondCloneA2.getChainedObject()).isSameAs(secondCloneA1);
+    }
 }
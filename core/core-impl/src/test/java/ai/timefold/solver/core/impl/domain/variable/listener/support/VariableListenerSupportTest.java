@@ -18,6 +18,7 @@ import ai.timefold.solver.core.impl.domain.variable.supply.SupplyManager;
 import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
 import ai.timefold.solver.core.impl.testdata.domain.TestdataEntity;
 import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataValue;
 import ai.timefold.solver.core.impl.testdata.domain.chained.TestdataChainedEntity;
 import ai.timefold.solver.core.impl.testdata.domain.chained.TestdataChainedSolution;
 import ai.timefold.solver.core.impl.testdata.domain.chained.shadow.TestdataShadowingChainedEntity;
@@ -52,6 +53,36 @@ class VariableListenerSupportTest {
         assertThat(supply2).isSameAs(supply1);
     }
 
+    @Test
+    void cancelExternalizedSupply() {
+        SolutionDescriptor<TestdataSolution> solutionDescriptor = TestdataSolution.buildSolutionDescriptor();
+        InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector = mock(InnerScoreDirector.class);
+        when(scoreDirector.getSolutionDescriptor()).thenReturn(solutionDescriptor);
+        TestdataValue value = new TestdataValue("v1");
+        TestdataEntity entity = new TestdataEntity("e1", value);
+        TestdataSolution solution = new TestdataSolution();
+        solution.setEntityList(Collections.singletonList(entity));
+        when(scoreDirector.getWorkingSolution()).thenReturn(solution);
+        when(scoreDirector.getSupplyManager()).thenReturn(mock(SupplyManager.class));
+        VariableListenerSupport<TestdataSolution> variableListenerSupport = VariableListenerSupport.create(scoreDirector);
+        variableListenerSupport.linkVariableListeners();
+
+        VariableDescriptor<TestdataSolution> variableDescriptor =
+                solutionDescriptor.getEntityDescriptorStrict(TestdataEntity.class)
+                        .getVariableDescriptor("value");
+        SingletonInverseVariableDemand<TestdataSolution> demand = new SingletonInverseVariableDemand<>(variableDescriptor);
+
+        SingletonInverseVariableSupply supply = variableListenerSupport.demand(demand);
+        assertThat(supply.getInverseSingleton(value)).isSameAs(entity);
+        assertThat(variableListenerSupport.cancel(demand)).isTrue();
+        assertThat(variableListenerSupport.getActiveCount(demand)).isZero();
+
+        // The removed supply is no longer notified, so nothing is queued.
+        variableListenerSupport.beforeVariableChanged(variableDescriptor, entity);
+        variableListenerSupport.assertNotificationQueuesAreEmpty();
+        assertThat(variableListenerSupport.cancel(demand)).isFalse();
+    }
+
     @Test
     void demandChained() {
         SolutionDescriptor<TestdataChainedSolution> solutionDescriptor = TestdataChainedSolution.buildSolutionDescriptor();
@@ -0,0 +1,136 @@
+package ai.timefold.solver.core.impl.heuristic.selector.move.generic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import java.util.Comparator;
+import java.util.List;
+
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.config.heuristic.selector.entity.pillar.SubPillarConfigPolicy;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.listener.support.VariableListenerSupport;
+import ai.timefold.solver.core.impl.heuristic.selector.SelectorTestUtils;
+import ai.timefold.solver.core.impl.heuristic.selector.entity.EntitySelector;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataEntity;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataValue;
+
+import org.junit.jupiter.api.Test;
+
+class PillarSupplyTest {
+
+    @Test
+    void pillarsFollowVariableChanges() {
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataEntity a = new TestdataEntity("a", v1);
+        TestdataEntity b = new TestdataEntity("b", v2);
+        TestdataEntity c = new TestdataEntity("c", v2);
+
+        GenuineVariableDescriptor<TestdataSolution> variableDescriptor = TestdataEntity.buildVariableDescriptorForValue();
+        EntitySelector<TestdataSolution> entitySelector =
+                SelectorTestUtils.mockEntitySelector(variableDescriptor.getEntityDescriptor(), a, b, c);
+        VariableListenerSupport<TestdataSolution> variableListenerSupport = buildVariableListenerSupport(variableDescriptor);
+        PillarSupply<TestdataSolution> pillarSupply = variableListenerSupport.demand(
+                new PillarDemand<>(entitySelector, List.of(variableDescriptor), SubPillarConfigPolicy.withoutSubpillars()));
+
+        List<List<Object>> pillarList = pillarSupply.read();
+        assertThat(pillarList).isEqualTo(List.of(List.of(a), List.of(b, c)));
+        assertThat(pillarSupply.read()).isSameAs(pillarList);
+
+        changeValue(variableListenerSupport, variableDescriptor, b, v1);
+        assertThat(pillarSupply.read()).isEqualTo(List.of(List.of(a, b), List.of(c)));
+        // A pillar list which was read earlier does not change.
+        assertThat(pillarList).isEqualTo(List.of(List.of(a), List.of(b, c)));
+
+        changeValue(variableListenerSupport, variableDescriptor, c, v1);
+        assertThat(pillarSupply.read()).isEqualTo(List.of(List.of(a, b, c)));
+
+        // The entities and the pillars stay in selection order.
+        changeValue(variableListenerSupport, variableDescriptor, a, v2);
+        changeValue(variableListenerSupport, variableDescriptor, c, v2);
+        assertThat(pillarSupply.read()).isEqualTo(List.of(List.of(a, c), List.of(b)));
+    }
+
+    @Test
+    void sortedPillarsWithMinimumSubPillarSize() {
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataEntity a = new TestdataEntity("a", v2);
+        TestdataEntity b = new TestdataEntity("b", v1);
+        TestdataEntity c = new TestdataEntity("c", v2);
+        TestdataEntity d = new TestdataEntity("d", v1);
+
+        GenuineVariableDescriptor<TestdataSolution> variableDescriptor = TestdataEntity.buildVariableDescriptorForValue();
+        EntitySelector<TestdataSolution> entitySelector =
+                SelectorTestUtils.mockEntitySelector(variableDescriptor.getEntityDescriptor(), d, b, a, c);
+        VariableListenerSupport<TestdataSolution> variableListenerSupport = buildVariableListenerSupport(variableDescriptor);
+        SubPillarConfigPolicy subPillarConfigPolicy =
+                SubPillarConfigPolicy.sequential(2, Integer.MAX_VALUE, Comparator.comparing(TestdataEntity::getCode));
+        PillarSupply<TestdataSolution> pillarSupply = variableListenerSupport.demand(
+                new PillarDemand<>(entitySelector, List.of(variableDescriptor), subPillarConfigPolicy));
+
+        assertThat(pillarSupply.read()).isEqualTo(List.of(List.of(a, c), List.of(b, d)));
+
+        // The pillar of b drops below the minimum sub pillar size.
+        changeValue(variableListenerSupport, variableDescriptor, d, v2);
+        assertThat(pillarSupply.read()).isEqualTo(List.of(List.of(a, c, d)));
+
+        // The pillar of b reaches the minimum sub pillar size again, and the pillars stay sorted.
+        changeValue(variableListenerSupport, variableDescriptor, a, v1);
+        assertThat(pillarSupply.read()).isEqualTo(List.of(List.of(a, b), List.of(c, d)));
+    }
+
+    @Test
+    void undoneChangesKeepTheSnapshot() {
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataValue v3 = new TestdataValue("v3");
+        TestdataEntity a = new TestdataEntity("a", v1);
+        TestdataEntity b = new TestdataEntity("b", v1);
+        TestdataEntity c = new TestdataEntity("c", v2);
+        TestdataEntity d = new TestdataEntity("d", v3);
+
+        GenuineVariableDescriptor<TestdataSolution> variableDescriptor = TestdataEntity.buildVariableDescriptorForValue();
+        EntitySelector<TestdataSolution> entitySelector =
+                SelectorTestUtils.mockEntitySelector(variableDescriptor.getEntityDescriptor(), a, b, c, d);
+        VariableListenerSupport<TestdataSolution> variableListenerSupport = buildVariableListenerSupport(variableDescriptor);
+        PillarSupply<TestdataSolution> pillarSupply = variableListenerSupport.demand(
+                new PillarDemand<>(entitySelector, List.of(variableDescriptor), SubPillarConfigPolicy.withoutSubpillars()));
+        List<List<Object>> pillarList = pillarSupply.read();
+        assertThat(pillarList).isEqualTo(List.of(List.of(a, b), List.of(c), List.of(d)));
+
+        // A pillar change move and its undo move, which empties a pillar and fills it again.
+        changeValue(variableListenerSupport, variableDescriptor, a, v2);
+        changeValue(variableListenerSupport, variableDescriptor, b, v2);
+        changeValue(variableListenerSupport, variableDescriptor, a, v1);
+        changeValue(variableListenerSupport, variableDescriptor, b, v1);
+        // Nothing is sorted or copied again.
+        assertThat(pillarSupply.read()).isSameAs(pillarList);
+
+        // Only the pillars with different entities are copied again.
+        changeValue(variableListenerSupport, variableDescriptor, b, v3);
+        List<List<Object>> changedPillarList = pillarSupply.read();
+        assertThat(changedPillarList).isEqualTo(List.of(List.of(a), List.of(b, d), List.of(c)));
+        assertThat(changedPillarList.get(2)).isSameAs(pillarList.get(1));
+    }
+
+    private static VariableListenerSupport<TestdataSolution> buildVariableListenerSupport(
+            GenuineVariableDescriptor<TestdataSolution> variableDescriptor) {
+        InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector = mock(InnerScoreDirector.class);
+        doReturn(variableDescriptor.getEntityDescriptor().getSolutionDescriptor()).when(scoreDirector)
+                .getSolutionDescriptor();
+        return VariableListenerSupport.create(scoreDirector);
+    }
+
+    private static void changeValue(VariableListenerSupport<TestdataSolution> variableListenerSupport,
+            GenuineVariableDescriptor<TestdataSolution> variableDescriptor, TestdataEntity entity, TestdataValue value) {
+        variableListenerSupport.beforeVariableChanged(variableDescriptor, entity);
+        entity.setValue(value);
+        variableListenerSupport.triggerVariableListenersInNotificationQueues();
+    }
+
+}
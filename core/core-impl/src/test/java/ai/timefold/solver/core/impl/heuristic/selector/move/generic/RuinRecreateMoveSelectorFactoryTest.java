@@ -0,0 +1,140 @@
+package ai.timefold.solver.core.impl.heuristic.selector.move.generic;
+
+import static ai.timefold.solver.core.impl.heuristic.HeuristicConfigPolicyTestUtils.buildHeuristicConfigPolicy;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import ai.timefold.solver.core.config.heuristic.selector.common.SelectionCacheType;
+import ai.timefold.solver.core.config.heuristic.selector.common.SelectionOrder;
+import ai.timefold.solver.core.config.heuristic.selector.move.generic.RuinRecreateMoveSelectorConfig;
+import ai.timefold.solver.core.config.heuristic.selector.move.generic.RuinSelectionType;
+import ai.timefold.solver.core.impl.domain.entity.descriptor.EntityDescriptor;
+import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import ai.timefold.solver.core.impl.domain.valuerange.descriptor.ValueRangeDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import ai.timefold.solver.core.impl.heuristic.selector.move.MoveSelector;
+import ai.timefold.solver.core.impl.heuristic.selector.move.MoveSelectorFactory;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
+import ai.timefold.solver.core.impl.testdata.domain.chained.shadow.TestdataShadowingChainedSolution;
+import ai.timefold.solver.core.impl.testdata.domain.list.TestdataListSolution;
+import ai.timefold.solver.core.impl.testdata.domain.multientity.TestdataHerdEntity;
+import ai.timefold.solver.core.impl.testdata.domain.multientity.TestdataMultiEntitySolution;
+import ai.timefold.solver.core.impl.testdata.domain.multivar.TestdataMultiVarSolution;
+
+import org.junit.jupiter.api.Test;
+
+class RuinRecreateMoveSelectorFactoryTest {
+
+    @Test
+    void basicVariable() {
+        RuinRecreateMoveSelectorConfig moveSelectorConfig = new RuinRecreateMoveSelectorConfig()
+                .withMinimumRuinedCount(2)
+                .withMaximumRuinedCount(3)
+                .withRuinSelectionType(RuinSelectionType.RELATED);
+        MoveSelector<TestdataSolution> moveSelector = buildMoveSelector(TestdataSolution.buildSolutionDescriptor(),
+                moveSelectorConfig, SelectionOrder.RANDOM);
+        assertThat(moveSelector).isInstanceOf(RuinRecreateMoveSelector.class);
+        assertThat(moveSelector.isNeverEnding()).isTrue();
+        assertThat(moveSelector.toString()).contains("RELATED");
+    }
+
+    @Test
+    void listVariable() {
+        MoveSelector<TestdataListSolution> moveSelector = buildMoveSelector(TestdataListSolution.buildSolutionDescriptor(),
+                new RuinRecreateMoveSelectorConfig(), SelectionOrder.RANDOM);
+        assertThat(moveSelector).isInstanceOf(RuinRecreateMoveSelector.class);
+        // Defaults to random ruining.
+        assertThat(moveSelector.toString()).contains("RANDOM");
+    }
+
+    @Test
+    void multipleVariables() {
+        SolutionDescriptor<TestdataMultiVarSolution> solutionDescriptor = TestdataMultiVarSolution.buildSolutionDescriptor();
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> buildMoveSelector(solutionDescriptor, new RuinRecreateMoveSelectorConfig(),
+                        SelectionOrder.RANDOM))
+                .withMessageContaining("it cannot be deduced automatically");
+        MoveSelector<TestdataMultiVarSolution> moveSelector = buildMoveSelector(solutionDescriptor,
+                new RuinRecreateMoveSelectorConfig().withVariableName("secondaryValue"), SelectionOrder.RANDOM);
+        assertThat(moveSelector.toString()).contains("TestdataMultiVarEntity.secondaryValue");
+    }
+
+    @Test
+    void multipleEntityClasses() {
+        SolutionDescriptor<TestdataMultiEntitySolution> solutionDescriptor =
+                TestdataMultiEntitySolution.buildSolutionDescriptor();
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> buildMoveSelector(solutionDescriptor, new RuinRecreateMoveSelectorConfig(),
+                        SelectionOrder.RANDOM))
+                .withMessageContaining("it cannot be deduced automatically");
+        MoveSelector<TestdataMultiEntitySolution> moveSelector = buildMoveSelector(solutionDescriptor,
+                new RuinRecreateMoveSelectorConfig().withEntityClass(TestdataHerdEntity.class), SelectionOrder.RANDOM);
+        assertThat(moveSelector.toString()).contains("TestdataHerdEntity.leadEntity");
+    }
+
+    @Test
+    void onlyRandomSelection() {
+        SolutionDescriptor<TestdataSolution> solutionDescriptor = TestdataSolution.buildSolutionDescriptor();
+        RuinRecreateMoveSelectorConfig moveSelectorConfig = new RuinRecreateMoveSelectorConfig();
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> buildMoveSelector(solutionDescriptor, moveSelectorConfig, SelectionOrder.ORIGINAL))
+                .withMessageContaining("only supports random selection order");
+    }
+
+    @Test
+    void ruinedCountBounds() {
+        SolutionDescriptor<TestdataSolution> solutionDescriptor = TestdataSolution.buildSolutionDescriptor();
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> buildMoveSelector(solutionDescriptor,
+                        new RuinRecreateMoveSelectorConfig().withMinimumRuinedCount(0), SelectionOrder.RANDOM))
+                .withMessageContaining("minimumRuinedCount (0) must be at least 1");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> buildMoveSelector(solutionDescriptor,
+                        new RuinRecreateMoveSelectorConfig().withMinimumRuinedCount(3).withMaximumRuinedCount(2),
+                        SelectionOrder.RANDOM))
+                .withMessageContaining("maximumRuinedCount (2) must be at least minimumRuinedCount (3)");
+        // Without a maximumRuinedCount, a high minimumRuinedCount raises the default maximum.
+        assertThat(buildMoveSelector(solutionDescriptor,
+                new RuinRecreateMoveSelectorConfig().withMinimumRuinedCount(50), SelectionOrder.RANDOM))
+                .isInstanceOf(RuinRecreateMoveSelector.class);
+    }
+
+    @Test
+    void chainedVariableUnsupported() {
+        SolutionDescriptor<TestdataShadowingChainedSolution> solutionDescriptor =
+                TestdataShadowingChainedSolution.buildSolutionDescriptor();
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> buildMoveSelector(solutionDescriptor, new RuinRecreateMoveSelectorConfig(),
+                        SelectionOrder.RANDOM))
+                .withMessageContaining("does not support the chained variable");
+    }
+
+    @Test
+    void uncountableValueRangeUnsupported() {
+        SolutionDescriptor<TestdataSolution> solutionDescriptor = mock(SolutionDescriptor.class);
+        EntityDescriptor<TestdataSolution> entityDescriptor = mock(EntityDescriptor.class);
+        GenuineVariableDescriptor<TestdataSolution> variableDescriptor = mock(GenuineVariableDescriptor.class);
+        ValueRangeDescriptor<TestdataSolution> valueRangeDescriptor = mock(ValueRangeDescriptor.class);
+        when(solutionDescriptor.getGenuineEntityDescriptors()).thenReturn(List.of(entityDescriptor));
+        when(entityDescriptor.getGenuineVariableDescriptorList()).thenReturn(List.of(variableDescriptor));
+        when(variableDescriptor.getValueRangeDescriptor()).thenReturn(valueRangeDescriptor);
+        when(variableDescriptor.getSimpleEntityAndVariableName()).thenReturn("TestdataEntity.value");
+        when(valueRangeDescriptor.isCountable()).thenReturn(false);
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> buildMoveSelector(solutionDescriptor, new RuinRecreateMoveSelectorConfig(),
+                        SelectionOrder.RANDOM))
+                .withMessageContaining("needs a countable value range for the variable (TestdataEntity.value)");
+    }
+
+    private static <Solution_> MoveSelector<Solution_> buildMoveSelector(SolutionDescriptor<Solution_> solutionDescriptor,
+            RuinRecreateMoveSelectorConfig moveSelectorConfig, SelectionOrder selectionOrder) {
+        return MoveSelectorFactory.<Solution_> create(moveSelectorConfig)
+                .buildMoveSelector(buildHeuristicConfigPolicy(solutionDescriptor), SelectionCacheType.JUST_IN_TIME,
+                        selectionOrder);
+    }
+
+}
@@ -0,0 +1,201 @@
+package ai.timefold.solver.core.impl.heuristic.selector.move.generic;
+
+import static ai.timefold.solver.core.impl.heuristic.selector.SelectorTestUtils.doInsideStep;
+import static ai.timefold.solver.core.impl.heuristic.selector.SelectorTestUtils.phaseStarted;
+import static ai.timefold.solver.core.impl.heuristic.selector.SelectorTestUtils.solvingStarted;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.config.heuristic.selector.move.generic.RuinSelectionType;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import ai.timefold.solver.core.impl.heuristic.move.Move;
+import ai.timefold.solver.core.impl.heuristic.selector.move.generic.list.ListRuinRecreateMove;
+import ai.timefold.solver.core.impl.phase.scope.AbstractPhaseScope;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.solver.scope.SolverScope;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataEntity;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataValue;
+import ai.timefold.solver.core.impl.testdata.domain.list.TestdataListEntity;
+import ai.timefold.solver.core.impl.testdata.domain.list.TestdataListSolution;
+import ai.timefold.solver.core.impl.testdata.domain.list.TestdataListValue;
+import ai.timefold.solver.core.impl.testdata.domain.pinned.TestdataPinnedEntity;
+import ai.timefold.solver.core.impl.testdata.domain.pinned.TestdataPinnedSolution;
+import ai.timefold.solver.core.impl.testutil.TestRandom;
+
+import org.junit.jupiter.api.Test;
+
+class RuinRecreateMoveSelectorTest {
+
+    @Test
+    void randomSelection() {
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataEntity a = new TestdataEntity("a", v1);
+        TestdataEntity b = new TestdataEntity("b", v1);
+        TestdataEntity c = new TestdataEntity("c", v2);
+        TestdataEntity d = new TestdataEntity("d", v2);
+        TestdataSolution solution = new TestdataSolution("s");
+        solution.setValueList(Arrays.asList(v1, v2));
+        solution.setEntityList(Arrays.asList(a, b, c, d));
+
+        RuinRecreateMoveSelector<TestdataSolution> moveSelector = new RuinRecreateMoveSelector<>(
+                TestdataEntity.buildVariableDescriptorForValue(), 2, 3, RuinSelectionType.RANDOM);
+        // Ruins 2 + 1 entities: c (index 0 + 2), b (index 1 + 0) and then d (index 2 + 1).
+        TestRandom workingRandom = new TestRandom(1, 2, 0, 1);
+        SolverScope<TestdataSolution> solverScope = solvingStarted(moveSelector, mockScoreDirector(solution), workingRandom);
+        AbstractPhaseScope<TestdataSolution> phaseScope = phaseStarted(moveSelector, solverScope);
+
+        doInsideStep(moveSelector, phaseScope, selector -> {
+            assertThat(selector.getSize()).isEqualTo(4L);
+            assertThat(selectRuinedEntities(selector)).containsExactly(c, b, d);
+        });
+
+        // Ruins 2 + 0 entities, from the entities in their original order again.
+        workingRandom.reset(0, 0, 0);
+        doInsideStep(moveSelector, phaseScope, selector -> assertThat(selectRuinedEntities(selector)).containsExactly(a, b));
+
+        moveSelector.phaseEnded(phaseScope);
+        moveSelector.solvingEnded(solverScope);
+    }
+
+    @Test
+    void relatedSelection() {
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataValue v3 = new TestdataValue("v3");
+        TestdataEntity a = new TestdataEntity("a", v1);
+        TestdataEntity b = new TestdataEntity("b", v2);
+        TestdataEntity c = new TestdataEntity("c", v1);
+        TestdataEntity d = new TestdataEntity("d", v3);
+        TestdataSolution solution = new TestdataSolution("s");
+        solution.setValueList(Arrays.asList(v1, v2, v3));
+        solution.setEntityList(Arrays.asList(a, b, c, d));
+
+        RuinRecreateMoveSelector<TestdataSolution> moveSelector = new RuinRecreateMoveSelector<>(
+                TestdataEntity.buildVariableDescriptorForValue(), 3, 3, RuinSelectionType.RELATED);
+        // The seed entity a (index 0), then c which shares its value, then d (index 1) of the unrelated b and d.
+        TestRandom workingRandom = new TestRandom(0, 0, 0, 1);
+        SolverScope<TestdataSolution> solverScope = solvingStarted(moveSelector, mockScoreDirector(solution), workingRandom);
+        AbstractPhaseScope<TestdataSolution> phaseScope = phaseStarted(moveSelector, solverScope);
+
+        doInsideStep(moveSelector, phaseScope,
+                selector -> assertThat(selectRuinedEntities(selector)).containsExactly(a, c, d));
+
+        moveSelector.phaseEnded(phaseScope);
+        moveSelector.solvingEnded(solverScope);
+    }
+
+    @Test
+    void ruinedCountIsLimitedToMovableEntities() {
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataPinnedEntity a = new TestdataPinnedEntity("a", v1, false, false);
+        TestdataPinnedEntity b = new TestdataPinnedEntity("b", v1, false, true);
+        TestdataPinnedEntity c = new TestdataPinnedEntity("c", v1, true, false);
+        TestdataPinnedEntity d = new TestdataPinnedEntity("d", v1, false, false);
+        TestdataPinnedSolution solution = new TestdataPinnedSolution("s");
+        solution.setValueList(List.of(v1));
+        solution.setEntityList(Arrays.asList(a, b, c, d));
+
+        GenuineVariableDescriptor<TestdataPinnedSolution> variableDescriptor =
+                TestdataPinnedEntity.buildEntityDescriptor().getGenuineVariableDescriptor("value");
+        RuinRecreateMoveSelector<TestdataPinnedSolution> moveSelector =
+                new RuinRecreateMoveSelector<>(variableDescriptor, 5, 5, RuinSelectionType.RANDOM);
+        // The pinned b and the locked c are never ruined, so only 2 of the 5 entities are.
+        TestRandom workingRandom = new TestRandom(0, 1, 0);
+        SolverScope<TestdataPinnedSolution> solverScope =
+                solvingStarted(moveSelector, mockScoreDirector(solution), workingRandom);
+        AbstractPhaseScope<TestdataPinnedSolution> phaseScope = phaseStarted(moveSelector, solverScope);
+
+        doInsideStep(moveSelector, phaseScope, selector -> {
+            assertThat(selector.getSize()).isEqualTo(2L);
+            assertThat(selectRuinedEntities(selector)).containsExactly(d, a);
+        });
+
+        moveSelector.phaseEnded(phaseScope);
+        moveSelector.solvingEnded(solverScope);
+    }
+
+    @Test
+    void movableEntitiesAreCachedPerStep() {
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataEntity a = new TestdataEntity("a", v1);
+        TestdataEntity b = new TestdataEntity("b", v1);
+        TestdataSolution solution = new TestdataSolution("s");
+        solution.setValueList(List.of(v1));
+        solution.setEntityList(new ArrayList<>(List.of(a, b)));
+
+        RuinRecreateMoveSelector<TestdataSolution> moveSelector = new RuinRecreateMoveSelector<>(
+                TestdataEntity.buildVariableDescriptorForValue(), 1, 1, RuinSelectionType.RANDOM);
+        SolverScope<TestdataSolution> solverScope =
+                solvingStarted(moveSelector, mockScoreDirector(solution), new TestRandom(0));
+        AbstractPhaseScope<TestdataSolution> phaseScope = phaseStarted(moveSelector, solverScope);
+
+        TestdataEntity c = new TestdataEntity("c", v1);
+        doInsideStep(moveSelector, phaseScope, selector -> {
+            assertThat(selector.getSize()).isEqualTo(2L);
+            solution.getEntityList().add(c);
+            // Not visible until the next step.
+            assertThat(selector.getSize()).isEqualTo(2L);
+        });
+        doInsideStep(moveSelector, phaseScope, selector -> assertThat(selector.getSize()).isEqualTo(3L));
+
+        moveSelector.phaseEnded(phaseScope);
+        moveSelector.solvingEnded(solverScope);
+    }
+
+    @Test
+    void listVariableRelatedSelection() {
+        TestdataListValue v1 = new TestdataListValue("v1");
+        TestdataListValue v2 = new TestdataListValue("v2");
+        TestdataListValue v3 = new TestdataListValue("v3");
+        TestdataListValue v4 = new TestdataListValue("v4");
+        TestdataListEntity e1 = TestdataListEntity.createWithValues("e1", v1, v2, v3);
+        TestdataListEntity e2 = TestdataListEntity.createWithValues("e2", v4);
+        TestdataListSolution solution = new TestdataListSolution();
+        solution.setValueList(Arrays.asList(v1, v2, v3, v4));
+        solution.setEntityList(Arrays.asList(e1, e2));
+
+        ListVariableDescriptor<TestdataListSolution> variableDescriptor =
+                TestdataListEntity.buildVariableDescriptorForValueList();
+        RuinRecreateMoveSelector<TestdataListSolution> moveSelector =
+                new RuinRecreateMoveSelector<>(variableDescriptor, 2, 2, RuinSelectionType.RELATED);
+        // The seed element e1[1], then the string e1[1..2], of which e1[1] and then e1[2] are ruined.
+        TestRandom workingRandom = new TestRandom(0, 1, 1, 0, 0);
+        SolverScope<TestdataListSolution> solverScope =
+                solvingStarted(moveSelector, mockScoreDirector(solution), workingRandom);
+        AbstractPhaseScope<TestdataListSolution> phaseScope = phaseStarted(moveSelector, solverScope);
+
+        doInsideStep(moveSelector, phaseScope, selector -> {
+            assertThat(selector.getSize()).isEqualTo(4L);
+            Move<TestdataListSolution> move = selector.iterator().next();
+            assertThat(move).isInstanceOf(ListRuinRecreateMove.class);
+            assertThat(((ListRuinRecreateMove<TestdataListSolution>) move).getRuinedElementList())
+                    .containsExactly(v2, v3);
+            assertThat(move.getPlanningEntities()).containsExactly(e1);
+        });
+
+        moveSelector.phaseEnded(phaseScope);
+        moveSelector.solvingEnded(solverScope);
+    }
+
+    private static <Solution_> InnerScoreDirector<Solution_, SimpleScore> mockScoreDirector(Solution_ solution) {
+        InnerScoreDirector<Solution_, SimpleScore> scoreDirector = mock(InnerScoreDirector.class);
+        when(scoreDirector.getWorkingSolution()).thenReturn(solution);
+        return scoreDirector;
+    }
+
+    private static <Solution_> List<Object> selectRuinedEntities(RuinRecreateMoveSelector<Solution_> moveSelector) {
+        Move<Solution_> move = moveSelector.iterator().next();
+        assertThat(move).isInstanceOf(RuinRecreateMove.class);
+        return ((RuinRecreateMove<Solution_>) move).getRuinedEntityList();
+    }
+
+}
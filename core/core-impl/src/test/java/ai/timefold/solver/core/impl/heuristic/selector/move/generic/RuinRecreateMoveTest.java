@@ -0,0 +1,99 @@
+package ai.timefold.solver.core.impl.heuristic.selector.move.generic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import ai.timefold.solver.core.impl.heuristic.move.Move;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.score.director.easy.EasyScoreDirectorFactory;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataEntity;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataValue;
+
+import org.junit.jupiter.api.Test;
+
+class RuinRecreateMoveTest {
+
+    @Test
+    void doMoveAndUndo() {
+        GenuineVariableDescriptor<TestdataSolution> variableDescriptor = TestdataEntity.buildVariableDescriptorForValue();
+        InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector = buildScoreDirector(variableDescriptor);
+
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataValue v3 = new TestdataValue("v3");
+        TestdataEntity a = new TestdataEntity("a", v1);
+        TestdataEntity b = new TestdataEntity("b", v1);
+        TestdataEntity c = new TestdataEntity("c", v1);
+        TestdataSolution solution = new TestdataSolution("s");
+        solution.setValueList(Arrays.asList(v1, v2, v3));
+        solution.setEntityList(Arrays.asList(a, b, c));
+        scoreDirector.setWorkingSolution(solution);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-3));
+
+        RuinRecreateMove<TestdataSolution> move = new RuinRecreateMove<>(variableDescriptor, Arrays.asList(a, b, c));
+        Move<TestdataSolution> undoMove = move.doMove(scoreDirector);
+        assertThat(a.getValue()).isSameAs(v1);
+        assertThat(b.getValue()).isSameAs(v2);
+        assertThat(c.getValue()).isSameAs(v3);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.ZERO);
+
+        Move<TestdataSolution> redoMove = undoMove.doMove(scoreDirector);
+        assertThat(a.getValue()).isSameAs(v1);
+        assertThat(b.getValue()).isSameAs(v1);
+        assertThat(c.getValue()).isSameAs(v1);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-3));
+        // Value tabu reads the planning values after the undo.
+        assertThat(move.getPlanningValues()).containsExactly(v1, v2, v3);
+
+        redoMove.doMoveOnly(scoreDirector);
+        assertThat(a.getValue()).isSameAs(v1);
+        assertThat(b.getValue()).isSameAs(v2);
+        assertThat(c.getValue()).isSameAs(v3);
+    }
+
+    @Test
+    void emptyValueRangeFailsFast() {
+        GenuineVariableDescriptor<TestdataSolution> variableDescriptor = TestdataEntity.buildVariableDescriptorForValue();
+        InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector = buildScoreDirector(variableDescriptor);
+
+        TestdataEntity a = new TestdataEntity("a", null);
+        TestdataSolution solution = new TestdataSolution("s");
+        solution.setValueList(Collections.emptyList());
+        solution.setEntityList(Arrays.asList(a));
+        scoreDirector.setWorkingSolution(solution);
+
+        RuinRecreateMove<TestdataSolution> move = new RuinRecreateMove<>(variableDescriptor, Arrays.asList(a));
+        assertThatIllegalStateException()
+                .isThrownBy(() -> move.doMove(scoreDirector))
+                .withMessageContaining("empty value range");
+    }
+
+    private static InnerScoreDirector<TestdataSolution, SimpleScore> buildScoreDirector(
+            GenuineVariableDescriptor<TestdataSolution> variableDescriptor) {
+        // Penalizes every pair of entities with the same value.
+        EasyScoreDirectorFactory<TestdataSolution, SimpleScore> scoreDirectorFactory =
+                new EasyScoreDirectorFactory<>(variableDescriptor.getEntityDescriptor().getSolutionDescriptor(),
+                        solution -> {
+                            int conflictCount = 0;
+                            List<TestdataEntity> entityList = solution.getEntityList();
+                            for (int i = 0; i < entityList.size(); i++) {
+                                for (int j = i + 1; j < entityList.size(); j++) {
+                                    TestdataValue value = entityList.get(i).getValue();
+                                    if (value != null && value == entityList.get(j).getValue()) {
+                                        conflictCount++;
+                                    }
+                                }
+                            }
+                            return SimpleScore.of(-conflictCount);
+                        });
+        return scoreDirectorFactory.buildScoreDirector(false, false);
+    }
+
+}
@@ -0,0 +1,67 @@
+package ai.timefold.solver.core.impl.heuristic.selector.move.generic.list;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import ai.timefold.solver.core.impl.heuristic.move.Move;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.score.director.easy.EasyScoreDirectorFactory;
+import ai.timefold.solver.core.impl.testdata.domain.list.TestdataListEntity;
+import ai.timefold.solver.core.impl.testdata.domain.list.TestdataListSolution;
+import ai.timefold.solver.core.impl.testdata.domain.list.TestdataListValue;
+
+import org.junit.jupiter.api.Test;
+
+class ListRuinRecreateMoveTest {
+
+    @Test
+    void doMoveAndUndo() {
+        ListVariableDescriptor<TestdataListSolution> variableDescriptor =
+                TestdataListEntity.buildVariableDescriptorForValueList();
+        // Penalizes long lists, so the recreate spreads the elements over the entities.
+        EasyScoreDirectorFactory<TestdataListSolution, SimpleScore> scoreDirectorFactory =
+                new EasyScoreDirectorFactory<>(variableDescriptor.getEntityDescriptor().getSolutionDescriptor(),
+                        solution -> {
+                            int penalty = 0;
+                            for (TestdataListEntity entity : solution.getEntityList()) {
+                                penalty += entity.getValueList().size() * entity.getValueList().size();
+                            }
+                            return SimpleScore.of(-penalty);
+                        });
+        InnerScoreDirector<TestdataListSolution, SimpleScore> scoreDirector =
+                scoreDirectorFactory.buildScoreDirector(false, false);
+
+        TestdataListValue v1 = new TestdataListValue("v1");
+        TestdataListValue v2 = new TestdataListValue("v2");
+        TestdataListValue v3 = new TestdataListValue("v3");
+        TestdataListEntity e1 = TestdataListEntity.createWithValues("e1", v1, v2, v3);
+        TestdataListEntity e2 = TestdataListEntity.createWithValues("e2");
+        TestdataListSolution solution = new TestdataListSolution();
+        solution.setValueList(Arrays.asList(v1, v2, v3));
+        solution.setEntityList(Arrays.asList(e1, e2));
+        scoreDirector.setWorkingSolution(solution);
+
+        // Ruins e1[0] and e1[1], then recreates v1 before v2.
+        ListRuinRecreateMove<TestdataListSolution> move = new ListRuinRecreateMove<>(variableDescriptor,
+                List.of(v1, v2), List.of(e1, e1), new int[] { 0, 1 });
+        Move<TestdataListSolution> undoMove = move.doMove(scoreDirector);
+        assertThat(e1.getValueList()).containsExactly(v2, v3);
+        assertThat(e2.getValueList()).containsExactly(v1);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-5));
+
+        Move<TestdataListSolution> redoMove = undoMove.doMove(scoreDirector);
+        assertThat(e1.getValueList()).containsExactly(v1, v2, v3);
+        assertThat(e2.getValueList()).isEmpty();
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-9));
+
+        redoMove.doMoveOnly(scoreDirector);
+        assertThat(e1.getValueList()).containsExactly(v2, v3);
+        assertThat(e2.getValueList()).containsExactly(v1);
+        assertThat(move.getPlanningEntities()).containsExactly(e1);
+    }
+
+}
@@ -1,6 +1,7 @@
 package ai.timefold.solver.core.impl.score.director.easy;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
@@ -11,7 +12,11 @@ import java.util.Arrays;
 import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
 import ai.timefold.solver.core.config.score.trend.InitializingScoreTrendLevel;
 import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import ai.timefold.solver.core.impl.heuristic.selector.move.generic.ChangeMove;
 import ai.timefold.solver.core.impl.score.trend.InitializingScoreTrend;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataEntity;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
 import ai.timefold.solver.core.impl.testdata.domain.TestdataValue;
 import ai.timefold.solver.core.impl.testdata.domain.shadow.corrupted.TestdataCorruptedShadowedEntity;
 import ai.timefold.solver.core.impl.testdata.domain.shadow.corrupted.TestdataCorruptedShadowedSolution;
@@ -67,4 +72,34 @@ class EasyScoreDirectorTest {
                 () -> scoreDirector.assertShadowVariablesAreNotStale(SimpleScore.ofUninitialized(0, 0), "FirstChange"))
                 .isInstanceOf(IllegalStateException.class);
     }
+
+    @Test
+    void doAndProcessMoveLazilyUndoesMoveWhenProcessorFails() {
+        EasyScoreDirectorFactory<TestdataSolution, SimpleScore> scoreDirectorFactory =
+                new EasyScoreDirectorFactory<>(TestdataSolution.buildSolutionDescriptor(),
+                        solution -> SimpleScore.of(-solution.getEntityList().stream()
+                                .mapToInt(entity -> solution.getValueList().indexOf(entity.getValue()))
+                                .sum()));
+        EasyScoreDirector<TestdataSolution, SimpleScore> scoreDirector =
+                scoreDirectorFactory.buildScoreDirector(false, false);
+        TestdataSolution solution = TestdataSolution.generateSolution(2, 2);
+        scoreDirector.setWorkingSolution(solution);
+        TestdataEntity entity = solution.getEntityList().get(0);
+        TestdataValue originalValue = entity.getValue();
+        GenuineVariableDescriptor<TestdataSolution> variableDescriptor = scoreDirectorFactory.getSolutionDescriptor()
+                .findEntityDescriptorOrFail(TestdataEntity.class)
+                .getGenuineVariableDescriptor("value");
+        ChangeMove<TestdataSolution> move = new ChangeMove<>(variableDescriptor, entity, solution.getValueList().get(1));
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> scoreDirector.doAndProcessMoveLazily(move, false, () -> {
+                    assertThat(scoreDirector.getMoveScore()).isEqualTo(SimpleScore.of(-2));
+                    throw new IllegalArgumentException("Processor failure.");
+                }));
+        // The move is undone and the move score of the failed move is no longer available.
+        assertThat(entity.getValue()).isSameAs(originalValue);
+        assertThatIllegalStateException()
+                .isThrownBy(scoreDirector::getMoveScore)
+                .withMessageContaining("only available");
+    }
 }
@@ -0,0 +1,388 @@
+package ai.timefold.solver.core.impl.score.stream.collector.range;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.TreeMap;
+
+import ai.timefold.solver.core.api.score.stream.common.ConnectedRange;
+import ai.timefold.solver.core.api.score.stream.common.RangeGap;
+import ai.timefold.solver.core.impl.score.stream.collector.IterableList;
+
+import org.junit.jupiter.api.Test;
+
+class ConnectedRangeTrackerTest {
+    private static class TestInterval {
+        int start;
+        int end;
+
+        public TestInterval(int start, int end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        public int getStart() {
+            return start;
+        }
+
+        public int getEnd() {
+            return end;
+        }
+
+        public void setStart(int start) {
+            this.start = start;
+        }
+
+        public void setEnd(int end) {
+            this.end = end;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (o == null || getClass() != o.getClass())
+                return false;
+            TestInterval interval = (TestInterval) o;
+            return start == interval.start && end == interval.end;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(start, end);
+        }
+
+        @Override
+        public String toString() {
+            return "(" + start + ", " + end + ")";
+        }
+    }
+
+    private ConnectedRangeTracker<TestInterval, Integer, Integer> getIntegerConnectedRangeTracker() {
+        return new ConnectedRangeTracker<>(TestInterval::getStart, TestInterval::getEnd, (a, b) -> b - a);
+    }
+
+    @Test
+    void testNonConnectedRanges() {
+        ConnectedRangeTracker<TestInterval, Integer, Integer> tree = getIntegerConnectedRangeTracker();
+        Range<TestInterval, Integer> a = tree.getRange(new TestInterval(0, 2));
+        Range<TestInterval, Integer> b = tree.getRange(new TestInterval(3, 4));
+        Range<TestInterval, Integer> c = tree.getRange(new TestInterval(5, 7));
+        tree.add(a);
+        tree.add(b);
+        tree.add(c);
+
+        IterableList<ConnectedRange<TestInterval, Integer, Integer>> connectedRangeList =
+                new IterableList<>(tree.getConnectedRangeChain().getConnectedRanges());
+        assertThat(connectedRangeList).hasSize(3);
+
+        assertThat(connectedRangeList.get(0)).containsExactly(new TestInterval(0, 2));
+        assertThat(connectedRangeList.get(0).hasOverlap()).isFalse();
+
+        assertThat(connectedRangeList.get(1)).containsExactly(new TestInterval(3, 4));
+        assertThat(connectedRangeList.get(1).hasOverlap()).isFalse();
+
+        assertThat(connectedRangeList.get(2)).containsExactly(new TestInterval(5, 7));
+        assertThat(connectedRangeList.get(2).hasOverlap()).isFalse();
+
+        verifyGaps(tree);
+    }
+
+    @Test
+    void testConnectedRanges() {
+        ConnectedRangeTracker<TestInterval, Integer, Integer> tree = getIntegerConnectedRangeTracker();
+        Range<TestInterval, Integer> a = tree.getRange(new TestInterval(0, 2));
+        Range<TestInterval, Integer> b = tree.getRange(new TestInterval(2, 4));
+        Range<TestInterval, Integer> c = tree.getRange(new TestInterval(4, 7));
+        tree.add(a);
+        tree.add(b);
+        tree.add(c);
+
+        IterableList<ConnectedRange<TestInterval, Integer, Integer>> connectedRangeList =
+                new IterableList<>(tree.getConnectedRangeChain().getConnectedRanges());
+        assertThat(connectedRangeList).hasSize(1);
+
+        assertThat(connectedRangeList.get(0)).containsExactly(new TestInterval(0, 2), new TestInterval(2, 4), new TestInterval(4, 7));
+        verifyGaps(tree);
+    }
+
+    @Test
+    void testDuplicateRanges() {
+        ConnectedRangeTracker<TestInterval, Integer, Integer> tree = getIntegerConnectedRangeTracker();
+        Range<TestInterval, Integer> a = tree.getRange(new TestInterval(0, 2));
+        Range<TestInterval, Integer> b = tree.getRange(new TestInterval(4, 7));
+        tree.add(a);
+        tree.add(a);
+        tree.add(b);
+
+        IterableList<ConnectedRange<TestInterval, Integer, Integer>> connectedRangeList =
+                new IterableList<>(tree.getConnectedRangeChain().getConnectedRanges());
+        assertThat(connectedRangeList).hasSize(2);
+
+        assertThat(connectedRangeList.get(0)).containsExactly(a.getValue(), a.getValue());
+        assertThat(connectedRangeList.get(1)).containsExactly(b.getValue());
+        verifyGaps(tree);
+    }
+
+    @Test
+    void testRangeRemoval() {
+        ConnectedRangeTracker<TestInterval, Integer, Integer> tree = getIntegerConnectedRangeTracker();
+        TestInterval removedRange = new TestInterval(2, 4);
+        Range<TestInterval, Integer> a = tree.getRange(new TestInterval(0, 2));
+        Range<TestInterval, Integer> b = tree.getRange(removedRange);
+        Range<TestInterval, Integer> c = tree.getRange(new TestInterval(4, 7));
+        tree.add(a);
+        tree.add(b);
+        tree.add(c);
+
+        // Imitate changing planning variables
+        removedRange.setStart(10);
+        removedRange.setEnd(12);
+
+        tree.remove(b);
+
+        IterableList<ConnectedRange<TestInterval, Integer, Integer>> connectedRangeList =
+                new IterableList<>(tree.getConnectedRangeChain().getConnectedRanges());
+        assertThat(connectedRangeList).hasSize(2);
+
+        assertThat(connectedRangeList.get(0)).containsExactly(new TestInterval(0, 2));
+        assertThat(connectedRangeList.get(1)).containsExactly(new TestInterval(4, 7));
+        verifyGaps(tree);
+    }
+
+    @Test
+    void testRangeAddUpdatingOldGap() {
+        ConnectedRangeTracker<TestInterval, Integer, Integer> tree = getIntegerConnectedRangeTracker();
+        TestInterval beforeAll = new TestInterval(1, 2);
+        TestInterval newStart = new TestInterval(3, 8);
+        TestInterval oldStart = new TestInterval(4, 5);
+        TestInterval betweenOldAndNewStart = new TestInterval(6, 7);
+        TestInterval afterAll = new TestInterval(9, 10);
+
+        tree.add(tree.getRange(beforeAll));
+        verifyGaps(tree);
+
+        tree.add(tree.getRange(afterAll));
+        verifyGaps(tree);
+
+        tree.add(tree.getRange(oldStart));
+        verifyGaps(tree);
+
+        tree.add(tree.getRange(betweenOldAndNewStart));
+        verifyGaps(tree);
+
+        tree.add(tree.getRange(newStart));
+        verifyGaps(tree);
+    }
+
+    @Test
+    void testOverlappingRange() {
+        ConnectedRangeTracker<TestInterval, Integer, Integer> tree = getIntegerConnectedRangeTracker();
+        Range<TestInterval, Integer> a = tree.getRange(new TestInterval(0, 2));
+        TestInterval removedTestInterval1 = new TestInterval(1, 3);
+        Range<TestInterval, Integer> removedRange1 = tree.getRange(removedTestInterval1);
+        Range<TestInterval, Integer> c = tree.getRange(new TestInterval(2, 4));
+
+        Range<TestInterval, Integer> d = tree.getRange(new TestInterval(5, 6));
+
+        Range<TestInterval, Integer> e = tree.getRange(new TestInterval(7, 9));
+        TestInterval removedTestInterval2 = new TestInterval(7, 9);
+        Range<TestInterval, Integer> removedRange2 = tree.getRange(removedTestInterval2);
+
+        tree.add(a);
+        tree.add(removedRange1);
+        tree.add(c);
+        tree.add(d);
+        tree.add(e);
+        tree.add(removedRange2);
+
+        IterableList<ConnectedRange<TestInterval, Integer, Integer>> connectedRangeList =
+                new IterableList<>(tree.getConnectedRangeChain().getConnectedRanges());
+        assertThat(connectedRangeList).hasSize(3);
+
+        assertThat(connectedRangeList.get(0)).containsExactly(a.getValue(), removedTestInterval1, c.getValue());
+        assertThat(connectedRangeList.get(0).hasOverlap()).isTrue();
+
+        assertThat(connectedRangeList.get(1)).containsExactly(d.getValue());
+        assertThat(connectedRangeList.get(1).hasOverlap()).isFalse();
+
+        assertThat(connectedRangeList.get(2)).containsExactly(e.getValue(), removedTestInterval2);
+        assertThat(connectedRangeList.get(2).hasOverlap()).isTrue();
+
+        verifyGaps(tree);
+
+        // Simulate changing planning variables
+        removedTestInterval1.setStart(0);
+        removedTestInterval1.setEnd(10);
+
+        tree.remove(removedRange1);
+
+        connectedRangeList = new IterableList<>(tree.getConnectedRangeChain().getConnectedRanges());
+        assertThat(connectedRangeList).hasSize(3);
+
+        assertThat(connectedRangeList.get(0)).containsExactly(a.getValue(), c.getValue());
+        assertThat(connectedRangeList.get(0).hasOverlap()).isFalse();
+
+        assertThat(connectedRangeList.get(1)).containsExactly(d.getValue());
+        assertThat(connectedRangeList.get(1).hasOverlap()).isFalse();
+
+        assertThat(connectedRangeList.get(2)).containsExactly(e.getValue(), removedTestInterval2);
+        assertThat(connectedRangeList.get(2).hasOverlap()).isTrue();
+
+        verifyGaps(tree);
+
+        // Simulate changing planning variables
+        removedTestInterval2.setStart(2);
+        removedTestInterval2.setEnd(4);
+
+        tree.remove(removedRange2);
+        connectedRangeList = new IterableList<>(tree.getConnectedRangeChain().getConnectedRanges());
+        assertThat(connectedRangeList).hasSize(3);
+
+        assertThat(connectedRangeList.get(0)).containsExactly(a.getValue(), c.getValue());
+        assertThat(connectedRangeList.get(0).hasOverlap()).isFalse();
+
+        assertThat(connectedRangeList.get(1)).containsExactly(d.getValue());
+        assertThat(connectedRangeList.get(1).hasOverlap()).isFalse();
+
+        assertThat(connectedRangeList.get(2)).containsExactly(e.getValue());
+        assertThat(connectedRangeList.get(2).hasOverlap()).isFalse();
+
+        verifyGaps(tree);
+        Range<TestInterval, Integer> g = tree.getRange(new TestInterval(6, 7));
+        tree.add(g);
+        connectedRangeList = new IterableList<>(tree.getConnectedRangeChain().getConnectedRanges());
+        assertThat(connectedRangeList).hasSize(2);
+
+        assertThat(connectedRangeList.get(0)).containsExactly(a.getValue(), c.getValue());
+        assertThat(connectedRangeList.get(0).hasOverlap()).isFalse();
+
+        assertThat(connectedRangeList.get(1)).containsExactly(d.getValue(), g.getValue(), e.getValue());
+        assertThat(connectedRangeList.get(1).hasOverlap()).isFalse();
+    }
+
+    public void verifyGaps(ConnectedRangeTracker<TestInterval, Integer, Integer> tree) {
+        IterableList<ConnectedRange<TestInterval, Integer, Integer>> connectedRangeList =
+                new IterableList<>(tree.getConnectedRangeChain().getConnectedRanges());
+        IterableList<RangeGap<TestInterval, Integer, Integer>> gapList =
+                new IterableList<>(tree.getConnectedRangeChain().getGaps());
+
+        if (connectedRangeList.size() == 0) {
+            return;
+        }
+        assertThat(gapList).hasSize(connectedRangeList.size() - 1);
+        for (int i = 0; i < connectedRangeList.size() - 1; i++) {
+            assertThat(gapList.get(i).getPreviousConnectedRange()).isSameAs(connectedRangeList.get(i));
+            assertThat(gapList.get(i).getNextConnectedRange()).isSameAs(connectedRangeList.get(i + 1));
+            assertThat(gapList.get(i).getPreviousRangeEnd()).isEqualTo(connectedRangeList.get(i).getEnd());
+            assertThat(gapList.get(i).getNextRangeStart()).isEqualTo(connectedRangeList.get(i + 1).getStart());
+            assertThat(gapList.get(i).getLength()).isEqualTo(connectedRangeList.get(i + 1).getStart() - connectedRangeList.get(i).getEnd());
+        }
+    }
+
+    @Test
+    void testOverlapCount() {
+        ConnectedRangeTracker<TestInterval, Integer, Integer> tree = getIntegerConnectedRangeTracker();
+        Range<TestInterval, Integer> a = tree.getRange(new TestInterval(0, 10));
+        Range<TestInterval, Integer> b = tree.getRange(new TestInterval(1, 3));
+        Range<TestInterval, Integer> c = tree.getRange(new TestInterval(2, 4));
+        Range<TestInterval, Integer> d = tree.getRange(new TestInterval(6, 8));
+        tree.add(a);
+        tree.add(b);
+        tree.add(c);
+        tree.add(d);
+
+        IterableList<ConnectedRange<TestInterval, Integer, Integer>> connectedRangeList =
+                new IterableList<>(tree.getConnectedRangeChain().getConnectedRanges());
+        assertThat(connectedRangeList).hasSize(1);
+        assertThat(connectedRangeList.get(0).getContainedRangeCount()).isEqualTo(4);
+        assertThat(connectedRangeList.get(0).getMaximumOverlap()).isEqualTo(3);
+        assertThat(connectedRangeList.get(0).getLength()).isEqualTo(10);
+
+        tree.remove(a);
+        connectedRangeList = new IterableList<>(tree.getConnectedRangeChain().getConnectedRanges());
+        assertThat(connectedRangeList).hasSize(2);
+        assertThat(connectedRangeList.get(0)).containsExactly(b.getValue(), c.getValue());
+        assertThat(connectedRangeList.get(0).getContainedRangeCount()).isEqualTo(2);
+        assertThat(connectedRangeList.get(0).getMaximumOverlap()).isEqualTo(2);
+        assertThat(connectedRangeList.get(1)).containsExactly(d.getValue());
+        assertThat(connectedRangeList.get(1).getContainedRangeCount()).isEqualTo(1);
+        assertThat(connectedRangeList.get(1).getMaximumOverlap()).isEqualTo(1);
+        verifyGaps(tree);
+    }
+
+    // Compare the incremental version with a version recomputed from scratch
+    @Test
+    void testRandomRanges() {
+        Random random = new Random(1);
+
+        for (int i = 0; i < 100; i++) {
+            ConnectedRangeTracker<TestInterval, Integer, Integer> tree = getIntegerConnectedRangeTracker();
+            List<Range<TestInterval, Integer>> addedRangeList = new ArrayList<>();
+            for (int j = 0; j < 100; j++) {
+                String op;
+                if (!addedRangeList.isEmpty() && random.nextBoolean()) {
+                    Range<TestInterval, Integer> range = addedRangeList.remove(random.nextInt(addedRangeList.size()));
+                    op = "Remove range " + range;
+                    tree.remove(range);
+                } else {
+                    int from = random.nextInt(20);
+                    int to = from + random.nextInt(5);
+                    Range<TestInterval, Integer> range = tree.getRange(new TestInterval(from, to));
+                    op = "Add range " + range;
+                    addedRangeList.add(range);
+                    tree.add(range);
+                }
+
+                List<int[]> expectedList = recompute(addedRangeList);
+                IterableList<ConnectedRange<TestInterval, Integer, Integer>> connectedRangeList =
+                        new IterableList<>(tree.getConnectedRangeChain().getConnectedRanges());
+                assertThat(connectedRangeList).as(op).hasSize(expectedList.size());
+                for (int k = 0; k < expectedList.size(); k++) {
+                    ConnectedRange<TestInterval, Integer, Integer> connectedRange = connectedRangeList.get(k);
+                    int[] expected = expectedList.get(k);
+                    assertThat(connectedRange.getStart()).as(op).isEqualTo(expected[0]);
+                    assertThat(connectedRange.getEnd()).as(op).isEqualTo(expected[1]);
+                    assertThat(connectedRange.getContainedRangeCount()).as(op).isEqualTo(expected[2]);
+                    assertThat(connectedRange).as(op).hasSize(expected[2]);
+                    assertThat(connectedRange.getMaximumOverlap()).as(op).isEqualTo(expected[3]);
+                }
+                verifyGaps(tree);
+            }
+        }
+    }
+
+    /**
+     * @return for every connected range, its start, end, number of ranges and maximum overlap
+     */
+    private static List<int[]> recompute(List<Range<TestInterval, Integer>> rangeList) {
+        TreeMap<Integer, Integer> pointToDeltaMap = new TreeMap<>();
+        TreeMap<Integer, Integer> pointToStartCountMap = new TreeMap<>();
+        for (Range<TestInterval, Integer> range : rangeList) {
+            pointToDeltaMap.merge(range.getStart(), 1, Integer::sum);
+            pointToDeltaMap.merge(range.getEnd(), -1, Integer::sum);
+            pointToStartCountMap.merge(range.getStart(), 1, Integer::sum);
+        }
+        List<int[]> connectedRangeList = new ArrayList<>();
+        int coverage = 0;
+        int[] current = null;
+        for (Integer point : pointToDeltaMap.keySet()) {
+            if (current == null) {
+                current = new int[] { point, point, 0, 1 };
+            }
+            coverage += pointToDeltaMap.get(point);
+            current[2] += pointToStartCountMap.getOrDefault(point, 0);
+            current[3] = Math.max(current[3], coverage);
+            if (coverage == 0) {
+                current[1] = point;
+                connectedRangeList.add(current);
+                current = null;
+            }
+        }
+        return connectedRangeList;
+    }
+
+}
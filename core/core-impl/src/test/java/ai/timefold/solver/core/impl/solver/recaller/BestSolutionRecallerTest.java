@@ -1,7 +1,10 @@
 package ai.timefold.solver.core.impl.solver.recaller;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import ai.timefold.solver.core.api.score.Score;
@@ -9,6 +12,9 @@ import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
 import ai.timefold.solver.core.impl.constructionheuristic.scope.ConstructionHeuristicPhaseScope;
 import ai.timefold.solver.core.impl.constructionheuristic.scope.ConstructionHeuristicStepScope;
 import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import ai.timefold.solver.core.impl.heuristic.move.Move;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
 import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
 import ai.timefold.solver.core.impl.solver.event.SolverEventSupport;
 import ai.timefold.solver.core.impl.solver.scope.SolverScope;
@@ -138,7 +144,7 @@ class BestSolutionRecallerTest {
         TestdataSolution moveSolution = mock(TestdataSolution.class);
         when(solverScope.getScoreDirector().getSolutionDescriptor().getScore(moveSolution))
                 .thenReturn(moveScore);
-        when(solverScope.getScoreDirector().cloneWorkingSolution()).thenReturn(moveSolution);
+        when(solverScope.getScoreDirector().cloneWorkingSolutionIncrementally()).thenReturn(moveSolution);
 
         BestSolutionRecaller<TestdataSolution> recaller = createBestSolutionRecaller();
         recaller.processWorkingSolutionDuringMove(moveScore, stepScope);
@@ -151,4 +157,52 @@ class BestSolutionRecallerTest {
         }
     }
 
+    @Test
+    void lazyBestSolutionIsMaterializedWhenThePhaseEnds() {
+        SolverScope<TestdataSolution> solverScope = createSolverScope();
+        TestdataSolution originalBestSolution = mock(TestdataSolution.class);
+        solverScope.setBestSolution(originalBestSolution);
+        solverScope.setBestScore(SimpleScore.of(-1));
+        InnerScoreDirector<TestdataSolution, ?> scoreDirector = solverScope.getScoreDirector();
+        TestdataSolution materializedBestSolution = mock(TestdataSolution.class);
+        when(scoreDirector.cloneWorkingSolutionIncrementally()).thenReturn(materializedBestSolution);
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = mock(LocalSearchPhaseScope.class);
+        when(phaseScope.getSolverScope()).thenReturn(solverScope);
+
+        SolverEventSupport<TestdataSolution> solverEventSupport = mock(SolverEventSupport.class);
+        BestSolutionRecaller<TestdataSolution> recaller = new BestSolutionRecaller<>();
+        recaller.setSolverEventSupport(solverEventSupport);
+        recaller.setLazyBestSolutionEventIntervalMillis(0L);
+
+        LocalSearchStepScope<TestdataSolution> improvingStepScope = mock(LocalSearchStepScope.class);
+        when(improvingStepScope.getPhaseScope()).thenReturn(phaseScope);
+        when(improvingStepScope.getScore()).thenReturn(SimpleScore.of(0));
+        Move<TestdataSolution> improvingUndoStep = mock(Move.class);
+        recaller.processWorkingSolutionDuringUndoableStep(improvingStepScope, improvingUndoStep);
+        // Nobody listens, so the new best solution is not cloned yet.
+        assertThat(solverScope.getBestSolution()).isSameAs(originalBestSolution);
+        assertThat(solverScope.getBestScore()).isEqualTo(SimpleScore.of(0));
+
+        LocalSearchStepScope<TestdataSolution> worseningStepScope = mock(LocalSearchStepScope.class);
+        when(worseningStepScope.getPhaseScope()).thenReturn(phaseScope);
+        when(worseningStepScope.getScore()).thenReturn(SimpleScore.of(-5));
+        Move<TestdataSolution> worseningUndoStep = mock(Move.class);
+        Move<TestdataSolution> worseningRedoStep = mock(Move.class);
+        when(worseningUndoStep.doMove(scoreDirector)).thenReturn(worseningRedoStep);
+        recaller.processWorkingSolutionDuringUndoableStep(worseningStepScope, worseningUndoStep);
+        assertThat(solverScope.getBestSolution()).isSameAs(originalBestSolution);
+        assertThat(solverScope.getBestScore()).isEqualTo(SimpleScore.of(0));
+
+        recaller.phaseEnded(phaseScope);
+        verify(improvingUndoStep, never()).doMove(any());
+        verify(worseningUndoStep).doMove(scoreDirector);
+        verify(worseningRedoStep).doMove(scoreDirector);
+        assertThat(solverScope.getBestSolution()).isSameAs(materializedBestSolution);
+        assertThat(solverScope.getBestScore()).isEqualTo(SimpleScore.of(0));
+        // The best score is known, so materializing it does not count as a score calculation.
+        verify(scoreDirector, never()).calculateScore();
+        verify(solverScope.getSolutionDescriptor()).setScore(materializedBestSolution, SimpleScore.of(0));
+        verify(solverEventSupport).fireBestSolutionChanged(solverScope, materializedBestSolution);
+    }
+
 }
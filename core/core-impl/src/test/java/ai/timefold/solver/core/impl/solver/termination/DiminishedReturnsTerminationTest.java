@@ -0,0 +1,177 @@
+package ai.timefold.solver.core.impl.solver.termination;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+
+import ai.timefold.solver.core.api.score.buildin.hardsoft.HardSoftScore;
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.impl.constructionheuristic.scope.ConstructionHeuristicPhaseScope;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
+import ai.timefold.solver.core.impl.phase.scope.AbstractPhaseScope;
+import ai.timefold.solver.core.impl.phase.scope.AbstractStepScope;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
+
+import org.junit.jupiter.api.Test;
+
+class DiminishedReturnsTerminationTest {
+
+    private static final long START_TIME_MILLIS = 0L;
+
+    @Test
+    void invalidParameters_exceptionIsThrown() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new DiminishedReturnsTermination<>(0L, 0.5))
+                .withMessageContaining("must be positive");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new DiminishedReturnsTermination<>(1000L, 0.0))
+                .withMessageContaining("must be above 0.0");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new DiminishedReturnsTermination<>(1000L, 1.5))
+                .withMessageContaining("at most 1.0");
+    }
+
+    @Test
+    void improvementSlowsDown_terminates() {
+        AbstractPhaseScope<TestdataSolution> phaseScope = mock(LocalSearchPhaseScope.class);
+        AbstractStepScope<TestdataSolution> stepScope = mock(LocalSearchStepScope.class);
+        Clock clock = mock(Clock.class);
+
+        Termination<TestdataSolution> termination = new DiminishedReturnsTermination<>(1000L, 0.1, clock);
+        doReturn(phaseScope).when(stepScope).getPhaseScope();
+        doReturn(SimpleScore.of(-100)).when(phaseScope).getStartingScore();
+        when(stepScope.getBestScoreImproved()).thenReturn(Boolean.TRUE);
+
+        when(clock.millis()).thenReturn(START_TIME_MILLIS);
+        termination.phaseStarted(phaseScope);
+
+        when(clock.millis()).thenReturn(START_TIME_MILLIS + 500L);
+        doReturn(SimpleScore.of(-50)).when(phaseScope).getBestScore();
+        termination.stepEnded(stepScope);
+        // The first sliding window has not passed yet.
+        assertThat(termination.isPhaseTerminated(phaseScope)).isFalse();
+
+        when(clock.millis()).thenReturn(START_TIME_MILLIS + 1000L);
+        assertThat(termination.isPhaseTerminated(phaseScope)).isFalse();
+
+        when(clock.millis()).thenReturn(START_TIME_MILLIS + 1800L);
+        doReturn(SimpleScore.of(-45)).when(phaseScope).getBestScore();
+        termination.stepEnded(stepScope);
+        // Improved by 5 during the last window, compared to 50 during the first window.
+        when(clock.millis()).thenReturn(START_TIME_MILLIS + 2000L);
+        assertThat(termination.isPhaseTerminated(phaseScope)).isFalse();
+
+        when(clock.millis()).thenReturn(START_TIME_MILLIS + 2600L);
+        doReturn(SimpleScore.of(-44)).when(phaseScope).getBestScore();
+        termination.stepEnded(stepScope);
+        // Improved by 1 during the last window, compared to 50 during the first window.
+        when(clock.millis()).thenReturn(START_TIME_MILLIS + 3000L);
+        assertThat(termination.isPhaseTerminated(phaseScope)).isTrue();
+    }
+
+    @Test
+    void lateFirstCheck_referenceIsTheFirstWindow() {
+        AbstractPhaseScope<TestdataSolution> phaseScope = mock(LocalSearchPhaseScope.class);
+        AbstractStepScope<TestdataSolution> stepScope = mock(LocalSearchStepScope.class);
+        Clock clock = mock(Clock.class);
+
+        Termination<TestdataSolution> termination = new DiminishedReturnsTermination<>(1000L, 0.5, clock);
+        doReturn(phaseScope).when(stepScope).getPhaseScope();
+        doReturn(SimpleScore.of(-100)).when(phaseScope).getStartingScore();
+        when(stepScope.getBestScoreImproved()).thenReturn(Boolean.TRUE);
+
+        when(clock.millis()).thenReturn(START_TIME_MILLIS);
+        termination.phaseStarted(phaseScope);
+
+        when(clock.millis()).thenReturn(START_TIME_MILLIS + 500L);
+        doReturn(SimpleScore.of(-50)).when(phaseScope).getBestScore();
+        termination.stepEnded(stepScope);
+        when(clock.millis()).thenReturn(START_TIME_MILLIS + 1500L);
+        doReturn(SimpleScore.of(-10)).when(phaseScope).getBestScore();
+        termination.stepEnded(stepScope);
+
+        // Checked for the first time long after the first sliding window.
+        // Improved by 40 during the last window, compared to 50 during the first window, not 90 since the start.
+        when(clock.millis()).thenReturn(START_TIME_MILLIS + 2000L);
+        assertThat(termination.isPhaseTerminated(phaseScope)).isFalse();
+    }
+
+    @Test
+    void uninitializedStartingScore_exceptionIsThrown() {
+        AbstractPhaseScope<TestdataSolution> phaseScope = mock(ConstructionHeuristicPhaseScope.class);
+        Clock clock = mock(Clock.class);
+
+        Termination<TestdataSolution> termination = new DiminishedReturnsTermination<>(1000L, 0.5, clock);
+        doReturn(SimpleScore.ofUninitialized(-2, 0)).when(phaseScope).getStartingScore();
+        assertThatIllegalStateException()
+                .isThrownBy(() -> termination.phaseStarted(phaseScope))
+                .withMessageContaining("starts from an initialized solution");
+    }
+
+    @Test
+    void noImprovementInWindow_terminates() {
+        AbstractPhaseScope<TestdataSolution> phaseScope = mock(LocalSearchPhaseScope.class);
+        AbstractStepScope<TestdataSolution> stepScope = mock(LocalSearchStepScope.class);
+        Clock clock = mock(Clock.class);
+
+        Termination<TestdataSolution> termination = new DiminishedReturnsTermination<>(1000L, 0.0001, clock);
+        doReturn(phaseScope).when(stepScope).getPhaseScope();
+        doReturn(SimpleScore.of(-100)).when(phaseScope).getStartingScore();
+        when(stepScope.getBestScoreImproved()).thenReturn(Boolean.TRUE);
+
+        when(clock.millis()).thenReturn(START_TIME_MILLIS);
+        termination.phaseStarted(phaseScope);
+
+        when(clock.millis()).thenReturn(START_TIME_MILLIS + 200L);
+        doReturn(SimpleScore.of(-10)).when(phaseScope).getBestScore();
+        termination.stepEnded(stepScope);
+
+        when(clock.millis()).thenReturn(START_TIME_MILLIS + 1100L);
+        assertThat(termination.isPhaseTerminated(phaseScope)).isFalse();
+
+        when(clock.millis()).thenReturn(START_TIME_MILLIS + 1200L);
+        assertThat(termination.isPhaseTerminated(phaseScope)).isTrue();
+    }
+
+    @Test
+    void improvingScoreLevelChanges_referenceIsReset() {
+        AbstractPhaseScope<TestdataSolution> phaseScope = mock(LocalSearchPhaseScope.class);
+        AbstractStepScope<TestdataSolution> stepScope = mock(LocalSearchStepScope.class);
+        Clock clock = mock(Clock.class);
+
+        Termination<TestdataSolution> termination = new DiminishedReturnsTermination<>(1000L, 0.5, clock);
+        doReturn(phaseScope).when(stepScope).getPhaseScope();
+        doReturn(HardSoftScore.of(-10, -100)).when(phaseScope).getStartingScore();
+        when(stepScope.getBestScoreImproved()).thenReturn(Boolean.TRUE);
+
+        when(clock.millis()).thenReturn(START_TIME_MILLIS);
+        termination.phaseStarted(phaseScope);
+
+        when(clock.millis()).thenReturn(START_TIME_MILLIS + 500L);
+        doReturn(HardSoftScore.of(0, -100)).when(phaseScope).getBestScore();
+        termination.stepEnded(stepScope);
+        when(clock.millis()).thenReturn(START_TIME_MILLIS + 1000L);
+        assertThat(termination.isPhaseTerminated(phaseScope)).isFalse();
+
+        when(clock.millis()).thenReturn(START_TIME_MILLIS + 1500L);
+        doReturn(HardSoftScore.of(0, -50)).when(phaseScope).getBestScore();
+        termination.stepEnded(stepScope);
+        // Only the soft score improved, so this window becomes the reference.
+        when(clock.millis()).thenReturn(START_TIME_MILLIS + 2000L);
+        assertThat(termination.isPhaseTerminated(phaseScope)).isFalse();
+
+        when(clock.millis()).thenReturn(START_TIME_MILLIS + 2500L);
+        doReturn(HardSoftScore.of(0, -40)).when(phaseScope).getBestScore();
+        termination.stepEnded(stepScope);
+        // Improved the soft score by 10, compared to 50 during the reference window.
+        when(clock.millis()).thenReturn(START_TIME_MILLIS + 3000L);
+        assertThat(termination.isPhaseTerminated(phaseScope)).isTrue();
+    }
+
+}
@@ -83,6 +83,20 @@ class TerminationFactoryTest {
                 .isEqualTo(93784005L);
     }
 
+    @Test
+    void diminishedReturnsWithDefaults() {
+        TerminationConfig terminationConfig = new TerminationConfig()
+                .withDiminishedReturnsMinimumImprovementRatio(0.5);
+        Termination<?> termination = TerminationFactory.create(terminationConfig)
+                .buildTermination(mock(HeuristicConfigPolicy.class));
+        assertThat(termination)
+                .isInstanceOf(DiminishedReturnsTermination.class);
+        DiminishedReturnsTermination<?> diminishedReturnsTermination = (DiminishedReturnsTermination<?>) termination;
+        assertThat(diminishedReturnsTermination.getSlidingWindowMillis())
+                .isEqualTo(TerminationFactory.DEFAULT_DIMINISHED_RETURNS_SLIDING_WINDOW_MILLIS);
+        assertThat(diminishedReturnsTermination.getMinimumImprovementRatio()).isEqualTo(0.5);
+    }
+
     @Test
     void buildTerminationFromList_single() {
         Termination<TestdataSolution> termination = new TimeMillisSpentTermination<>(1000L);
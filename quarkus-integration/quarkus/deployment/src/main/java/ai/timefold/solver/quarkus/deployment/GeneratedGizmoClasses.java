@@ -5,10 +5,12 @@ import java.util.Set;
 public class GeneratedGizmoClasses {
     Set<String> generatedGizmoMemberAccessorClassSet;
     Set<String> generatedGizmoSolutionClonerClassSet;
+    Set<String> generatedGizmoNodeNetworkClassSet;
 
     public GeneratedGizmoClasses(Set<String> generatedGizmoMemberAccessorClassSet,
-            Set<String> generatedGizmoSolutionClonerClassSet) {
+            Set<String> generatedGizmoSolutionClonerClassSet, Set<String> generatedGizmoNodeNetworkClassSet) {
         this.generatedGizmoMemberAccessorClassSet = generatedGizmoMemberAccessorClassSet;
         this.generatedGizmoSolutionClonerClassSet = generatedGizmoSolutionClonerClassSet;
+        this.generatedGizmoNodeNetworkClassSet = generatedGizmoNodeNetworkClassSet;
     }
 }
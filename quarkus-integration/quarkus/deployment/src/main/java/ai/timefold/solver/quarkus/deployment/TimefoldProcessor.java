@@ -7,6 +7,7 @@ import java.io.StringWriter;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -16,6 +17,7 @@ import java.util.stream.Stream;
 
 import jakarta.inject.Singleton;
 
+import ai.timefold.solver.constraint.streams.bavet.BavetConstraintStreamScoreDirectorFactory;
 import ai.timefold.solver.core.api.domain.common.DomainAccessType;
 import ai.timefold.solver.core.api.domain.entity.PlanningEntity;
 import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
@@ -27,9 +29,11 @@ import ai.timefold.solver.core.api.solver.SolverFactory;
 import ai.timefold.solver.core.config.score.director.ScoreDirectorFactoryConfig;
 import ai.timefold.solver.core.config.solver.SolverConfig;
 import ai.timefold.solver.core.config.solver.SolverManagerConfig;
+import ai.timefold.solver.core.config.util.ConfigUtils;
 import ai.timefold.solver.core.enterprise.MultithreadedSolvingEnterpriseService;
 import ai.timefold.solver.core.enterprise.NearbySelectionEnterpriseService;
 import ai.timefold.solver.core.enterprise.PartitionedSearchEnterpriseService;
+import ai.timefold.solver.core.impl.domain.common.accessor.gizmo.GizmoClassLoader;
 import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import ai.timefold.solver.core.impl.io.jaxb.SolverConfigIO;
 import ai.timefold.solver.core.impl.score.director.ScoreDirectorFactoryService;
@@ -70,6 +74,7 @@ import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
 import io.quarkus.deployment.builditem.HotDeploymentWatchedFileBuildItem;
 import io.quarkus.deployment.builditem.IndexDependencyBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveHierarchyBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ServiceProviderBuildItem;
 import io.quarkus.deployment.pkg.builditem.CurateOutcomeBuildItem;
@@ -179,7 +184,8 @@ class TimefoldProcessor {
             BuildProducer<UnremovableBeanBuildItem> unremovableBeans,
             BuildProducer<GeneratedBeanBuildItem> generatedBeans,
             BuildProducer<GeneratedClassBuildItem> generatedClasses,
-            BuildProducer<BytecodeTransformerBuildItem> transformers) {
+            BuildProducer<BytecodeTransformerBuildItem> transformers,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClasses) {
         IndexView indexView = combinedIndex.getIndex();
 
         // Only skip this extension if everything is missing. Otherwise, if some parts are missing, fail fast later.
@@ -239,6 +245,11 @@ class TimefoldProcessor {
         generateConstraintVerifier(solverConfig, syntheticBeanBuildItemBuildProducer);
         GeneratedGizmoClasses generatedGizmoClasses = generateDomainAccessors(solverConfig, indexView, generatedBeans,
                 generatedClasses, transformers, reflectiveClassSet);
+        if (!generatedGizmoClasses.generatedGizmoNodeNetworkClassSet.isEmpty()) {
+            // Instantiated by their class name, once the node network is built.
+            reflectiveClasses.produce(ReflectiveClassBuildItem.builder(
+                    generatedGizmoClasses.generatedGizmoNodeNetworkClassSet.toArray(new String[0])).build());
+        }
 
         SolverManagerConfig solverManagerConfig = new SolverManagerConfig();
 
@@ -524,6 +535,7 @@ class TimefoldProcessor {
 
         Set<String> generatedMemberAccessorsClassNameSet = new HashSet<>();
         Set<String> gizmoSolutionClonerClassNameSet = new HashSet<>();
+        Set<String> gizmoNodeNetworkClassNameSet = new HashSet<>();
 
         GizmoMemberAccessorEntityEnhancer entityEnhancer = new GizmoMemberAccessorEntityEnhancer();
         if (solverConfig.getDomainAccessType() == DomainAccessType.GIZMO) {
@@ -575,10 +587,42 @@ class TimefoldProcessor {
                     solverConfig.getSolutionClass(), null, null, solverConfig.getEntityClassList());
             gizmoSolutionClonerClassNameSet
                     .add(entityEnhancer.generateSolutionCloner(solutionDescriptor, classOutput, indexView, transformers));
+            gizmoNodeNetworkClassNameSet.addAll(generateNodeNetworkClasses(solverConfig, solutionDescriptor, classOutput));
         }
 
         entityEnhancer.generateGizmoBeanFactory(beanClassOutput, reflectiveClassSet, transformers);
-        return new GeneratedGizmoClasses(generatedMemberAccessorsClassNameSet, gizmoSolutionClonerClassNameSet);
+        return new GeneratedGizmoClasses(generatedMemberAccessorsClassNameSet, gizmoSolutionClonerClassNameSet,
+                gizmoNodeNetworkClassNameSet);
+    }
+
+    /**
+     * Builds the constraint streams node network once, to generate the classes it compiles into
+     * (see {@link ai.timefold.solver.constraint.streams.bavet.common.tuple.GizmoTupleLifecycleFactory}),
+     * because a native image cannot generate classes at run time.
+     * If the network differs at run time, for example because a constraint weight is zero,
+     * the parts that have no generated class fall back to the regular tuple lifecycles.
+     */
+    private Set<String> generateNodeNetworkClasses(SolverConfig solverConfig, SolutionDescriptor solutionDescriptor,
+            ClassOutput classOutput) {
+        ScoreDirectorFactoryConfig scoreDirectorFactoryConfig = solverConfig.getScoreDirectorFactoryConfig();
+        ConstraintStreamImplType constraintStreamImplType = scoreDirectorFactoryConfig.getConstraintStreamImplType();
+        if (scoreDirectorFactoryConfig.getConstraintProviderClass() == null
+                || (constraintStreamImplType != null && constraintStreamImplType != ConstraintStreamImplType.BAVET)) {
+            return Collections.emptySet();
+        }
+        ConstraintProvider constraintProvider = ConfigUtils.newInstance(scoreDirectorFactoryConfig,
+                "constraintProviderClass", scoreDirectorFactoryConfig.getConstraintProviderClass());
+        ConfigUtils.applyCustomProperties(constraintProvider, "constraintProviderClass",
+                scoreDirectorFactoryConfig.getConstraintProviderCustomProperties(), "constraintProviderCustomProperties");
+        GizmoClassLoader gizmoClassLoader = new GizmoClassLoader();
+        new BavetConstraintStreamScoreDirectorFactory<>(solutionDescriptor, constraintProvider,
+                solverConfig.determineEnvironmentMode())
+                .compileNodeNetwork(gizmoClassLoader);
+        Set<String> classNameSet = gizmoClassLoader.getClassNameSet();
+        for (String className : classNameSet) {
+            classOutput.write(className.replace('.', '/'), gizmoClassLoader.getBytecodeFor(className));
+        }
+        return classNameSet;
     }
 
     private boolean shouldIgnoreMember(AnnotationInstance annotationInstance) {
@@ -0,0 +1,185 @@
+package ai.timefold.solver.constraint.streams.bavet.bi;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import ai.timefold.solver.constraint.streams.bavet.common.AbstractIndexedJoinNode;
+import ai.timefold.solver.constraint.streams.bavet.common.index.IndexerFactory;
+import ai.timefold.solver.constraint.streams.bavet.common.index.JoinerUtils;
+import ai.timefold.solver.constraint.streams.bavet.common.tuple.BiTuple;
+import ai.timefold.solver.constraint.streams.bavet.common.tuple.TupleLifecycle;
+import ai.timefold.solver.constraint.streams.bavet.common.tuple.UniTuple;
+import ai.timefold.solver.constraint.streams.common.bi.DefaultBiJoiner;
+import ai.timefold.solver.core.api.score.stream.Joiners;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the insert/update/retract churn of an {@link AbstractIndexedJoinNode},
+ * through an {@link IndexedJoinBiNode} with an equal joiner, optionally followed by a less than joiner.
+ * Both sides are filled once; every invocation then changes a single tuple and propagates it,
+ * the way the node network does during a move.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IndexedJoinBiNodeBenchmark {
+
+    private static final long SEED = 37L;
+
+    @Param({ "EQUAL", "EQUAL_AND_LESS_THAN" })
+    public String joinerType;
+    @Param({ "1000", "10000" })
+    public int tupleCount;
+    @Param({ "100" })
+    public int keyCount;
+
+    private IndexedJoinBiNode<Fact, Fact> node;
+    private CountingTupleLifecycle downstream;
+    private UniTuple<Fact>[] leftTuples;
+    private Fact[] otherLeftFacts;
+    private UniTuple<Fact>[] rightTuples;
+    private Fact[] otherRightFacts;
+    private int leftCursor = 0;
+    private int rightCursor = 0;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        DefaultBiJoiner<Fact, Fact> joiner = buildJoiner(joinerType);
+        IndexerFactory indexerFactory = new IndexerFactory(joiner);
+        downstream = new CountingTupleLifecycle();
+        // Input tuples store their index properties, indexer entry and out tuple list; out tuples their 2 out entries.
+        node = new IndexedJoinBiNode<>(JoinerUtils.combineLeftMappings(joiner), JoinerUtils.combineRightMappings(joiner),
+                0, 1, 2,
+                0, 1, 2,
+                downstream, null, 2,
+                0, 1,
+                indexerFactory.buildIndexer(true), indexerFactory.buildIndexer(false));
+        SplittableRandom random = new SplittableRandom(SEED);
+        leftTuples = new UniTuple[tupleCount];
+        otherLeftFacts = new Fact[tupleCount];
+        rightTuples = new UniTuple[tupleCount];
+        otherRightFacts = new Fact[tupleCount];
+        for (int i = 0; i < tupleCount; i++) {
+            leftTuples[i] = new UniTuple<>(newFact(random), 3);
+            otherLeftFacts[i] = newFact(random);
+            node.insertLeft(leftTuples[i]);
+            rightTuples[i] = new UniTuple<>(newFact(random), 3);
+            otherRightFacts[i] = newFact(random);
+            node.insertRight(rightTuples[i]);
+        }
+        node.calculateScore();
+    }
+
+    private Fact newFact(SplittableRandom random) {
+        return new Fact(random.nextInt(keyCount), random.nextInt(tupleCount));
+    }
+
+    private static DefaultBiJoiner<Fact, Fact> buildJoiner(String joinerType) {
+        switch (joinerType) {
+            case "EQUAL":
+                return (DefaultBiJoiner<Fact, Fact>) Joiners.equal((Fact fact) -> fact.key);
+            case "EQUAL_AND_LESS_THAN":
+                return (DefaultBiJoiner<Fact, Fact>) Joiners.equal((Fact fact) -> fact.key)
+                        .and(Joiners.lessThan((Fact fact) -> fact.value));
+            default:
+                throw new IllegalArgumentException("The joinerType (" + joinerType + ") is not supported.");
+        }
+    }
+
+    /**
+     * The left fact changes, so the left tuple moves to another index key.
+     */
+    @Benchmark
+    public long updateLeft() {
+        int i = leftCursor;
+        leftCursor = (i + 1 == tupleCount) ? 0 : i + 1;
+        UniTuple<Fact> tuple = leftTuples[i];
+        Fact newFact = otherLeftFacts[i];
+        otherLeftFacts[i] = tuple.factA;
+        tuple.factA = newFact;
+        node.updateLeft(tuple);
+        node.calculateScore();
+        return downstream.count;
+    }
+
+    /**
+     * The right fact changes, so the right tuple moves to another index key.
+     */
+    @Benchmark
+    public long updateRight() {
+        int i = rightCursor;
+        rightCursor = (i + 1 == tupleCount) ? 0 : i + 1;
+        UniTuple<Fact> tuple = rightTuples[i];
+        Fact newFact = otherRightFacts[i];
+        otherRightFacts[i] = tuple.factA;
+        tuple.factA = newFact;
+        node.updateRight(tuple);
+        node.calculateScore();
+        return downstream.count;
+    }
+
+    /**
+     * The left tuple disappears and comes back, for example because a filter before the join flipped twice.
+     */
+    @Benchmark
+    public long retractAndInsertLeft() {
+        int i = leftCursor;
+        leftCursor = (i + 1 == tupleCount) ? 0 : i + 1;
+        UniTuple<Fact> tuple = leftTuples[i];
+        node.retractLeft(tuple);
+        node.calculateScore();
+        node.insertLeft(tuple);
+        node.calculateScore();
+        return downstream.count;
+    }
+
+    static final class Fact {
+
+        final int key;
+        final int value;
+
+        Fact(int key, int value) {
+            this.key = key;
+            this.value = value;
+        }
+
+    }
+
+    private static final class CountingTupleLifecycle implements TupleLifecycle<BiTuple<Fact, Fact>> {
+
+        private long count = 0L;
+
+        @Override
+        public void insert(BiTuple<Fact, Fact> tuple) {
+            count++;
+        }
+
+        @Override
+        public void update(BiTuple<Fact, Fact> tuple) {
+            count++;
+        }
+
+        @Override
+        public void retract(BiTuple<Fact, Fact> tuple) {
+            count++;
+        }
+
+    }
+
+}
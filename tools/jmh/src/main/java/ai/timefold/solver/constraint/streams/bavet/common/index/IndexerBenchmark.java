@@ -0,0 +1,160 @@
+package ai.timefold.solver.constraint.streams.bavet.common.index;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import ai.timefold.solver.constraint.streams.bavet.common.tuple.UniTuple;
+import ai.timefold.solver.constraint.streams.common.bi.DefaultBiJoiner;
+import ai.timefold.solver.core.api.score.stream.Joiners;
+import ai.timefold.solver.core.impl.util.ElementAwareListEntry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the {@link EqualsIndexer} and {@link ComparisonIndexer}, and the combination of both,
+ * as built by the {@link IndexerFactory} for the right side of a join.
+ * The indexer is filled once; every invocation then updates or queries a single tuple,
+ * the way a join node does during a move.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IndexerBenchmark {
+
+    private static final long SEED = 37L;
+    private static final int QUERY_COUNT = 1024; // Power of 2
+
+    @Param({ "EQUAL", "LESS_THAN", "EQUAL_AND_LESS_THAN" })
+    public String joinerType;
+    @Param({ "1000", "100000" })
+    public int tupleCount;
+    @Param({ "10", "1000" })
+    public int keyCount;
+
+    private Indexer<UniTuple<Fact>> indexer;
+    private UniTuple<Fact>[] tuples;
+    private IndexProperties[] indexProperties;
+    private IndexProperties[] otherIndexProperties;
+    private ElementAwareListEntry<UniTuple<Fact>>[] entries;
+    private IndexProperties[] queryIndexProperties;
+    private Consumer<UniTuple<Fact>> tupleConsumer;
+    private int tupleCursor = 0;
+    private int queryCursor = 0;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp(Blackhole blackhole) {
+        DefaultBiJoiner<Fact, Fact> joiner = buildJoiner(joinerType);
+        Function<Fact, IndexProperties> leftMapping = JoinerUtils.combineLeftMappings(joiner);
+        Function<Fact, IndexProperties> rightMapping = JoinerUtils.combineRightMappings(joiner);
+        indexer = new IndexerFactory(joiner).buildIndexer(false);
+        SplittableRandom random = new SplittableRandom(SEED);
+        tuples = new UniTuple[tupleCount];
+        indexProperties = new IndexProperties[tupleCount];
+        otherIndexProperties = new IndexProperties[tupleCount];
+        entries = new ElementAwareListEntry[tupleCount];
+        for (int i = 0; i < tupleCount; i++) {
+            Fact fact = new Fact(random.nextInt(keyCount), random.nextInt(keyCount));
+            tuples[i] = new UniTuple<>(fact, 0);
+            indexProperties[i] = rightMapping.apply(fact);
+            otherIndexProperties[i] = rightMapping.apply(new Fact(random.nextInt(keyCount), random.nextInt(keyCount)));
+            entries[i] = indexer.put(indexProperties[i], tuples[i]);
+        }
+        queryIndexProperties = new IndexProperties[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            queryIndexProperties[i] = leftMapping.apply(new Fact(random.nextInt(keyCount), random.nextInt(keyCount)));
+        }
+        tupleConsumer = blackhole::consume;
+    }
+
+    static DefaultBiJoiner<Fact, Fact> buildJoiner(String joinerType) {
+        switch (joinerType) {
+            case "EQUAL":
+                return (DefaultBiJoiner<Fact, Fact>) Joiners.equal((Fact fact) -> fact.key);
+            case "LESS_THAN":
+                return (DefaultBiJoiner<Fact, Fact>) Joiners.lessThan((Fact fact) -> fact.value);
+            case "EQUAL_AND_LESS_THAN":
+                return (DefaultBiJoiner<Fact, Fact>) Joiners.equal((Fact fact) -> fact.key)
+                        .and(Joiners.lessThan((Fact fact) -> fact.value));
+            default:
+                throw new IllegalArgumentException("The joinerType (" + joinerType + ") is not supported.");
+        }
+    }
+
+    /**
+     * A tuple which is updated without changing its index properties.
+     */
+    @Benchmark
+    public ElementAwareListEntry<UniTuple<Fact>> removeAndPut() {
+        int i = nextTupleIndex();
+        indexer.remove(indexProperties[i], entries[i]);
+        entries[i] = indexer.put(indexProperties[i], tuples[i]);
+        return entries[i];
+    }
+
+    /**
+     * A tuple which is updated to other index properties, for example because its planning variable changed.
+     */
+    @Benchmark
+    public ElementAwareListEntry<UniTuple<Fact>> removeAndPutElsewhere() {
+        int i = nextTupleIndex();
+        indexer.remove(indexProperties[i], entries[i]);
+        IndexProperties newIndexProperties = otherIndexProperties[i];
+        otherIndexProperties[i] = indexProperties[i];
+        indexProperties[i] = newIndexProperties;
+        entries[i] = indexer.put(newIndexProperties, tuples[i]);
+        return entries[i];
+    }
+
+    @Benchmark
+    public void forEach() {
+        indexer.forEach(nextQueryIndexProperties(), tupleConsumer);
+    }
+
+    @Benchmark
+    public int size() {
+        return indexer.size(nextQueryIndexProperties());
+    }
+
+    private int nextTupleIndex() {
+        int i = tupleCursor;
+        tupleCursor = (i + 1 == tupleCount) ? 0 : i + 1;
+        return i;
+    }
+
+    private IndexProperties nextQueryIndexProperties() {
+        IndexProperties queryProperties = queryIndexProperties[queryCursor];
+        queryCursor = (queryCursor + 1) & (QUERY_COUNT - 1);
+        return queryProperties;
+    }
+
+    static final class Fact {
+
+        final int key;
+        final int value;
+
+        Fact(int key, int value) {
+            this.key = key;
+            this.value = value;
+        }
+
+    }
+
+}
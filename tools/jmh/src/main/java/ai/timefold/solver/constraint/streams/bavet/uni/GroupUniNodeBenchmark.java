@@ -0,0 +1,180 @@
+package ai.timefold.solver.constraint.streams.bavet.uni;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import ai.timefold.solver.constraint.streams.bavet.common.tuple.BiTuple;
+import ai.timefold.solver.constraint.streams.bavet.common.tuple.TupleLifecycle;
+import ai.timefold.solver.constraint.streams.bavet.common.tuple.UniTuple;
+import ai.timefold.solver.core.api.score.stream.ConstraintCollectors;
+import ai.timefold.solver.core.api.score.stream.uni.UniConstraintCollector;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a {@link Group1Mapping1CollectorUniNode} with each built-in {@link ConstraintCollectors collector}.
+ * The node is filled once; every invocation then changes a single fact and propagates the changed group,
+ * the way the node network does during a move.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GroupUniNodeBenchmark {
+
+    private static final long SEED = 37L;
+
+    @Param({ "count", "countDistinct", "sum", "sumLong", "min", "max", "average",
+            "toList", "toSet", "toSortedSet", "toMap", "toConsecutiveSequences", "toConnectedRanges" })
+    public String collectorName;
+    @Param({ "10000" })
+    public int tupleCount;
+    @Param({ "10", "1000" })
+    public int groupCount;
+
+    private Group1Mapping1CollectorUniNode<Fact, Integer, Object, Object> node;
+    private CountingTupleLifecycle downstream;
+    private UniTuple<Fact>[] tuples;
+    private Fact[] otherFacts;
+    private Fact[] otherGroupFacts;
+    private int cursor = 0;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        downstream = new CountingTupleLifecycle();
+        // Input tuples store their group and undo information.
+        node = new Group1Mapping1CollectorUniNode<>(fact -> fact.group, 0, 1,
+                (UniConstraintCollector<Fact, Object, Object>) buildCollector(collectorName),
+                downstream, 0, EnvironmentMode.REPRODUCIBLE);
+        SplittableRandom random = new SplittableRandom(SEED);
+        tuples = new UniTuple[tupleCount];
+        otherFacts = new Fact[tupleCount];
+        otherGroupFacts = new Fact[tupleCount];
+        for (int i = 0; i < tupleCount; i++) {
+            int group = random.nextInt(groupCount);
+            tuples[i] = new UniTuple<>(new Fact(group, random.nextInt(tupleCount)), 2);
+            otherFacts[i] = new Fact(group, random.nextInt(tupleCount));
+            otherGroupFacts[i] = new Fact(random.nextInt(groupCount), random.nextInt(tupleCount));
+            node.insert(tuples[i]);
+        }
+        node.calculateScore();
+    }
+
+    private static UniConstraintCollector<Fact, ?, ?> buildCollector(String collectorName) {
+        switch (collectorName) {
+            case "count":
+                return ConstraintCollectors.count();
+            case "countDistinct":
+                return ConstraintCollectors.countDistinct((Fact fact) -> fact.value);
+            case "sum":
+                return ConstraintCollectors.sum((Fact fact) -> fact.value);
+            case "sumLong":
+                return ConstraintCollectors.sumLong((Fact fact) -> fact.value);
+            case "min":
+                return ConstraintCollectors.min((Fact fact) -> fact.value);
+            case "max":
+                return ConstraintCollectors.max((Fact fact) -> fact.value);
+            case "average":
+                return ConstraintCollectors.average((Fact fact) -> fact.value);
+            case "toList":
+                return ConstraintCollectors.toList();
+            case "toSet":
+                return ConstraintCollectors.toSet();
+            case "toSortedSet":
+                return ConstraintCollectors.toSortedSet((Fact fact) -> fact.value);
+            case "toMap":
+                return ConstraintCollectors.toMap((Fact fact) -> fact.value % 10, (Fact fact) -> fact);
+            case "toConsecutiveSequences":
+                return ConstraintCollectors.toConsecutiveSequences((Fact fact) -> fact.value);
+            case "toConnectedRanges":
+                return ConstraintCollectors.toConnectedRanges((Fact fact) -> (long) fact.value,
+                        (Fact fact) -> fact.value + 10L);
+            default:
+                throw new IllegalArgumentException("The collectorName (" + collectorName + ") is not supported.");
+        }
+    }
+
+    /**
+     * The fact changes, but stays in the same group.
+     */
+    @Benchmark
+    public long updateWithinGroup() {
+        int i = nextIndex();
+        update(i, otherFacts);
+        return downstream.count;
+    }
+
+    /**
+     * The fact changes and moves to another group.
+     */
+    @Benchmark
+    public long updateToOtherGroup() {
+        int i = nextIndex();
+        update(i, otherGroupFacts);
+        return downstream.count;
+    }
+
+    private int nextIndex() {
+        int i = cursor;
+        cursor = (i + 1 == tupleCount) ? 0 : i + 1;
+        return i;
+    }
+
+    private void update(int i, Fact[] newFacts) {
+        UniTuple<Fact> tuple = tuples[i];
+        Fact newFact = newFacts[i];
+        newFacts[i] = tuple.factA;
+        tuple.factA = newFact;
+        node.update(tuple);
+        node.calculateScore();
+    }
+
+    static final class Fact {
+
+        final int group;
+        final int value;
+
+        Fact(int group, int value) {
+            this.group = group;
+            this.value = value;
+        }
+
+    }
+
+    private static final class CountingTupleLifecycle implements TupleLifecycle<BiTuple<Integer, Object>> {
+
+        private long count = 0L;
+
+        @Override
+        public void insert(BiTuple<Integer, Object> tuple) {
+            count++;
+        }
+
+        @Override
+        public void update(BiTuple<Integer, Object> tuple) {
+            count++;
+        }
+
+        @Override
+        public void retract(BiTuple<Integer, Object> tuple) {
+            count++;
+        }
+
+    }
+
+}
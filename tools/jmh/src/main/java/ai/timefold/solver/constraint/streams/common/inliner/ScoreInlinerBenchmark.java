@@ -0,0 +1,131 @@
+package ai.timefold.solver.constraint.streams.common.inliner;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.impl.score.buildin.BendableBigDecimalScoreDefinition;
+import ai.timefold.solver.core.impl.score.buildin.BendableLongScoreDefinition;
+import ai.timefold.solver.core.impl.score.buildin.BendableScoreDefinition;
+import ai.timefold.solver.core.impl.score.buildin.HardMediumSoftBigDecimalScoreDefinition;
+import ai.timefold.solver.core.impl.score.buildin.HardMediumSoftLongScoreDefinition;
+import ai.timefold.solver.core.impl.score.buildin.HardMediumSoftScoreDefinition;
+import ai.timefold.solver.core.impl.score.buildin.HardSoftBigDecimalScoreDefinition;
+import ai.timefold.solver.core.impl.score.buildin.HardSoftLongScoreDefinition;
+import ai.timefold.solver.core.impl.score.buildin.HardSoftScoreDefinition;
+import ai.timefold.solver.core.impl.score.buildin.SimpleBigDecimalScoreDefinition;
+import ai.timefold.solver.core.impl.score.buildin.SimpleLongScoreDefinition;
+import ai.timefold.solver.core.impl.score.buildin.SimpleScoreDefinition;
+import ai.timefold.solver.core.impl.score.definition.ScoreDefinition;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the {@link AbstractScoreInliner} implementation of every built-in score type,
+ * by impacting the score of a single constraint and undoing that impact again,
+ * which is what a scoring node does for every match that is created and later removed.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoreInlinerBenchmark {
+
+    private static final int MATCH_WEIGHT_COUNT = 1024; // Power of 2
+
+    @Param({ "SIMPLE", "SIMPLE_LONG", "SIMPLE_BIG_DECIMAL",
+            "HARD_SOFT", "HARD_SOFT_LONG", "HARD_SOFT_BIG_DECIMAL",
+            "HARD_MEDIUM_SOFT", "HARD_MEDIUM_SOFT_LONG", "HARD_MEDIUM_SOFT_BIG_DECIMAL",
+            "BENDABLE", "BENDABLE_LONG", "BENDABLE_BIG_DECIMAL" })
+    public String scoreType;
+    @Param({ "false", "true" })
+    public boolean constraintMatchEnabled;
+
+    private AbstractScoreInliner<?> scoreInliner;
+    private WeightedScoreImpacter<?, ?> scoreImpacter;
+    private int cursor = 0;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        setUp(buildScoreDefinition(scoreType));
+    }
+
+    private <Score_ extends Score<Score_>> void setUp(ScoreDefinition<Score_> scoreDefinition) {
+        Number[] levelNumbers = scoreDefinition.getOneSoftestScore().toLevelNumbers();
+        // Also weigh the hardest level, so the inliner of a multi-level score updates more than one level.
+        levelNumbers[0] = levelNumbers[levelNumbers.length - 1];
+        Score_ constraintWeight = scoreDefinition.fromLevelNumbers(0, levelNumbers);
+        // The constraint weight is passed to the inliner directly, so the solution descriptor never provides it.
+        AbstractScoreInlinerTest.TestConstraintFactory<TestdataSolution, Score_> constraintFactory =
+                new AbstractScoreInlinerTest.TestConstraintFactory<>(TestdataSolution.buildSolutionDescriptor());
+        AbstractScoreInlinerTest.TestConstraint<TestdataSolution, Score_> constraint =
+                new AbstractScoreInlinerTest.TestConstraint<>(constraintFactory, "Benchmark constraint", constraintWeight);
+        Map<Constraint, Score_> constraintWeightMap = Collections.singletonMap(constraint, constraintWeight);
+        AbstractScoreInliner<Score_> typedScoreInliner =
+                AbstractScoreInliner.buildScoreInliner(scoreDefinition, constraintWeightMap, constraintMatchEnabled);
+        scoreInliner = typedScoreInliner;
+        scoreImpacter = typedScoreInliner.buildWeightedScoreImpacter(constraint);
+    }
+
+    private static ScoreDefinition<?> buildScoreDefinition(String scoreType) {
+        switch (scoreType) {
+            case "SIMPLE":
+                return new SimpleScoreDefinition();
+            case "SIMPLE_LONG":
+                return new SimpleLongScoreDefinition();
+            case "SIMPLE_BIG_DECIMAL":
+                return new SimpleBigDecimalScoreDefinition();
+            case "HARD_SOFT":
+                return new HardSoftScoreDefinition();
+            case "HARD_SOFT_LONG":
+                return new HardSoftLongScoreDefinition();
+            case "HARD_SOFT_BIG_DECIMAL":
+                return new HardSoftBigDecimalScoreDefinition();
+            case "HARD_MEDIUM_SOFT":
+                return new HardMediumSoftScoreDefinition();
+            case "HARD_MEDIUM_SOFT_LONG":
+                return new HardMediumSoftLongScoreDefinition();
+            case "HARD_MEDIUM_SOFT_BIG_DECIMAL":
+                return new HardMediumSoftBigDecimalScoreDefinition();
+            case "BENDABLE":
+                return new BendableScoreDefinition(1, 2);
+            case "BENDABLE_LONG":
+                return new BendableLongScoreDefinition(1, 2);
+            case "BENDABLE_BIG_DECIMAL":
+                return new BendableBigDecimalScoreDefinition(1, 2);
+            default:
+                throw new IllegalArgumentException("The scoreType (" + scoreType + ") is not supported.");
+        }
+    }
+
+    @Benchmark
+    public Object impactAndUndo() {
+        int matchWeight = 1 + cursor;
+        cursor = (cursor + 1) & (MATCH_WEIGHT_COUNT - 1);
+        UndoScoreImpacter undo = scoreImpacter.impactScore(matchWeight, ConstraintMatchSupplier.empty());
+        undo.run();
+        return scoreInliner;
+    }
+
+    @Benchmark
+    public Object extractScore() {
+        return scoreInliner.extractScore(0);
+    }
+
+}